@@ -0,0 +1,60 @@
+package com.dbsync.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * First Request Timer
+ * Records the latency of the first request the API serves and how long after JVM start it
+ * completed, next to Spring Boot's application.ready.time, so startup work deferred past
+ * readiness (lazy beans, dispatcher initialization) stays visible
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean served = new AtomicBoolean();
+
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (served.get()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (served.compareAndSet(false, true)) {
+                long latencyNanos = System.nanoTime() - start;
+                long sinceStartMs = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                meterRegistry.timer("dbsync.startup.first.request").record(latencyNanos, TimeUnit.NANOSECONDS);
+                meterRegistry.timer("dbsync.startup.first.request.after.start").record(sinceStartMs, TimeUnit.MILLISECONDS);
+                log.info("First request {} served in {} ms, {} ms after JVM start",
+                        request.getRequestURI(), TimeUnit.NANOSECONDS.toMillis(latencyNanos), sinceStartMs);
+            }
+        }
+    }
+}
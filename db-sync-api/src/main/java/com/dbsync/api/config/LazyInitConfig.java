@@ -0,0 +1,51 @@
+package com.dbsync.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Lazy Initialization Configuration
+ * Defers beans that no request or background worker needs at startup (the OpenAPI
+ * documentation, the Kafka Connect client) until first use, instead of making the whole
+ * context lazy. Beans whose class is in one of {@code app.startup.lazy-packages} are
+ * created on first use; eager beans that inject them must do so through {@code @Lazy}.
+ * Scheduled beans must stay out of these packages, since they only start once created.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Configuration
+public class LazyInitConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyInitPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("app.startup.lazy-packages", String[].class)
+                .map(List::of)
+                .orElse(List.of());
+        return beanFactory -> {
+            int lazy = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String className = definition.getBeanClassName();
+                if (definition.getFactoryBeanName() != null
+                        && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+                    // @Bean methods: match on the declaring configuration class
+                    className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+                }
+                if (className != null && packages.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                    lazy++;
+                }
+            }
+            log.debug("Marked {} beans in {} for lazy initialization", lazy, packages);
+        };
+    }
+}
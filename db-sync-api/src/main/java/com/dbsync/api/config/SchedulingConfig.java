@@ -0,0 +1,15 @@
+package com.dbsync.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables background workers such as the lifecycle job poller
+ *
+ * @author DB Sync Platform
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,43 @@
+package com.dbsync.api.controller;
+
+import com.dbsync.api.service.ConnectRebalancer;
+import com.dbsync.common.response.ApiResponse;
+import com.dbsync.connector.monitor.RebalanceAdvisor;
+import com.dbsync.connector.monitor.WorkerLoadMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Connect Cluster Controller
+ * Load of the Kafka Connect workers and the rebalance the advisor would apply
+ *
+ * @author DB Sync Platform
+ */
+@RestController
+@RequestMapping("/api/v1/connect")
+@RequiredArgsConstructor
+public class ConnectClusterController {
+
+    private final WorkerLoadMonitor workerLoadMonitor;
+    private final ConnectRebalancer connectRebalancer;
+
+    /**
+     * Connectors, tasks and failed tasks per worker, busiest first
+     */
+    @GetMapping("/workers")
+    public ApiResponse<List<WorkerLoadMonitor.WorkerLoad>> getWorkerLoads() {
+        return ApiResponse.success(workerLoadMonitor.getWorkerLoads());
+    }
+
+    /**
+     * Hot workers and the connector restarts that would relieve them
+     */
+    @GetMapping("/rebalance-plan")
+    public ApiResponse<RebalanceAdvisor.RebalancePlan> getRebalancePlan() {
+        return ApiResponse.success(connectRebalancer.plan());
+    }
+}
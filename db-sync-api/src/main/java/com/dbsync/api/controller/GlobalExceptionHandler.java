@@ -0,0 +1,49 @@
+package com.dbsync.api.controller;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BaseException;
+import com.dbsync.common.exceptions.ResourceNotFoundException;
+import com.dbsync.common.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Global Exception Handler
+ * Maps platform exceptions to the unified response format
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBaseException(BaseException e) {
+        HttpStatus status = resolveStatus(e);
+        log.warn("Request failed with {}: {}", status.value(), e.getErrorMessage());
+        return ResponseEntity.status(status).body(ApiResponse.error(e.getErrorCode(), e.getErrorMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ApiResponse.error(ErrorCodes.PARAM_ERROR, e.getMessage()));
+    }
+
+    private HttpStatus resolveStatus(BaseException e) {
+        if (e instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+
+        int errorCode = e.getErrorCode();
+        if (errorCode == ErrorCodes.TASK_STATUS_ERROR || errorCode == ErrorCodes.TASK_STATUS_CONFLICT) {
+            return HttpStatus.CONFLICT;
+        }
+        if (errorCode == ErrorCodes.SERVICE_UNAVAILABLE || errorCode == ErrorCodes.CAPACITY_EXCEEDED) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.BAD_REQUEST;
+    }
+}
@@ -0,0 +1,247 @@
+package com.dbsync.api.controller;
+
+import com.dbsync.api.service.LifecycleJobService;
+import com.dbsync.api.service.SnapshotProgressService;
+import com.dbsync.api.service.SyncMetricsService;
+import com.dbsync.api.service.SyncTaskService;
+import com.dbsync.api.service.TaskEventBus;
+import com.dbsync.api.service.TaskStateEvent;
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.common.response.ApiResponse;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.domain.entity.LifecycleJob;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.metrics.RatePoint;
+import com.dbsync.transform.dlq.DeadLetterReplayer;
+import com.dbsync.transform.dlq.DeadLetterSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sync Task Controller
+ * Lifecycle operations are queued as jobs and answered with 202 Accepted
+ *
+ * @author DB Sync Platform
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class SyncTaskController {
+
+    private final LifecycleJobService lifecycleJobService;
+    private final SyncTaskService syncTaskService;
+    private final SnapshotProgressService snapshotProgressService;
+    private final SyncMetricsService syncMetricsService;
+    private final TaskEventBus taskEventBus;
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    /**
+     * Submit a lifecycle operation (start, stop, pause, resume, restart)
+     */
+    @PostMapping("/tasks/{taskId}/{operation:start|stop|pause|resume|restart}")
+    public ResponseEntity<ApiResponse<LifecycleJob>> submitOperation(
+            @PathVariable UUID taskId,
+            @PathVariable String operation,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        LifecycleJob job = lifecycleJobService.submitJob(
+                taskId, LifecycleOperation.fromString(operation), null, idempotencyKey);
+        return accepted(job);
+    }
+
+    /**
+     * Submit task deletion
+     */
+    @DeleteMapping("/tasks/{taskId}")
+    public ResponseEntity<ApiResponse<LifecycleJob>> deleteTask(
+            @PathVariable UUID taskId,
+            @RequestParam(defaultValue = "false") boolean force,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        LifecycleJob job = lifecycleJobService.submitJob(
+                taskId, LifecycleOperation.DELETE, Map.of("force", force), idempotencyKey);
+        return accepted(job);
+    }
+
+    /**
+     * Submit a source/target data verification; the report becomes the job result
+     */
+    @PostMapping("/tasks/{taskId}/verify")
+    public ResponseEntity<ApiResponse<LifecycleJob>> verifyTask(
+            @PathVariable UUID taskId,
+            @RequestBody(required = false) VerifyRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        List<String> tables = request != null && request.getTables() != null ? request.getTables() : List.of();
+        LifecycleJob job = lifecycleJobService.submitJob(
+                taskId, LifecycleOperation.VERIFY, Map.of("tables", tables), idempotencyKey);
+        return accepted(job);
+    }
+
+    /**
+     * Submit a Merkle tree repair; drifted rows are re-emitted from the source unless dryRun is set
+     */
+    @PostMapping("/tasks/{taskId}/repair")
+    public ResponseEntity<ApiResponse<LifecycleJob>> repairTask(
+            @PathVariable UUID taskId,
+            @RequestBody(required = false) RepairRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        RepairRequest repair = request != null ? request : new RepairRequest();
+        Map<String, Object> params = Map.of(
+                "tables", repair.getTables() != null ? repair.getTables() : List.of(),
+                "fullRebuild", repair.isFullRebuild(),
+                "dryRun", repair.isDryRun());
+        LifecycleJob job = lifecycleJobService.submitJob(taskId, LifecycleOperation.REPAIR, params, idempotencyKey);
+        return accepted(job);
+    }
+
+    /**
+     * Topic plan of a task: partitions, configs and sizing reason per CDC topic
+     */
+    @GetMapping("/tasks/{taskId}/topics")
+    public ApiResponse<JsonNode> getTopicPlan(@PathVariable UUID taskId) {
+        SyncTask task = syncTaskService.getTaskById(taskId);
+        return ApiResponse.success(task.getTopicPlan() != null ? JsonUtil.parseJson(task.getTopicPlan()) : null);
+    }
+
+    /**
+     * Initial snapshot progress of a task: rows done against estimates, throughput and ETA per table
+     */
+    @GetMapping("/tasks/{taskId}/snapshot")
+    public ApiResponse<SnapshotProgressService.TaskSnapshotProgress> getSnapshotProgress(@PathVariable UUID taskId) {
+        syncTaskService.getTaskById(taskId);
+        return ApiResponse.success(snapshotProgressService.getProgress(taskId));
+    }
+
+    /**
+     * Applied and dead-lettered event rates of a task over time, of one table if given
+     */
+    @GetMapping("/tasks/{taskId}/metrics")
+    public ApiResponse<SyncMetricsService.MetricSeries<List<RatePoint>>> getTaskMetrics(
+            @PathVariable UUID taskId,
+            @RequestParam(required = false) String table,
+            @RequestParam(required = false) String resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        syncTaskService.getTaskById(taskId);
+        return ApiResponse.success(syncMetricsService.getTaskSeries(taskId, table, resolution, from, to));
+    }
+
+    /**
+     * Event rates of every task of a tenant, for dashboards
+     */
+    @GetMapping("/tenants/{tenantId}/metrics")
+    public ApiResponse<SyncMetricsService.MetricSeries<Map<UUID, List<RatePoint>>>> getTenantMetrics(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) String resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ApiResponse.success(syncMetricsService.getTenantSeries(tenantId, resolution, from, to));
+    }
+
+    /**
+     * Server-sent event stream of a tenant's task status, health and throughput changes.
+     * The current state of every task is sent first; later events only carry what changed.
+     */
+    @GetMapping(value = "/tenants/{tenantId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTenantEvents(@PathVariable UUID tenantId) {
+        List<TaskStateEvent> current = syncTaskService.getTasksByTenant(tenantId, Pageable.unpaged())
+                .map(TaskStateEvent::of)
+                .getContent();
+        return taskEventBus.subscribe(tenantId, current);
+    }
+
+    /**
+     * Summarize pending dead letters of a task grouped by failure fingerprint
+     */
+    @GetMapping("/tasks/{taskId}/dlq")
+    public ApiResponse<DeadLetterSummary> getDeadLetters(
+            @PathVariable UUID taskId,
+            @RequestParam(defaultValue = "100000") long maxRecords) {
+        SyncTask task = syncTaskService.getTaskById(taskId);
+        return ApiResponse.success(deadLetterReplayer.summarize(task, maxRecords));
+    }
+
+    /**
+     * Submit a dead-letter replay; records go back to their source topics at the given rate
+     */
+    @PostMapping("/tasks/{taskId}/dlq/replay")
+    public ResponseEntity<ApiResponse<LifecycleJob>> replayDeadLetters(
+            @PathVariable UUID taskId,
+            @RequestBody(required = false) ReplayRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        ReplayRequest replay = request != null ? request : new ReplayRequest();
+        Map<String, Object> params = new HashMap<>();
+        params.put("fingerprints", replay.getFingerprints() != null ? replay.getFingerprints() : List.of());
+        if (replay.getRatePerSecond() != null) {
+            params.put("ratePerSecond", replay.getRatePerSecond());
+        }
+        if (replay.getMaxRecords() != null) {
+            params.put("maxRecords", replay.getMaxRecords());
+        }
+        LifecycleJob job = lifecycleJobService.submitJob(
+                taskId, LifecycleOperation.REPLAY_DLQ, params, idempotencyKey);
+        return accepted(job);
+    }
+
+    /**
+     * Get lifecycle jobs of a task
+     */
+    @GetMapping("/tasks/{taskId}/jobs")
+    public ApiResponse<List<LifecycleJob>> getTaskJobs(@PathVariable UUID taskId) {
+        return ApiResponse.success(lifecycleJobService.getJobsByTask(taskId));
+    }
+
+    /**
+     * Get lifecycle job
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ApiResponse<LifecycleJob> getJob(@PathVariable UUID jobId) {
+        return ApiResponse.success(lifecycleJobService.getJobById(jobId));
+    }
+
+    private ResponseEntity<ApiResponse<LifecycleJob>> accepted(LifecycleJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/jobs/" + job.getJobId()))
+                .body(ApiResponse.success("Job accepted", job));
+    }
+
+    /**
+     * Verification request
+     */
+    @Data
+    public static class VerifyRequest {
+        private List<String> tables;
+    }
+
+    /**
+     * Repair request
+     */
+    @Data
+    public static class RepairRequest {
+        private List<String> tables;
+        private boolean fullRebuild;
+        private boolean dryRun;
+    }
+
+    /**
+     * Dead-letter replay request
+     */
+    @Data
+    public static class ReplayRequest {
+        private List<String> fingerprints;
+        private Double ratePerSecond;
+        private Long maxRecords;
+    }
+}
@@ -0,0 +1,223 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.connector.manager.ConnectorManager;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.transform.sink.ConsumerLagReader;
+import com.dbsync.transform.sink.SinkManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Backpressure Controller
+ * Pauses the source connector of an owned running task while its sink falls too far behind
+ * and resumes it once the sink has caught up. Separate high and low thresholds plus a
+ * minimum pause keep the connector from flapping, and a pause needs the thresholds to be
+ * breached on several checks in a row. After a resume the backlog built up during the pause
+ * is necessarily old, so latency only counts again once the sink applies changes made after
+ * the resume; until then lag alone decides. Each pause is recorded on the task as a throttle
+ * episode through targeted updates of the throttle columns.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class BackpressureController {
+
+    private static final EnumSet<TaskStatus> CONTROLLED_STATUSES = EnumSet.of(TaskStatus.RUNNING);
+
+    private final SyncTaskRepository syncTaskRepository;
+    private final ConnectorManager connectorManager;
+    private final ConsumerLagReader lagReader;
+    private final SinkManager sinkManager;
+    private final ClusterMembership clusterMembership;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long lagHigh;
+    private final long lagLow;
+    private final long latencyHighMs;
+    private final long latencyLowMs;
+    private final long minPauseMs;
+    private final int breachChecks;
+
+    /**
+     * Consecutive checks over the high thresholds, per unthrottled task
+     */
+    private final Map<UUID, Integer> breaches = new ConcurrentHashMap<>();
+
+    /**
+     * When the connector of a task was last resumed, until its sink applies a change made after that
+     */
+    private final Map<UUID, Long> resumedAtMs = new ConcurrentHashMap<>();
+
+    private final Map<UUID, AtomicLong> lagGauges = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> throttledGauges = new ConcurrentHashMap<>();
+
+    public BackpressureController(
+            SyncTaskRepository syncTaskRepository,
+            ConnectorManager connectorManager,
+            ConsumerLagReader lagReader,
+            SinkManager sinkManager,
+            ClusterMembership clusterMembership,
+            MeterRegistry meterRegistry,
+            @Value("${app.backpressure.enabled:false}") boolean enabled,
+            @Value("${app.backpressure.lag-high:1000000}") long lagHigh,
+            @Value("${app.backpressure.lag-low:100000}") long lagLow,
+            @Value("${app.backpressure.latency-high-ms:300000}") long latencyHighMs,
+            @Value("${app.backpressure.latency-low-ms:60000}") long latencyLowMs,
+            @Value("${app.backpressure.min-pause-ms:60000}") long minPauseMs,
+            @Value("${app.backpressure.breach-checks:3}") int breachChecks) {
+        this.syncTaskRepository = syncTaskRepository;
+        this.connectorManager = connectorManager;
+        this.lagReader = lagReader;
+        this.sinkManager = sinkManager;
+        this.clusterMembership = clusterMembership;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.lagHigh = lagHigh;
+        this.lagLow = lagLow;
+        this.latencyHighMs = latencyHighMs;
+        this.latencyLowMs = latencyLowMs;
+        this.minPauseMs = minPauseMs;
+        this.breachChecks = breachChecks;
+    }
+
+    /**
+     * Throttle or release the source connectors of owned running tasks
+     */
+    @Scheduled(fixedDelayString = "${app.backpressure.interval-ms:15000}")
+    public void control() {
+        if (!enabled) {
+            return;
+        }
+        List<UUID> owned;
+        try {
+            owned = syncTaskRepository.findTaskIdsByStatusIn(CONTROLLED_STATUSES).stream()
+                    .filter(clusterMembership::ownsTask)
+                    .toList();
+            // Paused or stopped by a user while throttled: the episode ends, the connector stays paused
+            syncTaskRepository.findThrottledTaskIdsByStatusNotIn(CONTROLLED_STATUSES).stream()
+                    .filter(clusterMembership::ownsTask)
+                    .forEach(taskId -> syncTaskRepository.findById(taskId).ifPresent(this::endEpisode));
+        } catch (Exception e) {
+            log.error("Failed to load tasks for backpressure control: {}", e.getMessage());
+            return;
+        }
+        breaches.keySet().retainAll(owned);
+        resumedAtMs.keySet().retainAll(owned);
+
+        for (UUID taskId : owned) {
+            try {
+                SyncTask task = syncTaskRepository.findById(taskId).orElse(null);
+                if (task != null && task.getConnectorName() != null) {
+                    control(task);
+                }
+            } catch (Exception e) {
+                log.warn("Backpressure check failed for task {}: {}", taskId, e.getMessage());
+            }
+        }
+    }
+
+    private void control(SyncTask task) throws Exception {
+        OptionalLong lag = lagReader.getLag(SinkManager.consumerGroup(task));
+        if (lag.isEmpty()) {
+            return;
+        }
+        long latencyMs = latencyMs(task.getTaskId(), lag.getAsLong());
+        gauge(lagGauges, "dbsync.backpressure.lag", task).set(lag.getAsLong());
+
+        if (task.getThrottledSince() == null) {
+            if (lag.getAsLong() <= lagHigh && latencyMs <= latencyHighMs) {
+                breaches.remove(task.getTaskId());
+                return;
+            }
+            if (breaches.merge(task.getTaskId(), 1, Integer::sum) >= breachChecks) {
+                String reason = lag.getAsLong() > lagHigh
+                        ? String.format("Sink lag %d records exceeds %d", lag.getAsLong(), lagHigh)
+                        : String.format("Sink latency %d ms exceeds %d ms", latencyMs, latencyHighMs);
+                throttle(task, reason);
+            }
+        } else if (lag.getAsLong() < lagLow && latencyMs < latencyLowMs
+                && Duration.between(task.getThrottledSince(), LocalDateTime.now()).toMillis() >= minPauseMs) {
+            release(task);
+        }
+    }
+
+    /**
+     * Age of the newest applied change; only meaningful while there is something left to apply,
+     * and not before the sink reaches the changes made after the last resume
+     */
+    private long latencyMs(UUID taskId, long lag) {
+        OptionalLong applied = sinkManager.getAppliedSourceTimestampMs(taskId);
+        if (lag == 0 || applied.isEmpty()) {
+            return 0;
+        }
+        Long resumed = resumedAtMs.get(taskId);
+        if (resumed != null) {
+            if (applied.getAsLong() < resumed) {
+                return 0;
+            }
+            resumedAtMs.remove(taskId);
+        }
+        return System.currentTimeMillis() - applied.getAsLong();
+    }
+
+    private void throttle(SyncTask task, String reason) {
+        breaches.remove(task.getTaskId());
+        LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (syncTaskRepository.startThrottle(task.getTaskId(), since, reason) == 0) {
+            // Paused, stopped or throttled by someone else since it was loaded
+            return;
+        }
+        log.warn("Throttling source connector of task {}: {}", task.getTaskCode(), reason);
+        try {
+            connectorManager.stopConnector(task.getConnectorName());
+        } catch (RuntimeException e) {
+            syncTaskRepository.endThrottle(task.getTaskId(), since, 0);
+            throw e;
+        }
+        gauge(throttledGauges, "dbsync.backpressure.throttled", task).set(1);
+        meterRegistry.counter("dbsync.backpressure.episodes", "task", task.getTaskId().toString()).increment();
+    }
+
+    private void release(SyncTask task) {
+        log.info("Sink of task {} caught up, resuming source connector", task.getTaskCode());
+        connectorManager.startConnector(task.getConnectorName());
+        resumedAtMs.put(task.getTaskId(), System.currentTimeMillis());
+        endEpisode(task);
+    }
+
+    private void endEpisode(SyncTask task) {
+        long pausedMs = Duration.between(task.getThrottledSince(), LocalDateTime.now()).toMillis();
+        if (syncTaskRepository.endThrottle(task.getTaskId(), task.getThrottledSince(), pausedMs) == 0) {
+            return;
+        }
+        gauge(throttledGauges, "dbsync.backpressure.throttled", task).set(0);
+        meterRegistry.timer("dbsync.backpressure.pause", "task", task.getTaskId().toString()).record(Duration.ofMillis(pausedMs));
+    }
+
+    /**
+     * Gauge of a task, tagged with its ID since task codes repeat across tenants
+     */
+    private AtomicLong gauge(Map<UUID, AtomicLong> gauges, String name, SyncTask task) {
+        return gauges.computeIfAbsent(task.getTaskId(),
+                taskId -> meterRegistry.gauge(name, Tags.of("task", taskId.toString()), new AtomicLong()));
+    }
+}
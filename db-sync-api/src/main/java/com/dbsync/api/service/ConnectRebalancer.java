@@ -0,0 +1,115 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.connector.monitor.RebalanceAdvisor;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.metrics.MetricPoint;
+import com.dbsync.core.metrics.MetricResolution;
+import com.dbsync.core.metrics.SyncMetricsStore;
+import com.dbsync.core.repository.SyncTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Connect Rebalancer
+ * Runs the rebalance advisor periodically on one node. Connector throughput is taken from the
+ * minute before the last closed one in the sync metrics, so hot workers are judged by the records
+ * they move; without metrics the advisor falls back to task counts.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+public class ConnectRebalancer {
+
+    /**
+     * Shard whose owner restarts connectors, so two nodes never act on the same plan
+     */
+    private static final UUID REBALANCE_SHARD =
+            UUID.nameUUIDFromBytes("connect-rebalance".getBytes(StandardCharsets.UTF_8));
+
+    private final RebalanceAdvisor rebalanceAdvisor;
+    private final SyncTaskRepository syncTaskRepository;
+    private final SyncMetricsStore metricsStore;
+    private final ClusterMembership clusterMembership;
+    private final boolean enabled;
+    private final boolean dryRun;
+
+    public ConnectRebalancer(
+            RebalanceAdvisor rebalanceAdvisor,
+            SyncTaskRepository syncTaskRepository,
+            SyncMetricsStore metricsStore,
+            ClusterMembership clusterMembership,
+            @Value("${kafka.connect.rebalance.enabled:false}") boolean enabled,
+            @Value("${kafka.connect.rebalance.dry-run:true}") boolean dryRun) {
+        this.rebalanceAdvisor = rebalanceAdvisor;
+        this.syncTaskRepository = syncTaskRepository;
+        this.metricsStore = metricsStore;
+        this.clusterMembership = clusterMembership;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Restart connectors on hot workers, or only log the plan in dry-run mode
+     */
+    @Scheduled(fixedDelayString = "${kafka.connect.rebalance.interval-ms:300000}")
+    public void rebalance() {
+        if (!enabled || !clusterMembership.ownsTask(REBALANCE_SHARD)) {
+            return;
+        }
+        try {
+            RebalanceAdvisor.RebalancePlan plan = rebalanceAdvisor.rebalance(connectorThroughput(), dryRun);
+            if (dryRun && !plan.getRecommendations().isEmpty()) {
+                log.info("Rebalance dry run would restart {}", plan.getRestartsByWorker());
+            }
+        } catch (Exception e) {
+            log.error("Connect rebalance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Current rebalance plan without restarting anything
+     */
+    public RebalanceAdvisor.RebalancePlan plan() {
+        return rebalanceAdvisor.advise(connectorThroughput());
+    }
+
+    /**
+     * Records per second of running connectors over the minute before the last closed one
+     */
+    private Map<String, Double> connectorThroughput() {
+        List<SyncTask> running = syncTaskRepository.findByStatusAndDeletedAtIsNull(TaskStatus.RUNNING);
+        Map<UUID, String> connectors = running.stream()
+                .filter(task -> task.getConnectorName() != null)
+                .collect(Collectors.toMap(SyncTask::getTaskId, SyncTask::getConnectorName));
+        if (connectors.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> tenants = running.stream().map(SyncTask::getTenantId).collect(Collectors.toSet());
+        // The last closed minute may still be missing flushes from other nodes, so read the one before
+        LocalDateTime bucket = MetricResolution.MINUTE.bucketStart(LocalDateTime.now()).minusMinutes(2);
+
+        Map<String, Double> throughput = new HashMap<>();
+        double seconds = MetricResolution.MINUTE.bucketSeconds();
+        for (MetricPoint point : metricsStore.minuteTotals(tenants, bucket)) {
+            String connector = connectors.get(point.taskId());
+            if (connector != null) {
+                throughput.put(connector, point.eventsApplied() / seconds);
+            }
+        }
+        return throughput;
+    }
+}
@@ -0,0 +1,267 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.enums.DatabaseType;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.connector.repair.CdcKeyScanner;
+import com.dbsync.connector.repair.SnapshotSignalSender;
+import com.dbsync.core.domain.config.ConnectorSettings;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.MerkleTreeSnapshot;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.MerkleTreeSnapshotRepository;
+import com.dbsync.core.verify.ChecksumSession;
+import com.dbsync.core.verify.DataVerifier;
+import com.dbsync.core.verify.MerkleTree;
+import com.dbsync.core.verify.MerkleTreeBuilder;
+import com.dbsync.core.verify.RepairReport;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Data Repair Service
+ * Keeps Merkle trees of source and target range hashes per table, rehashes only the
+ * ranges touched by CDC since the previous run, and re-emits drifted source rows
+ * through the task's connector with incremental snapshot signals. Leaves are planned
+ * by row count and re-planned by a full rebuild once inserts have grown one of them
+ * well past its planned size.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+public class DataRepairService {
+
+    /**
+     * Leaves holding this many times the leaf size trigger a rebuild with new boundaries
+     */
+    private static final int MAX_LEAF_GROWTH = 4;
+
+    private final DataVerifier dataVerifier;
+    private final MerkleTreeBuilder merkleTreeBuilder;
+    private final MerkleTreeSnapshotRepository merkleTreeSnapshotRepository;
+    private final CdcKeyScanner cdcKeyScanner;
+    private final SnapshotSignalSender snapshotSignalSender;
+    private final long leafSize;
+    private final int maxDriftedLeaves;
+    private final int keysPerSignal;
+
+    public DataRepairService(
+            DataVerifier dataVerifier,
+            MerkleTreeBuilder merkleTreeBuilder,
+            MerkleTreeSnapshotRepository merkleTreeSnapshotRepository,
+            CdcKeyScanner cdcKeyScanner,
+            SnapshotSignalSender snapshotSignalSender,
+            @Value("${app.repair.leaf-size:10000}") long leafSize,
+            @Value("${app.repair.max-drifted-leaves:10000}") int maxDriftedLeaves,
+            @Value("${app.repair.keys-per-signal:1000}") int keysPerSignal) {
+        this.dataVerifier = dataVerifier;
+        this.merkleTreeBuilder = merkleTreeBuilder;
+        this.merkleTreeSnapshotRepository = merkleTreeSnapshotRepository;
+        this.cdcKeyScanner = cdcKeyScanner;
+        this.snapshotSignalSender = snapshotSignalSender;
+        this.leafSize = leafSize;
+        this.maxDriftedLeaves = maxDriftedLeaves;
+        this.keysPerSignal = keysPerSignal;
+    }
+
+    /**
+     * Find and repair drifted rows of the given tables.
+     * With {@code fullRebuild} every range is rehashed, which is needed to catch edits made
+     * directly on the target since CDC only tracks source changes.
+     */
+    public RepairReport repair(SyncTask task, List<String> tables, boolean fullRebuild, boolean dryRun) {
+        long startTime = System.currentTimeMillis();
+        if (!dryRun) {
+            checkSignalSupport(task);
+        }
+
+        List<String> tableNames = dataVerifier.resolveTableNames(task, tables);
+
+        RepairReport report = new RepairReport();
+        report.setTaskId(task.getTaskId());
+        report.setDryRun(dryRun);
+
+        try (ChecksumSession source = dataVerifier.openSession(task, true);
+             ChecksumSession target = dataVerifier.openSession(task, false)) {
+            for (String tableName : tableNames) {
+                RepairReport.TableRepair result = new RepairReport.TableRepair();
+                result.setTable(tableName);
+                try {
+                    repairTable(task, source, target, tableName, fullRebuild, dryRun, result);
+                } catch (Exception e) {
+                    log.error("Repair of table {} failed: {}", tableName, e.getMessage());
+                    result.setError(e.getMessage());
+                }
+                report.getTables().add(result);
+            }
+        }
+
+        report.setDurationMs(System.currentTimeMillis() - startTime);
+        return report;
+    }
+
+    private void repairTable(SyncTask task, ChecksumSession source, ChecksumSession target, String tableName,
+                             boolean fullRebuild, boolean dryRun, RepairReport.TableRepair result) {
+        DataVerifier.TablePair pair = dataVerifier.resolvePair(source, target, tableName);
+        if (!pair.isRangeable()) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR,
+                    "Repair needs a numeric primary key with the same name on both sides: " + tableName);
+        }
+
+        String keyColumn = pair.getSource().getKeyColumn();
+        String dataCollection = dataCollection(source, pair);
+        String topic = TaskConfigs.topicPrefix(task) + "." + dataCollection;
+        String signature = Hashing.sha256()
+                .hashString(String.join(",", pair.getSourceColumns()), StandardCharsets.UTF_8).toString();
+
+        // Offsets are taken before hashing, so changes made while hashing are rescanned next time
+        Map<Integer, Long> endOffsets = cdcKeyScanner.endOffsets(topic);
+
+        MerkleTreeSnapshot snapshot = merkleTreeSnapshotRepository
+                .findByTaskIdAndTableName(task.getTaskId(), tableName)
+                .orElse(null);
+        boolean rebuild = fullRebuild || snapshot == null
+                || snapshot.getLeafSize() != leafSize
+                || !snapshot.getKeyColumn().equals(keyColumn)
+                || !snapshot.getColumnSignature().equals(signature);
+
+        MerkleTree sourceTree = null;
+        MerkleTree targetTree = null;
+        SortedSet<Long> dirtyBuckets = new TreeSet<>();
+
+        if (!rebuild) {
+            MerkleTree storedSource = toTree(snapshot, snapshot.getSourceLeaves());
+            sourceTree = storedSource;
+            targetTree = toTree(snapshot, snapshot.getTargetLeaves());
+            dirtyBuckets.addAll(readPendingBuckets(snapshot));
+
+            boolean complete = cdcKeyScanner.scan(topic, keyColumn, readOffsets(snapshot), endOffsets,
+                    key -> dirtyBuckets.add(storedSource.bucketOf(key)));
+            rebuild = !complete || storedSource.getMaxLeafRows() > leafSize * MAX_LEAF_GROWTH;
+        }
+
+        if (rebuild) {
+            log.info("Building Merkle trees of {} for task {}", tableName, task.getTaskCode());
+            MerkleTree[] trees = merkleTreeBuilder.build(source, target, pair, leafSize);
+            sourceTree = trees[0];
+            targetTree = trees[1];
+            result.setRehashedLeaves(sourceTree.getLeafCount());
+        } else {
+            log.info("Rehashing {} changed leaves of {} for task {}", dirtyBuckets.size(), tableName, task.getTaskCode());
+            merkleTreeBuilder.refresh(source, target, pair, sourceTree, targetTree, dirtyBuckets);
+            result.setRehashedLeaves(dirtyBuckets.size());
+        }
+        result.setFullRebuild(rebuild);
+
+        List<Long> drifted = sourceTree.diff(targetTree);
+        result.setDriftedLeaves(drifted.size());
+        List<Long> inspected = drifted;
+        if (drifted.size() > maxDriftedLeaves) {
+            result.setTruncated(true);
+            inspected = drifted.subList(0, maxDriftedLeaves);
+        }
+
+        MerkleTreeBuilder.RowDiff rowDiff = merkleTreeBuilder.diffRows(source, target, pair, sourceTree, inspected);
+        result.setMissingInTarget(rowDiff.getMissingInTarget().size());
+        result.setChanged(rowDiff.getChanged().size());
+        result.setExtraInTarget(rowDiff.getExtraInTarget().stream().limit(keysPerSignal).toList());
+
+        SortedSet<BigInteger> keys = rowDiff.keysToReemit();
+        if (!dryRun && !keys.isEmpty()) {
+            String quotedKey = "`" + keyColumn + "`";
+            for (List<BigInteger> batch : Iterables.partition(keys, keysPerSignal)) {
+                String filter = quotedKey + " IN (" + batch.stream().map(String::valueOf)
+                        .collect(Collectors.joining(",")) + ")";
+                snapshotSignalSender.requestSnapshot(task, dataCollection, filter);
+                result.setSignalsSent(result.getSignalsSent() + 1);
+            }
+            result.setReemittedRows(keys.size());
+            log.info("Requested re-emission of {} rows of {} for task {}", keys.size(), tableName, task.getTaskCode());
+        }
+
+        // Drifted leaves stay pending: their target side changes once the repair lands, which CDC does not see
+        saveSnapshot(task, tableName, keyColumn, signature, sourceTree, targetTree,
+                drifted, endOffsets, snapshot);
+    }
+
+    /**
+     * Re-emission relies on MySQL incremental snapshots, which write their watermarks to the
+     * connector's signal table, so one must be configured and the connector must not be read-only
+     */
+    private void checkSignalSupport(SyncTask task) {
+        if (task.getSourceDbType() != DatabaseType.MYSQL) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR,
+                    "Row re-emission is only supported for MySQL sources; run with dryRun to locate drift");
+        }
+        ConnectorSettings settings = TaskConfigs.connector(task);
+        if (!settings.has("signal.data.collection")) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Row re-emission needs signal.data.collection "
+                    + "in the connector config of task " + task.getTaskCode() + "; run with dryRun to locate drift");
+        }
+        if (settings.getBoolean("read.only", false)) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Row re-emission needs read.only off "
+                    + "in the connector config of task " + task.getTaskCode() + "; run with dryRun to locate drift");
+        }
+    }
+
+    /**
+     * Debezium data collection name ("database.table") of the source table
+     */
+    private String dataCollection(ChecksumSession source, DataVerifier.TablePair pair) {
+        String name = pair.getSource().getName();
+        return name.contains(".") ? name : source.getEndpoint().getDatabase() + "." + name;
+    }
+
+    private void saveSnapshot(SyncTask task, String tableName, String keyColumn, String signature,
+                              MerkleTree sourceTree, MerkleTree targetTree, List<Long> pendingBuckets,
+                              Map<Integer, Long> offsets, MerkleTreeSnapshot existing) {
+        MerkleTreeSnapshot snapshot = existing != null ? existing : new MerkleTreeSnapshot();
+        snapshot.setTaskId(task.getTaskId());
+        snapshot.setTableName(tableName);
+        snapshot.setKeyColumn(keyColumn);
+        snapshot.setColumnSignature(signature);
+        snapshot.setLeafSize(leafSize);
+        snapshot.setBoundaries(JsonUtil.toJson(sourceTree.getBoundaries()));
+        snapshot.setSourceLeaves(JsonUtil.toJson(sourceTree.toLeaves()));
+        snapshot.setTargetLeaves(JsonUtil.toJson(targetTree.toLeaves()));
+        snapshot.setPendingBuckets(JsonUtil.toJson(pendingBuckets));
+        snapshot.setCdcOffsets(JsonUtil.toJson(offsets));
+        snapshot.setBuiltAt(LocalDateTime.now());
+        merkleTreeSnapshotRepository.save(snapshot);
+    }
+
+    private MerkleTree toTree(MerkleTreeSnapshot snapshot, String leaves) {
+        List<BigInteger> boundaries = JsonUtil.fromJson(snapshot.getBoundaries(),
+                new TypeReference<List<BigInteger>>() {});
+        return MerkleTree.fromLeaves(boundaries, JsonUtil.fromJson(leaves, long[][].class));
+    }
+
+    private List<Long> readPendingBuckets(MerkleTreeSnapshot snapshot) {
+        if (snapshot.getPendingBuckets() == null) {
+            return List.of();
+        }
+        return JsonUtil.fromJson(snapshot.getPendingBuckets(), new TypeReference<List<Long>>() {});
+    }
+
+    private Map<Integer, Long> readOffsets(MerkleTreeSnapshot snapshot) {
+        if (snapshot.getCdcOffsets() == null) {
+            return Map.of();
+        }
+        return JsonUtil.fromJson(snapshot.getCdcOffsets(), new TypeReference<Map<Integer, Long>>() {});
+    }
+}
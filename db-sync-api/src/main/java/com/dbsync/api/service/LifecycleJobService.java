@@ -0,0 +1,219 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.JobStatus;
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.common.exceptions.ResourceNotFoundException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.domain.entity.LifecycleJob;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.LifecycleJobRepository;
+import com.dbsync.core.repository.SyncTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lifecycle Job Service
+ * Durable queue of task lifecycle operations processed by {@link LifecycleJobWorker}
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LifecycleJobService {
+
+    private static final EnumSet<JobStatus> ACTIVE_STATUSES = EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING);
+
+    private final LifecycleJobRepository lifecycleJobRepository;
+    private final SyncTaskRepository syncTaskRepository;
+
+    /**
+     * Submit a lifecycle operation for a task.
+     * Returns the existing job when the idempotency key was already used for the task and
+     * operation, or when the same operation is still pending or running for the task.
+     * Runs without a surrounding transaction so a concurrent duplicate that loses on the
+     * unique key can still read the job that won.
+     */
+    public LifecycleJob submitJob(UUID taskId, LifecycleOperation operation,
+                                  Map<String, Object> params, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<LifecycleJob> existing = lifecycleJobRepository
+                    .findByTaskIdAndOperationAndIdempotencyKey(taskId, operation, idempotencyKey);
+            if (existing.isPresent()) {
+                log.debug("Returning existing job {} for idempotency key {}", existing.get().getJobId(), idempotencyKey);
+                return existing.get();
+            }
+        }
+
+        SyncTask task = syncTaskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found: " + taskId));
+
+        Optional<LifecycleJob> active = lifecycleJobRepository
+                .findFirstByTaskIdAndOperationAndStatusInOrderByCreatedAtAsc(taskId, operation, ACTIVE_STATUSES);
+        if (active.isPresent()) {
+            log.debug("Operation {} already queued for task {} as job {}", operation, taskId, active.get().getJobId());
+            return active.get();
+        }
+
+        LifecycleJob job = new LifecycleJob();
+        job.setTaskId(taskId);
+        job.setTenantId(task.getTenantId());
+        job.setOperation(operation);
+        job.setStatus(JobStatus.PENDING);
+        job.setIdempotencyKey(idempotencyKey);
+        job.setParams(JsonUtil.toJson(params != null ? params : Collections.emptyMap()));
+        job.setProgress("QUEUED");
+
+        LifecycleJob savedJob;
+        try {
+            savedJob = lifecycleJobRepository.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            // A concurrent submission with the same key committed first
+            return lifecycleJobRepository.findByTaskIdAndOperationAndIdempotencyKey(taskId, operation, idempotencyKey)
+                    .orElseThrow(() -> e);
+        }
+
+        log.info("Lifecycle job submitted: {} {} for task {}", savedJob.getJobId(), operation, task.getTaskCode());
+        return savedJob;
+    }
+
+    /**
+     * Submit the START of a scheduled run unless {@code maxRuns} scheduled runs already read from
+     * its source server. The count and the submission hold a lock on the source key, so nodes
+     * firing schedules of the same server at once cannot pass the limit together.
+     *
+     * @return the job, or empty if the source is at its limit
+     */
+    @Transactional
+    public Optional<LifecycleJob> submitScheduledStart(UUID taskId, String sourceKey, int maxRuns,
+                                                       String idempotencyKey) {
+        Optional<LifecycleJob> existing = lifecycleJobRepository
+                .findByTaskIdAndOperationAndIdempotencyKey(taskId, LifecycleOperation.START, idempotencyKey);
+        if (existing.isPresent()) {
+            return existing;
+        }
+        lifecycleJobRepository.lockScheduleSource(sourceKey);
+        long active = lifecycleJobRepository.countActiveScheduledRuns(sourceKey);
+        if (active >= maxRuns) {
+            log.debug("Holding back scheduled start of task {}, {} runs active on {}", taskId, active, sourceKey);
+            return Optional.empty();
+        }
+        return Optional.of(submitJob(taskId, LifecycleOperation.START, Map.of("scheduleSource", sourceKey),
+                idempotencyKey));
+    }
+
+    /**
+     * Claim up to {@code limit} pending jobs for the given worker node
+     */
+    @Transactional
+    public List<LifecycleJob> claimJobs(String nodeId, int limit) {
+        List<LifecycleJob> jobs = lifecycleJobRepository.lockPendingJobs(limit);
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (LifecycleJob job : jobs) {
+            job.setStatus(JobStatus.RUNNING);
+            job.setClaimedBy(nodeId);
+            job.setClaimedAt(now);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setProgress("CLAIMED");
+        }
+
+        return lifecycleJobRepository.saveAll(jobs);
+    }
+
+    /**
+     * Record job progress
+     */
+    @Transactional
+    public void updateProgress(UUID jobId, String progress) {
+        lifecycleJobRepository.findById(jobId).ifPresent(job -> {
+            job.setProgress(progress);
+            lifecycleJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Mark a job as succeeded
+     */
+    @Transactional
+    public void completeJob(UUID jobId, String result) {
+        lifecycleJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(JobStatus.SUCCEEDED);
+            job.setProgress("COMPLETED");
+            job.setResult(result);
+            job.setLastError(null);
+            job.setFinishedAt(LocalDateTime.now());
+            lifecycleJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Mark a job as failed
+     */
+    @Transactional
+    public void failJob(UUID jobId, String error) {
+        lifecycleJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(JobStatus.FAILED);
+            job.setProgress("FAILED");
+            job.setLastError(error);
+            job.setFinishedAt(LocalDateTime.now());
+            lifecycleJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Renew the claim lease of jobs held by a worker node
+     */
+    @Transactional
+    public void renewClaims(String nodeId, Collection<UUID> jobIds) {
+        if (!jobIds.isEmpty()) {
+            lifecycleJobRepository.renewClaims(nodeId, jobIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Return jobs with an expired claim lease to the queue
+     */
+    @Transactional
+    public int requeueExpiredClaims(long leaseMs) {
+        int requeued = lifecycleJobRepository.requeueExpiredClaims(
+                LocalDateTime.now().minusNanos(leaseMs * 1_000_000L));
+        if (requeued > 0) {
+            log.warn("Requeued {} lifecycle jobs with expired claims", requeued);
+        }
+        return requeued;
+    }
+
+    /**
+     * Get job by ID
+     */
+    public LifecycleJob getJobById(UUID jobId) {
+        return lifecycleJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found: " + jobId));
+    }
+
+    /**
+     * Get jobs of a task, newest first
+     */
+    public List<LifecycleJob> getJobsByTask(UUID taskId) {
+        return lifecycleJobRepository.findByTaskIdOrderByCreatedAtDesc(taskId);
+    }
+}
@@ -0,0 +1,294 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.common.enums.SyncMode;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.cluster.NodeIdentity;
+import com.dbsync.core.domain.entity.LifecycleJob;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.verify.DataVerifier;
+import com.dbsync.core.verify.RepairReport;
+import com.dbsync.core.verify.VerificationReport;
+import com.dbsync.transform.bulk.BulkLoadReport;
+import com.dbsync.transform.bulk.BulkLoader;
+import com.dbsync.transform.dlq.DeadLetterReplayer;
+import com.dbsync.transform.dlq.ReplayReport;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lifecycle Job Worker
+ * Claims queued lifecycle jobs with SKIP LOCKED and runs them on a bounded pool,
+ * so slow Kafka Connect calls never hold API request threads
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class LifecycleJobWorker {
+
+    private final LifecycleJobService lifecycleJobService;
+    private final SyncTaskService syncTaskService;
+    private final NodeIdentity nodeIdentity;
+    private final DataVerifier dataVerifier;
+    private final DataRepairService dataRepairService;
+    private final DeadLetterReplayer deadLetterReplayer;
+    private final BulkLoader bulkLoader;
+    private final SnapshotAdmissionService snapshotAdmissionService;
+    private final int workerThreads;
+    private final long claimLeaseMs;
+
+    private final ExecutorService executor;
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public LifecycleJobWorker(
+            LifecycleJobService lifecycleJobService,
+            SyncTaskService syncTaskService,
+            NodeIdentity nodeIdentity,
+            DataVerifier dataVerifier,
+            DataRepairService dataRepairService,
+            DeadLetterReplayer deadLetterReplayer,
+            BulkLoader bulkLoader,
+            SnapshotAdmissionService snapshotAdmissionService,
+            @Value("${app.lifecycle-jobs.worker-threads:4}") int workerThreads,
+            @Value("${app.lifecycle-jobs.claim-lease-ms:300000}") long claimLeaseMs) {
+        this.lifecycleJobService = lifecycleJobService;
+        this.syncTaskService = syncTaskService;
+        this.nodeIdentity = nodeIdentity;
+        this.dataVerifier = dataVerifier;
+        this.dataRepairService = dataRepairService;
+        this.deadLetterReplayer = deadLetterReplayer;
+        this.bulkLoader = bulkLoader;
+        this.snapshotAdmissionService = snapshotAdmissionService;
+        this.workerThreads = workerThreads;
+        this.claimLeaseMs = claimLeaseMs;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "lifecycle-job-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Claim as many pending jobs as there are idle worker threads
+     */
+    @Scheduled(fixedDelayString = "${app.lifecycle-jobs.poll-interval-ms:1000}")
+    public void pollJobs() {
+        int idle = workerThreads - activeJobs.size();
+        if (idle <= 0) {
+            return;
+        }
+
+        try {
+            List<LifecycleJob> jobs = lifecycleJobService.claimJobs(nodeIdentity.getNodeId(), idle);
+            for (LifecycleJob job : jobs) {
+                activeJobs.add(job.getJobId());
+                executor.submit(() -> runJob(job));
+            }
+        } catch (Exception e) {
+            log.error("Failed to claim lifecycle jobs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Renew leases of running jobs and recover jobs abandoned by dead nodes
+     */
+    @Scheduled(fixedDelayString = "${app.lifecycle-jobs.lease-renew-interval-ms:60000}")
+    public void maintainClaims() {
+        try {
+            lifecycleJobService.renewClaims(nodeIdentity.getNodeId(), Set.copyOf(activeJobs));
+            lifecycleJobService.requeueExpiredClaims(claimLeaseMs);
+        } catch (Exception e) {
+            log.error("Failed to maintain lifecycle job claims: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Run a claimed job to completion
+     */
+    private void runJob(LifecycleJob job) {
+        log.info("Running lifecycle job {}: {} task {}", job.getJobId(), job.getOperation(), job.getTaskId());
+
+        try {
+            lifecycleJobService.updateProgress(job.getJobId(), "EXECUTING");
+            Object result = switch (job.getOperation()) {
+                case START -> start(job);
+                case VERIFY -> verify(job);
+                case REPAIR -> repair(job);
+                case REPLAY_DLQ -> replayDeadLetters(job);
+                default -> describe(execute(job));
+            };
+            lifecycleJobService.completeJob(job.getJobId(), JsonUtil.toJson(result));
+            log.info("Lifecycle job {} succeeded", job.getJobId());
+
+        } catch (Exception e) {
+            log.error("Lifecycle job {} failed: {}", job.getJobId(), e.getMessage());
+            lifecycleJobService.failJob(job.getJobId(), e.getMessage());
+        } finally {
+            activeJobs.remove(job.getJobId());
+        }
+    }
+
+    /**
+     * Execute the job's operation. Operations whose target state has already
+     * been reached are treated as done, so a replayed job is harmless.
+     */
+    private SyncTask execute(LifecycleJob job) {
+        UUID taskId = job.getTaskId();
+        SyncTask task = syncTaskService.getTaskById(taskId);
+        LifecycleOperation operation = job.getOperation();
+
+        switch (operation) {
+            case START:
+                return task.getStatus() == TaskStatus.RUNNING ? task : syncTaskService.startTask(taskId);
+            case STOP:
+                return task.getStatus() == TaskStatus.STOPPED ? task : syncTaskService.stopTask(taskId);
+            case PAUSE:
+                return task.getStatus() == TaskStatus.PAUSED ? task : syncTaskService.pauseTask(taskId);
+            case RESUME:
+                return task.getStatus() == TaskStatus.RUNNING ? task : syncTaskService.resumeTask(taskId);
+            case RESTART:
+                return syncTaskService.restartTask(taskId);
+            case DELETE:
+                if (task.getDeletedAt() == null) {
+                    syncTaskService.deleteTask(taskId, readFlag(job, "force"));
+                }
+                return syncTaskService.getTaskById(taskId);
+            default:
+                throw new IllegalStateException("Unsupported lifecycle operation: " + operation);
+        }
+    }
+
+    /**
+     * Start a task; one that has to snapshot first waits in the admission queue unless
+     * admission issued this start
+     */
+    private Object start(LifecycleJob job) {
+        SyncTask task = syncTaskService.getTaskById(job.getTaskId());
+        if (snapshotAdmissionService.requiresSlot(task, readFlag(job, "admitted"))) {
+            return describe(syncTaskService.queueTask(task.getTaskId()));
+        }
+        return task.getSyncMode() == SyncMode.FULL_ONLY ? bulkLoad(job) : describe(execute(job));
+    }
+
+    /**
+     * Copy a FULL_ONLY task's tables with the bulk loader instead of running a connector;
+     * the task completes when the load does and the report is stored as the job result
+     */
+    private BulkLoadReport bulkLoad(LifecycleJob job) {
+        UUID taskId = job.getTaskId();
+        SyncTask task = syncTaskService.beginBulkLoad(taskId);
+        try {
+            BulkLoadReport report = bulkLoader.load(task, readTables(job));
+            syncTaskService.completeBulkLoad(taskId, report.getRows());
+            return report;
+        } catch (RuntimeException e) {
+            syncTaskService.failBulkLoad(taskId, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Verify source against target data; the report is stored as the job result
+     */
+    private VerificationReport verify(LifecycleJob job) {
+        SyncTask task = syncTaskService.getTaskById(job.getTaskId());
+        if (task.getStatus() == TaskStatus.CREATED) {
+            throw new BusinessException(ErrorCodes.TASK_STATUS_ERROR, "Task has not synced any data yet");
+        }
+
+        return dataVerifier.verify(task, readTables(job));
+    }
+
+    /**
+     * Locate drifted rows and re-emit them from the source; the report is stored as the job result
+     */
+    private RepairReport repair(LifecycleJob job) {
+        SyncTask task = syncTaskService.getTaskById(job.getTaskId());
+        if (task.getStatus() == TaskStatus.CREATED) {
+            throw new BusinessException(ErrorCodes.TASK_STATUS_ERROR, "Task has not synced any data yet");
+        }
+        return dataRepairService.repair(task, readTables(job), readFlag(job, "fullRebuild"), readFlag(job, "dryRun"));
+    }
+
+    /**
+     * Replay dead-lettered records of the task, optionally only some failure fingerprints
+     */
+    private ReplayReport replayDeadLetters(LifecycleJob job) {
+        SyncTask task = syncTaskService.getTaskById(job.getTaskId());
+        JsonNode params = readParams(job);
+
+        Set<String> fingerprints = new HashSet<>();
+        if (params.has("fingerprints")) {
+            params.get("fingerprints").forEach(fingerprint -> fingerprints.add(fingerprint.asText()));
+        }
+        double ratePerSecond = params.has("ratePerSecond") ? params.get("ratePerSecond").asDouble() : 20000;
+        long maxRecords = params.has("maxRecords") ? params.get("maxRecords").asLong() : Long.MAX_VALUE;
+
+        return deadLetterReplayer.replay(task, fingerprints, ratePerSecond, maxRecords);
+    }
+
+    private List<String> readTables(LifecycleJob job) {
+        List<String> tables = new ArrayList<>();
+        JsonNode params = readParams(job);
+        if (params.has("tables")) {
+            params.get("tables").forEach(table -> tables.add(table.asText()));
+        }
+        return tables;
+    }
+
+    private boolean readFlag(LifecycleJob job, String name) {
+        JsonNode params = readParams(job);
+        return params.has(name) && params.get(name).asBoolean();
+    }
+
+    private JsonNode readParams(LifecycleJob job) {
+        return JsonUtil.parseJson(job.getParams() != null ? job.getParams() : "{}");
+    }
+
+    private Map<String, Object> describe(SyncTask task) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("taskId", task.getTaskId());
+        result.put("status", task.getStatus());
+        result.put("healthStatus", task.getHealthStatus());
+        result.put("connectorName", task.getConnectorName());
+        result.put("deleted", task.getDeletedAt() != null);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                // Unfinished jobs are requeued by another node once their lease expires
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
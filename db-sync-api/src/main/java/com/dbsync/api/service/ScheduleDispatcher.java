@@ -0,0 +1,225 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.common.enums.SyncMode;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.LifecycleJob;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.core.schedule.TaskSchedule;
+import com.dbsync.core.schedule.TimingWheel;
+import com.dbsync.core.verify.JdbcEndpoint;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Schedule Dispatcher
+ * Starts the tasks this node owns on the cron expression in their schedule_config. Next fire
+ * times are held in a {@link TimingWheel}, so a tick only visits the schedules due in it.
+ * Runs go through the lifecycle job queue like manual starts; CDC tasks with a run window are
+ * stopped again when it ends. At most {@code max-runs-per-source} scheduled runs read from one
+ * source server at a time across the cluster, counted from the lifecycle jobs; further fires
+ * wait and are retried.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+public class ScheduleDispatcher {
+
+    private final SyncTaskRepository syncTaskRepository;
+    private final LifecycleJobService lifecycleJobService;
+    private final ClusterMembership clusterMembership;
+    private final boolean enabled;
+    private final int maxRunsPerSource;
+    private final long retryDelayMs;
+    private final TimingWheel<WheelKey> wheel;
+
+    private final Map<UUID, ScheduledTask> schedules = new HashMap<>();
+
+    /**
+     * Start job of each windowed run this node fired, until its window ends
+     */
+    private final Map<UUID, UUID> windows = new HashMap<>();
+
+    public ScheduleDispatcher(
+            SyncTaskRepository syncTaskRepository,
+            LifecycleJobService lifecycleJobService,
+            ClusterMembership clusterMembership,
+            @Value("${app.schedules.enabled:false}") boolean enabled,
+            @Value("${app.schedules.tick-ms:1000}") long tickMs,
+            @Value("${app.schedules.wheel-size:4096}") int wheelSize,
+            @Value("${app.schedules.max-runs-per-source:2}") int maxRunsPerSource,
+            @Value("${app.schedules.retry-delay-ms:30000}") long retryDelayMs) {
+        this.syncTaskRepository = syncTaskRepository;
+        this.lifecycleJobService = lifecycleJobService;
+        this.clusterMembership = clusterMembership;
+        this.enabled = enabled;
+        this.maxRunsPerSource = maxRunsPerSource;
+        this.retryDelayMs = retryDelayMs;
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Load the schedules of owned tasks, keeping the pending fire of unchanged ones
+     */
+    @Scheduled(fixedDelayString = "${app.schedules.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        Map<UUID, SyncTask> owned = new HashMap<>();
+        try {
+            for (SyncTask task : syncTaskRepository.findScheduledTasks()) {
+                if (clusterMembership.ownsTask(task.getTaskId())) {
+                    owned.put(task.getTaskId(), task);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to load task schedules: {}", e.getMessage());
+            return;
+        }
+
+        for (UUID taskId : new HashSet<>(schedules.keySet())) {
+            if (!owned.containsKey(taskId)) {
+                schedules.remove(taskId);
+                wheel.cancel(new WheelKey(taskId, LifecycleOperation.START));
+            }
+        }
+        Instant now = Instant.now();
+        for (SyncTask task : owned.values()) {
+            ScheduledTask current = schedules.get(task.getTaskId());
+            if (current != null && Objects.equals(current.getConfig(), task.getScheduleConfig())) {
+                continue;
+            }
+            try {
+                ScheduledTask scheduled = toScheduledTask(task);
+                if (scheduled == null) {
+                    schedules.remove(task.getTaskId());
+                    wheel.cancel(new WheelKey(task.getTaskId(), LifecycleOperation.START));
+                    continue;
+                }
+                schedules.put(task.getTaskId(), scheduled);
+                scheduleNext(scheduled, now);
+            } catch (Exception e) {
+                log.warn("Ignoring schedule of task {}: {}", task.getTaskCode(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Fire the starts and window stops that came due
+     */
+    @Scheduled(fixedDelayString = "${app.schedules.tick-ms:1000}")
+    public synchronized void tick() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (WheelKey key : wheel.advance(now)) {
+            try {
+                if (key.operation() == LifecycleOperation.STOP) {
+                    endWindow(key.taskId());
+                } else {
+                    fire(key.taskId(), now);
+                }
+            } catch (Exception e) {
+                log.warn("Scheduled {} of task {} failed: {}", key.operation(), key.taskId(), e.getMessage());
+            }
+        }
+    }
+
+    private void fire(UUID taskId, long now) {
+        ScheduledTask scheduled = schedules.get(taskId);
+        if (scheduled == null) {
+            return;
+        }
+        if (!clusterMembership.ownsTask(taskId)) {
+            // Moved to another node; the next reload drops it here
+            scheduleNext(scheduled, Instant.ofEpochMilli(now));
+            return;
+        }
+
+        SyncTask task = syncTaskRepository.findById(taskId).orElse(null);
+        if (task == null || task.getStatus() == TaskStatus.RUNNING || task.getStatus() == TaskStatus.QUEUED) {
+            log.info("Skipping scheduled run of task {}, the previous run is still active", taskId);
+            scheduleNext(scheduled, Instant.ofEpochMilli(now));
+            return;
+        }
+        LifecycleJob job = lifecycleJobService.submitScheduledStart(taskId, scheduled.getSourceKey(),
+                maxRunsPerSource, "schedule-" + taskId + "-" + scheduled.getNextFire().toEpochMilli()).orElse(null);
+        if (job == null) {
+            log.debug("Deferring scheduled run of task {}, {} is at its run limit", taskId, scheduled.getSourceKey());
+            wheel.schedule(new WheelKey(taskId, LifecycleOperation.START), now + retryDelayMs);
+            return;
+        }
+        log.info("Scheduled run of task {} submitted as job {}", task.getTaskCode(), job.getJobId());
+
+        if (!scheduled.isFullOnly() && scheduled.getSchedule().runMinutes() != null) {
+            windows.put(taskId, job.getJobId());
+            wheel.schedule(new WheelKey(taskId, LifecycleOperation.STOP),
+                    now + scheduled.getSchedule().runMinutes() * 60_000L);
+        }
+        scheduleNext(scheduled, Instant.ofEpochMilli(now));
+    }
+
+    private void endWindow(UUID taskId) {
+        UUID jobId = windows.remove(taskId);
+        if (jobId == null) {
+            return;
+        }
+        lifecycleJobService.submitJob(taskId, LifecycleOperation.STOP, Map.of(), "schedule-stop-" + jobId);
+        log.info("Run window of task {} ended, stop submitted", taskId);
+    }
+
+    private void scheduleNext(ScheduledTask scheduled, Instant after) {
+        Instant next = scheduled.getSchedule().nextAfter(after);
+        scheduled.setNextFire(next);
+        WheelKey key = new WheelKey(scheduled.getTaskId(), LifecycleOperation.START);
+        if (next == null) {
+            wheel.cancel(key);
+        } else {
+            wheel.schedule(key, next.toEpochMilli());
+        }
+    }
+
+    private ScheduledTask toScheduledTask(SyncTask task) {
+        TaskSchedule schedule = TaskConfigs.schedule(task);
+        if (schedule == null) {
+            return null;
+        }
+        String sourceKey = JdbcEndpoint.fromConfig(task.getSourceDbType(), task.getSourceConnectionConfig())
+                .getServerKey();
+        return new ScheduledTask(task.getTaskId(), task.getScheduleConfig(), schedule, sourceKey,
+                task.getSyncMode() == SyncMode.FULL_ONLY);
+    }
+
+    private record WheelKey(UUID taskId, LifecycleOperation operation) {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ScheduledTask {
+        private final UUID taskId;
+        private final String config;
+        private final TaskSchedule schedule;
+        private final String sourceKey;
+        private final boolean fullOnly;
+        @Setter
+        private Instant nextFire;
+    }
+}
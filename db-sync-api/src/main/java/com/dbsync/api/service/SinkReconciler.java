@@ -0,0 +1,79 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.transform.sink.SinkManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Sink Reconciler
+ * Keeps a sink running on this node for every running task it owns, and stops sinks of
+ * tasks that stopped or moved to another node
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class SinkReconciler {
+
+    private final SyncTaskRepository syncTaskRepository;
+    private final SinkManager sinkManager;
+    private final ClusterMembership clusterMembership;
+    private final boolean enabled;
+
+    public SinkReconciler(
+            SyncTaskRepository syncTaskRepository,
+            SinkManager sinkManager,
+            ClusterMembership clusterMembership,
+            @Value("${app.sink.enabled:false}") boolean enabled) {
+        this.syncTaskRepository = syncTaskRepository;
+        this.sinkManager = sinkManager;
+        this.clusterMembership = clusterMembership;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start and stop sinks to match the running tasks owned by this node
+     */
+    @Scheduled(fixedDelayString = "${app.sink.reconcile-interval-ms:10000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> owned;
+        try {
+            owned = syncTaskRepository.findTaskIdsByStatusIn(EnumSet.of(TaskStatus.RUNNING)).stream()
+                    .filter(clusterMembership::ownsTask)
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.error("Failed to load tasks for sink reconciliation: {}", e.getMessage());
+            return;
+        }
+
+        Set<UUID> running = sinkManager.getRunningTaskIds();
+        for (UUID taskId : running) {
+            if (!owned.contains(taskId)) {
+                log.info("Stopping sink of task {}", taskId);
+                sinkManager.stop(taskId);
+            }
+        }
+        for (UUID taskId : owned) {
+            if (!running.contains(taskId)) {
+                try {
+                    syncTaskRepository.findById(taskId).ifPresent(sinkManager::start);
+                } catch (Exception e) {
+                    log.warn("Failed to start sink of task {}: {}", taskId, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.common.enums.SyncMode;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.connector.manager.ConnectorManager;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.domain.entity.Tenant;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.core.repository.TenantRepository;
+import com.dbsync.core.schedule.WeightedFairAdmission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Snapshot Admission Service
+ * Bounds how many initial snapshots run at once across the cluster. Starting a task that
+ * has to snapshot puts it in QUEUED; the node owning the admission shard hands free slots
+ * to queued tasks weighted-fair across tenants, weighted by their throughput quota, and
+ * starts them. A slot is released when the connector's committed offsets show the snapshot
+ * finished, the task left RUNNING, or it was held longer than max-hold-ms. The offsets are
+ * read from Kafka Connect, so slots are released whether or not the task's sink is running.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+public class SnapshotAdmissionService {
+
+    /**
+     * Shard whose owner runs admission, so exactly one live node hands out slots
+     */
+    private static final UUID ADMISSION_SHARD =
+            UUID.nameUUIDFromBytes("snapshot-admission".getBytes(StandardCharsets.UTF_8));
+
+    private final SyncTaskRepository syncTaskRepository;
+    private final TenantRepository tenantRepository;
+    private final ConnectorManager connectorManager;
+    private final SyncTaskService syncTaskService;
+    private final LifecycleJobService lifecycleJobService;
+    private final ClusterMembership clusterMembership;
+    private final boolean enabled;
+    private final int slots;
+    private final long admitTimeoutMs;
+    private final long maxHoldMs;
+
+    public SnapshotAdmissionService(
+            SyncTaskRepository syncTaskRepository,
+            TenantRepository tenantRepository,
+            ConnectorManager connectorManager,
+            SyncTaskService syncTaskService,
+            LifecycleJobService lifecycleJobService,
+            ClusterMembership clusterMembership,
+            @Value("${app.snapshot-admission.enabled:false}") boolean enabled,
+            @Value("${app.snapshot-admission.slots:8}") int slots,
+            @Value("${app.snapshot-admission.admit-timeout-ms:600000}") long admitTimeoutMs,
+            @Value("${app.snapshot-admission.max-hold-ms:86400000}") long maxHoldMs) {
+        this.syncTaskRepository = syncTaskRepository;
+        this.tenantRepository = tenantRepository;
+        this.connectorManager = connectorManager;
+        this.syncTaskService = syncTaskService;
+        this.lifecycleJobService = lifecycleJobService;
+        this.clusterMembership = clusterMembership;
+        this.enabled = enabled;
+        this.slots = slots;
+        this.admitTimeoutMs = admitTimeoutMs;
+        this.maxHoldMs = maxHoldMs;
+    }
+
+    /**
+     * Whether starting the task has to wait for a snapshot slot: FULL_ONLY tasks copy
+     * everything on every run, FULL_INCREMENTAL tasks only on their first
+     *
+     * @param admitted whether the start was issued by admission
+     */
+    public boolean requiresSlot(SyncTask task, boolean admitted) {
+        if (!enabled || admitted || task.getStatus() == TaskStatus.RUNNING) {
+            return false;
+        }
+        return task.getSyncMode() == SyncMode.FULL_ONLY
+                || task.getSyncMode() == SyncMode.FULL_INCREMENTAL
+                && (task.getStatus() == TaskStatus.CREATED || task.getStatus() == TaskStatus.QUEUED);
+    }
+
+    /**
+     * Release finished slots and admit queued tasks into the free ones
+     */
+    @Scheduled(fixedDelayString = "${app.snapshot-admission.interval-ms:5000}")
+    public void admit() {
+        if (!enabled || !clusterMembership.ownsTask(ADMISSION_SHARD)) {
+            return;
+        }
+        try {
+            admitQueued();
+        } catch (Exception e) {
+            log.error("Snapshot admission failed: {}", e.getMessage());
+        }
+    }
+
+    private void admitQueued() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, Integer> held = new HashMap<>();
+        int used = 0;
+        for (SyncTask task : syncTaskRepository.findBySnapshotSlotSinceIsNotNullAndDeletedAtIsNull()) {
+            if (holdsSlot(task, now)) {
+                held.merge(task.getTenantId(), 1, Integer::sum);
+                used++;
+            } else {
+                log.info("Releasing snapshot slot of task {} ({})", task.getTaskCode(), task.getStatus());
+                syncTaskService.updateSnapshotSlot(task.getTaskId(), null);
+            }
+        }
+        int free = slots - used;
+        if (free <= 0) {
+            return;
+        }
+
+        Map<UUID, List<SyncTask>> queues = new LinkedHashMap<>();
+        for (SyncTask task : syncTaskRepository.findByStatusAndDeletedAtIsNullOrderByQueuedAtAsc(TaskStatus.QUEUED)) {
+            if (task.getSnapshotSlotSince() == null) {
+                queues.computeIfAbsent(task.getTenantId(), tenantId -> new ArrayList<>()).add(task);
+            }
+        }
+        if (queues.isEmpty()) {
+            return;
+        }
+        Map<UUID, Double> weights = new HashMap<>();
+        for (Tenant tenant : tenantRepository.findAllById(queues.keySet())) {
+            if (tenant.getMaxThroughputTps() != null) {
+                weights.put(tenant.getTenantId(), tenant.getMaxThroughputTps().doubleValue());
+            }
+        }
+
+        for (SyncTask task : WeightedFairAdmission.select(free, held, weights, queues)) {
+            try {
+                syncTaskService.updateSnapshotSlot(task.getTaskId(), now);
+                lifecycleJobService.submitJob(task.getTaskId(), LifecycleOperation.START, Map.of("admitted", true),
+                        "snapshot-admit-" + task.getTaskId() + "-" + task.getQueuedAt().toEpochSecond(ZoneOffset.UTC));
+                log.info("Admitted task {} of tenant {} to a snapshot slot", task.getTaskCode(), task.getTenantId());
+            } catch (Exception e) {
+                log.warn("Failed to admit task {}: {}", task.getTaskCode(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean holdsSlot(SyncTask task, LocalDateTime now) {
+        long heldMs = Duration.between(task.getSnapshotSlotSince(), now).toMillis();
+        return switch (task.getStatus()) {
+            // Admitted but its start job has not run yet
+            case QUEUED -> heldMs < admitTimeoutMs;
+            case RUNNING -> heldMs < maxHoldMs && !snapshotFinished(task);
+            default -> false;
+        };
+    }
+
+    /**
+     * A CDC task's snapshot is finished once its connector's offsets no longer carry the snapshot
+     * marker; a FULL_ONLY task holds its slot until the bulk load leaves RUNNING
+     */
+    private boolean snapshotFinished(SyncTask task) {
+        if (task.getSyncMode() == SyncMode.FULL_ONLY || task.getConnectorName() == null) {
+            return false;
+        }
+        try {
+            return connectorManager.isSnapshotCompleted(task.getConnectorName());
+        } catch (Exception e) {
+            log.debug("Keeping snapshot slot of task {}, offsets unavailable: {}", task.getTaskCode(), e.getMessage());
+            return false;
+        }
+    }
+}
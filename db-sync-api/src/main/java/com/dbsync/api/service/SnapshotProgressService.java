@@ -0,0 +1,258 @@
+package com.dbsync.api.service;
+
+import com.dbsync.core.domain.entity.SnapshotProgress;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.SnapshotProgressRepository;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.transform.sink.SinkManager;
+import com.dbsync.transform.snapshot.SnapshotCounter;
+import com.dbsync.transform.snapshot.SnapshotRowEstimator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot Progress Service
+ * Samples the snapshot rows read by the sinks of this node, stores rows done against the
+ * catalog estimate per table with an exponentially weighted moving average of throughput,
+ * and derives per-table and per-task ETAs. Progress is published as gauges tagged by task
+ * while the task's sink runs on this node; an unknown ETA is reported as -1.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+public class SnapshotProgressService {
+
+    private static final String ROWS_DONE = "dbsync.snapshot.rows.done";
+    private static final String ROWS_ESTIMATED = "dbsync.snapshot.rows.estimated";
+    private static final String ETA_SECONDS = "dbsync.snapshot.eta.seconds";
+
+    private final SnapshotProgressRepository progressRepository;
+    private final SyncTaskRepository syncTaskRepository;
+    private final SinkManager sinkManager;
+    private final SnapshotRowEstimator rowEstimator;
+    private final MeterRegistry meterRegistry;
+    private final double smoothing;
+
+    /**
+     * Rows stored before the current sink run of each task; a new run counts from zero again
+     */
+    private final Map<UUID, Baseline> baselines = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> doneGauges = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> estimatedGauges = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> etaGauges = new ConcurrentHashMap<>();
+
+    public SnapshotProgressService(
+            SnapshotProgressRepository progressRepository,
+            SyncTaskRepository syncTaskRepository,
+            SinkManager sinkManager,
+            SnapshotRowEstimator rowEstimator,
+            MeterRegistry meterRegistry,
+            @Value("${app.snapshot-progress.smoothing:0.3}") double smoothing) {
+        this.progressRepository = progressRepository;
+        this.syncTaskRepository = syncTaskRepository;
+        this.sinkManager = sinkManager;
+        this.rowEstimator = rowEstimator;
+        this.meterRegistry = meterRegistry;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Sample the snapshot counters of the sinks running on this node
+     */
+    @Scheduled(fixedDelayString = "${app.snapshot-progress.interval-ms:10000}")
+    public void sample() {
+        Set<UUID> running = sinkManager.getRunningTaskIds();
+        baselines.entrySet().removeIf(entry -> {
+            if (running.contains(entry.getKey())) {
+                return false;
+            }
+            // The sink stopped or moved to another node, which publishes the gauges from now on
+            removeGauges(entry.getKey());
+            return true;
+        });
+        for (UUID taskId : running) {
+            sinkManager.getSnapshotCounter(taskId).ifPresent(counter -> {
+                try {
+                    sample(taskId, counter);
+                } catch (Exception e) {
+                    log.warn("Failed to sample snapshot progress of task {}: {}", taskId, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Snapshot progress of a task with totals over its tables
+     */
+    public TaskSnapshotProgress getProgress(UUID taskId) {
+        return summarize(taskId, progressRepository.findByTaskIdOrderByTableNameAsc(taskId));
+    }
+
+    private void sample(UUID taskId, SnapshotCounter counter) throws Exception {
+        Map<String, SnapshotCounter.TableCount> counts = counter.getTables();
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        Map<String, SnapshotProgress> tables = progressRepository.findByTaskIdOrderByTableNameAsc(taskId).stream()
+                .collect(Collectors.toMap(SnapshotProgress::getTableName, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+        Baseline baseline = baselines.get(taskId);
+        if (baseline == null || baseline.counter != counter) {
+            SyncTask task = syncTaskRepository.findById(taskId).orElse(null);
+            if (task == null) {
+                return;
+            }
+            if (tables.isEmpty()) {
+                // First sample: list every captured table so the task ETA covers tables not reached yet
+                rowEstimator.estimate(task).forEach(
+                        (table, rows) -> tables.put(table, newProgress(taskId, table, rows)));
+            }
+            baseline = new Baseline(counter, tables.values().stream()
+                    .collect(Collectors.toMap(SnapshotProgress::getTableName, SnapshotProgress::getRowsDone)));
+            baselines.put(taskId, baseline);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<String, SnapshotCounter.TableCount> entry : counts.entrySet()) {
+            SnapshotProgress progress = tables.computeIfAbsent(entry.getKey(),
+                    table -> newProgress(taskId, table, null));
+            if (Boolean.TRUE.equals(progress.getCompleted())) {
+                continue;
+            }
+            update(progress, baseline.rows.getOrDefault(entry.getKey(), 0L) + entry.getValue().rows(), now);
+            if (entry.getValue().done()) {
+                progress.setCompleted(true);
+                progress.setCompletedAt(now);
+                progress.setEtaSeconds(0L);
+            }
+        }
+        progressRepository.saveAll(tables.values());
+
+        TaskSnapshotProgress summary = summarize(taskId, List.copyOf(tables.values()));
+        gauge(doneGauges, ROWS_DONE, taskId).set(summary.rowsDone());
+        gauge(estimatedGauges, ROWS_ESTIMATED, taskId).set(summary.estimatedRows());
+        gauge(etaGauges, ETA_SECONDS, taskId)
+                .set(summary.etaSeconds() != null ? summary.etaSeconds() : -1);
+    }
+
+    /**
+     * Fold a new sample into the throughput average and re-derive the ETA
+     */
+    private void update(SnapshotProgress progress, long rowsDone, LocalDateTime now) {
+        if (progress.getStartedAt() == null) {
+            progress.setStartedAt(now);
+        }
+        if (progress.getSampledAt() != null) {
+            double seconds = Duration.between(progress.getSampledAt(), now).toMillis() / 1000.0;
+            if (seconds > 0) {
+                double rate = Math.max(0, rowsDone - progress.getRowsDone()) / seconds;
+                progress.setRowsPerSecond(progress.getRowsPerSecond() == null ? rate
+                        : smoothing * rate + (1 - smoothing) * progress.getRowsPerSecond());
+            }
+        }
+        progress.setRowsDone(rowsDone);
+        progress.setSampledAt(now);
+        progress.setEtaSeconds(eta(remaining(progress), progress.getRowsPerSecond()));
+    }
+
+    /**
+     * Sum the tables of a task. Tables are mostly snapshotted one after another, so the
+     * remaining rows are expected to go at the rate of the tables in progress, or of the
+     * most recently finished table between two tables.
+     */
+    private TaskSnapshotProgress summarize(UUID taskId, List<SnapshotProgress> tables) {
+        long done = 0;
+        long estimated = 0;
+        long remaining = 0;
+        double rate = 0;
+        for (SnapshotProgress table : tables) {
+            done += table.getRowsDone();
+            estimated += Math.max(table.getRowsDone(), table.getEstimatedRows() != null ? table.getEstimatedRows() : 0);
+            if (!Boolean.TRUE.equals(table.getCompleted())) {
+                remaining += remaining(table);
+                if (table.getStartedAt() != null && table.getRowsPerSecond() != null) {
+                    rate += table.getRowsPerSecond();
+                }
+            }
+        }
+        if (rate == 0) {
+            rate = tables.stream()
+                    .filter(table -> table.getCompletedAt() != null && table.getRowsPerSecond() != null)
+                    .max(Comparator.comparing(SnapshotProgress::getCompletedAt))
+                    .map(SnapshotProgress::getRowsPerSecond)
+                    .orElse(0.0);
+        }
+
+        boolean completed = !tables.isEmpty()
+                && tables.stream().allMatch(table -> Boolean.TRUE.equals(table.getCompleted()));
+        double percent = completed ? 100 : estimated > 0 ? Math.min(100, 100.0 * done / estimated) : 0;
+        return new TaskSnapshotProgress(taskId, estimated, done, percent, rate > 0 ? rate : null,
+                completed ? Long.valueOf(0) : eta(remaining, rate), completed, tables);
+    }
+
+    private static long remaining(SnapshotProgress progress) {
+        return progress.getEstimatedRows() != null
+                ? Math.max(0, progress.getEstimatedRows() - progress.getRowsDone()) : 0;
+    }
+
+    private static Long eta(long remaining, Double rowsPerSecond) {
+        return rowsPerSecond != null && rowsPerSecond > 0 ? (long) Math.ceil(remaining / rowsPerSecond) : null;
+    }
+
+    private static SnapshotProgress newProgress(UUID taskId, String table, Long estimatedRows) {
+        SnapshotProgress progress = new SnapshotProgress();
+        progress.setTaskId(taskId);
+        progress.setTableName(table);
+        progress.setEstimatedRows(estimatedRows);
+        return progress;
+    }
+
+    // Gauges are tagged by task ID, since task codes repeat across tenants
+    private AtomicLong gauge(Map<UUID, AtomicLong> gauges, String name, UUID taskId) {
+        return gauges.computeIfAbsent(taskId,
+                id -> meterRegistry.gauge(name, Tags.of("task", id.toString()), new AtomicLong()));
+    }
+
+    private void removeGauges(UUID taskId) {
+        doneGauges.remove(taskId);
+        estimatedGauges.remove(taskId);
+        etaGauges.remove(taskId);
+        for (String name : List.of(ROWS_DONE, ROWS_ESTIMATED, ETA_SECONDS)) {
+            meterRegistry.find(name).tag("task", taskId.toString()).meters().forEach(meterRegistry::remove);
+        }
+    }
+
+    /**
+     * Progress of a task's snapshot
+     *
+     * @param percent       rows done against the estimate, 100 once every table is done
+     * @param rowsPerSecond moving-average throughput, null before the second sample
+     * @param etaSeconds    null while the throughput is unknown
+     */
+    public record TaskSnapshotProgress(UUID taskId, long estimatedRows, long rowsDone, double percent,
+                                       Double rowsPerSecond, Long etaSeconds, boolean completed,
+                                       List<SnapshotProgress> tables) {
+    }
+
+    private record Baseline(SnapshotCounter counter, Map<String, Long> rows) {
+    }
+}
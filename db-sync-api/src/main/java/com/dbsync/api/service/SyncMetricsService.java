@@ -0,0 +1,228 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.metrics.MetricPoint;
+import com.dbsync.core.metrics.MetricResolution;
+import com.dbsync.core.metrics.MetricsAggregator;
+import com.dbsync.core.metrics.RatePoint;
+import com.dbsync.core.metrics.SyncMetricsStore;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.transform.sink.SinkManager;
+import com.dbsync.transform.sink.TableThroughput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sync Metrics Service
+ * Collects the per-table event counts of the sinks running on this node into minute buckets
+ * and writes closed buckets to the metrics store in batches. The owner of the maintenance shard
+ * rolls minutes up into hours and hours into days from where the last rollup stopped, keeps
+ * partitions created ahead and drops those past retention. Series queries pick the finest resolution that fits the range.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Service
+public class SyncMetricsService {
+
+    /**
+     * Shard whose owner runs rollups and partition maintenance
+     */
+    private static final UUID MAINTENANCE_SHARD =
+            UUID.nameUUIDFromBytes("sync-metrics-maintenance".getBytes(StandardCharsets.UTF_8));
+
+    private final SyncMetricsStore store;
+    private final SyncTaskRepository syncTaskRepository;
+    private final SinkManager sinkManager;
+    private final ClusterMembership clusterMembership;
+    private final MetricsAggregator aggregator;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int partitionsAhead;
+    private final int maxPoints;
+    private final Map<MetricResolution, Duration> retention;
+
+    /**
+     * Sink counters being drained, kept past the sink's stop for one more drain
+     */
+    private final Map<UUID, TrackedSink> tracked = new ConcurrentHashMap<>();
+
+    public SyncMetricsService(
+            SyncMetricsStore store,
+            SyncTaskRepository syncTaskRepository,
+            SinkManager sinkManager,
+            ClusterMembership clusterMembership,
+            @Value("${app.metrics.enabled:true}") boolean enabled,
+            @Value("${app.metrics.max-pending-buckets:200000}") int maxPendingBuckets,
+            @Value("${app.metrics.batch-size:1000}") int batchSize,
+            @Value("${app.metrics.partitions-ahead:2}") int partitionsAhead,
+            @Value("${app.metrics.max-points:1500}") int maxPoints,
+            @Value("${app.metrics.retention.minute-days:7}") int minuteRetentionDays,
+            @Value("${app.metrics.retention.hour-days:180}") int hourRetentionDays,
+            @Value("${app.metrics.retention.day-days:1825}") int dayRetentionDays) {
+        this.store = store;
+        this.syncTaskRepository = syncTaskRepository;
+        this.sinkManager = sinkManager;
+        this.clusterMembership = clusterMembership;
+        this.aggregator = new MetricsAggregator(maxPendingBuckets);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.partitionsAhead = partitionsAhead;
+        this.maxPoints = maxPoints;
+        this.retention = Map.of(
+                MetricResolution.MINUTE, Duration.ofDays(minuteRetentionDays),
+                MetricResolution.HOUR, Duration.ofDays(hourRetentionDays),
+                MetricResolution.DAY, Duration.ofDays(dayRetentionDays));
+    }
+
+    /**
+     * Drain the table counters of the sinks on this node into the aggregator
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.collect-interval-ms:5000}")
+    public void collect() {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> running = sinkManager.getRunningTaskIds();
+        for (UUID taskId : running) {
+            Optional<TableThroughput> throughput = sinkManager.getThroughput(taskId);
+            TrackedSink current = tracked.get(taskId);
+            if (throughput.isEmpty() || current != null && current.throughput == throughput.get()) {
+                continue;
+            }
+            if (current != null) {
+                // The sink restarted since the last collect; drain the counter of its previous run first
+                drain(taskId, current);
+            }
+            syncTaskRepository.findById(taskId).map(SyncTask::getTenantId).ifPresent(
+                    tenantId -> tracked.put(taskId, new TrackedSink(tenantId, throughput.get())));
+        }
+
+        tracked.forEach(this::drain);
+        tracked.keySet().retainAll(running);
+    }
+
+    /**
+     * Write the minute buckets that are closed; failed writes are retried with the next flush
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.flush-interval-ms:15000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        List<MetricPoint> points = aggregator.drainClosed(LocalDateTime.now());
+        if (points.isEmpty()) {
+            return;
+        }
+        try {
+            store.insert(points, batchSize);
+            log.debug("Wrote {} metric buckets", points.size());
+        } catch (Exception e) {
+            int dropped = aggregator.restore(points);
+            log.warn("Failed to write {} metric buckets, retrying later ({} dropped): {}",
+                    points.size(), dropped, e.getMessage());
+        }
+    }
+
+    /**
+     * Roll up recent buckets, create upcoming partitions and drop expired ones
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.maintenance-interval-ms:300000}")
+    public void maintain() {
+        if (!enabled || !clusterMembership.ownsTask(MAINTENANCE_SHARD)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (MetricResolution resolution : MetricResolution.values()) {
+            try {
+                store.ensurePartitions(resolution, now, partitionsAhead);
+                List<String> dropped = store.dropPartitionsBefore(resolution, now.minus(retention.get(resolution)));
+                if (!dropped.isEmpty()) {
+                    log.info("Dropped expired metric partitions {}", dropped);
+                }
+            } catch (Exception e) {
+                log.error("Partition maintenance of {} failed: {}", resolution.table(), e.getMessage());
+            }
+        }
+        // Hours first, so the day rollup picks up the hours just rewritten
+        for (MetricResolution target : List.of(MetricResolution.HOUR, MetricResolution.DAY)) {
+            try {
+                store.rollupFromWatermark(target, now, now.minus(retention.get(target.finer())));
+            } catch (Exception e) {
+                log.error("Metrics rollup into {} failed: {}", target.table(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Rate series of a task, of one table if given
+     *
+     * @param resolution "1m", "1h" or "1d"; chosen from the range if null
+     */
+    public MetricSeries<List<RatePoint>> getTaskSeries(UUID taskId, String table, String resolution,
+                                                       LocalDateTime from, LocalDateTime to) {
+        SeriesRange range = range(resolution, from, to);
+        return new MetricSeries<>(range.resolution, range.from, range.to,
+                store.taskSeries(taskId, table, range.resolution, range.from, range.to));
+    }
+
+    /**
+     * Rate series of every task of a tenant, keyed by task
+     */
+    public MetricSeries<Map<UUID, List<RatePoint>>> getTenantSeries(UUID tenantId, String resolution,
+                                                                    LocalDateTime from, LocalDateTime to) {
+        SeriesRange range = range(resolution, from, to);
+        return new MetricSeries<>(range.resolution, range.from, range.to,
+                store.tenantSeries(tenantId, range.resolution, range.from, range.to));
+    }
+
+    private void drain(UUID taskId, TrackedSink sink) {
+        LocalDateTime now = LocalDateTime.now();
+        sink.throughput.drain().forEach((table, count) -> {
+            if (!aggregator.add(taskId, sink.tenantId, table, now, count.applied(), count.deadLettered())) {
+                log.warn("Metrics aggregator is full, dropping counts of task {}", taskId);
+            }
+        });
+    }
+
+    private SeriesRange range(String resolution, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(1);
+        if (!start.isBefore(end)) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Metrics range start must be before its end");
+        }
+        Duration span = Duration.between(start, end);
+        MetricResolution chosen = resolution != null
+                ? MetricResolution.fromString(resolution)
+                : MetricResolution.forRange(span, maxPoints);
+        if (span.getSeconds() / chosen.bucketSeconds() > maxPoints) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, String.format(
+                    "Range of %s exceeds %d %s buckets, use a coarser resolution", span, maxPoints, chosen.getCode()));
+        }
+        return new SeriesRange(chosen, chosen.bucketStart(start), end);
+    }
+
+    public record MetricSeries<T>(MetricResolution resolution, LocalDateTime from, LocalDateTime to, T series) {
+    }
+
+    private record SeriesRange(MetricResolution resolution, LocalDateTime from, LocalDateTime to) {
+    }
+
+    private record TrackedSink(UUID tenantId, TableThroughput throughput) {
+    }
+}
@@ -1,10 +1,13 @@
 package com.dbsync.api.service;
 
+import com.dbsync.common.constants.ErrorCodes;
 import com.dbsync.common.enums.HealthStatus;
 import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.enums.ThroughputProfile;
 import com.dbsync.common.exceptions.BusinessException;
 import com.dbsync.common.exceptions.ResourceNotFoundException;
 import com.dbsync.connector.manager.ConnectorManager;
+import com.dbsync.core.domain.config.TaskConfigs;
 import com.dbsync.core.domain.entity.SyncTask;
 import com.dbsync.core.repository.SyncTaskRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +18,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Sync Task Service
+ * Operations calling Kafka Connect run outside a transaction, so a connection is not held
+ * while the client backs off between retries. They claim their target status with a
+ * conditional update that commits on its own before calling Connect, and check afterwards
+ * that no other request claimed the task meanwhile.
  *
  * @author DB Sync Platform
  */
@@ -43,6 +52,13 @@ public class SyncTaskService {
             throw new BusinessException("Task code already exists: " + task.getTaskCode());
         }
 
+        // Reject invalid configs before they reach builders and schedulers
+        TaskConfigs.validate(task);
+
+        if (task.getThroughputProfile() == null) {
+            task.setThroughputProfile(ThroughputProfile.BALANCED);
+        }
+
         // Set initial status
         task.setStatus(TaskStatus.CREATED);
         task.setHealthStatus(HealthStatus.UNKNOWN);
@@ -57,7 +73,6 @@ public class SyncTaskService {
     /**
      * Start a sync task
      */
-    @Transactional
     public SyncTask startTask(UUID taskId) {
         log.info("Starting sync task: {}", taskId);
 
@@ -69,44 +84,121 @@ public class SyncTaskService {
                     String.format("Cannot start task in %s status", task.getStatus()));
         }
 
+        // Claim the transition before touching the connector
+        requireTransition(syncTaskRepository.transitionToRunning(
+                taskId, TaskStatus.RUNNING.allowedPredecessors(), null), taskId, TaskStatus.RUNNING);
+
+        String connectorName = task.getConnectorName();
         try {
             // Create connector if not exists
-            if (task.getConnectorName() == null || !connectorManager.connectorExists(task.getConnectorName())) {
-                String connectorName = connectorManager.createConnector(task);
+            if (connectorName == null || !connectorManager.connectorExists(connectorName)) {
+                connectorName = connectorManager.createConnector(task);
                 task.setConnectorName(connectorName);
+                syncTaskRepository.updateConnectorName(taskId, connectorName);
             } else {
-                // Start existing connector
-                connectorManager.startConnector(task.getConnectorName());
+                // Start existing connector with the current config, e.g. a changed throughput profile
+                connectorManager.updateConnectorConfig(task);
+                connectorManager.startConnector(connectorName);
             }
+        } catch (Exception e) {
+            log.error("Failed to start task {}: {}", task.getTaskCode(), e.getMessage(), e);
 
-            // Update task status
-            task.setStatus(TaskStatus.RUNNING);
-            task.setHealthStatus(HealthStatus.HEALTHY);
-            task.setLastError(null);
+            // Record the error unless another request moved the task meanwhile
+            syncTaskRepository.transitionToFailed(taskId, EnumSet.of(TaskStatus.RUNNING), e.getMessage());
+            throw new BusinessException("Failed to start task: " + e.getMessage());
+        }
 
-            SyncTask updatedTask = syncTaskRepository.save(task);
+        requireClaim(task, TaskStatus.RUNNING);
+        applied(task, TaskStatus.RUNNING, HealthStatus.HEALTHY);
+        task.setLastError(null);
 
-            log.info("Sync task started successfully: {}", task.getTaskCode());
-            return updatedTask;
+        log.info("Sync task started successfully: {}", task.getTaskCode());
+        return task;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to start task {}: {}", task.getTaskCode(), e.getMessage(), e);
+    /**
+     * Put a task in the snapshot admission queue; a task already queued keeps its place
+     */
+    @Transactional
+    public SyncTask queueTask(UUID taskId) {
+        SyncTask task = getTaskById(taskId);
+        if (task.getStatus() == TaskStatus.QUEUED) {
+            return task;
+        }
+        if (!task.canTransitionTo(TaskStatus.QUEUED)) {
+            throw new BusinessException(
+                    String.format("Cannot queue task in %s status", task.getStatus()));
+        }
 
-            // Update task with error
-            task.setStatus(TaskStatus.FAILED);
-            task.setHealthStatus(HealthStatus.UNHEALTHY);
-            task.setLastError(e.getMessage());
-            task.setErrorCount(task.getErrorCount() + 1);
-            syncTaskRepository.save(task);
+        LocalDateTime now = LocalDateTime.now();
+        requireTransition(syncTaskRepository.transitionToQueued(
+                taskId, TaskStatus.QUEUED.allowedPredecessors(), now), taskId, TaskStatus.QUEUED);
+        task.setStatus(TaskStatus.QUEUED);
+        task.setQueuedAt(now);
+        task.setSnapshotSlotSince(null);
 
-            throw new BusinessException("Failed to start task: " + e.getMessage());
+        log.info("Sync task {} queued for a snapshot slot", task.getTaskCode());
+        return task;
+    }
+
+    /**
+     * Grant a queued task a snapshot slot, or release it with null
+     */
+    @Transactional
+    public void updateSnapshotSlot(UUID taskId, LocalDateTime since) {
+        syncTaskRepository.updateSnapshotSlotSince(taskId, since);
+    }
+
+    /**
+     * Mark a FULL_ONLY task as running its bulk load. A task already RUNNING is refused, so two
+     * loads of one task never run at once; a task left RUNNING by an interrupted load has to be
+     * stopped before it is started again.
+     */
+    @Transactional
+    public SyncTask beginBulkLoad(UUID taskId) {
+        SyncTask task = getTaskById(taskId);
+        if (!task.canTransitionTo(TaskStatus.RUNNING)) {
+            throw new BusinessException(
+                    String.format("Cannot start task in %s status", task.getStatus()));
         }
+
+        requireTransition(syncTaskRepository.transitionToRunning(
+                taskId, TaskStatus.RUNNING.allowedPredecessors(), null), taskId, TaskStatus.RUNNING);
+        applied(task, TaskStatus.RUNNING, HealthStatus.HEALTHY);
+        task.setLastError(null);
+        return task;
     }
 
     /**
-     * Stop a sync task
+     * Mark a bulk load as finished
+     */
+    @Transactional
+    public SyncTask completeBulkLoad(UUID taskId, long rowsLoaded) {
+        SyncTask task = getTaskById(taskId);
+        LocalDateTime now = LocalDateTime.now();
+        requireTransition(syncTaskRepository.transitionToCompleted(
+                taskId, TaskStatus.COMPLETED.allowedPredecessors(), rowsLoaded, now), taskId, TaskStatus.COMPLETED);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setTotalRecordsSynced(task.getTotalRecordsSynced() + rowsLoaded);
+        task.setLastSyncTime(now);
+
+        log.info("Bulk load of task {} completed with {} rows", task.getTaskCode(), rowsLoaded);
+        return task;
+    }
+
+    /**
+     * Mark a bulk load as failed; a task stopped meanwhile keeps its status
      */
     @Transactional
+    public void failBulkLoad(UUID taskId, String error) {
+        if (syncTaskRepository.transitionToFailed(taskId, TaskStatus.FAILED.allowedPredecessors(), error) == 0) {
+            log.warn("Bulk load of task {} failed after it left RUNNING: {}", taskId, error);
+        }
+    }
+
+    /**
+     * Stop a sync task
+     */
     public SyncTask stopTask(UUID taskId) {
         log.info("Stopping sync task: {}", taskId);
 
@@ -118,31 +210,28 @@ public class SyncTaskService {
                     String.format("Cannot stop task in %s status", task.getStatus()));
         }
 
+        claim(task, TaskStatus.STOPPED, HealthStatus.PAUSED);
         try {
             // Stop connector if exists
             if (task.getConnectorName() != null) {
                 connectorManager.stopConnector(task.getConnectorName());
             }
-
-            // Update task status
-            task.setStatus(TaskStatus.STOPPED);
-            task.setHealthStatus(HealthStatus.PAUSED);
-
-            SyncTask updatedTask = syncTaskRepository.save(task);
-
-            log.info("Sync task stopped successfully: {}", task.getTaskCode());
-            return updatedTask;
-
         } catch (Exception e) {
             log.error("Failed to stop task {}: {}", task.getTaskCode(), e.getMessage(), e);
+            release(task, TaskStatus.STOPPED);
             throw new BusinessException("Failed to stop task: " + e.getMessage());
         }
+
+        requireClaim(task, TaskStatus.STOPPED);
+        applied(task, TaskStatus.STOPPED, HealthStatus.PAUSED);
+
+        log.info("Sync task stopped successfully: {}", task.getTaskCode());
+        return task;
     }
 
     /**
      * Pause a sync task
      */
-    @Transactional
     public SyncTask pauseTask(UUID taskId) {
         log.info("Pausing sync task: {}", taskId);
 
@@ -154,31 +243,28 @@ public class SyncTaskService {
                     String.format("Cannot pause task in %s status", task.getStatus()));
         }
 
+        claim(task, TaskStatus.PAUSED, HealthStatus.PAUSED);
         try {
             // Pause connector if exists
             if (task.getConnectorName() != null) {
                 connectorManager.stopConnector(task.getConnectorName());
             }
-
-            // Update task status
-            task.setStatus(TaskStatus.PAUSED);
-            task.setHealthStatus(HealthStatus.PAUSED);
-
-            SyncTask updatedTask = syncTaskRepository.save(task);
-
-            log.info("Sync task paused successfully: {}", task.getTaskCode());
-            return updatedTask;
-
         } catch (Exception e) {
             log.error("Failed to pause task {}: {}", task.getTaskCode(), e.getMessage(), e);
+            release(task, TaskStatus.PAUSED);
             throw new BusinessException("Failed to pause task: " + e.getMessage());
         }
+
+        requireClaim(task, TaskStatus.PAUSED);
+        applied(task, TaskStatus.PAUSED, HealthStatus.PAUSED);
+
+        log.info("Sync task paused successfully: {}", task.getTaskCode());
+        return task;
     }
 
     /**
      * Resume a sync task
      */
-    @Transactional
     public SyncTask resumeTask(UUID taskId) {
         log.info("Resuming sync task: {}", taskId);
 
@@ -189,66 +275,66 @@ public class SyncTaskService {
             throw new BusinessException("Only paused tasks can be resumed");
         }
 
+        requireTransition(syncTaskRepository.transition(taskId, EnumSet.of(TaskStatus.PAUSED),
+                TaskStatus.RUNNING, HealthStatus.HEALTHY), taskId, TaskStatus.RUNNING);
         try {
             // Resume connector
             if (task.getConnectorName() != null) {
                 connectorManager.startConnector(task.getConnectorName());
             }
-
-            // Update task status
-            task.setStatus(TaskStatus.RUNNING);
-            task.setHealthStatus(HealthStatus.HEALTHY);
-
-            SyncTask updatedTask = syncTaskRepository.save(task);
-
-            log.info("Sync task resumed successfully: {}", task.getTaskCode());
-            return updatedTask;
-
         } catch (Exception e) {
             log.error("Failed to resume task {}: {}", task.getTaskCode(), e.getMessage(), e);
+            release(task, TaskStatus.RUNNING);
             throw new BusinessException("Failed to resume task: " + e.getMessage());
         }
+
+        requireClaim(task, TaskStatus.RUNNING);
+        applied(task, TaskStatus.RUNNING, HealthStatus.HEALTHY);
+
+        log.info("Sync task resumed successfully: {}", task.getTaskCode());
+        return task;
     }
 
     /**
      * Restart a sync task
      */
-    @Transactional
     public SyncTask restartTask(UUID taskId) {
         log.info("Restarting sync task: {}", taskId);
 
         SyncTask task = getTaskById(taskId);
 
+        // A restart is allowed from any status
+        requireTransition(syncTaskRepository.transitionToRunning(
+                taskId, EnumSet.allOf(TaskStatus.class), null), taskId, TaskStatus.RUNNING);
+
+        String connectorName = task.getConnectorName();
         try {
             // Restart connector if exists
-            if (task.getConnectorName() != null) {
-                connectorManager.restartConnector(task.getConnectorName());
+            if (connectorName != null) {
+                connectorManager.restartConnector(connectorName);
             } else {
                 // Create new connector if not exists
-                String connectorName = connectorManager.createConnector(task);
+                connectorName = connectorManager.createConnector(task);
                 task.setConnectorName(connectorName);
+                syncTaskRepository.updateConnectorName(taskId, connectorName);
             }
-
-            // Update task status
-            task.setStatus(TaskStatus.RUNNING);
-            task.setHealthStatus(HealthStatus.HEALTHY);
-            task.setLastError(null);
-
-            SyncTask updatedTask = syncTaskRepository.save(task);
-
-            log.info("Sync task restarted successfully: {}", task.getTaskCode());
-            return updatedTask;
-
         } catch (Exception e) {
             log.error("Failed to restart task {}: {}", task.getTaskCode(), e.getMessage(), e);
+            syncTaskRepository.transitionToFailed(taskId, EnumSet.of(TaskStatus.RUNNING), e.getMessage());
             throw new BusinessException("Failed to restart task: " + e.getMessage());
         }
+
+        requireClaim(task, TaskStatus.RUNNING);
+        applied(task, TaskStatus.RUNNING, HealthStatus.HEALTHY);
+        task.setLastError(null);
+
+        log.info("Sync task restarted successfully: {}", task.getTaskCode());
+        return task;
     }
 
     /**
      * Delete a sync task
      */
-    @Transactional
     public void deleteTask(UUID taskId, boolean force) {
         log.info("Deleting sync task: {} (force: {})", taskId, force);
 
@@ -273,17 +359,87 @@ public class SyncTaskService {
             if (task.getConnectorName() != null) {
                 connectorManager.deleteConnector(task.getConnectorName());
             }
-
-            // Soft delete task
-            task.setDeletedAt(LocalDateTime.now());
-            syncTaskRepository.save(task);
-
-            log.info("Sync task deleted successfully: {}", task.getTaskCode());
-
         } catch (Exception e) {
             log.error("Failed to delete task {}: {}", task.getTaskCode(), e.getMessage(), e);
             throw new BusinessException("Failed to delete task: " + e.getMessage());
         }
+
+        // Soft delete task; without force a task started meanwhile is a conflict
+        Set<TaskStatus> from = EnumSet.allOf(TaskStatus.class);
+        if (!force) {
+            from.remove(TaskStatus.RUNNING);
+        }
+        if (syncTaskRepository.softDelete(taskId, from, LocalDateTime.now()) == 0) {
+            throw conflict(taskId, "be deleted");
+        }
+
+        log.info("Sync task deleted successfully: {}", task.getTaskCode());
+    }
+
+    /**
+     * Claim a status the loaded task's status allows, conditionally in SQL, before the connector
+     * is changed, so of two racing requests only one calls Kafka Connect
+     */
+    private void claim(SyncTask task, TaskStatus to, HealthStatus health) {
+        requireTransition(syncTaskRepository.transition(task.getTaskId(), to.allowedPredecessors(), to, health),
+                task.getTaskId(), to);
+    }
+
+    /**
+     * Give a claimed status back to the loaded one when the connector call failed
+     */
+    private void release(SyncTask task, TaskStatus claimed) {
+        syncTaskRepository.transition(task.getTaskId(), EnumSet.of(claimed), task.getStatus(), task.getHealthStatus());
+    }
+
+    /**
+     * Check that the status claimed before calling Kafka Connect still holds. A request that
+     * claimed another status meanwhile may have called Connect before this one did, so the
+     * connector is brought back in line with the status that won before failing with a conflict.
+     */
+    private void requireClaim(SyncTask task, TaskStatus claimed) {
+        TaskStatus current = syncTaskRepository.findStatusByTaskId(task.getTaskId()).orElse(null);
+        if (current == claimed) {
+            return;
+        }
+        if (current != null && task.getConnectorName() != null) {
+            try {
+                if (current == TaskStatus.RUNNING) {
+                    connectorManager.startConnector(task.getConnectorName());
+                } else {
+                    connectorManager.stopConnector(task.getConnectorName());
+                }
+            } catch (Exception e) {
+                log.error("Failed to align connector {} with status {}: {}",
+                        task.getConnectorName(), current, e.getMessage());
+            }
+        }
+        throw conflict(task.getTaskId(), "move to " + claimed);
+    }
+
+    /**
+     * Fail with a conflict when a conditional status update matched no row, because another
+     * request moved the task after it was loaded
+     */
+    private void requireTransition(int updated, UUID taskId, TaskStatus to) {
+        if (updated == 0) {
+            throw conflict(taskId, "move to " + to);
+        }
+    }
+
+    private BusinessException conflict(UUID taskId, String action) {
+        TaskStatus current = syncTaskRepository.findStatusByTaskId(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found: " + taskId));
+        return new BusinessException(ErrorCodes.TASK_STATUS_CONFLICT,
+                String.format("Task %s changed to %s concurrently and cannot %s", taskId, current, action));
+    }
+
+    /**
+     * Mirror a conditional update on the loaded entity returned to the caller
+     */
+    private static void applied(SyncTask task, TaskStatus status, HealthStatus health) {
+        task.setStatus(status);
+        task.setHealthStatus(health);
     }
 
     /**
@@ -317,10 +473,26 @@ public class SyncTaskService {
             task.setScheduleConfig(updateRequest.getScheduleConfig());
         }
 
-        SyncTask updatedTask = syncTaskRepository.save(task);
+        // The connector config is only rewritten when the task starts again
+        Set<TaskStatus> from = EnumSet.complementOf(EnumSet.of(TaskStatus.RUNNING));
+        if (updateRequest.getThroughputProfile() != null
+                && updateRequest.getThroughputProfile() != task.getThroughputProfile()) {
+            if (task.getStatus() == TaskStatus.PAUSED) {
+                throw new BusinessException("Cannot change the throughput profile of a paused task. Stop it first.");
+            }
+            task.setThroughputProfile(updateRequest.getThroughputProfile());
+            from.remove(TaskStatus.PAUSED);
+        }
+        TaskConfigs.validate(task);
+
+        // Only the settings are written, so a task started or paused meanwhile is a conflict
+        if (syncTaskRepository.updateSettings(taskId, from, task.getTaskName(), task.getDescription(),
+                task.getAlertConfig(), task.getScheduleConfig(), task.getThroughputProfile()) == 0) {
+            throw conflict(taskId, "be updated");
+        }
 
         log.info("Sync task updated successfully: {}", task.getTaskCode());
-        return updatedTask;
+        return task;
     }
 
     /**
@@ -361,9 +533,10 @@ public class SyncTaskService {
     }
 
     /**
-     * Update task health status
+     * Update task health status.
+     * Runs outside a transaction so the Kafka Connect call holds no connection; the result is
+     * written with a targeted update so it cannot revert a status changed meanwhile.
      */
-    @Transactional
     public void updateTaskHealth(UUID taskId) {
         log.debug("Updating health status for task: {}", taskId);
 
@@ -377,15 +550,12 @@ public class SyncTaskService {
             ConnectorManager.ConnectorHealthInfo healthInfo =
                     connectorManager.getConnectorHealth(task.getConnectorName());
 
-            task.setHealthStatus(healthInfo.getHealthStatus());
-
             if (healthInfo.getHealthStatus() == HealthStatus.UNHEALTHY) {
-                task.setLastError(healthInfo.getMessage());
-                task.setErrorCount(task.getErrorCount() + 1);
+                syncTaskRepository.recordUnhealthy(taskId, healthInfo.getMessage());
+            } else {
+                syncTaskRepository.updateHealthStatus(taskId, healthInfo.getHealthStatus());
             }
 
-            syncTaskRepository.save(task);
-
         } catch (Exception e) {
             log.error("Failed to update task health: {}", e.getMessage());
         }
@@ -394,15 +564,11 @@ public class SyncTaskService {
     /**
      * Update task sync statistics
      */
-    @Transactional
     public void updateTaskStats(UUID taskId, long recordsSynced) {
         log.debug("Updating sync statistics for task: {}", taskId);
 
-        SyncTask task = getTaskById(taskId);
-
-        task.setTotalRecordsSynced(task.getTotalRecordsSynced() + recordsSynced);
-        task.setLastSyncTime(LocalDateTime.now());
-
-        syncTaskRepository.save(task);
+        if (syncTaskRepository.addRecordsSynced(taskId, recordsSynced, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("Task not found: " + taskId);
+        }
     }
 }
@@ -0,0 +1,126 @@
+package com.dbsync.api.service;
+
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.metrics.MetricPoint;
+import com.dbsync.core.metrics.MetricResolution;
+import com.dbsync.core.metrics.SyncMetricsStore;
+import com.dbsync.core.repository.SyncTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Task Change Feed
+ * Feeds the event bus of this node for the tenants that have open streams on it. Lifecycle
+ * transitions and health updates run on the node owning a task, so instead of relying on
+ * them happening locally the feed reads the tasks whose updated_at moved since its last poll,
+ * one query per node however many clients are connected. Throughput comes from the last
+ * closed minute of the metrics store once it has been flushed; a task whose events stopped
+ * is reported at zero once.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class TaskChangeFeed {
+
+    private final SyncTaskRepository syncTaskRepository;
+    private final SyncMetricsStore metricsStore;
+    private final TaskEventBus eventBus;
+    private final long overlapMs;
+    private final long throughputDelayMs;
+
+    /**
+     * Newest updated_at seen; each poll re-reads an overlap before it to catch late commits
+     */
+    private LocalDateTime watermark;
+    private final Map<UUID, LocalDateTime> published = new HashMap<>();
+    private LocalDateTime throughputBucket;
+    private Map<UUID, UUID> flowing = new HashMap<>();
+
+    public TaskChangeFeed(
+            SyncTaskRepository syncTaskRepository,
+            SyncMetricsStore metricsStore,
+            TaskEventBus eventBus,
+            @Value("${app.events.overlap-ms:10000}") long overlapMs,
+            @Value("${app.events.throughput-delay-ms:30000}") long throughputDelayMs) {
+        this.syncTaskRepository = syncTaskRepository;
+        this.metricsStore = metricsStore;
+        this.eventBus = eventBus;
+        this.overlapMs = overlapMs;
+        this.throughputDelayMs = throughputDelayMs;
+    }
+
+    /**
+     * Publish task changes and throughput of the tenants with open streams
+     */
+    @Scheduled(fixedDelayString = "${app.events.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        Set<UUID> tenants = eventBus.getSubscribedTenants();
+        if (tenants.isEmpty()) {
+            // New streams start from a snapshot, nothing before it is needed
+            watermark = null;
+            published.clear();
+            flowing.clear();
+            return;
+        }
+        try {
+            publishChanges(tenants);
+            publishThroughput(tenants);
+        } catch (Exception e) {
+            log.warn("Failed to poll task changes: {}", e.getMessage());
+        }
+    }
+
+    private void publishChanges(Set<UUID> tenants) {
+        if (watermark == null) {
+            // updated_at is set by the database, so the first poll starts from its clock
+            watermark = syncTaskRepository.findDatabaseTime();
+        }
+        LocalDateTime since = watermark.minus(Duration.ofMillis(overlapMs));
+        for (SyncTask task : syncTaskRepository.findByTenantIdInAndUpdatedAtAfter(tenants, since)) {
+            if (task.getUpdatedAt().equals(published.get(task.getTaskId()))) {
+                continue;
+            }
+            published.put(task.getTaskId(), task.getUpdatedAt());
+            if (task.getUpdatedAt().isAfter(watermark)) {
+                watermark = task.getUpdatedAt();
+            }
+            eventBus.publish(TaskStateEvent.of(task));
+        }
+        LocalDateTime horizon = watermark.minus(Duration.ofMillis(overlapMs));
+        published.values().removeIf(updatedAt -> updatedAt.isBefore(horizon));
+    }
+
+    private void publishThroughput(Set<UUID> tenants) {
+        LocalDateTime bucket = MetricResolution.MINUTE
+                .bucketStart(LocalDateTime.now().minus(Duration.ofMillis(throughputDelayMs)))
+                .minusMinutes(1);
+        if (bucket.equals(throughputBucket)) {
+            return;
+        }
+        throughputBucket = bucket;
+
+        double seconds = MetricResolution.MINUTE.bucketSeconds();
+        Map<UUID, UUID> current = new HashMap<>();
+        for (MetricPoint point : metricsStore.minuteTotals(tenants, bucket)) {
+            current.put(point.taskId(), point.tenantId());
+            eventBus.publish(TaskStateEvent.throughput(point.taskId(), point.tenantId(),
+                    point.eventsApplied() / seconds, point.eventsDeadLettered() / seconds));
+        }
+        flowing.forEach((taskId, tenantId) -> {
+            if (!current.containsKey(taskId)) {
+                eventBus.publish(TaskStateEvent.throughput(taskId, tenantId, 0, 0));
+            }
+        });
+        flowing = current;
+    }
+}
@@ -0,0 +1,276 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Task Event Bus
+ * Fans task state events out to the server-sent event streams of their tenant. Each stream
+ * coalesces pending events per task and is sent at most once per interval, one send at a
+ * time: while a slow client is still receiving, newer events replace older ones of the same
+ * task instead of queuing behind them, so a stream never holds more than one event per task.
+ * Sends are timed by a shared scheduler but written on a thread of their own, so a client that
+ * stops reading blocks only its stream; a send blocked longer than send-timeout-ms closes it.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class TaskEventBus {
+
+    private final ScheduledExecutorService timer;
+    private final ExecutorService senders;
+    private final long minIntervalMs;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutMs;
+    private final int maxSubscribers;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public TaskEventBus(
+            @Value("${app.events.sender-threads:4}") int senderThreads,
+            @Value("${app.events.min-interval-ms:500}") long minIntervalMs,
+            @Value("${app.events.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${app.events.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${app.events.max-subscribers:1000}") int maxSubscribers) {
+        this.timer = Executors.newScheduledThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // At most one send per stream is in flight, so this grows with the open streams only
+        this.senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "task-events-send");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.minIntervalMs = minIntervalMs;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Open an event stream of a tenant's tasks
+     *
+     * @param initial current state of the tenant's tasks, sent first
+     */
+    public SseEmitter subscribe(UUID tenantId, Collection<TaskStateEvent> initial) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCodes.CAPACITY_EXCEEDED, "Too many open event streams, retry later");
+        }
+        SseEmitter emitter = createEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(tenantId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscribers.compute(tenantId, (id, tenantSubscribers) -> {
+            Set<Subscriber> set = tenantSubscribers != null ? tenantSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        initial.forEach(subscriber::offer);
+        log.debug("Opened event stream of tenant {}", tenantId);
+        return emitter;
+    }
+
+    /**
+     * Queue an event on the streams of its tenant
+     */
+    public void publish(TaskStateEvent event) {
+        Set<Subscriber> tenantSubscribers = subscribers.get(event.tenantId());
+        if (tenantSubscribers != null) {
+            tenantSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    /**
+     * Tenants with at least one open stream on this node
+     */
+    public Set<UUID> getSubscribedTenants() {
+        return Set.copyOf(subscribers.keySet());
+    }
+
+    /**
+     * Keep idle streams alive through proxies and notice clients that went away
+     */
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(tenantSubscribers -> tenantSubscribers.forEach(Subscriber::heartbeat));
+    }
+
+    /**
+     * Close the streams whose client has not taken a send for send-timeout-ms
+     */
+    @Scheduled(fixedDelayString = "${app.events.send-check-interval-ms:1000}")
+    public void closeStalledStreams() {
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(tenantSubscribers -> tenantSubscribers.forEach(s -> s.expireSend(now)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(tenantSubscribers -> tenantSubscribers.forEach(s -> s.emitter.complete()));
+        timer.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private final class Subscriber {
+        private final UUID tenantId;
+        private final SseEmitter emitter;
+        private final Map<UUID, TaskStateEvent> pending = new LinkedHashMap<>();
+        private boolean scheduled;
+        private boolean heartbeatDue;
+        private boolean closed;
+        private long sendingSinceMs;
+        private Thread sendingThread;
+        private volatile long lastSentMs;
+
+        private Subscriber(UUID tenantId, SseEmitter emitter) {
+            this.tenantId = tenantId;
+            this.emitter = emitter;
+        }
+
+        void offer(TaskStateEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                pending.merge(event.taskId(), event, TaskStateEvent::merge);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                if (closed || scheduled) {
+                    return;
+                }
+                heartbeatDue = true;
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        /**
+         * Send what is pending; events arriving meanwhile wait for the next send
+         */
+        private void send() {
+            List<TaskStateEvent> events;
+            boolean heartbeat;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+                heartbeat = heartbeatDue;
+                heartbeatDue = false;
+                sendingSinceMs = System.currentTimeMillis();
+                sendingThread = Thread.currentThread();
+            }
+            try {
+                for (TaskStateEvent event : events) {
+                    emitter.send(SseEmitter.event().name("task").data(event));
+                }
+                if (events.isEmpty() && heartbeat) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (Exception e) {
+                log.debug("Event stream of tenant {} closed: {}", tenantId, e.getMessage());
+                emitter.completeWithError(e);
+                close();
+                return;
+            } finally {
+                synchronized (this) {
+                    sendingSinceMs = 0;
+                    sendingThread = null;
+                }
+                Thread.interrupted();
+            }
+            lastSentMs = System.currentTimeMillis();
+            boolean expired;
+            synchronized (this) {
+                expired = closed;
+                if (!closed && pending.isEmpty()) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            if (expired) {
+                // Closed by the send timeout while this send was blocked
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            long delay = Math.max(0, lastSentMs + minIntervalMs - System.currentTimeMillis());
+            timer.schedule(() -> senders.execute(this::send), delay, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Close the stream if its current send has been blocked for send-timeout-ms. The blocked
+         * thread is interrupted and completes the emitter once the write returns.
+         */
+        void expireSend(long now) {
+            synchronized (this) {
+                if (closed || sendingSinceMs == 0 || now - sendingSinceMs < sendTimeoutMs) {
+                    return;
+                }
+                log.info("Closing event stream of tenant {}, its client took no send for {} ms",
+                        tenantId, sendTimeoutMs);
+                close();
+                // Still inside this send: it clears the thread under this lock before moving on
+                sendingThread.interrupt();
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(tenantId, (id, tenantSubscribers) -> {
+                tenantSubscribers.remove(this);
+                return tenantSubscribers.isEmpty() ? null : tenantSubscribers;
+            });
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.repository.SyncTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Task Health Monitor
+ * Periodically refreshes connector health of the tasks owned by this node
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskHealthMonitor {
+
+    private static final EnumSet<TaskStatus> MONITORED_STATUSES = EnumSet.of(TaskStatus.RUNNING, TaskStatus.PAUSED);
+
+    private final SyncTaskRepository syncTaskRepository;
+    private final SyncTaskService syncTaskService;
+    private final ClusterMembership clusterMembership;
+
+    /**
+     * Check health of owned tasks
+     */
+    @Scheduled(fixedDelayString = "${app.health-check.interval-ms:30000}")
+    public void checkOwnedTasks() {
+        List<UUID> owned;
+        try {
+            owned = syncTaskRepository.findTaskIdsByStatusIn(MONITORED_STATUSES).stream()
+                    .filter(clusterMembership::ownsTask)
+                    .toList();
+        } catch (Exception e) {
+            log.error("Failed to load tasks for health check: {}", e.getMessage());
+            return;
+        }
+
+        log.debug("Checking health of {} owned tasks", owned.size());
+
+        for (UUID taskId : owned) {
+            try {
+                syncTaskService.updateTaskHealth(taskId);
+            } catch (Exception e) {
+                log.warn("Health check failed for task {}: {}", taskId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.HealthStatus;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.core.domain.entity.SyncTask;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Change of a task's state pushed to dashboards. Fields that did not change are null, so a
+ * status change and a throughput sample of the same task can be merged into one event.
+ *
+ * @author DB Sync Platform
+ */
+public record TaskStateEvent(UUID taskId, UUID tenantId, String taskCode, TaskStatus status,
+                             HealthStatus healthStatus, Boolean deleted, Double appliedPerSecond,
+                             Double deadLetteredPerSecond, LocalDateTime at) {
+
+    /**
+     * Status and health of a task as loaded
+     */
+    public static TaskStateEvent of(SyncTask task) {
+        return new TaskStateEvent(task.getTaskId(), task.getTenantId(), task.getTaskCode(), task.getStatus(),
+                task.getHealthStatus(), task.getDeletedAt() != null, null, null, LocalDateTime.now());
+    }
+
+    /**
+     * Throughput of a task over the last metrics bucket
+     */
+    public static TaskStateEvent throughput(UUID taskId, UUID tenantId, double appliedPerSecond,
+                                            double deadLetteredPerSecond) {
+        return new TaskStateEvent(taskId, tenantId, null, null, null, null, appliedPerSecond,
+                deadLetteredPerSecond, LocalDateTime.now());
+    }
+
+    /**
+     * This event updated with a later one; fields the later event leaves null keep their value
+     */
+    public TaskStateEvent merge(TaskStateEvent later) {
+        return new TaskStateEvent(taskId, tenantId,
+                later.taskCode != null ? later.taskCode : taskCode,
+                later.status != null ? later.status : status,
+                later.healthStatus != null ? later.healthStatus : healthStatus,
+                later.deleted != null ? later.deleted : deleted,
+                later.appliedPerSecond != null ? later.appliedPerSecond : appliedPerSecond,
+                later.deadLetteredPerSecond != null ? later.deadLetteredPerSecond : deadLetteredPerSecond,
+                later.at);
+    }
+}
@@ -0,0 +1,175 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.connector.manager.ConnectorManager;
+import com.dbsync.core.cluster.ClusterMembership;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.SyncTaskRepository;
+import com.dbsync.transform.sink.ConsumerLagReader;
+import com.dbsync.transform.sink.SinkManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BackpressureController
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BackpressureControllerTest {
+
+    @Mock
+    private SyncTaskRepository syncTaskRepository;
+
+    @Mock
+    private ConnectorManager connectorManager;
+
+    @Mock
+    private ConsumerLagReader lagReader;
+
+    @Mock
+    private SinkManager sinkManager;
+
+    @Mock
+    private ClusterMembership clusterMembership;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BackpressureController controller;
+    private UUID taskId;
+    private SyncTask task;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new BackpressureController(syncTaskRepository, connectorManager, lagReader, sinkManager,
+                clusterMembership, meterRegistry, true, 1000, 100, 300_000, 60_000, 0, 3);
+        taskId = UUID.randomUUID();
+        task = new SyncTask();
+        task.setTaskId(taskId);
+        task.setTenantId(UUID.randomUUID());
+        task.setTaskCode("orders");
+        task.setConnectorName("orders-connector");
+        task.setStatus(TaskStatus.RUNNING);
+
+        when(syncTaskRepository.findTaskIdsByStatusIn(anyCollection())).thenReturn(List.of(taskId));
+        when(syncTaskRepository.findThrottledTaskIdsByStatusNotIn(anyCollection())).thenReturn(List.of());
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(clusterMembership.ownsTask(taskId)).thenReturn(true);
+        when(syncTaskRepository.startThrottle(eq(taskId), any(), anyString())).thenAnswer(invocation -> {
+            task.setThrottledSince(invocation.getArgument(1));
+            return 1;
+        });
+        when(syncTaskRepository.endThrottle(eq(taskId), any(), anyLong())).thenAnswer(invocation -> {
+            task.setThrottledSince(null);
+            return 1;
+        });
+    }
+
+    @Test
+    void testControl_ThrottlesOnlyOnSustainedBreach() throws Exception {
+        // Given: lag over the high threshold, then one check below it, then over it again
+        when(lagReader.getLag(anyString())).thenReturn(
+                OptionalLong.of(5000), OptionalLong.of(5000), OptionalLong.of(500),
+                OptionalLong.of(5000), OptionalLong.of(5000), OptionalLong.of(5000));
+
+        // When: the dip resets the count, so only the third breach in a row throttles
+        for (int i = 0; i < 5; i++) {
+            controller.control();
+        }
+        verify(connectorManager, never()).stopConnector(anyString());
+        controller.control();
+
+        // Then: the episode is opened by a targeted update, not by saving the task
+        verify(syncTaskRepository).startThrottle(eq(taskId), any(), contains("5000"));
+        verify(connectorManager).stopConnector("orders-connector");
+        verify(syncTaskRepository, never()).save(any());
+    }
+
+    @Test
+    void testControl_ClaimLostLeavesConnectorRunning() throws Exception {
+        // Given: the task was paused by a user between loading and throttling
+        when(lagReader.getLag(anyString())).thenReturn(OptionalLong.of(5000));
+        when(syncTaskRepository.startThrottle(eq(taskId), any(), anyString())).thenReturn(0);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            controller.control();
+        }
+
+        // Then
+        verify(syncTaskRepository).startThrottle(eq(taskId), any(), anyString());
+        verify(connectorManager, never()).stopConnector(anyString());
+    }
+
+    @Test
+    void testControl_BacklogLatencyAfterResumeDoesNotRethrottle() throws Exception {
+        // Given: a throttled task whose sink caught up on lag
+        LocalDateTime since = LocalDateTime.now().minusMinutes(10);
+        task.setThrottledSince(since);
+        when(lagReader.getLag(anyString())).thenReturn(OptionalLong.of(50));
+        when(sinkManager.getAppliedSourceTimestampMs(taskId))
+                .thenReturn(OptionalLong.of(System.currentTimeMillis() - 1000));
+
+        // When: resumed, the sink works through changes made during the pause, hours old by now
+        controller.control();
+        when(lagReader.getLag(anyString())).thenReturn(OptionalLong.of(500));
+        when(sinkManager.getAppliedSourceTimestampMs(taskId))
+                .thenReturn(OptionalLong.of(System.currentTimeMillis() - 3_600_000));
+        for (int i = 0; i < 5; i++) {
+            controller.control();
+        }
+
+        // Then: released once through a targeted update and not paused again
+        verify(connectorManager).startConnector("orders-connector");
+        verify(syncTaskRepository).endThrottle(eq(taskId), eq(since), anyLong());
+        verify(connectorManager, never()).stopConnector(anyString());
+        verify(syncTaskRepository, never()).save(any());
+    }
+
+    @Test
+    void testControl_SameCodeTaskOfAnotherTenantHasOwnGroupAndGauge() throws Exception {
+        // Given: another tenant's task with the same code and an empty sink
+        SyncTask other = new SyncTask();
+        other.setTaskId(UUID.randomUUID());
+        other.setTenantId(UUID.randomUUID());
+        other.setTaskCode("orders");
+        other.setConnectorName("other-orders-connector");
+        other.setStatus(TaskStatus.RUNNING);
+        when(syncTaskRepository.findTaskIdsByStatusIn(anyCollection())).thenReturn(List.of(taskId, other.getTaskId()));
+        when(syncTaskRepository.findById(other.getTaskId())).thenReturn(Optional.of(other));
+        when(clusterMembership.ownsTask(other.getTaskId())).thenReturn(true);
+        when(lagReader.getLag(SinkManager.consumerGroup(task))).thenReturn(OptionalLong.of(5000));
+        when(lagReader.getLag(SinkManager.consumerGroup(other))).thenReturn(OptionalLong.of(0));
+
+        // When
+        controller.control();
+
+        // Then: each task reads its own group and reports its own lag
+        assertThat(SinkManager.consumerGroup(other)).isNotEqualTo(SinkManager.consumerGroup(task));
+        assertThat(meterRegistry.get("dbsync.backpressure.lag").tag("task", taskId.toString()).gauge().value())
+                .isEqualTo(5000);
+        assertThat(meterRegistry.get("dbsync.backpressure.lag").tag("task", other.getTaskId().toString())
+                .gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,168 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.JobStatus;
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.core.domain.entity.LifecycleJob;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.LifecycleJobRepository;
+import com.dbsync.core.repository.SyncTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LifecycleJobService
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+class LifecycleJobServiceTest {
+
+    @Mock
+    private LifecycleJobRepository lifecycleJobRepository;
+
+    @Mock
+    private SyncTaskRepository syncTaskRepository;
+
+    @InjectMocks
+    private LifecycleJobService lifecycleJobService;
+
+    private UUID taskId;
+    private SyncTask task;
+
+    @BeforeEach
+    void setUp() {
+        taskId = UUID.randomUUID();
+        task = new SyncTask();
+        task.setTaskId(taskId);
+        task.setTenantId(UUID.randomUUID());
+        task.setTaskCode("orders");
+    }
+
+    @Test
+    void testSubmitJob_ReusedKeyReturnsJobOfSameTaskAndOperation() {
+        // Given
+        LifecycleJob existing = job(LifecycleOperation.STOP, "key-1");
+        when(lifecycleJobRepository.findByTaskIdAndOperationAndIdempotencyKey(taskId, LifecycleOperation.STOP, "key-1"))
+                .thenReturn(Optional.of(existing));
+
+        // When
+        LifecycleJob result = lifecycleJobService.submitJob(taskId, LifecycleOperation.STOP, null, "key-1");
+
+        // Then
+        assertThat(result).isSameAs(existing);
+        verify(lifecycleJobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testSubmitJob_KeyOfAnotherTaskCreatesNewJob() {
+        // Given
+        when(lifecycleJobRepository.findByTaskIdAndOperationAndIdempotencyKey(taskId, LifecycleOperation.STOP, "key-1"))
+                .thenReturn(Optional.empty());
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(lifecycleJobRepository.findFirstByTaskIdAndOperationAndStatusInOrderByCreatedAtAsc(
+                eq(taskId), eq(LifecycleOperation.STOP), anyCollection())).thenReturn(Optional.empty());
+        when(lifecycleJobRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        LifecycleJob result = lifecycleJobService.submitJob(taskId, LifecycleOperation.STOP, Map.of(), "key-1");
+
+        // Then
+        assertThat(result.getTaskId()).isEqualTo(taskId);
+        assertThat(result.getIdempotencyKey()).isEqualTo("key-1");
+        assertThat(result.getStatus()).isEqualTo(JobStatus.PENDING);
+    }
+
+    @Test
+    void testSubmitJob_ConcurrentDuplicateReturnsWinningJob() {
+        // Given
+        LifecycleJob winner = job(LifecycleOperation.START, "key-2");
+        when(lifecycleJobRepository.findByTaskIdAndOperationAndIdempotencyKey(taskId, LifecycleOperation.START, "key-2"))
+                .thenReturn(Optional.empty(), Optional.of(winner));
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(lifecycleJobRepository.findFirstByTaskIdAndOperationAndStatusInOrderByCreatedAtAsc(
+                eq(taskId), eq(LifecycleOperation.START), anyCollection())).thenReturn(Optional.empty());
+        when(lifecycleJobRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_lifecycle_jobs_idempotency_key"));
+
+        // When
+        LifecycleJob result = lifecycleJobService.submitJob(taskId, LifecycleOperation.START, Map.of(), "key-2");
+
+        // Then
+        assertThat(result).isSameAs(winner);
+    }
+
+    @Test
+    void testSubmitJob_ConstraintViolationWithoutKeyPropagates() {
+        // Given
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(lifecycleJobRepository.findFirstByTaskIdAndOperationAndStatusInOrderByCreatedAtAsc(
+                eq(taskId), eq(LifecycleOperation.START), anyCollection())).thenReturn(Optional.empty());
+        when(lifecycleJobRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("fk_lifecycle_jobs_task"));
+
+        // When & Then
+        assertThatThrownBy(() -> lifecycleJobService.submitJob(taskId, LifecycleOperation.START, Map.of(), null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testSubmitScheduledStart_HoldsBackWhenSourceAtLimit() {
+        // Given: two scheduled runs of other tasks, possibly fired by other nodes, read from db1
+        when(lifecycleJobRepository.findByTaskIdAndOperationAndIdempotencyKey(taskId, LifecycleOperation.START, "s-1"))
+                .thenReturn(Optional.empty());
+        when(lifecycleJobRepository.countActiveScheduledRuns("db1:3306")).thenReturn(2L);
+
+        // When
+        Optional<LifecycleJob> result = lifecycleJobService.submitScheduledStart(taskId, "db1:3306", 2, "s-1");
+
+        // Then: counted under the source lock, nothing submitted
+        assertThat(result).isEmpty();
+        var order = inOrder(lifecycleJobRepository);
+        order.verify(lifecycleJobRepository).lockScheduleSource("db1:3306");
+        order.verify(lifecycleJobRepository).countActiveScheduledRuns("db1:3306");
+        verify(lifecycleJobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testSubmitScheduledStart_RecordsSourceOfSubmittedRun() {
+        // Given
+        when(lifecycleJobRepository.findByTaskIdAndOperationAndIdempotencyKey(taskId, LifecycleOperation.START, "s-1"))
+                .thenReturn(Optional.empty());
+        when(lifecycleJobRepository.countActiveScheduledRuns("db1:3306")).thenReturn(1L);
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(lifecycleJobRepository.findFirstByTaskIdAndOperationAndStatusInOrderByCreatedAtAsc(
+                eq(taskId), eq(LifecycleOperation.START), anyCollection())).thenReturn(Optional.empty());
+        when(lifecycleJobRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<LifecycleJob> result = lifecycleJobService.submitScheduledStart(taskId, "db1:3306", 2, "s-1");
+
+        // Then: the source key is stored so every node counts the run
+        assertThat(result).isPresent();
+        assertThat(result.get().getParams()).contains("\"scheduleSource\":\"db1:3306\"");
+    }
+
+    private LifecycleJob job(LifecycleOperation operation, String idempotencyKey) {
+        LifecycleJob job = new LifecycleJob();
+        job.setJobId(UUID.randomUUID());
+        job.setTaskId(taskId);
+        job.setOperation(operation);
+        job.setIdempotencyKey(idempotencyKey);
+        return job;
+    }
+}
@@ -0,0 +1,257 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.enums.HealthStatus;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.enums.ThroughputProfile;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.connector.manager.ConnectorManager;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.repository.SyncTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SyncTaskService
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncTaskServiceTest {
+
+    @Mock
+    private SyncTaskRepository syncTaskRepository;
+
+    @Mock
+    private ConnectorManager connectorManager;
+
+    @InjectMocks
+    private SyncTaskService syncTaskService;
+
+    private UUID taskId;
+    private SyncTask task;
+
+    @BeforeEach
+    void setUp() {
+        taskId = UUID.randomUUID();
+        task = new SyncTask();
+        task.setTaskId(taskId);
+        task.setTenantId(UUID.randomUUID());
+        task.setTaskCode("orders");
+        task.setSourceConnectionConfig("{\"host\": \"db1\", \"username\": \"sync\", \"password\": \"secret\"}");
+        task.setTargetConnectionConfig("{\"host\": \"db2\", \"port\": 5432, \"username\": \"sync\", \"password\": \"x\"}");
+        task.setConnectorConfig("{}");
+    }
+
+    @Test
+    void testCreateTask_ProfileDefaultsToBalancedAndKeepsGivenOne() {
+        // Given
+        when(syncTaskRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        SyncTask bulk = new SyncTask();
+        bulk.setTenantId(task.getTenantId());
+        bulk.setTaskCode("bulk");
+        bulk.setSourceConnectionConfig(task.getSourceConnectionConfig());
+        bulk.setTargetConnectionConfig(task.getTargetConnectionConfig());
+        bulk.setThroughputProfile(ThroughputProfile.BULK);
+
+        // When
+        SyncTask created = syncTaskService.createTask(task);
+        SyncTask createdBulk = syncTaskService.createTask(bulk);
+
+        // Then
+        assertThat(created.getThroughputProfile()).isEqualTo(ThroughputProfile.BALANCED);
+        assertThat(createdBulk.getThroughputProfile()).isEqualTo(ThroughputProfile.BULK);
+    }
+
+    @Test
+    void testUpdateTask_ChangesProfileOfStoppedTaskOnly() {
+        // Given
+        task.setStatus(TaskStatus.STOPPED);
+        task.setThroughputProfile(ThroughputProfile.BALANCED);
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(syncTaskRepository.updateSettings(eq(taskId), anyCollection(), any(), any(), any(), any(), any()))
+                .thenReturn(1);
+        SyncTask update = new SyncTask();
+        update.setThroughputProfile(ThroughputProfile.LOW_LATENCY);
+
+        // When
+        SyncTask updated = syncTaskService.updateTask(taskId, update);
+
+        // Then: a paused task keeps its connector, so its profile cannot change
+        assertThat(updated.getThroughputProfile()).isEqualTo(ThroughputProfile.LOW_LATENCY);
+        task.setStatus(TaskStatus.PAUSED);
+        update.setThroughputProfile(ThroughputProfile.BULK);
+        assertThatThrownBy(() -> syncTaskService.updateTask(taskId, update))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Stop it first");
+    }
+
+    @Test
+    void testUpdateTask_TaskStartedConcurrentlyIsConflict() {
+        // Given: loaded while stopped, started by another request before the write
+        task.setStatus(TaskStatus.STOPPED);
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(syncTaskRepository.updateSettings(eq(taskId), anyCollection(), any(), any(), any(), any(), any()))
+                .thenReturn(0);
+        when(syncTaskRepository.findStatusByTaskId(taskId)).thenReturn(Optional.of(TaskStatus.RUNNING));
+        SyncTask update = new SyncTask();
+        update.setTaskName("renamed");
+
+        // When / Then: the stale copy is never saved over the new status
+        assertThatThrownBy(() -> syncTaskService.updateTask(taskId, update))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCodes.TASK_STATUS_CONFLICT);
+        verify(syncTaskRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateTaskHealth_DoesNotRevertConcurrentTransition() {
+        // Given: loaded while running, stopped by another request during the Kafka Connect call
+        task.setStatus(TaskStatus.RUNNING);
+        task.setConnectorName("orders-connector");
+        SyncTask loadedByStop = new SyncTask();
+        loadedByStop.setTaskId(taskId);
+        loadedByStop.setStatus(TaskStatus.RUNNING);
+        loadedByStop.setConnectorName("orders-connector");
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task), Optional.of(loadedByStop));
+        when(connectorManager.getConnectorHealth("orders-connector")).thenAnswer(invocation -> {
+            syncTaskService.stopTask(taskId);
+            return new ConnectorManager.ConnectorHealthInfo(HealthStatus.UNHEALTHY, "task 0 failed", null);
+        });
+        when(syncTaskRepository.transition(eq(taskId), anyCollection(), eq(TaskStatus.STOPPED), any()))
+                .thenReturn(1);
+        when(syncTaskRepository.findStatusByTaskId(taskId)).thenReturn(Optional.of(TaskStatus.STOPPED));
+
+        // When
+        syncTaskService.updateTaskHealth(taskId);
+
+        // Then: only the health columns are written, the stale RUNNING copy is never merged back
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.RUNNING);
+        verify(syncTaskRepository).recordUnhealthy(taskId, "task 0 failed");
+        verify(syncTaskRepository, never()).save(any());
+        verify(syncTaskRepository, never()).transition(eq(taskId), anyCollection(), eq(TaskStatus.RUNNING), any());
+    }
+
+    @Test
+    void testBeginBulkLoad_RefusesRunningTask() {
+        // Given: a load of this task is already running
+        task.setStatus(TaskStatus.RUNNING);
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        // When / Then
+        assertThatThrownBy(() -> syncTaskService.beginBulkLoad(taskId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("RUNNING");
+        verify(syncTaskRepository, never()).transitionToRunning(any(), anyCollection(), any());
+    }
+
+    @Test
+    void testStartTask_RewritesConfigOfExistingConnector() {
+        // Given
+        task.setStatus(TaskStatus.STOPPED);
+        task.setConnectorName("orders-connector");
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(connectorManager.connectorExists("orders-connector")).thenReturn(true);
+        when(syncTaskRepository.transitionToRunning(eq(taskId), anyCollection(), isNull())).thenReturn(1);
+        when(syncTaskRepository.findStatusByTaskId(taskId)).thenReturn(Optional.of(TaskStatus.RUNNING));
+
+        // When
+        syncTaskService.startTask(taskId);
+
+        // Then: the transition is claimed before the connector is touched
+        var order = inOrder(syncTaskRepository, connectorManager);
+        order.verify(syncTaskRepository).transitionToRunning(eq(taskId), anyCollection(), isNull());
+        order.verify(connectorManager).updateConnectorConfig(task);
+        order.verify(connectorManager).startConnector("orders-connector");
+    }
+
+    @Test
+    void testResumeTask_LostClaimLeavesConnectorAlone() {
+        // Given: a stop moved the paused task before the resume claimed it
+        task.setStatus(TaskStatus.PAUSED);
+        task.setConnectorName("orders-connector");
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(syncTaskRepository.transition(taskId, EnumSet.of(TaskStatus.PAUSED), TaskStatus.RUNNING,
+                HealthStatus.HEALTHY)).thenReturn(0);
+        when(syncTaskRepository.findStatusByTaskId(taskId)).thenReturn(Optional.of(TaskStatus.STOPPED));
+
+        // When / Then
+        assertThatThrownBy(() -> syncTaskService.resumeTask(taskId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("STOPPED")
+                .extracting("errorCode").isEqualTo(ErrorCodes.TASK_STATUS_CONFLICT);
+        verifyNoInteractions(connectorManager);
+    }
+
+    @Test
+    void testResumeTask_OvertakenByStopStopsConnectorAgain() {
+        // Given: a stop claimed the task after the resume did and may have stopped the connector first
+        task.setStatus(TaskStatus.PAUSED);
+        task.setConnectorName("orders-connector");
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(syncTaskRepository.transition(taskId, EnumSet.of(TaskStatus.PAUSED), TaskStatus.RUNNING,
+                HealthStatus.HEALTHY)).thenReturn(1);
+        when(syncTaskRepository.findStatusByTaskId(taskId)).thenReturn(Optional.of(TaskStatus.STOPPED));
+
+        // When
+        assertThatThrownBy(() -> syncTaskService.resumeTask(taskId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCodes.TASK_STATUS_CONFLICT);
+
+        // Then: the connector is not left running against a stopped task
+        var order = inOrder(connectorManager);
+        order.verify(connectorManager).startConnector("orders-connector");
+        order.verify(connectorManager).stopConnector("orders-connector");
+    }
+
+    @Test
+    void testStopTask_FailedConnectorCallReleasesClaim() {
+        // Given
+        task.setStatus(TaskStatus.RUNNING);
+        task.setHealthStatus(HealthStatus.HEALTHY);
+        task.setConnectorName("orders-connector");
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(syncTaskRepository.transition(eq(taskId), anyCollection(), eq(TaskStatus.STOPPED),
+                eq(HealthStatus.PAUSED))).thenReturn(1);
+        doThrow(new BusinessException("Connect unavailable")).when(connectorManager).stopConnector("orders-connector");
+
+        // When
+        assertThatThrownBy(() -> syncTaskService.stopTask(taskId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Failed to stop task");
+
+        // Then: the task goes back to the status it had
+        verify(syncTaskRepository).transition(taskId, EnumSet.of(TaskStatus.STOPPED), TaskStatus.RUNNING,
+                HealthStatus.HEALTHY);
+    }
+
+    @Test
+    void testRestartTask_FailureAfterClaimMarksTaskFailed() {
+        // Given: the task has no connector yet and creating one fails
+        task.setStatus(TaskStatus.STOPPED);
+        when(syncTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(syncTaskRepository.transitionToRunning(eq(taskId), anyCollection(), isNull())).thenReturn(1);
+        when(connectorManager.createConnector(task)).thenThrow(new BusinessException("Connect unavailable"));
+
+        // When / Then
+        assertThatThrownBy(() -> syncTaskService.restartTask(taskId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Failed to restart task");
+        verify(syncTaskRepository).transitionToFailed(taskId, EnumSet.of(TaskStatus.RUNNING), "Connect unavailable");
+    }
+}
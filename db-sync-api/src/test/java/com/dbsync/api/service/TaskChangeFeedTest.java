@@ -0,0 +1,115 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.metrics.SyncMetricsStore;
+import com.dbsync.core.repository.SyncTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskChangeFeed
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskChangeFeedTest {
+
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2024, 3, 10, 12, 0, 0);
+
+    @Mock
+    private SyncTaskRepository syncTaskRepository;
+
+    @Mock
+    private SyncMetricsStore metricsStore;
+
+    @Mock
+    private TaskEventBus eventBus;
+
+    private TaskChangeFeed feed;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TaskChangeFeed(syncTaskRepository, metricsStore, eventBus, 10_000, 30_000);
+        tenantId = UUID.randomUUID();
+        when(eventBus.getSubscribedTenants()).thenReturn(Set.of(tenantId));
+        when(syncTaskRepository.findDatabaseTime()).thenReturn(DB_NOW);
+        when(metricsStore.minuteTotals(anyCollection(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void testPoll_FirstPollStartsFromDatabaseClock() {
+        // When
+        feed.poll();
+
+        // Then: the overlap is taken back from the database's time, not the node's
+        verify(syncTaskRepository).findByTenantIdInAndUpdatedAtAfter(Set.of(tenantId), DB_NOW.minusSeconds(10));
+    }
+
+    @Test
+    void testPoll_OverlappingPollsPublishEachChangeOnce() {
+        // Given: the second poll re-reads the first change within the overlap
+        SyncTask first = task(DB_NOW.plusSeconds(1), TaskStatus.RUNNING);
+        SyncTask second = task(DB_NOW.plusSeconds(3), TaskStatus.PAUSED);
+        second.setTaskId(first.getTaskId());
+        SyncTask late = task(DB_NOW.plusSeconds(2), TaskStatus.STOPPED);
+        when(syncTaskRepository.findByTenantIdInAndUpdatedAtAfter(anyCollection(), any()))
+                .thenReturn(List.of(first), List.of(first, late), List.of(second));
+
+        // When
+        feed.poll();
+        feed.poll();
+        feed.poll();
+
+        // Then: a change committed behind the watermark is still picked up, none twice
+        ArgumentCaptor<TaskStateEvent> published = ArgumentCaptor.forClass(TaskStateEvent.class);
+        verify(eventBus, times(3)).publish(published.capture());
+        assertThat(published.getAllValues()).extracting(TaskStateEvent::status)
+                .containsExactly(TaskStatus.RUNNING, TaskStatus.STOPPED, TaskStatus.PAUSED);
+        verify(syncTaskRepository).findByTenantIdInAndUpdatedAtAfter(anyCollection(),
+                eq(DB_NOW.plusSeconds(1).minusSeconds(10)));
+    }
+
+    @Test
+    void testPoll_NoSubscribersResetsWatermark() {
+        // Given
+        feed.poll();
+        when(eventBus.getSubscribedTenants()).thenReturn(Set.of(), Set.of(tenantId));
+
+        // When
+        feed.poll();
+        feed.poll();
+
+        // Then: streams opened later start again from the database's current time
+        verify(syncTaskRepository, times(2)).findDatabaseTime();
+    }
+
+    private SyncTask task(LocalDateTime updatedAt, TaskStatus status) {
+        SyncTask task = new SyncTask();
+        task.setTaskId(UUID.randomUUID());
+        task.setTenantId(tenantId);
+        task.setTaskCode("orders");
+        task.setStatus(status);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+}
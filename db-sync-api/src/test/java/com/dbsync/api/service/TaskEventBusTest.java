@@ -0,0 +1,186 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.enums.HealthStatus;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.exceptions.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TaskEventBus Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TaskEventBusTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID orders = UUID.randomUUID();
+    private final UUID customers = UUID.randomUUID();
+    private final Deque<RecordingEmitter> emitters = new ArrayDeque<>();
+    private TaskEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void testPublish_CoalescesEventsOfTaskWhileClientIsBusy() throws Exception {
+        // Given: the stream is still sending its initial event
+        bus = bus(60_000, 10);
+        RecordingEmitter emitter = nextEmitter(true);
+        bus.subscribe(tenantId, List.of(status(orders, TaskStatus.RUNNING)));
+        assertThat(emitter.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: three events of one task and one of another arrive meanwhile
+        bus.publish(status(orders, TaskStatus.PAUSED));
+        bus.publish(TaskStateEvent.throughput(orders, tenantId, 42.0, 0));
+        bus.publish(status(orders, TaskStatus.RUNNING));
+        bus.publish(status(customers, TaskStatus.STOPPED));
+        emitter.release.countDown();
+
+        // Then: one merged event per task follows the initial one
+        assertThat(emitter.awaitEvents(3)).isTrue();
+        List<TaskStateEvent> sent = emitter.events;
+        assertThat(sent).hasSize(3);
+        assertThat(sent.get(1).taskId()).isEqualTo(orders);
+        assertThat(sent.get(1).status()).isEqualTo(TaskStatus.RUNNING);
+        assertThat(sent.get(1).appliedPerSecond()).isEqualTo(42.0);
+        assertThat(sent.get(2).taskId()).isEqualTo(customers);
+    }
+
+    @Test
+    void testSubscribe_StalledClientDoesNotDelayOtherStreams() throws Exception {
+        // Given: one timer thread and a client that stopped reading
+        bus = bus(60_000, 10);
+        RecordingEmitter stalled = nextEmitter(true);
+        bus.subscribe(tenantId, List.of(status(orders, TaskStatus.RUNNING)));
+        assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        UUID otherTenant = UUID.randomUUID();
+        RecordingEmitter other = nextEmitter(false);
+        bus.subscribe(otherTenant, List.of(new TaskStateEvent(customers, otherTenant, "customers",
+                TaskStatus.RUNNING, HealthStatus.HEALTHY, false, null, null, null)));
+
+        // Then
+        assertThat(other.awaitEvents(1)).isTrue();
+        assertThat(stalled.events).isEmpty();
+    }
+
+    @Test
+    void testCloseStalledStreams_ClosesStreamBlockedPastSendTimeout() throws Exception {
+        // Given
+        bus = bus(50, 1);
+        RecordingEmitter stalled = nextEmitter(true);
+        bus.subscribe(tenantId, List.of(status(orders, TaskStatus.RUNNING)));
+        assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Thread.sleep(100);
+        bus.closeStalledStreams();
+
+        // Then: the slot is free again and the blocked send ends the emitter
+        assertThat(bus.getSubscribedTenants()).doesNotContain(tenantId);
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        nextEmitter(false);
+        bus.subscribe(tenantId, List.of());
+    }
+
+    @Test
+    void testSubscribe_RejectsStreamsBeyondCapacity() {
+        // Given
+        bus = bus(60_000, 1);
+        nextEmitter(false);
+        bus.subscribe(tenantId, List.of());
+
+        // When / Then
+        assertThatThrownBy(() -> bus.subscribe(tenantId, List.of()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCodes.CAPACITY_EXCEEDED);
+    }
+
+    private TaskEventBus bus(long sendTimeoutMs, int maxSubscribers) {
+        return new TaskEventBus(1, 0, 60_000, sendTimeoutMs, maxSubscribers) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitters.peekLast();
+            }
+        };
+    }
+
+    private RecordingEmitter nextEmitter(boolean blockFirstSend) {
+        RecordingEmitter emitter = new RecordingEmitter(blockFirstSend);
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    private TaskStateEvent status(UUID taskId, TaskStatus status) {
+        return new TaskStateEvent(taskId, tenantId, null, status, null, null, null, null, null);
+    }
+
+    /**
+     * Records the events sent to it; optionally blocks its first send until released
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<TaskStateEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private RecordingEmitter(boolean blockFirstSend) {
+            this.release = new CountDownLatch(blockFirstSend ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("send interrupted");
+            }
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof TaskStateEvent event) {
+                    events.add(event);
+                }
+            });
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed.countDown();
+        }
+
+        boolean awaitEvents(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return events.size() >= count;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.dbsync.api.service;
+
+import com.dbsync.common.enums.HealthStatus;
+import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.core.domain.entity.SyncTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskStateEvent Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TaskStateEventTest {
+
+    @Test
+    void testMerge_LaterFieldsWinAndNullsKeepEarlierValues() {
+        // Given: a status change followed by a throughput sample of the same task
+        SyncTask task = new SyncTask();
+        task.setTaskId(UUID.randomUUID());
+        task.setTenantId(UUID.randomUUID());
+        task.setTaskCode("orders");
+        task.setStatus(TaskStatus.RUNNING);
+        task.setHealthStatus(HealthStatus.HEALTHY);
+        TaskStateEvent status = TaskStateEvent.of(task);
+        TaskStateEvent throughput = TaskStateEvent.throughput(task.getTaskId(), task.getTenantId(), 120.5, 0.5);
+
+        // When
+        TaskStateEvent merged = status.merge(throughput);
+
+        // Then
+        assertThat(merged.taskCode()).isEqualTo("orders");
+        assertThat(merged.status()).isEqualTo(TaskStatus.RUNNING);
+        assertThat(merged.healthStatus()).isEqualTo(HealthStatus.HEALTHY);
+        assertThat(merged.deleted()).isFalse();
+        assertThat(merged.appliedPerSecond()).isEqualTo(120.5);
+        assertThat(merged.deadLetteredPerSecond()).isEqualTo(0.5);
+        assertThat(merged.at()).isEqualTo(throughput.at());
+    }
+
+    @Test
+    void testMerge_NewerStatusReplacesOlder() {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        TaskStateEvent running = new TaskStateEvent(taskId, tenantId, "orders", TaskStatus.RUNNING,
+                HealthStatus.HEALTHY, false, 10.0, 0.0, null);
+        TaskStateEvent paused = new TaskStateEvent(taskId, tenantId, "orders", TaskStatus.PAUSED,
+                HealthStatus.PAUSED, false, null, null, null);
+
+        // When
+        TaskStateEvent merged = running.merge(paused);
+
+        // Then
+        assertThat(merged.status()).isEqualTo(TaskStatus.PAUSED);
+        assertThat(merged.healthStatus()).isEqualTo(HealthStatus.PAUSED);
+        assertThat(merged.appliedPerSecond()).isEqualTo(10.0);
+    }
+}
@@ -33,6 +33,7 @@ public final class ErrorCodes {
     public static final int TASK_ALREADY_EXISTS = 40002;
     public static final int TASK_STATUS_ERROR = 40003;
     public static final int CONNECTOR_CREATION_FAILED = 40004;
+    public static final int TASK_STATUS_CONFLICT = 40005;
 
     // Mapping Errors (50xxx)
     public static final int MAPPING_NOT_FOUND = 50001;
@@ -49,4 +50,5 @@ public final class ErrorCodes {
     // System Errors (90xxx)
     public static final int SYSTEM_ERROR = 90001;
     public static final int SERVICE_UNAVAILABLE = 90002;
+    public static final int CAPACITY_EXCEEDED = 90003;
 }
@@ -0,0 +1,29 @@
+package com.dbsync.common.enums;
+
+import lombok.Getter;
+
+/**
+ * Lifecycle Job Status Enum
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public enum JobStatus {
+
+    PENDING("Pending", "Job is waiting to be claimed by a worker"),
+    RUNNING("Running", "Job has been claimed and is being processed"),
+    SUCCEEDED("Succeeded", "Job has completed successfully"),
+    FAILED("Failed", "Job has failed");
+
+    private final String displayName;
+    private final String description;
+
+    JobStatus(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,39 @@
+package com.dbsync.common.enums;
+
+import lombok.Getter;
+
+/**
+ * Task Lifecycle Operation Enum
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public enum LifecycleOperation {
+
+    START("Start", "Create or resume the connector and run the task"),
+    STOP("Stop", "Stop the task"),
+    PAUSE("Pause", "Pause the task"),
+    RESUME("Resume", "Resume a paused task"),
+    RESTART("Restart", "Restart the task connector"),
+    DELETE("Delete", "Delete the task and its connector"),
+    VERIFY("Verify", "Compare source and target data by key range checksums"),
+    REPAIR("Repair", "Find drifted rows with Merkle trees and re-emit them from the source"),
+    REPLAY_DLQ("Replay DLQ", "Replay dead-lettered records to their source topics");
+
+    private final String displayName;
+    private final String description;
+
+    LifecycleOperation(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public static LifecycleOperation fromString(String operation) {
+        for (LifecycleOperation value : values()) {
+            if (value.name().equalsIgnoreCase(operation)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown lifecycle operation: " + operation);
+    }
+}
@@ -2,6 +2,12 @@ package com.dbsync.common.enums;
 
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Task Status Enum
  *
@@ -11,12 +17,27 @@ import lombok.Getter;
 public enum TaskStatus {
 
     CREATED("Created", "Task has been created but not started"),
+    QUEUED("Queued", "Task is waiting for a snapshot slot"),
     RUNNING("Running", "Task is currently running"),
     PAUSED("Paused", "Task has been paused"),
     STOPPED("Stopped", "Task has been stopped"),
     FAILED("Failed", "Task has failed"),
     COMPLETED("Completed", "Task has completed (full sync only)");
 
+    private static final Map<TaskStatus, Set<TaskStatus>> PREDECESSORS = new EnumMap<>(TaskStatus.class);
+
+    static {
+        for (TaskStatus target : values()) {
+            EnumSet<TaskStatus> from = EnumSet.noneOf(TaskStatus.class);
+            for (TaskStatus source : values()) {
+                if (source.canTransitionTo(target)) {
+                    from.add(source);
+                }
+            }
+            PREDECESSORS.put(target, Collections.unmodifiableSet(from));
+        }
+    }
+
     private final String displayName;
     private final String description;
 
@@ -27,12 +48,18 @@ public enum TaskStatus {
 
     public boolean canTransitionTo(TaskStatus target) {
         return switch (this) {
-            case CREATED -> target == RUNNING;
+            case CREATED -> target == RUNNING || target == QUEUED;
+            case QUEUED -> target == RUNNING || target == STOPPED;
             case RUNNING -> target == PAUSED || target == STOPPED || target == FAILED || target == COMPLETED;
             case PAUSED -> target == RUNNING || target == STOPPED;
-            case STOPPED -> target == RUNNING;
-            case FAILED -> target == RUNNING;
-            case COMPLETED -> target == RUNNING;
+            case STOPPED, FAILED, COMPLETED -> target == RUNNING || target == QUEUED;
         };
     }
+
+    /**
+     * Statuses a task may move to this one from, for conditional status updates
+     */
+    public Set<TaskStatus> allowedPredecessors() {
+        return PREDECESSORS.get(this);
+    }
 }
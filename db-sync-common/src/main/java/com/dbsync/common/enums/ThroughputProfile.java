@@ -0,0 +1,75 @@
+package com.dbsync.common.enums;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Throughput Profile Enum
+ * Named connector tuning: Debezium queue and batch sizes plus the producer settings
+ * (producer.override.*) that suit them. Offset flushing is not part of a profile:
+ * offset.flush.interval.ms is a Connect worker setting and is ignored in connector configs.
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public enum ThroughputProfile {
+
+    LOW_LATENCY("Low Latency", "Small batches sent immediately",
+            512, 2048, 50, 0, 16384, "none"),
+    BALANCED("Balanced", "Moderate batching with light compression",
+            2048, 8192, 500, 10, 131072, "lz4"),
+    BULK("Bulk", "Large batches and strong compression for high-volume sources",
+            8192, 32768, 1000, 100, 1048576, "zstd");
+
+    /**
+     * Prefix under which Kafka Connect passes settings to a connector's producer
+     */
+    public static final String PRODUCER_OVERRIDE_PREFIX = "producer.override.";
+
+    private final String displayName;
+    private final String description;
+    private final int maxBatchSize;
+    private final int maxQueueSize;
+    private final int pollIntervalMs;
+    private final int lingerMs;
+    private final int batchSizeBytes;
+    private final String compressionType;
+
+    ThroughputProfile(String displayName, String description, int maxBatchSize, int maxQueueSize,
+                      int pollIntervalMs, int lingerMs, int batchSizeBytes, String compressionType) {
+        this.displayName = displayName;
+        this.description = description;
+        this.maxBatchSize = maxBatchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.lingerMs = lingerMs;
+        this.batchSizeBytes = batchSizeBytes;
+        this.compressionType = compressionType;
+    }
+
+    /**
+     * Debezium queue and batch settings
+     */
+    public Map<String, String> connectorSettings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("max.batch.size", String.valueOf(maxBatchSize));
+        settings.put("max.queue.size", String.valueOf(maxQueueSize));
+        settings.put("poll.interval.ms", String.valueOf(pollIntervalMs));
+        return settings;
+    }
+
+    /**
+     * Producer settings; every profile keeps acks=all with idempotence so no change is lost
+     */
+    public Map<String, String> producerOverrides() {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put(PRODUCER_OVERRIDE_PREFIX + "linger.ms", String.valueOf(lingerMs));
+        overrides.put(PRODUCER_OVERRIDE_PREFIX + "batch.size", String.valueOf(batchSizeBytes));
+        overrides.put(PRODUCER_OVERRIDE_PREFIX + "compression.type", compressionType);
+        overrides.put(PRODUCER_OVERRIDE_PREFIX + "acks", "all");
+        overrides.put(PRODUCER_OVERRIDE_PREFIX + "enable.idempotence", "true");
+        return overrides;
+    }
+}
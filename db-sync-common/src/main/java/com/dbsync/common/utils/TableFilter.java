@@ -0,0 +1,60 @@
+package com.dbsync.common.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Debezium table.include.list / table.exclude.list filter: comma-separated regular
+ * expressions matched case-insensitively against "qualifier.table"
+ *
+ * @author DB Sync Platform
+ */
+public final class TableFilter {
+
+    private final Pattern include;
+    private final Pattern exclude;
+
+    private TableFilter(Pattern include, Pattern exclude) {
+        this.include = include;
+        this.exclude = exclude;
+    }
+
+    /**
+     * Filter of a connector config; missing lists include every table
+     */
+    public static TableFilter fromConnectorConfig(JsonNode connectorConfig) {
+        if (connectorConfig == null) {
+            return new TableFilter(null, null);
+        }
+        return of(connectorConfig.path("table.include.list").asText(null),
+                connectorConfig.path("table.exclude.list").asText(null));
+    }
+
+    /**
+     * Filter of the given include and exclude lists; a missing list does not restrict
+     */
+    public static TableFilter of(String includeList, String excludeList) {
+        return new TableFilter(pattern(includeList), pattern(excludeList));
+    }
+
+    public boolean includes(String qualifiedTable) {
+        return (include == null || include.matcher(qualifiedTable).matches())
+                && (exclude == null || !exclude.matcher(qualifiedTable).matches());
+    }
+
+    private static Pattern pattern(String list) {
+        if (list == null || list.isBlank()) {
+            return null;
+        }
+        List<String> parts = new ArrayList<>();
+        for (String part : list.split(",")) {
+            if (!part.isBlank()) {
+                parts.add("(?:" + part.trim() + ")");
+            }
+        }
+        return Pattern.compile(String.join("|", parts), Pattern.CASE_INSENSITIVE);
+    }
+}
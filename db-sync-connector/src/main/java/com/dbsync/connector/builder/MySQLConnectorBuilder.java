@@ -1,9 +1,12 @@
 package com.dbsync.connector.builder;
 
+import com.dbsync.common.enums.ThroughputProfile;
 import com.dbsync.common.exceptions.BusinessException;
-import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.connector.repair.SnapshotSignalSender;
+import com.dbsync.core.domain.config.ConnectionConfig;
+import com.dbsync.core.domain.config.ConnectorSettings;
+import com.dbsync.core.domain.config.TaskConfigs;
 import com.dbsync.core.domain.entity.SyncTask;
-import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +14,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,14 +27,17 @@ import java.util.Map;
 public class MySQLConnectorBuilder implements ConnectorBuilder {
 
     private static final String CONNECTOR_CLASS = "io.debezium.connector.mysql.MySqlConnector";
+    private static final int DEFAULT_PORT = 3306;
+    private static final List<String> FILTER_KEYS = List.of(
+            "table.include.list", "table.exclude.list", "column.include.list", "column.exclude.list");
 
     @Override
     public Map<String, String> buildConfig(SyncTask task) {
         log.info("Building MySQL connector config for task: {}", task.getTaskCode());
 
         try {
-            JsonNode sourceConfig = JsonUtil.parseJson(task.getSourceConnectionConfig());
-            JsonNode connectorConfig = JsonUtil.parseJson(task.getConnectorConfig());
+            ConnectionConfig sourceConfig = TaskConfigs.source(task);
+            ConnectorSettings connectorConfig = TaskConfigs.connector(task);
 
             Map<String, String> config = new HashMap<>();
 
@@ -39,14 +46,14 @@ public class MySQLConnectorBuilder implements ConnectorBuilder {
             config.put("tasks.max", "1");
 
             // Database connection
-            config.put("database.hostname", sourceConfig.get("host").asText());
-            config.put("database.port", sourceConfig.get("port").asText("3306"));
-            config.put("database.user", sourceConfig.get("username").asText());
-            config.put("database.password", sourceConfig.get("password").asText());
+            config.put("database.hostname", sourceConfig.host());
+            config.put("database.port", String.valueOf(sourceConfig.portOr(DEFAULT_PORT)));
+            config.put("database.user", sourceConfig.username());
+            config.put("database.password", sourceConfig.password());
 
             // Database selection
-            if (sourceConfig.has("database")) {
-                config.put("database.include.list", sourceConfig.get("database").asText());
+            if (sourceConfig.database() != null) {
+                config.put("database.include.list", sourceConfig.database());
             }
 
             // Server identification (must be unique across all connectors)
@@ -55,55 +62,63 @@ public class MySQLConnectorBuilder implements ConnectorBuilder {
             config.put("database.server.name", task.getTaskCode().replace("-", "_"));
 
             // Topic prefix
-            config.put("topic.prefix", task.getTenantId().toString());
+            config.put("topic.prefix", TaskConfigs.topicPrefix(task));
 
             // Snapshot mode
-            String snapshotMode = getFromConnectorConfig(connectorConfig, "snapshot.mode", "initial");
+            String snapshotMode = connectorConfig.get("snapshot.mode", "initial");
             config.put("snapshot.mode", snapshotMode);
 
-            // Table filtering
-            if (connectorConfig.has("table.include.list")) {
-                config.put("table.include.list", connectorConfig.get("table.include.list").asText());
+            // Table and column filtering
+            for (String key : FILTER_KEYS) {
+                if (connectorConfig.has(key)) {
+                    config.put(key, connectorConfig.get(key));
+                }
             }
 
-            if (connectorConfig.has("table.exclude.list")) {
-                config.put("table.exclude.list", connectorConfig.get("table.exclude.list").asText());
-            }
-
-            // Column filtering
-            if (connectorConfig.has("column.include.list")) {
-                config.put("column.include.list", connectorConfig.get("column.include.list").asText());
-            }
+            // Performance tuning: the task's throughput profile, explicit connector config wins
+            ThroughputProfile profile = task.getThroughputProfile() != null
+                    ? task.getThroughputProfile() : ThroughputProfile.BALANCED;
+            config.put("snapshot.max.threads", connectorConfig.get("snapshot.max.threads", "1"));
+            profile.connectorSettings().forEach((key, value) -> config.put(key, connectorConfig.get(key, value)));
 
-            if (connectorConfig.has("column.exclude.list")) {
-                config.put("column.exclude.list", connectorConfig.get("column.exclude.list").asText());
-            }
+            // Producer overrides, subject to the worker's connector.client.config.override.policy
+            config.putAll(profile.producerOverrides());
+            config.putAll(connectorConfig.withPrefix(ThroughputProfile.PRODUCER_OVERRIDE_PREFIX));
 
-            // Performance tuning
-            config.put("snapshot.max.threads",
-                    getFromConnectorConfig(connectorConfig, "snapshot.max.threads", "1"));
-            config.put("max.batch.size",
-                    getFromConnectorConfig(connectorConfig, "max.batch.size", "2048"));
-            config.put("max.queue.size",
-                    getFromConnectorConfig(connectorConfig, "max.queue.size", "8192"));
-
-            // Offset and schema history storage
+            // Offset storage
             config.put("offset.storage", "org.apache.kafka.connect.storage.KafkaOffsetBackingStore");
-            config.put("offset.flush.interval.ms", "10000");
 
             // Schema history
             config.put("schema.history.internal.kafka.bootstrap.servers",
-                    getFromConnectorConfig(connectorConfig, "kafka.bootstrap.servers", "localhost:9092"));
+                    connectorConfig.get("kafka.bootstrap.servers", "localhost:9092"));
             config.put("schema.history.internal.kafka.topic",
                     task.getTaskCode() + "-schema-history");
 
+            // Signals: the Kafka channel lets the platform request incremental snapshots for repair.
+            // MySQL also needs a signal table (signal.data.collection) or read.only GTID mode for them.
+            String signalChannels = "kafka";
+            if (connectorConfig.has("signal.data.collection")) {
+                signalChannels = "source,kafka";
+                config.put("signal.data.collection", connectorConfig.get("signal.data.collection"));
+            }
+            if (connectorConfig.has("read.only")) {
+                config.put("read.only", connectorConfig.get("read.only"));
+            }
+            config.put("signal.enabled.channels", signalChannels);
+            config.put("signal.kafka.topic", SnapshotSignalSender.signalTopic(task));
+            config.put("signal.kafka.bootstrap.servers",
+                    connectorConfig.get("kafka.bootstrap.servers", "localhost:9092"));
+
+            // Transaction metadata: BEGIN/END markers let the sink apply whole source transactions atomically
+            config.put("provide.transaction.metadata", connectorConfig.get("provide.transaction.metadata", "false"));
+
             // Time zone
-            if (sourceConfig.has("serverTimezone")) {
-                config.put("database.serverTimezone", sourceConfig.get("serverTimezone").asText());
+            if (sourceConfig.serverTimezone() != null) {
+                config.put("database.serverTimezone", sourceConfig.serverTimezone());
             }
 
             // SSL configuration
-            if (sourceConfig.has("ssl") && sourceConfig.get("ssl").asBoolean()) {
+            if (sourceConfig.ssl()) {
                 config.put("database.ssl.mode", "required");
             }
 
@@ -134,6 +149,9 @@ public class MySQLConnectorBuilder implements ConnectorBuilder {
             config.put("value.converter", "org.apache.kafka.connect.json.JsonConverter");
             config.put("key.converter.schemas.enable", "false");
             config.put("value.converter.schemas.enable", "false");
+            // Decimals as JSON numbers: without schemas a base64 unscaled value loses its scale
+            config.put("key.converter.decimal.format", "NUMERIC");
+            config.put("value.converter.decimal.format", "NUMERIC");
 
             log.debug("MySQL connector config built successfully: {}", config);
             return config;
@@ -149,18 +167,15 @@ public class MySQLConnectorBuilder implements ConnectorBuilder {
         log.debug("Validating MySQL connection");
 
         try {
-            JsonNode config = JsonUtil.parseJson(connectionConfig);
-
-            String host = config.get("host").asText();
-            int port = config.has("port") ? config.get("port").asInt() : 3306;
-            String database = config.get("database").asText();
-            String username = config.get("username").asText();
-            String password = config.get("password").asText();
+            ConnectionConfig config = ConnectionConfig.of(connectionConfig);
+            String host = config.host();
+            int port = config.portOr(DEFAULT_PORT);
+            String database = config.database();
 
             String jdbcUrl = String.format("jdbc:mysql://%s:%d/%s", host, port, database);
 
             // Try to establish connection
-            try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password)) {
+            try (Connection conn = DriverManager.getConnection(jdbcUrl, config.username(), config.password())) {
                 log.info("MySQL connection validated successfully: {}:{}/{}", host, port, database);
                 return true;
             }
@@ -178,14 +193,4 @@ public class MySQLConnectorBuilder implements ConnectorBuilder {
     public String getConnectorClass() {
         return CONNECTOR_CLASS;
     }
-
-    /**
-     * Helper method to get value from connector config with default
-     */
-    private String getFromConnectorConfig(JsonNode config, String key, String defaultValue) {
-        if (config.has(key)) {
-            return config.get(key).asText();
-        }
-        return defaultValue;
-    }
 }
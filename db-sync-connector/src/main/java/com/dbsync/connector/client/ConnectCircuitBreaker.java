@@ -0,0 +1,120 @@
+package com.dbsync.connector.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding a single Kafka Connect cluster
+ * Opens after consecutive failures, sheds calls while open and lets a single
+ * trial call through once the open period has elapsed
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+public class ConnectCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String clusterName;
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+    private final BiConsumer<State, State> transitionListener;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public ConnectCircuitBreaker(
+            String clusterName,
+            int failureThreshold,
+            long openDurationMs,
+            LongSupplier clock,
+            BiConsumer<State, State> transitionListener) {
+        this.clusterName = clusterName;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Check whether a call may be sent to the cluster
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openDurationMs) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                trialInFlight = true;
+                return true;
+            case HALF_OPEN:
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Record a call that reached a responsive cluster
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Record a call that failed because the cluster is unhealthy
+     */
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openedAt = clock.getAsLong();
+            if (state != State.OPEN) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * End a call that was neither a success nor a failure of the cluster, such as one that
+     * threw while reading the response, so a half-open circuit lets the next trial through
+     */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        log.info("Kafka Connect circuit for {} moved from {} to {}", clusterName, previous, target);
+        transitionListener.accept(previous, target);
+    }
+}
@@ -0,0 +1,123 @@
+package com.dbsync.connector.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight read cache for Kafka Connect GET requests
+ * Concurrent reads of the same resource share one HTTP call, and the result
+ * is kept for a short TTL unless a write to the resource invalidates it
+ *
+ * @author DB Sync Platform
+ */
+public class ConnectReadCache {
+
+    private static final String LIST_PREFIX = "list/";
+
+    private final long ttlMs;
+    private final MeterRegistry meterRegistry;
+    private final String clusterName;
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ConnectReadCache(long ttlMs, MeterRegistry meterRegistry, String clusterName) {
+        this.ttlMs = ttlMs;
+        this.meterRegistry = meterRegistry;
+        this.clusterName = clusterName;
+    }
+
+    /**
+     * Get a cached value, joining an in-flight load or starting a new one
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        CacheEntry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            record("hit");
+            return (T) entry.value;
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            record("coalesced");
+            return (T) join(existing);
+        }
+
+        record("miss");
+        long loadGeneration = generation.get();
+        try {
+            T value = loader.get();
+            // Skip caching when a write invalidated the resource while loading
+            if (ttlMs > 0 && generation.get() == loadGeneration) {
+                entries.put(key, new CacheEntry(value, System.currentTimeMillis() + ttlMs));
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Invalidate every cached read of a connector, including cluster-wide listings
+     */
+    public void invalidateConnector(String connectorName) {
+        generation.incrementAndGet();
+        String suffix = ":" + connectorName;
+        entries.keySet().removeIf(key -> key.endsWith(suffix) || key.startsWith(LIST_PREFIX));
+        // Later readers must not join a load that started before the write
+        inFlight.keySet().removeIf(key -> key.endsWith(suffix) || key.startsWith(LIST_PREFIX));
+    }
+
+    /**
+     * Key for a per-connector resource
+     */
+    public static String connectorKey(String resource, String connectorName) {
+        return resource + ":" + connectorName;
+    }
+
+    /**
+     * Key for a cluster-wide listing
+     */
+    public static String listKey(String resource) {
+        return LIST_PREFIX + resource;
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("dbsync.connect.cache.requests", "cluster", clusterName, "result", result).increment();
+    }
+
+    private static final class CacheEntry {
+        private final Object value;
+        private final long expiresAt;
+
+        private CacheEntry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
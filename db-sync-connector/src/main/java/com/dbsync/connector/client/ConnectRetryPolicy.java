@@ -0,0 +1,111 @@
+package com.dbsync.connector.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.net.ConnectException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for a class of Kafka Connect REST operations
+ *
+ * @author DB Sync Platform
+ */
+public class ConnectRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long rebalanceBackoffMs;
+    private final boolean retryServerErrors;
+    private final boolean retryIoErrors;
+
+    public ConnectRetryPolicy(
+            int maxAttempts,
+            long initialBackoffMs,
+            long maxBackoffMs,
+            long rebalanceBackoffMs,
+            boolean retryServerErrors,
+            boolean retryIoErrors) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.rebalanceBackoffMs = rebalanceBackoffMs;
+        this.retryServerErrors = retryServerErrors;
+        this.retryIoErrors = retryIoErrors;
+    }
+
+    /**
+     * Policy for operations that are safe to repeat (reads, config PUT, pause/resume, restart, delete)
+     */
+    public static ConnectRetryPolicy idempotent(int maxAttempts, long initialBackoffMs,
+                                                long maxBackoffMs, long rebalanceBackoffMs) {
+        return new ConnectRetryPolicy(maxAttempts, initialBackoffMs, maxBackoffMs, rebalanceBackoffMs, true, true);
+    }
+
+    /**
+     * Policy for connector creation: only repeated when the request provably did not apply
+     */
+    public static ConnectRetryPolicy create(int maxAttempts, long initialBackoffMs,
+                                            long maxBackoffMs, long rebalanceBackoffMs) {
+        return new ConnectRetryPolicy(maxAttempts, initialBackoffMs, maxBackoffMs, rebalanceBackoffMs, false, false);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Check whether the failure may be retried under this policy
+     */
+    public boolean isRetryable(RestClientException e) {
+        if (isRebalanceConflict(e)) {
+            return true;
+        }
+        if (e instanceof HttpServerErrorException) {
+            return retryServerErrors;
+        }
+        if (e instanceof ResourceAccessException) {
+            // A refused connection never reached the worker, so even creation may be repeated
+            return retryIoErrors || e.getCause() instanceof ConnectException;
+        }
+        return false;
+    }
+
+    /**
+     * Backoff before the given retry (1-based) using full jitter
+     */
+    public long backoffMillis(int retry, RestClientException cause) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs * (1L << Math.min(retry - 1, 20)));
+        long jittered = ThreadLocalRandom.current().nextLong(ceiling + 1);
+
+        // Rebalances take seconds to settle; retrying sooner only adds to the herd
+        if (isRebalanceConflict(cause)) {
+            return Math.max(jittered, rebalanceBackoffMs + ThreadLocalRandom.current().nextLong(rebalanceBackoffMs + 1));
+        }
+        return jittered;
+    }
+
+    /**
+     * Check whether the failure is a 409 caused by an ongoing worker rebalance
+     */
+    public static boolean isRebalanceConflict(RestClientException e) {
+        if (!(e instanceof HttpClientErrorException clientError)
+                || clientError.getStatusCode().value() != HttpStatus.CONFLICT.value()) {
+            return false;
+        }
+        // "Connector X already exists" is also reported as 409 but is not transient
+        String body = clientError.getResponseBodyAsString();
+        return body == null || !body.contains("already exists");
+    }
+
+    /**
+     * Check whether the failure indicates an unhealthy cluster rather than a bad request
+     */
+    public static boolean isClusterFailure(RestClientException e) {
+        return e instanceof HttpServerErrorException || e instanceof ResourceAccessException;
+    }
+}
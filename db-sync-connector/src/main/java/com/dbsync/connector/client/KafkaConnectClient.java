@@ -1,19 +1,26 @@
 package com.dbsync.connector.client;
 
+import com.dbsync.common.constants.ErrorCodes;
 import com.dbsync.common.exceptions.BusinessException;
 import com.dbsync.common.utils.JsonUtil;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Kafka Connect REST API Client
@@ -26,12 +33,50 @@ public class KafkaConnectClient {
 
     private final RestTemplate restTemplate;
     private final String kafkaConnectUrl;
+    private final MeterRegistry meterRegistry;
+    private final ConnectCircuitBreaker circuitBreaker;
+    private final ConnectReadCache readCache;
+    private final Map<Operation, ConnectRetryPolicy> retryPolicies = new EnumMap<>(Operation.class);
 
     public KafkaConnectClient(
             RestTemplate restTemplate,
-            @Value("${kafka.connect.url:http://localhost:8083}") String kafkaConnectUrl) {
+            MeterRegistry meterRegistry,
+            @Value("${kafka.connect.url:http://localhost:8083}") String kafkaConnectUrl,
+            @Value("${kafka.connect.retry.max-attempts:4}") int maxAttempts,
+            @Value("${kafka.connect.retry.initial-backoff-ms:200}") long initialBackoffMs,
+            @Value("${kafka.connect.retry.max-backoff-ms:5000}") long maxBackoffMs,
+            @Value("${kafka.connect.retry.rebalance-backoff-ms:1000}") long rebalanceBackoffMs,
+            @Value("${kafka.connect.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${kafka.connect.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${kafka.connect.cache.ttl-ms:2000}") long cacheTtlMs) {
         this.restTemplate = restTemplate;
         this.kafkaConnectUrl = kafkaConnectUrl;
+        this.meterRegistry = meterRegistry;
+        this.readCache = new ConnectReadCache(cacheTtlMs, meterRegistry, kafkaConnectUrl);
+
+        // Register retry policies per operation type
+        ConnectRetryPolicy idempotent = ConnectRetryPolicy.idempotent(
+                maxAttempts, initialBackoffMs, maxBackoffMs, rebalanceBackoffMs);
+        retryPolicies.put(Operation.READ, idempotent);
+        retryPolicies.put(Operation.UPDATE, idempotent);
+        retryPolicies.put(Operation.DELETE, idempotent);
+        retryPolicies.put(Operation.LIFECYCLE, idempotent);
+        retryPolicies.put(Operation.VALIDATE, idempotent);
+        retryPolicies.put(Operation.CREATE, ConnectRetryPolicy.create(
+                maxAttempts, initialBackoffMs, maxBackoffMs, rebalanceBackoffMs));
+
+        this.circuitBreaker = new ConnectCircuitBreaker(
+                kafkaConnectUrl, failureThreshold, openDurationMs, System::currentTimeMillis,
+                (from, to) -> meterRegistry.counter("dbsync.connect.circuit.transitions",
+                        "cluster", kafkaConnectUrl, "from", from.name(), "to", to.name()).increment());
+
+        for (ConnectCircuitBreaker.State state : ConnectCircuitBreaker.State.values()) {
+            Gauge.builder("dbsync.connect.circuit.state", circuitBreaker,
+                            breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("cluster", kafkaConnectUrl)
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
     }
 
     /**
@@ -52,7 +97,8 @@ public class KafkaConnectClient {
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
+            ResponseEntity<String> response = execute(Operation.CREATE,
+                    () -> restTemplate.postForEntity(url, request, String.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return parseConnectorInfo(response.getBody());
@@ -67,6 +113,8 @@ public class KafkaConnectClient {
         } catch (RestClientException e) {
             log.error("Failed to connect to Kafka Connect: {}", e.getMessage());
             throw new BusinessException("Failed to connect to Kafka Connect: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
         }
     }
 
@@ -74,12 +122,23 @@ public class KafkaConnectClient {
      * Get connector information
      */
     public ConnectorInfo getConnectorInfo(String connectorName) {
+        // Cached responses are shared, callers get their own copy to modify
+        ConnectorInfo info = readCache.get(ConnectReadCache.connectorKey("info", connectorName),
+                () -> fetchConnectorInfo(connectorName));
+        return info != null ? info.copy() : null;
+    }
+
+    /**
+     * Fetch connector information from Kafka Connect
+     */
+    private ConnectorInfo fetchConnectorInfo(String connectorName) {
         log.debug("Getting connector info: {}", connectorName);
 
         String url = kafkaConnectUrl + "/connectors/" + connectorName;
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = execute(Operation.READ,
+                    () -> restTemplate.getForEntity(url, String.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return parseConnectorInfo(response.getBody());
@@ -100,12 +159,22 @@ public class KafkaConnectClient {
      * Get connector status
      */
     public ConnectorStatus getConnectorStatus(String connectorName) {
+        ConnectorStatus status = readCache.get(ConnectReadCache.connectorKey("status", connectorName),
+                () -> fetchConnectorStatus(connectorName));
+        return status != null ? status.copy() : null;
+    }
+
+    /**
+     * Fetch connector status from Kafka Connect
+     */
+    private ConnectorStatus fetchConnectorStatus(String connectorName) {
         log.debug("Getting connector status: {}", connectorName);
 
         String url = kafkaConnectUrl + "/connectors/" + connectorName + "/status";
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = execute(Operation.READ,
+                    () -> restTemplate.getForEntity(url, String.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return parseConnectorStatus(response.getBody());
@@ -122,6 +191,38 @@ public class KafkaConnectClient {
         }
     }
 
+    /**
+     * Get the source offsets a connector has committed (Kafka Connect 3.5+)
+     *
+     * @return the offset of each source partition, or null if the connector does not exist
+     */
+    public List<JsonNode> getConnectorOffsets(String connectorName) {
+        log.debug("Getting connector offsets: {}", connectorName);
+
+        String url = kafkaConnectUrl + "/connectors/" + connectorName + "/offsets";
+
+        try {
+            ResponseEntity<String> response = execute(Operation.READ,
+                    () -> restTemplate.getForEntity(url, String.class));
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                List<JsonNode> offsets = new ArrayList<>();
+                JsonUtil.parseJson(response.getBody()).path("offsets")
+                        .forEach(entry -> offsets.add(entry.path("offset")));
+                return offsets;
+            }
+
+            throw new BusinessException("Failed to get connector offsets: " + connectorName);
+
+        } catch (HttpClientErrorException.NotFound e) {
+            log.warn("Connector not found: {}", connectorName);
+            return null;
+        } catch (RestClientException e) {
+            log.error("Failed to get connector offsets: {}", e.getMessage());
+            throw new BusinessException("Failed to get connector offsets: " + e.getMessage());
+        }
+    }
+
     /**
      * Update connector configuration
      */
@@ -135,8 +236,8 @@ public class KafkaConnectClient {
         HttpEntity<Map<String, String>> request = new HttpEntity<>(config, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.PUT, request, String.class);
+            ResponseEntity<String> response = execute(Operation.UPDATE,
+                    () -> restTemplate.exchange(url, HttpMethod.PUT, request, String.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return parseConnectorInfo(response.getBody());
@@ -147,6 +248,8 @@ public class KafkaConnectClient {
         } catch (RestClientException e) {
             log.error("Failed to update connector config: {}", e.getMessage());
             throw new BusinessException("Failed to update connector config: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
         }
     }
 
@@ -159,7 +262,10 @@ public class KafkaConnectClient {
         String url = kafkaConnectUrl + "/connectors/" + connectorName;
 
         try {
-            restTemplate.delete(url);
+            execute(Operation.DELETE, () -> {
+                restTemplate.delete(url);
+                return null;
+            });
             log.info("Connector deleted successfully: {}", connectorName);
 
         } catch (HttpClientErrorException.NotFound e) {
@@ -167,6 +273,8 @@ public class KafkaConnectClient {
         } catch (RestClientException e) {
             log.error("Failed to delete connector: {}", e.getMessage());
             throw new BusinessException("Failed to delete connector: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
         }
     }
 
@@ -179,12 +287,17 @@ public class KafkaConnectClient {
         String url = kafkaConnectUrl + "/connectors/" + connectorName + "/pause";
 
         try {
-            restTemplate.put(url, null);
+            execute(Operation.LIFECYCLE, () -> {
+                restTemplate.put(url, null);
+                return null;
+            });
             log.info("Connector paused successfully: {}", connectorName);
 
         } catch (RestClientException e) {
             log.error("Failed to pause connector: {}", e.getMessage());
             throw new BusinessException("Failed to pause connector: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
         }
     }
 
@@ -197,12 +310,17 @@ public class KafkaConnectClient {
         String url = kafkaConnectUrl + "/connectors/" + connectorName + "/resume";
 
         try {
-            restTemplate.put(url, null);
+            execute(Operation.LIFECYCLE, () -> {
+                restTemplate.put(url, null);
+                return null;
+            });
             log.info("Connector resumed successfully: {}", connectorName);
 
         } catch (RestClientException e) {
             log.error("Failed to resume connector: {}", e.getMessage());
             throw new BusinessException("Failed to resume connector: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
         }
     }
 
@@ -215,12 +333,36 @@ public class KafkaConnectClient {
         String url = kafkaConnectUrl + "/connectors/" + connectorName + "/restart";
 
         try {
-            restTemplate.postForEntity(url, null, String.class);
+            execute(Operation.LIFECYCLE, () -> restTemplate.postForEntity(url, null, String.class));
+            log.info("Connector restarted successfully: {}", connectorName);
+
+        } catch (RestClientException e) {
+            log.error("Failed to restart connector: {}", e.getMessage());
+            throw new BusinessException("Failed to restart connector: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
+        }
+    }
+
+    /**
+     * Restart connector together with its tasks
+     */
+    public void restartConnector(String connectorName, boolean includeTasks, boolean onlyFailed) {
+        log.info("Restarting connector: {} (includeTasks: {}, onlyFailed: {})",
+                connectorName, includeTasks, onlyFailed);
+
+        String url = kafkaConnectUrl + "/connectors/" + connectorName + "/restart"
+                + "?includeTasks=" + includeTasks + "&onlyFailed=" + onlyFailed;
+
+        try {
+            execute(Operation.LIFECYCLE, () -> restTemplate.postForEntity(url, null, String.class));
             log.info("Connector restarted successfully: {}", connectorName);
 
         } catch (RestClientException e) {
             log.error("Failed to restart connector: {}", e.getMessage());
             throw new BusinessException("Failed to restart connector: " + e.getMessage());
+        } finally {
+            readCache.invalidateConnector(connectorName);
         }
     }
 
@@ -228,12 +370,20 @@ public class KafkaConnectClient {
      * List all connectors
      */
     public List<String> listConnectors() {
+        return readCache.get(ConnectReadCache.listKey("connectors"), this::fetchConnectors);
+    }
+
+    /**
+     * Fetch connector names from Kafka Connect
+     */
+    private List<String> fetchConnectors() {
         log.debug("Listing all connectors");
 
         String url = kafkaConnectUrl + "/connectors";
 
         try {
-            ResponseEntity<String[]> response = restTemplate.getForEntity(url, String[].class);
+            ResponseEntity<String[]> response = execute(Operation.READ,
+                    () -> restTemplate.getForEntity(url, String[].class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return List.of(response.getBody());
@@ -247,6 +397,41 @@ public class KafkaConnectClient {
         }
     }
 
+    /**
+     * List status of all connectors in a single call
+     */
+    public Map<String, ConnectorStatus> listConnectorStatuses() {
+        Map<String, ConnectorStatus> statuses =
+                readCache.get(ConnectReadCache.listKey("statuses"), this::fetchConnectorStatuses);
+        Map<String, ConnectorStatus> copies = new LinkedHashMap<>();
+        statuses.forEach((name, status) -> copies.put(name, status.copy()));
+        return copies;
+    }
+
+    /**
+     * Fetch status of all connectors from Kafka Connect
+     */
+    private Map<String, ConnectorStatus> fetchConnectorStatuses() {
+        log.debug("Listing status of all connectors");
+
+        String url = kafkaConnectUrl + "/connectors?expand=status";
+
+        try {
+            ResponseEntity<String> response = execute(Operation.READ,
+                    () -> restTemplate.getForEntity(url, String.class));
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return parseConnectorStatuses(response.getBody());
+            }
+
+            return new LinkedHashMap<>();
+
+        } catch (RestClientException e) {
+            log.error("Failed to list connector statuses: {}", e.getMessage());
+            throw new BusinessException("Failed to list connector statuses: " + e.getMessage());
+        }
+    }
+
     /**
      * Validate connector configuration
      */
@@ -255,15 +440,16 @@ public class KafkaConnectClient {
 
         String url = kafkaConnectUrl + "/connector-plugins/" + connectorClass + "/config/validate";
 
-        Map<String, Object> requestBody = Map.of("connector.class", connectorClass);
-        requestBody.putAll(config);
+        Map<String, Object> requestBody = new LinkedHashMap<>(config);
+        requestBody.put("connector.class", connectorClass);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
+            ResponseEntity<String> response = execute(Operation.VALIDATE,
+                    () -> restTemplate.postForEntity(url, request, String.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return parseValidationResult(response.getBody());
@@ -277,6 +463,71 @@ public class KafkaConnectClient {
         }
     }
 
+    /**
+     * Execute a Kafka Connect call under the operation's retry policy and the cluster circuit breaker
+     */
+    private <T> T execute(Operation operation, Supplier<T> call) {
+        ConnectRetryPolicy policy = retryPolicies.get(operation);
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                recordRequest(operation, "rejected");
+                throw new BusinessException(ErrorCodes.SERVICE_UNAVAILABLE,
+                        "Kafka Connect is unavailable, circuit open for " + kafkaConnectUrl);
+            }
+
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess();
+                recordRequest(operation, "success");
+                return result;
+
+            } catch (RestClientException e) {
+                if (ConnectRetryPolicy.isClusterFailure(e)) {
+                    circuitBreaker.onFailure();
+                } else {
+                    // The worker answered, so the cluster itself is reachable
+                    circuitBreaker.onSuccess();
+                }
+
+                if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(e)) {
+                    recordRequest(operation, "failure");
+                    throw e;
+                }
+
+                long backoff = policy.backoffMillis(attempt, e);
+                String reason = ConnectRetryPolicy.isRebalanceConflict(e) ? "rebalance"
+                        : e instanceof ResourceAccessException ? "io_error" : "server_error";
+                meterRegistry.counter("dbsync.connect.retries",
+                        "cluster", kafkaConnectUrl, "operation", operation.name(), "reason", reason).increment();
+                log.warn("Kafka Connect {} call failed ({}), retrying in {} ms (attempt {}/{})",
+                        operation, reason, backoff, attempt, policy.getMaxAttempts());
+
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            } finally {
+                // A call that threw anything else must not hold the half-open trial forever
+                circuitBreaker.release();
+            }
+        }
+    }
+
+    private void recordRequest(Operation operation, String outcome) {
+        meterRegistry.counter("dbsync.connect.requests",
+                "cluster", kafkaConnectUrl, "operation", operation.name(), "outcome", outcome).increment();
+    }
+
+    /**
+     * Get circuit breaker state of the Kafka Connect cluster
+     */
+    public ConnectCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
     /**
      * Parse connector info from JSON response
      */
@@ -322,45 +573,73 @@ public class KafkaConnectClient {
      */
     private ConnectorStatus parseConnectorStatus(String json) {
         try {
-            JsonNode root = JsonUtil.parseJson(json);
+            return parseConnectorStatus(JsonUtil.parseJson(json));
 
-            ConnectorStatus status = new ConnectorStatus();
-            status.setName(root.get("name").asText());
+        } catch (Exception e) {
+            log.error("Failed to parse connector status: {}", e.getMessage());
+            throw new BusinessException("Failed to parse connector status: " + e.getMessage());
+        }
+    }
 
-            if (root.has("connector")) {
-                JsonNode connectorNode = root.get("connector");
-                status.setState(connectorNode.get("state").asText());
-                if (connectorNode.has("worker_id")) {
-                    status.setWorkerId(connectorNode.get("worker_id").asText());
-                }
-            }
+    /**
+     * Parse expanded connector statuses from JSON response
+     */
+    private Map<String, ConnectorStatus> parseConnectorStatuses(String json) {
+        try {
+            JsonNode root = JsonUtil.parseJson(json);
 
-            if (root.has("tasks")) {
-                JsonNode tasksNode = root.get("tasks");
-                List<TaskStatus> tasks = new ArrayList<>();
-                for (JsonNode taskNode : tasksNode) {
-                    TaskStatus task = new TaskStatus();
-                    task.setId(taskNode.get("id").asInt());
-                    task.setState(taskNode.get("state").asText());
-                    if (taskNode.has("worker_id")) {
-                        task.setWorkerId(taskNode.get("worker_id").asText());
-                    }
-                    if (taskNode.has("trace")) {
-                        task.setTrace(taskNode.get("trace").asText());
-                    }
-                    tasks.add(task);
+            Map<String, ConnectorStatus> statuses = new LinkedHashMap<>();
+            root.fields().forEachRemaining(entry -> {
+                JsonNode statusNode = entry.getValue().get("status");
+                if (statusNode != null) {
+                    statuses.put(entry.getKey(), parseConnectorStatus(statusNode));
                 }
-                status.setTasks(tasks);
-            }
+            });
 
-            return status;
+            return statuses;
 
         } catch (Exception e) {
-            log.error("Failed to parse connector status: {}", e.getMessage());
-            throw new BusinessException("Failed to parse connector status: " + e.getMessage());
+            log.error("Failed to parse connector statuses: {}", e.getMessage());
+            throw new BusinessException("Failed to parse connector statuses: " + e.getMessage());
         }
     }
 
+    /**
+     * Parse connector status from JSON node
+     */
+    private ConnectorStatus parseConnectorStatus(JsonNode root) {
+        ConnectorStatus status = new ConnectorStatus();
+        status.setName(root.get("name").asText());
+
+        if (root.has("connector")) {
+            JsonNode connectorNode = root.get("connector");
+            status.setState(connectorNode.get("state").asText());
+            if (connectorNode.has("worker_id")) {
+                status.setWorkerId(connectorNode.get("worker_id").asText());
+            }
+        }
+
+        if (root.has("tasks")) {
+            JsonNode tasksNode = root.get("tasks");
+            List<TaskStatus> tasks = new ArrayList<>();
+            for (JsonNode taskNode : tasksNode) {
+                TaskStatus task = new TaskStatus();
+                task.setId(taskNode.get("id").asInt());
+                task.setState(taskNode.get("state").asText());
+                if (taskNode.has("worker_id")) {
+                    task.setWorkerId(taskNode.get("worker_id").asText());
+                }
+                if (taskNode.has("trace")) {
+                    task.setTrace(taskNode.get("trace").asText());
+                }
+                tasks.add(task);
+            }
+            status.setTasks(tasks);
+        }
+
+        return status;
+    }
+
     /**
      * Parse validation result from JSON response
      */
@@ -376,8 +655,17 @@ public class KafkaConnectClient {
             result.setValid(errorCount == 0);
 
             if (root.has("configs")) {
-                // Parse validation details if needed
                 result.setDetails(root.get("configs").toString());
+                Map<String, List<String>> errors = new LinkedHashMap<>();
+                for (JsonNode entry : root.get("configs")) {
+                    JsonNode value = entry.path("value");
+                    List<String> messages = new ArrayList<>();
+                    value.path("errors").forEach(error -> messages.add(error.asText()));
+                    if (!messages.isEmpty()) {
+                        errors.put(value.path("name").asText(), messages);
+                    }
+                }
+                result.setErrors(errors);
             }
 
             return result;
@@ -388,6 +676,18 @@ public class KafkaConnectClient {
         }
     }
 
+    /**
+     * Kafka Connect operation types, each with its own retry policy
+     */
+    public enum Operation {
+        READ,
+        CREATE,
+        UPDATE,
+        DELETE,
+        LIFECYCLE,
+        VALIDATE
+    }
+
     // Inner classes for response objects
 
     public static class ConnectorInfo {
@@ -405,6 +705,15 @@ public class KafkaConnectClient {
         public void setConfig(Map<String, String> config) { this.config = config; }
         public List<TaskInfo> getTasks() { return tasks; }
         public void setTasks(List<TaskInfo> tasks) { this.tasks = tasks; }
+
+        ConnectorInfo copy() {
+            ConnectorInfo copy = new ConnectorInfo();
+            copy.name = name;
+            copy.type = type;
+            copy.config = config != null ? new LinkedHashMap<>(config) : null;
+            copy.tasks = tasks != null ? new ArrayList<>(tasks.stream().map(TaskInfo::copy).toList()) : null;
+            return copy;
+        }
     }
 
     public static class TaskInfo {
@@ -415,6 +724,13 @@ public class KafkaConnectClient {
         public void setConnector(String connector) { this.connector = connector; }
         public int getTask() { return task; }
         public void setTask(int task) { this.task = task; }
+
+        TaskInfo copy() {
+            TaskInfo copy = new TaskInfo();
+            copy.connector = connector;
+            copy.task = task;
+            return copy;
+        }
     }
 
     public static class ConnectorStatus {
@@ -431,6 +747,15 @@ public class KafkaConnectClient {
         public void setWorkerId(String workerId) { this.workerId = workerId; }
         public List<TaskStatus> getTasks() { return tasks; }
         public void setTasks(List<TaskStatus> tasks) { this.tasks = tasks; }
+
+        ConnectorStatus copy() {
+            ConnectorStatus copy = new ConnectorStatus();
+            copy.name = name;
+            copy.state = state;
+            copy.workerId = workerId;
+            copy.tasks = tasks != null ? new ArrayList<>(tasks.stream().map(TaskStatus::copy).toList()) : null;
+            return copy;
+        }
     }
 
     public static class TaskStatus {
@@ -447,6 +772,15 @@ public class KafkaConnectClient {
         public void setWorkerId(String workerId) { this.workerId = workerId; }
         public String getTrace() { return trace; }
         public void setTrace(String trace) { this.trace = trace; }
+
+        TaskStatus copy() {
+            TaskStatus copy = new TaskStatus();
+            copy.id = id;
+            copy.state = state;
+            copy.workerId = workerId;
+            copy.trace = trace;
+            return copy;
+        }
     }
 
     public static class ValidationResult {
@@ -454,6 +788,7 @@ public class KafkaConnectClient {
         private int errorCount;
         private boolean valid;
         private String details;
+        private Map<String, List<String>> errors = Map.of();
 
         public String getName() { return name; }
         public void setName(String name) { this.name = name; }
@@ -463,5 +798,7 @@ public class KafkaConnectClient {
         public void setValid(boolean valid) { this.valid = valid; }
         public String getDetails() { return details; }
         public void setDetails(String details) { this.details = details; }
+        public Map<String, List<String>> getErrors() { return errors; }
+        public void setErrors(Map<String, List<String>> errors) { this.errors = errors; }
     }
 }
@@ -1,16 +1,22 @@
 package com.dbsync.connector.manager;
 
+import com.dbsync.common.constants.ErrorCodes;
 import com.dbsync.common.enums.DatabaseType;
 import com.dbsync.common.enums.HealthStatus;
+import com.dbsync.common.enums.ThroughputProfile;
 import com.dbsync.common.exceptions.BusinessException;
 import com.dbsync.connector.builder.ConnectorBuilder;
 import com.dbsync.connector.builder.MySQLConnectorBuilder;
 import com.dbsync.connector.client.KafkaConnectClient;
+import com.dbsync.connector.topic.TopicProvisioner;
 import com.dbsync.core.domain.entity.SyncTask;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -24,12 +30,15 @@ import java.util.Map;
 public class ConnectorManager {
 
     private final KafkaConnectClient connectClient;
+    private final TopicProvisioner topicProvisioner;
     private final Map<DatabaseType, ConnectorBuilder> connectorBuilders;
 
     public ConnectorManager(
-            KafkaConnectClient connectClient,
+            @Lazy KafkaConnectClient connectClient,
+            TopicProvisioner topicProvisioner,
             MySQLConnectorBuilder mysqlConnectorBuilder) {
         this.connectClient = connectClient;
+        this.topicProvisioner = topicProvisioner;
 
         // Register connector builders
         this.connectorBuilders = new HashMap<>();
@@ -54,10 +63,14 @@ public class ConnectorManager {
 
             // Build connector configuration
             Map<String, String> config = builder.buildConfig(task);
+            validateProducerOverrides(builder, config);
 
             // Generate unique connector name
             String connectorName = generateConnectorName(task);
 
+            // Pre-create CDC topics sized for the captured tables; the caller persists the plan
+            task.setTopicPlan(topicProvisioner.provision(task, config));
+
             // Create connector via Kafka Connect REST API
             KafkaConnectClient.ConnectorInfo connectorInfo =
                     connectClient.createConnector(connectorName, config);
@@ -187,6 +200,7 @@ public class ConnectorManager {
 
             // Build new connector configuration
             Map<String, String> config = builder.buildConfig(task);
+            validateProducerOverrides(builder, config);
 
             // Update connector via Kafka Connect REST API
             connectClient.updateConnectorConfig(connectorName, config);
@@ -200,6 +214,26 @@ public class ConnectorManager {
         }
     }
 
+    /**
+     * Reject producer overrides that the Connect worker's connector.client.config.override.policy
+     * does not allow; Connect reports them as errors on the override keys when validating
+     */
+    private void validateProducerOverrides(ConnectorBuilder builder, Map<String, String> config) {
+        if (config.keySet().stream().noneMatch(key -> key.startsWith(ThroughputProfile.PRODUCER_OVERRIDE_PREFIX))) {
+            return;
+        }
+        KafkaConnectClient.ValidationResult result =
+                connectClient.validateConnectorConfig(builder.getConnectorClass(), config);
+        List<String> rejected = result.getErrors().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(ThroughputProfile.PRODUCER_OVERRIDE_PREFIX))
+                .map(entry -> entry.getKey() + ": " + String.join("; ", entry.getValue()))
+                .toList();
+        if (!rejected.isEmpty()) {
+            throw new BusinessException(ErrorCodes.PARAM_VALIDATION_FAILED,
+                    "Kafka Connect worker rejects producer overrides: " + String.join(", ", rejected));
+        }
+    }
+
     /**
      * Check if connector exists
      */
@@ -213,6 +247,17 @@ public class ConnectorManager {
         }
     }
 
+    /**
+     * Whether the connector has finished its initial snapshot. Debezium marks the source offsets it
+     * commits with snapshot=true until the snapshot is complete; a connector that has committed
+     * no offsets yet has not finished either.
+     */
+    public boolean isSnapshotCompleted(String connectorName) {
+        List<JsonNode> offsets = connectClient.getConnectorOffsets(connectorName);
+        return offsets != null && !offsets.isEmpty()
+                && offsets.stream().noneMatch(offset -> offset.path("snapshot").asBoolean(false));
+    }
+
     /**
      * Get connector builder for database type
      */
@@ -0,0 +1,233 @@
+package com.dbsync.connector.monitor;
+
+import com.dbsync.connector.client.KafkaConnectClient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rebalance advisor
+ * Detects hot Kafka Connect workers and restarts selected connectors so that
+ * their tasks are handed out again by the cluster's assignor
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class RebalanceAdvisor {
+
+    private final KafkaConnectClient connectClient;
+    private final WorkerLoadMonitor workerLoadMonitor;
+    private final double skewThreshold;
+    private final int maxRestartsPerRun;
+    private final long cooldownMs;
+
+    private final Map<String, Long> lastRestartTimes = new ConcurrentHashMap<>();
+
+    public RebalanceAdvisor(
+            @Lazy KafkaConnectClient connectClient,
+            WorkerLoadMonitor workerLoadMonitor,
+            @Value("${kafka.connect.rebalance.skew-threshold:0.25}") double skewThreshold,
+            @Value("${kafka.connect.rebalance.max-restarts-per-run:3}") int maxRestartsPerRun,
+            @Value("${kafka.connect.rebalance.cooldown-ms:900000}") long cooldownMs) {
+        this.connectClient = connectClient;
+        this.workerLoadMonitor = workerLoadMonitor;
+        this.skewThreshold = skewThreshold;
+        this.maxRestartsPerRun = maxRestartsPerRun;
+        this.cooldownMs = cooldownMs;
+    }
+
+    /**
+     * Build a rebalance plan from the current connector placement
+     */
+    public RebalancePlan advise(Map<String, Double> connectorThroughput) {
+        Map<String, KafkaConnectClient.ConnectorStatus> statuses = connectClient.listConnectorStatuses();
+        return advise(statuses, connectorThroughput);
+    }
+
+    /**
+     * Build a rebalance plan and restart the recommended connectors
+     *
+     * @param connectorThroughput records per second by connector name, where available
+     * @param dryRun              only compute the plan when true
+     */
+    public RebalancePlan rebalance(Map<String, Double> connectorThroughput, boolean dryRun) {
+        RebalancePlan plan = advise(connectorThroughput);
+
+        if (dryRun || plan.getRecommendations().isEmpty()) {
+            return plan;
+        }
+
+        for (Recommendation recommendation : plan.getRecommendations()) {
+            try {
+                connectClient.restartConnector(recommendation.getConnectorName(), true, false);
+                lastRestartTimes.put(recommendation.getConnectorName(), System.currentTimeMillis());
+                recommendation.applied = true;
+            } catch (Exception e) {
+                log.warn("Failed to restart connector {} for rebalance: {}",
+                        recommendation.getConnectorName(), e.getMessage());
+            }
+        }
+
+        log.info("Rebalance applied: {} hot workers, {} connectors restarted",
+                plan.getHotWorkers().size(),
+                plan.getRecommendations().stream().filter(Recommendation::isApplied).count());
+        return plan;
+    }
+
+    /**
+     * Build a rebalance plan from the given connector statuses
+     */
+    RebalancePlan advise(
+            Map<String, KafkaConnectClient.ConnectorStatus> statuses,
+            Map<String, Double> connectorThroughput) {
+
+        List<WorkerLoadMonitor.WorkerLoad> loads = workerLoadMonitor.aggregate(statuses, connectorThroughput);
+
+        // Throughput is only comparable when every worker reports it
+        boolean byThroughput = !loads.isEmpty()
+                && loads.stream().allMatch(load -> load.getRecordsPerSecond() != null);
+
+        if (loads.size() < 2) {
+            return new RebalancePlan(byThroughput, 0.0, loads, Collections.emptyList(), Collections.emptyList());
+        }
+
+        double mean = loads.stream().mapToDouble(load -> loadOf(load, byThroughput)).average().orElse(0.0);
+
+        List<WorkerLoadMonitor.WorkerLoad> hotWorkers = new ArrayList<>();
+        for (WorkerLoadMonitor.WorkerLoad load : loads) {
+            double value = loadOf(load, byThroughput);
+            boolean skewed = value > mean * (1 + skewThreshold);
+            // With task counts, a worker one task above the mean is as balanced as it gets
+            boolean significant = byThroughput || value - mean >= 1.0;
+            if (skewed && significant) {
+                hotWorkers.add(load);
+            }
+        }
+        hotWorkers.sort(Comparator.comparingDouble(
+                (WorkerLoadMonitor.WorkerLoad load) -> loadOf(load, byThroughput)).reversed());
+
+        List<Recommendation> recommendations = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (WorkerLoadMonitor.WorkerLoad hot : hotWorkers) {
+            double excess = loadOf(hot, byThroughput) - mean;
+
+            List<Recommendation> candidates = new ArrayList<>();
+            for (String connectorName : hot.getConnectors()) {
+                if (isCoolingDown(connectorName, now) || isRecommended(recommendations, connectorName)) {
+                    continue;
+                }
+                double contribution = contributionOf(
+                        statuses.get(connectorName), hot.getWorkerId(),
+                        connectorThroughput.get(connectorName), byThroughput);
+                if (contribution > 0) {
+                    candidates.add(new Recommendation(connectorName, hot.getWorkerId(), contribution));
+                }
+            }
+
+            // Move the largest connectors that still fit into the excess first
+            candidates.sort(Comparator.comparingDouble(Recommendation::getLoad).reversed());
+            for (Recommendation candidate : candidates) {
+                if (excess <= 0 || recommendations.size() >= maxRestartsPerRun) {
+                    break;
+                }
+                if (candidate.getLoad() <= excess) {
+                    recommendations.add(candidate);
+                    excess -= candidate.getLoad();
+                }
+            }
+        }
+
+        List<String> hotWorkerIds = hotWorkers.stream().map(WorkerLoadMonitor.WorkerLoad::getWorkerId).toList();
+        if (!hotWorkerIds.isEmpty()) {
+            log.info("Detected hot workers {} (mean load {}), recommending {} connector restarts",
+                    hotWorkerIds, String.format("%.2f", mean), recommendations.size());
+        }
+
+        return new RebalancePlan(byThroughput, mean, loads, hotWorkerIds, recommendations);
+    }
+
+    private double loadOf(WorkerLoadMonitor.WorkerLoad load, boolean byThroughput) {
+        return byThroughput ? load.getRecordsPerSecond() : load.getTaskCount();
+    }
+
+    /**
+     * Load a connector puts on the given worker
+     */
+    private double contributionOf(
+            KafkaConnectClient.ConnectorStatus status, String workerId,
+            Double connectorRate, boolean byThroughput) {
+
+        if (status == null || status.getTasks() == null || status.getTasks().isEmpty()) {
+            return 0.0;
+        }
+
+        long tasksOnWorker = status.getTasks().stream()
+                .filter(task -> workerId.equals(task.getWorkerId()))
+                .count();
+
+        if (byThroughput) {
+            return connectorRate == null ? 0.0 : connectorRate * tasksOnWorker / status.getTasks().size();
+        }
+        return tasksOnWorker;
+    }
+
+    private boolean isCoolingDown(String connectorName, long now) {
+        Long lastRestart = lastRestartTimes.get(connectorName);
+        return lastRestart != null && now - lastRestart < cooldownMs;
+    }
+
+    private boolean isRecommended(List<Recommendation> recommendations, String connectorName) {
+        return recommendations.stream().anyMatch(r -> r.getConnectorName().equals(connectorName));
+    }
+
+    /**
+     * Rebalance plan
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RebalancePlan {
+        private final boolean byThroughput;
+        private final double meanLoad;
+        private final List<WorkerLoadMonitor.WorkerLoad> workerLoads;
+        private final List<String> hotWorkers;
+        private final List<Recommendation> recommendations;
+
+        /**
+         * Recommended restarts grouped by the hot worker they relieve
+         */
+        public Map<String, List<String>> getRestartsByWorker() {
+            Map<String, List<String>> result = new HashMap<>();
+            for (Recommendation recommendation : recommendations) {
+                result.computeIfAbsent(recommendation.getWorkerId(), k -> new ArrayList<>())
+                        .add(recommendation.getConnectorName());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Recommended connector restart
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Recommendation {
+        private final String connectorName;
+        private final String workerId;
+        private final double load;
+        private boolean applied;
+    }
+}
@@ -0,0 +1,123 @@
+package com.dbsync.connector.monitor;
+
+import com.dbsync.connector.client.KafkaConnectClient;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Worker load monitor
+ * Aggregates connector and task placement per Kafka Connect worker
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class WorkerLoadMonitor {
+
+    private final KafkaConnectClient connectClient;
+
+    public WorkerLoadMonitor(@Lazy KafkaConnectClient connectClient) {
+        this.connectClient = connectClient;
+    }
+
+    /**
+     * Get per-worker load without throughput information
+     */
+    public List<WorkerLoad> getWorkerLoads() {
+        return getWorkerLoads(Collections.emptyMap());
+    }
+
+    /**
+     * Get per-worker load
+     *
+     * @param connectorThroughput records per second by connector name, where available
+     * @return worker loads ordered by task count, busiest first
+     */
+    public List<WorkerLoad> getWorkerLoads(Map<String, Double> connectorThroughput) {
+        Map<String, KafkaConnectClient.ConnectorStatus> statuses = connectClient.listConnectorStatuses();
+        return aggregate(statuses, connectorThroughput);
+    }
+
+    /**
+     * Aggregate connector statuses into per-worker load
+     */
+    List<WorkerLoad> aggregate(
+            Map<String, KafkaConnectClient.ConnectorStatus> statuses,
+            Map<String, Double> connectorThroughput) {
+
+        Map<String, WorkerLoad> loads = new TreeMap<>();
+
+        for (Map.Entry<String, KafkaConnectClient.ConnectorStatus> entry : statuses.entrySet()) {
+            String connectorName = entry.getKey();
+            KafkaConnectClient.ConnectorStatus status = entry.getValue();
+
+            if (status.getWorkerId() != null) {
+                loads.computeIfAbsent(status.getWorkerId(), WorkerLoad::new).connectorCount++;
+            }
+
+            List<KafkaConnectClient.TaskStatus> tasks = status.getTasks();
+            if (tasks == null || tasks.isEmpty()) {
+                continue;
+            }
+
+            // Connector throughput is spread evenly across its tasks
+            Double connectorRate = connectorThroughput.get(connectorName);
+            Double taskRate = connectorRate != null ? connectorRate / tasks.size() : null;
+
+            for (KafkaConnectClient.TaskStatus task : tasks) {
+                if (task.getWorkerId() == null) {
+                    continue;
+                }
+
+                WorkerLoad load = loads.computeIfAbsent(task.getWorkerId(), WorkerLoad::new);
+                load.taskCount++;
+                load.connectors.add(connectorName);
+
+                if ("RUNNING".equalsIgnoreCase(task.getState())) {
+                    load.runningTaskCount++;
+                } else if ("FAILED".equalsIgnoreCase(task.getState())) {
+                    load.failedTaskCount++;
+                }
+
+                if (taskRate != null) {
+                    load.recordsPerSecond = (load.recordsPerSecond == null ? 0.0 : load.recordsPerSecond) + taskRate;
+                }
+            }
+        }
+
+        List<WorkerLoad> result = new ArrayList<>(loads.values());
+        result.sort(Comparator.comparingInt(WorkerLoad::getTaskCount).reversed());
+
+        log.debug("Aggregated load for {} workers", result.size());
+        return result;
+    }
+
+    /**
+     * Load of a single Kafka Connect worker
+     */
+    @Getter
+    public static class WorkerLoad {
+        private final String workerId;
+        private int connectorCount;
+        private int taskCount;
+        private int runningTaskCount;
+        private int failedTaskCount;
+        private Double recordsPerSecond;
+        private final Set<String> connectors = new LinkedHashSet<>();
+
+        public WorkerLoad(String workerId) {
+            this.workerId = workerId;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.dbsync.connector.repair;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Reads the primary keys of change events a table's CDC topic received since given offsets.
+ * Only keys are decoded; nothing is committed, the caller stores the returned offsets.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class CdcKeyScanner {
+
+    private final String bootstrapServers;
+    private final long scanTimeoutMs;
+
+    public CdcKeyScanner(
+            @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+            @Value("${app.repair.cdc-scan-timeout-ms:600000}") long scanTimeoutMs) {
+        this.bootstrapServers = bootstrapServers;
+        this.scanTimeoutMs = scanTimeoutMs;
+    }
+
+    /**
+     * Current end offsets of a topic, keyed by partition; empty if the topic does not exist
+     */
+    public Map<Integer, Long> endOffsets(String topic) {
+        try (KafkaConsumer<String, byte[]> consumer = createConsumer()) {
+            Map<Integer, Long> offsets = new HashMap<>();
+            List<TopicPartition> partitions = partitions(consumer, topic);
+            consumer.endOffsets(partitions).forEach((tp, offset) -> offsets.put(tp.partition(), offset));
+            return offsets;
+        }
+    }
+
+    /**
+     * Pass every key changed in [fromOffsets, toOffsets) to the consumer.
+     *
+     * @return false if some changes can no longer be read (retention passed, or a
+     * partition without a start offset), in which case the caller must rehash everything
+     */
+    public boolean scan(String topic, String keyField, Map<Integer, Long> fromOffsets,
+                        Map<Integer, Long> toOffsets, Consumer<BigInteger> changedKeys) {
+        try (KafkaConsumer<String, byte[]> consumer = createConsumer()) {
+            List<TopicPartition> partitions = partitions(consumer, topic).stream()
+                    .filter(tp -> toOffsets.containsKey(tp.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+            Map<TopicPartition, Long> remaining = new HashMap<>();
+            for (TopicPartition tp : partitions) {
+                Long from = fromOffsets.get(tp.partition());
+                long to = toOffsets.get(tp.partition());
+                if (from == null ? to > beginning.get(tp) : from < beginning.get(tp)) {
+                    log.info("Changes of {} before offset {} are no longer available", tp, beginning.get(tp));
+                    return false;
+                }
+                long start = from != null ? from : to;
+                if (start < to) {
+                    consumer.seek(tp, start);
+                    remaining.put(tp, to);
+                }
+            }
+            consumer.pause(partitions.stream().filter(tp -> !remaining.containsKey(tp)).toList());
+
+            long deadline = System.currentTimeMillis() + scanTimeoutMs;
+            long scanned = 0;
+            while (!remaining.isEmpty()) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("CDC key scan of {} timed out after {} records", topic, scanned);
+                    return false;
+                }
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofSeconds(1))) {
+                    TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+                    Long end = remaining.get(tp);
+                    if (end == null || record.offset() >= end) {
+                        continue;
+                    }
+                    scanned++;
+                    BigInteger key = extractKey(record.key(), keyField);
+                    if (key != null) {
+                        changedKeys.accept(key);
+                    }
+                }
+                Iterator<Map.Entry<TopicPartition, Long>> it = remaining.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<TopicPartition, Long> entry = it.next();
+                    if (consumer.position(entry.getKey()) >= entry.getValue()) {
+                        consumer.pause(List.of(entry.getKey()));
+                        it.remove();
+                    }
+                }
+            }
+
+            log.debug("Scanned {} change events of {}", scanned, topic);
+            return true;
+        }
+    }
+
+    private List<TopicPartition> partitions(KafkaConsumer<String, byte[]> consumer, String topic) {
+        List<PartitionInfo> infos = consumer.partitionsFor(topic);
+        if (infos == null) {
+            return List.of();
+        }
+        return infos.stream().map(info -> new TopicPartition(topic, info.partition())).toList();
+    }
+
+    /**
+     * Read the key field from a JSON record key such as {"id": 42}
+     */
+    private BigInteger extractKey(String recordKey, String keyField) {
+        if (recordKey == null) {
+            return null;
+        }
+        JsonNode key = JsonUtil.parseJson(recordKey);
+        if (key == null) {
+            return null;
+        }
+        // Debezium wraps keys in {"schema", "payload"} when key schemas are enabled
+        if (key.has("payload")) {
+            key = key.get("payload");
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = key.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getKey().equalsIgnoreCase(keyField) && field.getValue().isIntegralNumber()) {
+                return field.getValue().bigIntegerValue();
+            }
+        }
+        return null;
+    }
+
+    private KafkaConsumer<String, byte[]> createConsumer() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "10000");
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, "1048576");
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, "200");
+        return new KafkaConsumer<>(props);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dbsync.connector.repair;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends Debezium incremental snapshot signals over the connector's Kafka signal channel,
+ * so selected source rows are re-read and re-emitted through the task's pipeline
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class SnapshotSignalSender {
+
+    private final String bootstrapServers;
+    private volatile KafkaProducer<String, String> producer;
+
+    public SnapshotSignalSender(@Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers) {
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    /**
+     * Signal topic of a task's connector, also set as its signal.kafka.topic. It is named after
+     * the topic prefix, since task codes are only unique within a tenant.
+     */
+    public static String signalTopic(SyncTask task) {
+        return TaskConfigs.topicPrefix(task) + "-signals";
+    }
+
+    /**
+     * Request an incremental snapshot of the rows of a data collection matching a filter
+     */
+    public void requestSnapshot(SyncTask task, String dataCollection, String filter) {
+        Map<String, Object> data = Map.of(
+                "type", "INCREMENTAL",
+                "data-collections", List.of(dataCollection),
+                "additional-conditions", List.of(Map.of(
+                        "data-collection", dataCollection,
+                        "filter", filter)));
+        String signal = JsonUtil.toJson(Map.of("type", "execute-snapshot", "data", data));
+
+        // Debezium only accepts signals keyed by the connector's topic.prefix
+        String key = TaskConfigs.topicPrefix(task);
+
+        try {
+            getProducer().send(new ProducerRecord<>(signalTopic(task), key, signal)).get(30, TimeUnit.SECONDS);
+            log.debug("Incremental snapshot signal sent for {}: {}", dataCollection, filter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.SYSTEM_ERROR, "Interrupted while sending snapshot signal");
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.SYSTEM_ERROR,
+                    "Failed to send snapshot signal for " + dataCollection + ": " + e.getMessage(), e);
+        }
+    }
+
+    private KafkaProducer<String, String> getProducer() {
+        if (producer == null) {
+            synchronized (this) {
+                if (producer == null) {
+                    Properties props = new Properties();
+                    props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+                    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+                    props.put(ProducerConfig.ACKS_CONFIG, "all");
+                    producer = new KafkaProducer<>(props);
+                }
+            }
+        }
+        return producer;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+}
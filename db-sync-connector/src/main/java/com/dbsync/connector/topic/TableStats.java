@@ -0,0 +1,12 @@
+package com.dbsync.connector.topic;
+
+/**
+ * Sampled size and write rate of a source table
+ *
+ * @param rows            estimated row count
+ * @param dataBytes       data size on disk
+ * @param writesPerSecond average rows written per second since the server started
+ * @author DB Sync Platform
+ */
+public record TableStats(String database, String table, long rows, long dataBytes, double writesPerSecond) {
+}
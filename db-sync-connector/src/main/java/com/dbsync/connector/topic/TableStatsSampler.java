@@ -0,0 +1,91 @@
+package com.dbsync.connector.topic;
+
+import com.dbsync.common.enums.DatabaseType;
+import com.dbsync.common.utils.TableFilter;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.verify.JdbcEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table Stats Sampler
+ * Reads size and write rate of the tables a task captures from the source's catalog.
+ * Write rates come from performance_schema row write counters averaged over the server
+ * uptime; without access to performance_schema they are reported as 0.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class TableStatsSampler {
+
+    private static final String TABLES_SQL =
+            "SELECT t.TABLE_SCHEMA, t.TABLE_NAME, COALESCE(t.TABLE_ROWS, 0), COALESCE(t.DATA_LENGTH, 0) "
+                    + "FROM information_schema.TABLES t WHERE t.TABLE_SCHEMA = ? AND t.TABLE_TYPE = 'BASE TABLE'";
+
+    private static final String WRITES_SQL =
+            "SELECT OBJECT_NAME, COUNT_WRITE FROM performance_schema.table_io_waits_summary_by_table "
+                    + "WHERE OBJECT_SCHEMA = ?";
+
+    /**
+     * Stats of the captured tables; empty if the source type is not supported
+     */
+    public List<TableStats> sample(SyncTask task) throws SQLException {
+        if (task.getSourceDbType() != DatabaseType.MYSQL) {
+            log.info("Table sampling is not supported for {} sources", task.getSourceDbType());
+            return List.of();
+        }
+        JdbcEndpoint source = JdbcEndpoint.fromConfig(task.getSourceDbType(), task.getSourceConnectionConfig());
+        TableFilter filter = TaskConfigs.connector(task).tableFilter();
+
+        try (Connection conn = DriverManager.getConnection(
+                source.getJdbcUrl(), source.getUsername(), source.getPassword())) {
+            Map<String, Double> writeRates = writeRates(conn, source.getDatabase());
+            List<TableStats> stats = new ArrayList<>();
+            try (PreparedStatement ps = conn.prepareStatement(TABLES_SQL)) {
+                ps.setString(1, source.getDatabase());
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        if (!filter.includes(rs.getString(1) + "." + rs.getString(2))) {
+                            continue;
+                        }
+                        stats.add(new TableStats(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4),
+                                writeRates.getOrDefault(rs.getString(2), 0.0)));
+                    }
+                }
+            }
+            return stats;
+        }
+    }
+
+    private Map<String, Double> writeRates(Connection conn, String database) {
+        Map<String, Double> rates = new HashMap<>();
+        try (Statement st = conn.createStatement();
+             ResultSet uptime = st.executeQuery("SHOW GLOBAL STATUS LIKE 'Uptime'")) {
+            long seconds = uptime.next() ? Math.max(1, uptime.getLong(2)) : 1;
+            try (PreparedStatement ps = conn.prepareStatement(WRITES_SQL)) {
+                ps.setString(1, database);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rates.put(rs.getString(1), rs.getLong(2) / (double) seconds);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Write rates of {} unavailable, sizing topics by table size only: {}", database, e.getMessage());
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,203 @@
+package com.dbsync.connector.topic;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.domain.entity.SyncTask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Topic Provisioner
+ * Creates a task's CDC topics before its connector starts, instead of leaving them to broker
+ * auto-creation. Each table topic gets enough partitions for the larger of its size and its
+ * write rate and a time retention. Table topics are never compacted: compaction would drop
+ * intermediate changes that transaction buffering counts against the source transaction
+ * metadata and that replays from older offsets rely on. Single-partition topics
+ * Debezium depends on (schema history, signals, transactions) get the settings it requires.
+ * Existing topics are left as they are and reported with their current partition count.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class TopicProvisioner {
+
+    private final TableStatsSampler sampler;
+    private final String bootstrapServers;
+    private final boolean enabled;
+    private final long bytesPerPartition;
+    private final double writesPerSecondPerPartition;
+    private final int maxPartitions;
+    private final short replicationFactor;
+    private final long retentionMs;
+    private final long timeoutMs;
+    private volatile AdminClient adminClient;
+
+    public TopicProvisioner(
+            TableStatsSampler sampler,
+            @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+            @Value("${app.topics.provisioning-enabled:true}") boolean enabled,
+            @Value("${app.topics.bytes-per-partition:10737418240}") long bytesPerPartition,
+            @Value("${app.topics.writes-per-second-per-partition:1000}") double writesPerSecondPerPartition,
+            @Value("${app.topics.max-partitions:32}") int maxPartitions,
+            @Value("${app.topics.replication-factor:-1}") short replicationFactor,
+            @Value("${app.topics.retention-ms:604800000}") long retentionMs,
+            @Value("${app.topics.admin-timeout-ms:30000}") long timeoutMs) {
+        this.sampler = sampler;
+        this.bootstrapServers = bootstrapServers;
+        this.enabled = enabled;
+        this.bytesPerPartition = bytesPerPartition;
+        this.writesPerSecondPerPartition = writesPerSecondPerPartition;
+        this.maxPartitions = maxPartitions;
+        this.replicationFactor = replicationFactor;
+        this.retentionMs = retentionMs;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Plan and create the topics of a task's connector
+     *
+     * @param connectorConfig the built connector configuration, for topic names
+     * @return the topic plan as JSON, or null if provisioning is disabled
+     */
+    public String provision(SyncTask task, Map<String, String> connectorConfig) {
+        if (!enabled) {
+            return null;
+        }
+        List<TableStats> stats;
+        try {
+            stats = sampler.sample(task);
+        } catch (Exception e) {
+            log.warn("Could not sample tables of task {}, planning single-partition topics: {}",
+                    task.getTaskCode(), e.getMessage());
+            stats = List.of();
+        }
+
+        List<TopicSpec> plan = plan(connectorConfig, stats);
+        try {
+            List<TopicSpec> provisioned = create(plan);
+            log.info("Provisioned {} topics for task {}", provisioned.size(), task.getTaskCode());
+            return JsonUtil.toJson(provisioned);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.CONNECTOR_CREATION_FAILED,
+                    "Failed to provision topics of task " + task.getTaskCode() + ": " + e.getMessage());
+        }
+    }
+
+    List<TopicSpec> plan(Map<String, String> connectorConfig, List<TableStats> stats) {
+        String prefix = connectorConfig.get("topic.prefix");
+        List<TopicSpec> plan = new ArrayList<>();
+        for (TableStats table : stats) {
+            plan.add(tableTopic(prefix + "." + table.database() + "." + table.table(), table));
+        }
+
+        Map<String, String> keepForever = Map.of("cleanup.policy", "delete",
+                "retention.ms", "-1", "retention.bytes", "-1");
+        String schemaHistory = connectorConfig.get("schema.history.internal.kafka.topic");
+        if (schemaHistory != null) {
+            plan.add(new TopicSpec(schemaHistory, 1, keepForever,
+                    "Debezium requires a single-partition, never-deleted schema history", TopicSpec.PLANNED));
+        }
+        String signals = connectorConfig.get("signal.kafka.topic");
+        if (signals != null) {
+            plan.add(new TopicSpec(signals, 1, retention("delete"),
+                    "Signals must be read in order", TopicSpec.PLANNED));
+        }
+        if ("true".equals(connectorConfig.get("provide.transaction.metadata"))) {
+            plan.add(new TopicSpec(prefix + ".transaction", 1, retention("delete"),
+                    "Transaction markers must be read in order", TopicSpec.PLANNED));
+        }
+        if ("true".equals(connectorConfig.get("include.schema.changes"))) {
+            plan.add(new TopicSpec(prefix, 1, retention("delete"),
+                    "Schema changes must be read in order", TopicSpec.PLANNED));
+        }
+        return plan;
+    }
+
+    private TopicSpec tableTopic(String topic, TableStats table) {
+        int bySize = (int) Math.min(Integer.MAX_VALUE, ceilDiv(table.dataBytes(), bytesPerPartition));
+        int byRate = (int) Math.ceil(table.writesPerSecond() / writesPerSecondPerPartition);
+        int partitions = Math.max(1, Math.min(maxPartitions, Math.max(bySize, byRate)));
+
+        Map<String, String> configs = retention("delete");
+        String reason = String.format("%d rows, %d bytes, %.1f writes/s", table.rows(), table.dataBytes(),
+                table.writesPerSecond());
+        return new TopicSpec(topic, partitions, configs, reason, TopicSpec.PLANNED);
+    }
+
+    private Map<String, String> retention(String cleanupPolicy) {
+        Map<String, String> configs = new LinkedHashMap<>();
+        configs.put("cleanup.policy", cleanupPolicy);
+        configs.put("retention.ms", String.valueOf(retentionMs));
+        return configs;
+    }
+
+    private List<TopicSpec> create(List<TopicSpec> plan) throws Exception {
+        AdminClient admin = getAdminClient();
+        Set<String> existing = admin.listTopics().names().get(timeoutMs, TimeUnit.MILLISECONDS);
+
+        List<NewTopic> missing = plan.stream()
+                .filter(spec -> !existing.contains(spec.topic()))
+                .map(spec -> new NewTopic(spec.topic(), Optional.of(spec.partitions()),
+                        replicationFactor > 0 ? Optional.of(replicationFactor) : Optional.empty())
+                        .configs(spec.configs()))
+                .toList();
+        if (!missing.isEmpty()) {
+            admin.createTopics(missing).all().get(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        List<String> kept = plan.stream().map(TopicSpec::topic).filter(existing::contains).toList();
+        Map<String, TopicDescription> descriptions = kept.isEmpty() ? Map.of()
+                : admin.describeTopics(kept).allTopicNames().get(timeoutMs, TimeUnit.MILLISECONDS);
+
+        List<TopicSpec> result = new ArrayList<>();
+        for (TopicSpec spec : plan) {
+            TopicDescription description = descriptions.get(spec.topic());
+            result.add(description == null
+                    ? spec.withState(TopicSpec.CREATED, spec.partitions())
+                    : spec.withState(TopicSpec.EXISTING, description.partitions().size()));
+        }
+        return result;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return divisor <= 0 ? 1 : (value + divisor - 1) / divisor;
+    }
+
+    private AdminClient getAdminClient() {
+        if (adminClient == null) {
+            synchronized (this) {
+                if (adminClient == null) {
+                    Properties props = new Properties();
+                    props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                    props.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, String.valueOf(timeoutMs));
+                    adminClient = AdminClient.create(props);
+                }
+            }
+        }
+        return adminClient;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+}
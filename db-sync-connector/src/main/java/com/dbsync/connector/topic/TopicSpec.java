@@ -0,0 +1,22 @@
+package com.dbsync.connector.topic;
+
+import java.util.Map;
+
+/**
+ * Planned (and after provisioning, actual) layout of one topic of a task
+ *
+ * @param partitions partition count; for topics that already existed, the count found
+ * @param reason     what the partition count was derived from
+ * @param state      PLANNED, CREATED or EXISTING
+ * @author DB Sync Platform
+ */
+public record TopicSpec(String topic, int partitions, Map<String, String> configs, String reason, String state) {
+
+    public static final String PLANNED = "PLANNED";
+    public static final String CREATED = "CREATED";
+    public static final String EXISTING = "EXISTING";
+
+    public TopicSpec withState(String state, int partitions) {
+        return new TopicSpec(topic, partitions, configs, reason, state);
+    }
+}
@@ -0,0 +1,122 @@
+package com.dbsync.connector.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ConnectCircuitBreaker and ConnectRetryPolicy
+ *
+ * @author DB Sync Platform
+ */
+class ConnectCircuitBreakerTest {
+
+    private AtomicLong clock;
+    private List<String> transitions;
+    private ConnectCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        transitions = new ArrayList<>();
+        circuitBreaker = new ConnectCircuitBreaker("http://connect:8083", 3, 1000L, clock::get,
+                (from, to) -> transitions.add(from + "->" + to));
+    }
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        // When
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(ConnectCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    void testHalfOpenAllowsSingleTrial() {
+        // Given
+        openCircuit();
+        clock.addAndGet(1000L);
+
+        // When & Then
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(ConnectCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(ConnectCircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void testFailedTrialReopens() {
+        // Given
+        openCircuit();
+        clock.addAndGet(1000L);
+        circuitBreaker.tryAcquire();
+
+        // When
+        circuitBreaker.onFailure();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(ConnectCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void testReleasedTrialLetsNextTrialThrough() {
+        // Given
+        openCircuit();
+        clock.addAndGet(1000L);
+        circuitBreaker.tryAcquire();
+
+        // When
+        circuitBreaker.release();
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(ConnectCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void testRetryPolicy_RebalanceConflict() {
+        // Given
+        ConnectRetryPolicy createPolicy = ConnectRetryPolicy.create(4, 100L, 1000L, 500L);
+        HttpClientErrorException rebalance = HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict",
+                null, "{\"message\":\"Cannot complete request because of a conflicting operation (e.g. worker rebalance)\"}"
+                        .getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        HttpClientErrorException exists = HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict",
+                null, "{\"message\":\"Connector a-connector already exists\"}"
+                        .getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        HttpServerErrorException serverError = HttpServerErrorException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR, "Error", null, null, null);
+
+        // Then
+        assertThat(createPolicy.isRetryable(rebalance)).isTrue();
+        assertThat(createPolicy.isRetryable(exists)).isFalse();
+        assertThat(createPolicy.isRetryable(serverError)).isFalse();
+        assertThat(createPolicy.backoffMillis(1, rebalance)).isBetween(500L, 1000L);
+        assertThat(ConnectRetryPolicy.idempotent(4, 100L, 1000L, 500L).isRetryable(serverError)).isTrue();
+    }
+
+    private void openCircuit() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+    }
+}
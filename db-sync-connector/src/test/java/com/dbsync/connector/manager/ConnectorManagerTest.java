@@ -4,9 +4,12 @@ import com.dbsync.common.enums.DatabaseType;
 import com.dbsync.common.enums.HealthStatus;
 import com.dbsync.common.enums.SyncMode;
 import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.enums.ThroughputProfile;
 import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
 import com.dbsync.connector.builder.MySQLConnectorBuilder;
 import com.dbsync.connector.client.KafkaConnectClient;
+import com.dbsync.connector.topic.TopicProvisioner;
 import com.dbsync.core.domain.entity.SyncTask;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,9 @@ class ConnectorManagerTest {
     @Mock
     private KafkaConnectClient connectClient;
 
+    @Mock
+    private TopicProvisioner topicProvisioner;
+
     @Mock
     private MySQLConnectorBuilder mysqlConnectorBuilder;
 
@@ -59,7 +65,7 @@ class ConnectorManagerTest {
         testTask.setSyncMode(SyncMode.FULL_INCREMENTAL);
         testTask.setStatus(TaskStatus.CREATED);
 
-        connectorManager = new ConnectorManager(connectClient, mysqlConnectorBuilder);
+        connectorManager = new ConnectorManager(connectClient, topicProvisioner, mysqlConnectorBuilder);
     }
 
     @Test
@@ -75,6 +81,7 @@ class ConnectorManagerTest {
         when(mysqlConnectorBuilder.validateConnection(testTask.getSourceConnectionConfig()))
                 .thenReturn(true);
         when(mysqlConnectorBuilder.buildConfig(testTask)).thenReturn(config);
+        when(topicProvisioner.provision(testTask, config)).thenReturn("[]");
         when(connectClient.createConnector(eq(connectorName), any())).thenReturn(connectorInfo);
 
         // When
@@ -82,6 +89,7 @@ class ConnectorManagerTest {
 
         // Then
         assertThat(result).isEqualTo(connectorName);
+        assertThat(testTask.getTopicPlan()).isEqualTo("[]");
         verify(mysqlConnectorBuilder).validateConnection(testTask.getSourceConnectionConfig());
         verify(mysqlConnectorBuilder).buildConfig(testTask);
         verify(connectClient).createConnector(eq(connectorName), any());
@@ -103,6 +111,28 @@ class ConnectorManagerTest {
         verify(connectClient, never()).createConnector(any(), any());
     }
 
+    @Test
+    void testCreateConnector_ProducerOverridesRejectedByWorker() {
+        // Given
+        Map<String, String> config = new HashMap<>(ThroughputProfile.BULK.producerOverrides());
+        KafkaConnectClient.ValidationResult validation = new KafkaConnectClient.ValidationResult();
+        validation.setErrors(Map.of("producer.override.linger.ms",
+                List.of("The 'None' policy does not allow 'linger.ms' to be overridden")));
+
+        when(mysqlConnectorBuilder.validateConnection(testTask.getSourceConnectionConfig()))
+                .thenReturn(true);
+        when(mysqlConnectorBuilder.buildConfig(testTask)).thenReturn(config);
+        when(mysqlConnectorBuilder.getConnectorClass()).thenReturn("io.debezium.connector.mysql.MySqlConnector");
+        when(connectClient.validateConnectorConfig(any(), eq(config))).thenReturn(validation);
+
+        // When & Then
+        assertThatThrownBy(() -> connectorManager.createConnector(testTask))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("producer.override.linger.ms");
+
+        verify(connectClient, never()).createConnector(any(), any());
+    }
+
     @Test
     void testCreateConnector_UnsupportedDatabaseType() {
         // Given
@@ -310,4 +340,28 @@ class ConnectorManagerTest {
         assertThat(exists).isFalse();
         verify(connectClient).getConnectorInfo(connectorName);
     }
+
+    @Test
+    void testIsSnapshotCompleted_FollowsSnapshotMarkerInOffsets() {
+        // Given: offsets committed while the snapshot ran, then after it
+        String connectorName = "test-sync-001-connector";
+        when(connectClient.getConnectorOffsets(connectorName)).thenReturn(
+                List.of(JsonUtil.parseJson("{\"file\":\"binlog.000003\",\"pos\":154,\"snapshot\":true}")),
+                List.of(JsonUtil.parseJson("{\"file\":\"binlog.000003\",\"pos\":154}")));
+
+        // When / Then
+        assertThat(connectorManager.isSnapshotCompleted(connectorName)).isFalse();
+        assertThat(connectorManager.isSnapshotCompleted(connectorName)).isTrue();
+    }
+
+    @Test
+    void testIsSnapshotCompleted_FalseWithoutCommittedOffsets() {
+        // Given
+        when(connectClient.getConnectorOffsets("fresh-connector")).thenReturn(List.of());
+        when(connectClient.getConnectorOffsets("missing-connector")).thenReturn(null);
+
+        // When / Then
+        assertThat(connectorManager.isSnapshotCompleted("fresh-connector")).isFalse();
+        assertThat(connectorManager.isSnapshotCompleted("missing-connector")).isFalse();
+    }
 }
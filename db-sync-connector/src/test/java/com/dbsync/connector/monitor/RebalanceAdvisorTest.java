@@ -0,0 +1,138 @@
+package com.dbsync.connector.monitor;
+
+import com.dbsync.connector.client.KafkaConnectClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RebalanceAdvisor
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+class RebalanceAdvisorTest {
+
+    @Mock
+    private KafkaConnectClient connectClient;
+
+    private RebalanceAdvisor rebalanceAdvisor;
+
+    @BeforeEach
+    void setUp() {
+        WorkerLoadMonitor workerLoadMonitor = new WorkerLoadMonitor(connectClient);
+        rebalanceAdvisor = new RebalanceAdvisor(connectClient, workerLoadMonitor, 0.25, 3, 900000L);
+    }
+
+    @Test
+    void testRebalance_HotWorkerDetected() {
+        // Given: worker-1 runs 4 tasks, worker-2 runs none after a rolling restart
+        Map<String, KafkaConnectClient.ConnectorStatus> statuses = new LinkedHashMap<>();
+        statuses.put("a-connector", status("a-connector", "worker-1", "worker-1", "worker-1"));
+        statuses.put("b-connector", status("b-connector", "worker-1", "worker-1", "worker-1"));
+        statuses.put("c-connector", status("c-connector", "worker-2"));
+
+        when(connectClient.listConnectorStatuses()).thenReturn(statuses);
+
+        // When
+        RebalanceAdvisor.RebalancePlan plan = rebalanceAdvisor.rebalance(Collections.emptyMap(), false);
+
+        // Then
+        assertThat(plan.isByThroughput()).isFalse();
+        assertThat(plan.getHotWorkers()).containsExactly("worker-1");
+        assertThat(plan.getRecommendations()).hasSize(1);
+        assertThat(plan.getRecommendations().get(0).isApplied()).isTrue();
+        verify(connectClient).restartConnector(anyString(), eq(true), eq(false));
+    }
+
+    @Test
+    void testRebalance_BalancedCluster() {
+        // Given
+        Map<String, KafkaConnectClient.ConnectorStatus> statuses = new LinkedHashMap<>();
+        statuses.put("a-connector", status("a-connector", "worker-1", "worker-1", "worker-2"));
+        statuses.put("b-connector", status("b-connector", "worker-2", "worker-1", "worker-2"));
+
+        when(connectClient.listConnectorStatuses()).thenReturn(statuses);
+
+        // When
+        RebalanceAdvisor.RebalancePlan plan = rebalanceAdvisor.rebalance(Collections.emptyMap(), false);
+
+        // Then
+        assertThat(plan.getHotWorkers()).isEmpty();
+        assertThat(plan.getRecommendations()).isEmpty();
+        verify(connectClient, never()).restartConnector(anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void testRebalance_ByThroughput() {
+        // Given: equal task counts but a-connector is much busier
+        Map<String, KafkaConnectClient.ConnectorStatus> statuses = new LinkedHashMap<>();
+        statuses.put("a-connector", status("a-connector", "worker-1", "worker-1"));
+        statuses.put("b-connector", status("b-connector", "worker-1", "worker-1"));
+        statuses.put("c-connector", status("c-connector", "worker-2", "worker-2"));
+
+        Map<String, Double> throughput = Map.of(
+                "a-connector", 5000.0,
+                "b-connector", 1000.0,
+                "c-connector", 1000.0);
+
+        when(connectClient.listConnectorStatuses()).thenReturn(statuses);
+
+        // When
+        RebalanceAdvisor.RebalancePlan plan = rebalanceAdvisor.rebalance(throughput, true);
+
+        // Then
+        assertThat(plan.isByThroughput()).isTrue();
+        assertThat(plan.getHotWorkers()).containsExactly("worker-1");
+        assertThat(plan.getRestartsByWorker()).containsEntry("worker-1", List.of("b-connector"));
+        verify(connectClient, never()).restartConnector(anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void testGetWorkerLoads_FailedTasksCounted() {
+        // Given
+        KafkaConnectClient.ConnectorStatus status = status("a-connector", "worker-1", "worker-1", "worker-2");
+        status.getTasks().get(0).setState("FAILED");
+
+        when(connectClient.listConnectorStatuses()).thenReturn(Map.of("a-connector", status));
+
+        // When
+        List<WorkerLoadMonitor.WorkerLoad> loads = new WorkerLoadMonitor(connectClient).getWorkerLoads();
+
+        // Then
+        assertThat(loads).hasSize(2);
+        WorkerLoadMonitor.WorkerLoad worker1 = loads.get(0);
+        assertThat(worker1.getWorkerId()).isEqualTo("worker-1");
+        assertThat(worker1.getConnectorCount()).isEqualTo(1);
+        assertThat(worker1.getTaskCount()).isEqualTo(1);
+        assertThat(worker1.getFailedTaskCount()).isEqualTo(1);
+        assertThat(worker1.getRecordsPerSecond()).isNull();
+    }
+
+    private KafkaConnectClient.ConnectorStatus status(String name, String connectorWorker, String... taskWorkers) {
+        KafkaConnectClient.ConnectorStatus status = new KafkaConnectClient.ConnectorStatus();
+        status.setName(name);
+        status.setState("RUNNING");
+        status.setWorkerId(connectorWorker);
+
+        List<KafkaConnectClient.TaskStatus> tasks = new ArrayList<>();
+        for (int i = 0; i < taskWorkers.length; i++) {
+            KafkaConnectClient.TaskStatus task = new KafkaConnectClient.TaskStatus();
+            task.setId(i);
+            task.setState("RUNNING");
+            task.setWorkerId(taskWorkers[i]);
+            tasks.add(task);
+        }
+        status.setTasks(tasks);
+        return status;
+    }
+}
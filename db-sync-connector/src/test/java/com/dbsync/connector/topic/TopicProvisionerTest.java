@@ -0,0 +1,63 @@
+package com.dbsync.connector.topic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * TopicProvisioner Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TopicProvisionerTest {
+
+    private static final long GB = 1L << 30;
+
+    private final TopicProvisioner provisioner =
+            new TopicProvisioner(null, "localhost:9092", true, 10 * GB, 1000, 32, (short) -1, 604800000L, 1000);
+
+    @Test
+    void testPlan_PartitionsFromSizeAndWriteRate() {
+        // Given
+        List<TableStats> stats = List.of(
+                new TableStats("shop", "orders", 50_000_000, 35 * GB, 800),
+                new TableStats("shop", "clicks", 1_000_000, GB, 5500),
+                new TableStats("shop", "audit_log", 10_000, GB / 10, 2),
+                new TableStats("shop", "events", 9_000_000_000L, 900 * GB, 20_000));
+
+        // When
+        List<TopicSpec> plan = provisioner.plan(Map.of("topic.prefix", "tenant"), stats);
+
+        // Then
+        assertThat(plan).extracting(TopicSpec::topic, TopicSpec::partitions, s -> s.configs().get("cleanup.policy"))
+                .containsExactly(
+                        tuple("tenant.shop.orders", 4, "delete"),
+                        tuple("tenant.shop.clicks", 6, "delete"),
+                        tuple("tenant.shop.audit_log", 1, "delete"),
+                        tuple("tenant.shop.events", 32, "delete"));
+    }
+
+    @Test
+    void testPlan_DebeziumTopicsUseSinglePartition() {
+        // Given
+        Map<String, String> config = Map.of(
+                "topic.prefix", "tenant",
+                "schema.history.internal.kafka.topic", "task-schema-history",
+                "signal.kafka.topic", "task-signals",
+                "provide.transaction.metadata", "true",
+                "include.schema.changes", "true");
+
+        // When
+        List<TopicSpec> plan = provisioner.plan(config, List.of());
+
+        // Then
+        assertThat(plan).extracting(TopicSpec::topic)
+                .containsExactly("task-schema-history", "task-signals", "tenant.transaction", "tenant");
+        assertThat(plan).allMatch(spec -> spec.partitions() == 1);
+        assertThat(plan.get(0).configs()).containsEntry("retention.ms", "-1");
+    }
+}
@@ -0,0 +1,161 @@
+package com.dbsync.core.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Cluster membership and shard ownership
+ * Live nodes heartbeat into a Redis sorted set scored by the Redis server clock, so clock
+ * skew between nodes does not decide liveness; sync tasks are partitioned across them with a
+ * consistent hash ring over task_id. A node owns nothing until its first heartbeat, and stops
+ * owning shards once its last successful heartbeat is older than the node timeout, by which
+ * time the other nodes have dropped it and taken its shards over.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+    private final boolean enabled;
+    private final String membersKey;
+    private final long nodeTimeoutMs;
+    private final int virtualNodes;
+    private final LongSupplier nanoClock;
+
+    private volatile ConsistentHashRing ring;
+    private volatile boolean joined;
+    private volatile long lastHeartbeatNanos;
+
+    public ClusterMembership(
+            StringRedisTemplate redisTemplate,
+            NodeIdentity nodeIdentity,
+            @Value("${app.cluster.enabled:true}") boolean enabled,
+            @Value("${app.cluster.members-key:dbsync:cluster:nodes}") String membersKey,
+            @Value("${app.cluster.node-timeout-ms:6000}") long nodeTimeoutMs,
+            @Value("${app.cluster.virtual-nodes:128}") int virtualNodes) {
+        this(redisTemplate, nodeIdentity.getNodeId(), enabled, membersKey, nodeTimeoutMs, virtualNodes,
+                System::nanoTime);
+    }
+
+    ClusterMembership(StringRedisTemplate redisTemplate, String nodeId, boolean enabled, String membersKey,
+                      long nodeTimeoutMs, int virtualNodes, LongSupplier nanoClock) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+        this.enabled = enabled;
+        this.membersKey = membersKey;
+        this.nodeTimeoutMs = nodeTimeoutMs;
+        this.virtualNodes = virtualNodes;
+        this.nanoClock = nanoClock;
+
+        // A standalone node owns every shard; a clustered one owns none until membership is known
+        this.ring = new ConsistentHashRing(enabled ? List.of() : List.of(nodeId), virtualNodes);
+    }
+
+    /**
+     * Publish this node's heartbeat and refresh the set of live nodes
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-interval-ms:2000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long startedNanos = nanoClock.getAsLong();
+            Long now = redisTemplate.execute(
+                    (RedisCallback<Long>) connection -> connection.serverCommands().time(TimeUnit.MILLISECONDS));
+            if (now == null) {
+                throw new IllegalStateException("Redis returned no server time");
+            }
+            redisTemplate.opsForZSet().add(membersKey, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(membersKey, Double.NEGATIVE_INFINITY, now - nodeTimeoutMs);
+
+            Set<String> liveNodes = redisTemplate.opsForZSet()
+                    .rangeByScore(membersKey, now - nodeTimeoutMs, Double.POSITIVE_INFINITY);
+            if (liveNodes == null || liveNodes.isEmpty()) {
+                liveNodes = Set.of(nodeId);
+            }
+
+            updateRing(liveNodes);
+            // Measured from before the heartbeat was sent, so ownership never outlives the entry
+            lastHeartbeatNanos = startedNanos;
+
+            if (!joined) {
+                joined = true;
+                log.info("Node {} joined the cluster", nodeId);
+            }
+
+        } catch (Exception e) {
+            // Keep the last known ring until this node's own entry would have expired
+            log.warn("Cluster heartbeat failed, keeping last known membership: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether this node owns the given sync task
+     */
+    public boolean ownsTask(UUID taskId) {
+        if (enabled && !isMembershipCurrent()) {
+            return false;
+        }
+        return nodeId.equals(ring.ownerOf(taskId.toString()));
+    }
+
+    /**
+     * Whether this node has heartbeated within the node timeout; a node that has not is, or is
+     * about to be, considered dead by the others
+     */
+    private boolean isMembershipCurrent() {
+        return joined && nanoClock.getAsLong() - lastHeartbeatNanos < TimeUnit.MILLISECONDS.toNanos(nodeTimeoutMs);
+    }
+
+    /**
+     * Get live node IDs, sorted
+     */
+    public List<String> getLiveNodes() {
+        return ring.getNodes();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled || !joined) {
+            return;
+        }
+
+        // Leave explicitly so the remaining nodes take over without waiting for the timeout
+        try {
+            redisTemplate.opsForZSet().remove(membersKey, nodeId);
+            log.info("Node {} left the cluster", nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to leave the cluster: {}", e.getMessage());
+        }
+    }
+
+    private void updateRing(Set<String> liveNodes) {
+        List<String> sorted = liveNodes.stream().sorted().toList();
+        if (sorted.equals(ring.getNodes())) {
+            return;
+        }
+
+        log.info("Cluster membership changed: {} -> {}", ring.getNodes(), sorted);
+        this.ring = new ConsistentHashRing(sorted, virtualNodes);
+    }
+}
@@ -0,0 +1,60 @@
+package com.dbsync.core.cluster;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent hash ring with virtual nodes
+ * Adding or removing a node only moves the keys adjacent to its virtual nodes
+ *
+ * @author DB Sync Platform
+ */
+public final class ConsistentHashRing {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final NavigableMap<Long, String> ring;
+    private final List<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        NavigableMap<Long, String> points = new TreeMap<>();
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(hash(node + "#" + i), node);
+            }
+        }
+        this.ring = Collections.unmodifiableNavigableMap(points);
+        this.nodes = nodes.stream().sorted().toList();
+    }
+
+    /**
+     * Get the node owning the key, or null if the ring is empty
+     */
+    public String ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    private static long hash(String value) {
+        return HASH.hashString(value, StandardCharsets.UTF_8).asLong();
+    }
+}
@@ -0,0 +1,34 @@
+package com.dbsync.core.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Identity of this platform node
+ * Used to mark jobs and shards owned by this instance
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity(@Value("${app.node-id:}") String configuredNodeId) {
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            this.nodeId = configuredNodeId;
+        } else {
+            // RuntimeMXBean name is "pid@hostname", unique per running JVM
+            this.nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        }
+        log.info("Platform node id: {}", nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.dbsync.core.domain.config;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Alert config of a sync task: {lagThreshold, errorRateThreshold, alertEmails}
+ *
+ * @author DB Sync Platform
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AlertConfig(Long lagThreshold, Double errorRateThreshold, List<String> alertEmails) {
+
+    private static final AlertConfig NONE = new AlertConfig(null, null, List.of());
+    private static final ParsedConfigCache<AlertConfig> CACHE = new ParsedConfigCache<>(AlertConfig::parse);
+
+    public AlertConfig {
+        alertEmails = alertEmails != null ? List.copyOf(alertEmails) : List.of();
+    }
+
+    /**
+     * Parsed and validated config; a missing config sets no alerts
+     */
+    public static AlertConfig of(String json) {
+        return json == null || json.isBlank() ? NONE : CACHE.get(json);
+    }
+
+    private static AlertConfig parse(String json) {
+        AlertConfig config;
+        try {
+            config = JsonUtil.getObjectMapper().readValue(json, AlertConfig.class);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid alert config: " + e.getMessage());
+        }
+        if (config.lagThreshold() != null && config.lagThreshold() < 0) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "lagThreshold must not be negative");
+        }
+        if (config.errorRateThreshold() != null
+                && (config.errorRateThreshold() < 0 || config.errorRateThreshold() > 1)) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "errorRateThreshold must be between 0 and 1");
+        }
+        for (String email : config.alertEmails()) {
+            if (email == null || !email.contains("@")) {
+                throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid alert email: " + email);
+            }
+        }
+        return config;
+    }
+}
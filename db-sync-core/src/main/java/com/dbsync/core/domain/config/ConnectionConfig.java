@@ -0,0 +1,59 @@
+package com.dbsync.core.domain.config;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Source or target connection config of a sync task:
+ * {host, port, database, schema, username, password, serverTimezone, ssl}
+ *
+ * @author DB Sync Platform
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ConnectionConfig(String host, Integer port, String database, String schema,
+                               String username, String password, String serverTimezone, boolean ssl) {
+
+    private static final ParsedConfigCache<ConnectionConfig> CACHE = new ParsedConfigCache<>(ConnectionConfig::parse);
+
+    /**
+     * Parsed and validated config, shared by every caller passing the same JSON
+     */
+    public static ConnectionConfig of(String json) {
+        if (json == null || json.isBlank()) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Connection config is missing");
+        }
+        return CACHE.get(json);
+    }
+
+    private static ConnectionConfig parse(String json) {
+        ConnectionConfig config;
+        try {
+            config = JsonUtil.getObjectMapper().readValue(json, ConnectionConfig.class);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid connection config: " + e.getMessage());
+        }
+        if (isBlank(config.host()) || isBlank(config.username()) || config.password() == null) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR,
+                    "Connection config requires host, username and password");
+        }
+        if (config.port() != null && (config.port() < 1 || config.port() > 65535)) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid connection port: " + config.port());
+        }
+        return config;
+    }
+
+    public int portOr(int defaultPort) {
+        return port != null ? port : defaultPort;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionConfig[" + username + "@" + host + ":" + port + "/" + database + "]";
+    }
+}
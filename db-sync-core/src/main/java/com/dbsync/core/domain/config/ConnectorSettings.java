@@ -0,0 +1,93 @@
+package com.dbsync.core.domain.config;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.common.utils.TableFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connector config of a sync task: Debezium properties passed through by name, with the
+ * table filter compiled and the table include list split once
+ *
+ * @author DB Sync Platform
+ */
+public record ConnectorSettings(Map<String, String> values, TableFilter tableFilter, List<String> includedTables) {
+
+    private static final ConnectorSettings EMPTY = new ConnectorSettings(Map.of(), TableFilter.of(null, null), List.of());
+    private static final ParsedConfigCache<ConnectorSettings> CACHE = new ParsedConfigCache<>(ConnectorSettings::parse);
+
+    /**
+     * Parsed config, shared by every caller passing the same JSON; a missing config has no settings
+     */
+    public static ConnectorSettings of(String json) {
+        return json == null || json.isBlank() ? EMPTY : CACHE.get(json);
+    }
+
+    private static ConnectorSettings parse(String json) {
+        JsonNode node;
+        try {
+            node = JsonUtil.getObjectMapper().readTree(json);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid connector config: " + e.getMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Connector config must be a JSON object");
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            if (!field.getValue().isNull()) {
+                values.put(field.getKey(), field.getValue().isValueNode()
+                        ? field.getValue().asText() : field.getValue().toString());
+            }
+        }
+        String includeList = values.get("table.include.list");
+        List<String> includedTables = includeList == null ? List.of()
+                : Arrays.stream(includeList.split(",")).map(String::trim).filter(t -> !t.isEmpty()).toList();
+        TableFilter tableFilter;
+        try {
+            tableFilter = TableFilter.of(includeList, values.get("table.exclude.list"));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid table filter: " + e.getMessage());
+        }
+        return new ConnectorSettings(Collections.unmodifiableMap(values), tableFilter, includedTables);
+    }
+
+    public boolean has(String key) {
+        return values.containsKey(key);
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    /**
+     * Settings whose key starts with the given prefix, keys unchanged
+     */
+    public Map<String, String> withPrefix(String prefix) {
+        Map<String, String> matching = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (key.startsWith(prefix)) {
+                matching.put(key, value);
+            }
+        });
+        return matching;
+    }
+}
@@ -0,0 +1,53 @@
+package com.dbsync.core.domain.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed JSON configs keyed by their content, so a config string shared by many
+ * calls (every builder, validator and scheduler pass over a task) is parsed once.
+ * Parse failures and null results are not cached. The cache is cleared when it reaches its
+ * size bound, which only costs re-parsing the configs still in use.
+ *
+ * @author DB Sync Platform
+ */
+public final class ParsedConfigCache<T> {
+
+    private static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private final Function<String, T> parser;
+    private final int maxEntries;
+    private final Map<String, T> entries = new ConcurrentHashMap<>();
+
+    public ParsedConfigCache(Function<String, T> parser) {
+        this(parser, DEFAULT_MAX_ENTRIES);
+    }
+
+    public ParsedConfigCache(Function<String, T> parser, int maxEntries) {
+        this.parser = parser;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Parsed form of the given config, parsing it on first use
+     */
+    public T get(String json) {
+        T cached = entries.get(json);
+        if (cached != null) {
+            return cached;
+        }
+        T parsed = parser.apply(json);
+        if (parsed != null) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(json, parsed);
+        }
+        return parsed;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
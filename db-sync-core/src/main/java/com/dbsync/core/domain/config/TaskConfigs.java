@@ -0,0 +1,58 @@
+package com.dbsync.core.domain.config;
+
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.schedule.TaskSchedule;
+
+/**
+ * Typed views of a sync task's JSON configs. Each view is parsed once per distinct config
+ * content and shared, so callers should use these instead of parsing the JSON themselves.
+ *
+ * @author DB Sync Platform
+ */
+public final class TaskConfigs {
+
+    private TaskConfigs() {
+    }
+
+    public static ConnectionConfig source(SyncTask task) {
+        return ConnectionConfig.of(task.getSourceConnectionConfig());
+    }
+
+    public static ConnectionConfig target(SyncTask task) {
+        return ConnectionConfig.of(task.getTargetConnectionConfig());
+    }
+
+    public static ConnectorSettings connector(SyncTask task) {
+        return ConnectorSettings.of(task.getConnectorConfig());
+    }
+
+    /**
+     * Debezium topic.prefix of a task's connector. It is unique per task, so tasks of one tenant
+     * never share data or transaction metadata topics.
+     */
+    public static String topicPrefix(SyncTask task) {
+        return task.getTenantId() + "." + task.getTaskId();
+    }
+
+    public static AlertConfig alert(SyncTask task) {
+        return AlertConfig.of(task.getAlertConfig());
+    }
+
+    /**
+     * @return the schedule, or null if the task is not scheduled
+     */
+    public static TaskSchedule schedule(SyncTask task) {
+        return TaskSchedule.parse(task.getScheduleConfig());
+    }
+
+    /**
+     * Parse every config of a task, rejecting it with a BusinessException if one is invalid
+     */
+    public static void validate(SyncTask task) {
+        source(task);
+        target(task);
+        connector(task);
+        alert(task);
+        schedule(task);
+    }
+}
@@ -0,0 +1,93 @@
+package com.dbsync.core.domain.entity;
+
+import com.dbsync.common.enums.JobStatus;
+import com.dbsync.common.enums.LifecycleOperation;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lifecycle Job Entity
+ * A durable request to run a lifecycle operation on a sync task
+ *
+ * @author DB Sync Platform
+ */
+@Data
+@Entity
+@Table(name = "lifecycle_jobs", indexes = {
+        @Index(name = "idx_lifecycle_jobs_status", columnList = "status, created_at"),
+        @Index(name = "idx_lifecycle_jobs_task", columnList = "task_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lifecycle_jobs_idempotency_key", columnNames = {"task_id", "operation", "idempotency_key"})
+})
+@EntityListeners(AuditingEntityListener.class)
+public class LifecycleJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private LifecycleOperation operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobStatus status = JobStatus.PENDING;
+
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "params", columnDefinition = "jsonb")
+    private String params;  // JSON string
+
+    @Column(name = "progress", length = 50)
+    private String progress;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "result", columnDefinition = "jsonb")
+    private String result;  // JSON string
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @CreatedBy
+    @Column(name = "created_by", length = 100)
+    private String createdBy;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
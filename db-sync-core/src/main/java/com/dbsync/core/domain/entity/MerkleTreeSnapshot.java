@@ -0,0 +1,78 @@
+package com.dbsync.core.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Merkle Tree Snapshot Entity
+ * Stored source and target range hashes of one table of a sync task
+ *
+ * @author DB Sync Platform
+ */
+@Data
+@Entity
+@Table(name = "merkle_trees", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_merkle_trees_task_table", columnNames = {"task_id", "table_name"})
+})
+@EntityListeners(AuditingEntityListener.class)
+public class MerkleTreeSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "tree_id")
+    private UUID treeId;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "table_name", nullable = false, length = 200)
+    private String tableName;
+
+    @Column(name = "key_column", nullable = false, length = 128)
+    private String keyColumn;
+
+    @Column(name = "column_signature", nullable = false, length = 64)
+    private String columnSignature;
+
+    @Column(name = "leaf_size", nullable = false)
+    private Long leafSize;  // source rows per leaf when the boundaries were planned
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "boundaries", nullable = false, columnDefinition = "jsonb")
+    private String boundaries;  // JSON array of ascending leaf split keys
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "source_leaves", nullable = false, columnDefinition = "jsonb")
+    private String sourceLeaves;  // JSON [[bucket, rowCount, hash], ...]
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "target_leaves", nullable = false, columnDefinition = "jsonb")
+    private String targetLeaves;  // JSON [[bucket, rowCount, hash], ...]
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "pending_buckets", columnDefinition = "jsonb")
+    private String pendingBuckets;  // JSON array of buckets to rehash on the next run
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "cdc_offsets", columnDefinition = "jsonb")
+    private String cdcOffsets;  // JSON {partition: offset} of the table's change topic
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,68 @@
+package com.dbsync.core.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Snapshot Progress Entity
+ * Initial snapshot progress of one table of a sync task
+ *
+ * @author DB Sync Platform
+ */
+@Data
+@Entity
+@Table(name = "snapshot_progress", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_snapshot_progress_task_table", columnNames = {"task_id", "table_name"})
+})
+@EntityListeners(AuditingEntityListener.class)
+public class SnapshotProgress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "progress_id")
+    private UUID progressId;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Column(name = "table_name", nullable = false, length = 200)
+    private String tableName;
+
+    @Column(name = "estimated_rows")
+    private Long estimatedRows;
+
+    @Column(name = "rows_done", nullable = false)
+    private Long rowsDone = 0L;
+
+    @Column(name = "rows_per_second")
+    private Double rowsPerSecond;  // moving average
+
+    @Column(name = "eta_seconds")
+    private Long etaSeconds;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed = false;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "sampled_at")
+    private LocalDateTime sampledAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -4,8 +4,10 @@ import com.dbsync.common.enums.DatabaseType;
 import com.dbsync.common.enums.HealthStatus;
 import com.dbsync.common.enums.SyncMode;
 import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.enums.ThroughputProfile;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -22,6 +24,7 @@ import java.util.UUID;
  */
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "sync_tasks", indexes = {
         @Index(name = "idx_sync_tasks_tenant", columnList = "tenant_id"),
         @Index(name = "idx_sync_tasks_status", columnList = "status"),
@@ -70,10 +73,17 @@ public class SyncTask {
     @Column(name = "connector_config", nullable = false, columnDefinition = "jsonb")
     private String connectorConfig;  // JSON string
 
+    @Column(name = "topic_plan", columnDefinition = "jsonb")
+    private String topicPlan;  // JSON string
+
     @Enumerated(EnumType.STRING)
     @Column(name = "sync_mode", nullable = false, length = 20)
     private SyncMode syncMode = SyncMode.FULL_INCREMENTAL;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "throughput_profile", nullable = false, length = 20)
+    private ThroughputProfile throughputProfile;  // BALANCED unless set on creation
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private TaskStatus status = TaskStatus.CREATED;
@@ -94,6 +104,24 @@ public class SyncTask {
     @Column(name = "last_sync_time")
     private LocalDateTime lastSyncTime;
 
+    @Column(name = "throttled_since")
+    private LocalDateTime throttledSince;
+
+    @Column(name = "throttle_count")
+    private Integer throttleCount = 0;
+
+    @Column(name = "throttled_total_ms")
+    private Long throttledTotalMs = 0L;
+
+    @Column(name = "last_throttle_reason", length = 500)
+    private String lastThrottleReason;
+
+    @Column(name = "queued_at")
+    private LocalDateTime queuedAt;
+
+    @Column(name = "snapshot_slot_since")
+    private LocalDateTime snapshotSlotSince;
+
     @Column(name = "alert_config", columnDefinition = "jsonb")
     private String alertConfig;  // JSON string
 
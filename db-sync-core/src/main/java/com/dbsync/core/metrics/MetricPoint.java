@@ -0,0 +1,13 @@
+package com.dbsync.core.metrics;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Events a task's sink applied and dead-lettered for one source table in one bucket
+ *
+ * @author DB Sync Platform
+ */
+public record MetricPoint(UUID taskId, UUID tenantId, String tableName, LocalDateTime bucketStart,
+                          long eventsApplied, long eventsDeadLettered) {
+}
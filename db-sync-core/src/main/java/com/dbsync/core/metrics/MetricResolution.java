@@ -0,0 +1,129 @@
+package com.dbsync.core.metrics;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket width of a sync metrics table. Each resolution has its own range-partitioned table;
+ * partitions span a day, a month or a year so that retention drops whole partitions.
+ *
+ * @author DB Sync Platform
+ */
+public enum MetricResolution {
+
+    MINUTE("1m", ChronoUnit.MINUTES, ChronoUnit.DAYS, "yyyyMMdd"),
+    HOUR("1h", ChronoUnit.HOURS, ChronoUnit.MONTHS, "yyyyMM"),
+    DAY("1d", ChronoUnit.DAYS, ChronoUnit.YEARS, "yyyy");
+
+    private final String code;
+    private final ChronoUnit bucketUnit;
+    private final ChronoUnit partitionUnit;
+    private final String partitionPattern;
+    private final DateTimeFormatter partitionFormat;
+
+    MetricResolution(String code, ChronoUnit bucketUnit, ChronoUnit partitionUnit, String partitionPattern) {
+        this.code = code;
+        this.bucketUnit = bucketUnit;
+        this.partitionUnit = partitionUnit;
+        this.partitionPattern = partitionPattern;
+        this.partitionFormat = DateTimeFormatter.ofPattern(partitionPattern);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String table() {
+        return "sync_metrics_" + code;
+    }
+
+    /**
+     * Unit of PostgreSQL's date_trunc matching the bucket width
+     */
+    public String truncUnit() {
+        return bucketUnit.name().toLowerCase().replaceAll("s$", "");
+    }
+
+    public long bucketSeconds() {
+        return bucketUnit.getDuration().getSeconds();
+    }
+
+    /**
+     * The resolution this one is rolled up from; null for the one the aggregator writes
+     */
+    public MetricResolution finer() {
+        return ordinal() == 0 ? null : values()[ordinal() - 1];
+    }
+
+    /**
+     * The resolution rolled up from this one; null for the coarsest
+     */
+    public MetricResolution coarser() {
+        return ordinal() == values().length - 1 ? null : values()[ordinal() + 1];
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(bucketUnit);
+    }
+
+    public LocalDateTime partitionStart(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return switch (partitionUnit) {
+            case MONTHS -> day.withDayOfMonth(1);
+            case YEARS -> day.withDayOfYear(1);
+            default -> day;
+        };
+    }
+
+    public LocalDateTime partitionEnd(LocalDateTime partitionStart) {
+        return partitionStart.plus(1, partitionUnit);
+    }
+
+    public String partitionName(LocalDateTime partitionStart) {
+        return table() + "_p" + partitionFormat.format(partitionStart);
+    }
+
+    /**
+     * Start of the partition with the given name, or null if the name is not one of ours
+     */
+    public LocalDateTime partitionStartOf(String partitionName) {
+        String prefix = table() + "_p";
+        if (!partitionName.startsWith(prefix)) {
+            return null;
+        }
+        String suffix = partitionName.substring(prefix.length());
+        if (suffix.length() != partitionPattern.length() || !suffix.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        int year = Integer.parseInt(suffix.substring(0, 4));
+        int month = suffix.length() >= 6 ? Integer.parseInt(suffix.substring(4, 6)) : 1;
+        int day = suffix.length() == 8 ? Integer.parseInt(suffix.substring(6, 8)) : 1;
+        return LocalDateTime.of(year, month, day, 0, 0);
+    }
+
+    /**
+     * The finest resolution that covers a range in at most maxPoints buckets
+     */
+    public static MetricResolution forRange(Duration range, int maxPoints) {
+        for (MetricResolution resolution : values()) {
+            if (range.getSeconds() / resolution.bucketSeconds() <= maxPoints) {
+                return resolution;
+            }
+        }
+        return DAY;
+    }
+
+    public static MetricResolution fromString(String value) {
+        for (MetricResolution resolution : values()) {
+            if (resolution.code.equalsIgnoreCase(value) || resolution.name().equalsIgnoreCase(value)) {
+                return resolution;
+            }
+        }
+        throw new BusinessException(ErrorCodes.PARAM_ERROR, "Unknown metrics resolution: " + value);
+    }
+}
@@ -0,0 +1,93 @@
+package com.dbsync.core.metrics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Metrics Aggregator
+ * Sums sink counts in memory into one-minute buckets per task and table, so the store receives
+ * one row per bucket in periodic batches instead of a write per sample. A bucket is handed out
+ * once its minute is over. Buckets beyond the bound are dropped rather than growing without
+ * limit while the store is unreachable.
+ *
+ * @author DB Sync Platform
+ */
+public class MetricsAggregator {
+
+    private final int maxBuckets;
+    private final Map<BucketKey, long[]> buckets = new HashMap<>();
+
+    public MetricsAggregator(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Add counts observed at the given time
+     *
+     * @return false if the counts were dropped because the aggregator is full
+     */
+    public synchronized boolean add(UUID taskId, UUID tenantId, String table, LocalDateTime at,
+                                    long applied, long deadLettered) {
+        BucketKey key = new BucketKey(taskId, tenantId, table, MetricResolution.MINUTE.bucketStart(at));
+        long[] counts = buckets.get(key);
+        if (counts == null) {
+            if (buckets.size() >= maxBuckets) {
+                return false;
+            }
+            counts = new long[2];
+            buckets.put(key, counts);
+        }
+        counts[0] += applied;
+        counts[1] += deadLettered;
+        return true;
+    }
+
+    /**
+     * Remove and return the buckets of minutes that ended by the given time, oldest first
+     */
+    public synchronized List<MetricPoint> drainClosed(LocalDateTime now) {
+        LocalDateTime open = MetricResolution.MINUTE.bucketStart(now);
+        List<MetricPoint> closed = new ArrayList<>();
+        Iterator<Map.Entry<BucketKey, long[]>> it = buckets.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<BucketKey, long[]> entry = it.next();
+            BucketKey key = entry.getKey();
+            if (key.bucketStart.isBefore(open)) {
+                closed.add(new MetricPoint(key.taskId, key.tenantId, key.table, key.bucketStart,
+                        entry.getValue()[0], entry.getValue()[1]));
+                it.remove();
+            }
+        }
+        closed.sort(Comparator.comparing(MetricPoint::bucketStart));
+        return closed;
+    }
+
+    /**
+     * Put back points whose write failed, merging them with counts added since
+     *
+     * @return the number of points dropped because the aggregator is full
+     */
+    public synchronized int restore(List<MetricPoint> points) {
+        int dropped = 0;
+        for (MetricPoint point : points) {
+            if (!add(point.taskId(), point.tenantId(), point.tableName(), point.bucketStart(),
+                    point.eventsApplied(), point.eventsDeadLettered())) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public synchronized int size() {
+        return buckets.size();
+    }
+
+    private record BucketKey(UUID taskId, UUID tenantId, String table, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.dbsync.core.metrics;
+
+import java.time.LocalDateTime;
+
+/**
+ * One bucket of a rate series, with its counts averaged over the bucket width
+ *
+ * @author DB Sync Platform
+ */
+public record RatePoint(LocalDateTime bucketStart, long eventsApplied, long eventsDeadLettered,
+                        double appliedPerSecond, double deadLetteredPerSecond) {
+
+    static RatePoint of(LocalDateTime bucketStart, long applied, long deadLettered, MetricResolution resolution) {
+        return new RatePoint(bucketStart, applied, deadLettered,
+                applied / (double) resolution.bucketSeconds(), deadLettered / (double) resolution.bucketSeconds());
+    }
+}
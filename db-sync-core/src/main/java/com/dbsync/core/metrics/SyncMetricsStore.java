@@ -0,0 +1,201 @@
+package com.dbsync.core.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sync Metrics Store
+ * Reads and writes the range-partitioned sync_metrics_1m/1h/1d tables with plain JDBC: minute
+ * buckets arrive as batched upserts, coarser tables are recomputed from the next finer one, and
+ * partitions are created ahead of time and dropped once past retention. Each rollup resolution
+ * keeps a watermark in sync_metrics_rollups up to which it is complete; writing buckets of the
+ * finer table behind it moves it back, so late buckets are rolled up by the next run.
+ *
+ * @author DB Sync Platform
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncMetricsStore {
+
+    private static final String COLUMNS =
+            "task_id, tenant_id, table_name, bucket_start, events_applied, events_dead_lettered";
+
+    private static final String WATERMARKS = "sync_metrics_rollups";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Add minute buckets; counts of a bucket written before are added to it. All batches commit
+     * together, so a failed write can be retried without counting the points twice.
+     */
+    @Transactional
+    public void insert(List<MetricPoint> points, int batchSize) {
+        String table = MetricResolution.MINUTE.table();
+        String sql = "INSERT INTO " + table + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT (task_id, table_name, bucket_start) DO UPDATE SET "
+                + "events_applied = " + table + ".events_applied + EXCLUDED.events_applied, "
+                + "events_dead_lettered = " + table + ".events_dead_lettered + EXCLUDED.events_dead_lettered";
+        jdbcTemplate.batchUpdate(sql, points, batchSize, (ps, point) -> {
+            ps.setObject(1, point.taskId());
+            ps.setObject(2, point.tenantId());
+            ps.setString(3, point.tableName());
+            ps.setTimestamp(4, Timestamp.valueOf(point.bucketStart()));
+            ps.setLong(5, point.eventsApplied());
+            ps.setLong(6, point.eventsDeadLettered());
+        });
+        points.stream().map(MetricPoint::bucketStart).min(Comparator.naturalOrder())
+                .ifPresent(oldest -> rewind(MetricResolution.HOUR, oldest));
+    }
+
+    /**
+     * Roll up a resolution from its watermark to now and move the watermark to the start of the
+     * bucket still open, which is recomputed by the next run. The watermark row stays locked until
+     * commit, so a concurrent write of late buckets moves it back either before the rollup reads
+     * or after it moved.
+     *
+     * @param oldest buckets before this time are not rolled up, however far behind the watermark is
+     * @return rollup rows written
+     */
+    @Transactional
+    public int rollupFromWatermark(MetricResolution target, LocalDateTime now, LocalDateTime oldest) {
+        jdbcTemplate.update("INSERT INTO " + WATERMARKS + " (resolution, rolled_up_to) VALUES (?, ?) "
+                + "ON CONFLICT (resolution) DO NOTHING", target.getCode(), Timestamp.valueOf(oldest));
+        LocalDateTime watermark = jdbcTemplate.queryForObject("SELECT rolled_up_to FROM " + WATERMARKS
+                + " WHERE resolution = ? FOR UPDATE", Timestamp.class, target.getCode()).toLocalDateTime();
+        LocalDateTime from = watermark.isBefore(oldest) ? oldest : watermark;
+
+        int rows = rollup(target, from, now);
+        if (target.coarser() != null) {
+            rewind(target.coarser(), from);
+        }
+        jdbcTemplate.update("UPDATE " + WATERMARKS + " SET rolled_up_to = ? WHERE resolution = ?",
+                Timestamp.valueOf(target.bucketStart(now)), target.getCode());
+        return rows;
+    }
+
+    /**
+     * Move the watermark of a rollup resolution back to the bucket holding the given time
+     */
+    private void rewind(MetricResolution target, LocalDateTime time) {
+        jdbcTemplate.update("UPDATE " + WATERMARKS + " SET rolled_up_to = LEAST(rolled_up_to, ?) WHERE resolution = ?",
+                Timestamp.valueOf(target.bucketStart(time)), target.getCode());
+    }
+
+    /**
+     * Recompute the buckets of a rollup resolution in [from, to) from the next finer table.
+     * Replacing instead of adding keeps reruns over the same window idempotent.
+     *
+     * @return rollup rows written
+     */
+    public int rollup(MetricResolution target, LocalDateTime from, LocalDateTime to) {
+        MetricResolution source = target.finer();
+        String sql = "INSERT INTO " + target.table() + " (" + COLUMNS + ") "
+                + "SELECT task_id, tenant_id, table_name, date_trunc('" + target.truncUnit() + "', bucket_start), "
+                + "SUM(events_applied), SUM(events_dead_lettered) FROM " + source.table() + " "
+                + "WHERE bucket_start >= ? AND bucket_start < ? "
+                + "GROUP BY task_id, tenant_id, table_name, date_trunc('" + target.truncUnit() + "', bucket_start) "
+                + "ON CONFLICT (task_id, table_name, bucket_start) DO UPDATE SET "
+                + "events_applied = EXCLUDED.events_applied, "
+                + "events_dead_lettered = EXCLUDED.events_dead_lettered";
+        return jdbcTemplate.update(sql, Timestamp.valueOf(target.bucketStart(from)), Timestamp.valueOf(to));
+    }
+
+    /**
+     * Create the partition holding the given time and the following ones
+     */
+    public void ensurePartitions(MetricResolution resolution, LocalDateTime now, int ahead) {
+        LocalDateTime start = resolution.partitionStart(now);
+        for (int i = 0; i <= ahead; i++) {
+            LocalDateTime end = resolution.partitionEnd(start);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + resolution.partitionName(start)
+                    + " PARTITION OF " + resolution.table()
+                    + " FOR VALUES FROM ('" + Timestamp.valueOf(start) + "') TO ('" + Timestamp.valueOf(end) + "')");
+            start = end;
+        }
+    }
+
+    /**
+     * Drop the partitions whose whole range ends before the cutoff
+     *
+     * @return the dropped partitions
+     */
+    public List<String> dropPartitionsBefore(MetricResolution resolution, LocalDateTime cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = ?", String.class, resolution.table());
+        List<String> dropped = new ArrayList<>();
+        for (String partition : partitions) {
+            LocalDateTime start = resolution.partitionStartOf(partition);
+            if (start != null && !resolution.partitionEnd(start).isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                dropped.add(partition);
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Rate series of a task in [from, to), summed over its tables unless one is given
+     */
+    public List<RatePoint> taskSeries(UUID taskId, String table, MetricResolution resolution,
+                                      LocalDateTime from, LocalDateTime to) {
+        List<Object> args = new ArrayList<>(List.of(taskId, Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        String sql = "SELECT bucket_start, SUM(events_applied), SUM(events_dead_lettered) FROM " + resolution.table()
+                + " WHERE task_id = ? AND bucket_start >= ? AND bucket_start < ?";
+        if (table != null) {
+            sql += " AND table_name = ?";
+            args.add(table);
+        }
+        sql += " GROUP BY bucket_start ORDER BY bucket_start";
+        return jdbcTemplate.query(sql, (rs, row) -> RatePoint.of(
+                rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2), rs.getLong(3), resolution), args.toArray());
+    }
+
+    /**
+     * Counts of every task of the given tenants in one minute bucket, summed over tables
+     * (table name null)
+     */
+    public List<MetricPoint> minuteTotals(Collection<UUID> tenantIds, LocalDateTime bucketStart) {
+        List<Object> args = new ArrayList<>(tenantIds);
+        args.add(Timestamp.valueOf(bucketStart));
+        return jdbcTemplate.query("SELECT task_id, tenant_id, SUM(events_applied), SUM(events_dead_lettered) FROM "
+                        + MetricResolution.MINUTE.table() + " WHERE tenant_id IN ("
+                        + String.join(", ", Collections.nCopies(tenantIds.size(), "?")) + ") AND bucket_start = ? "
+                        + "GROUP BY task_id, tenant_id",
+                (rs, row) -> new MetricPoint(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), null,
+                        bucketStart, rs.getLong(3), rs.getLong(4)),
+                args.toArray());
+    }
+
+    /**
+     * Rate series of every task of a tenant in [from, to), read in one query
+     */
+    public Map<UUID, List<RatePoint>> tenantSeries(UUID tenantId, MetricResolution resolution,
+                                                   LocalDateTime from, LocalDateTime to) {
+        Map<UUID, List<RatePoint>> series = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT task_id, bucket_start, SUM(events_applied), SUM(events_dead_lettered) FROM "
+                        + resolution.table() + " WHERE tenant_id = ? AND bucket_start >= ? AND bucket_start < ? "
+                        + "GROUP BY task_id, bucket_start ORDER BY task_id, bucket_start",
+                (RowCallbackHandler) rs -> series.computeIfAbsent(rs.getObject(1, UUID.class), id -> new ArrayList<>())
+                        .add(RatePoint.of(rs.getTimestamp(2).toLocalDateTime(), rs.getLong(3), rs.getLong(4),
+                                resolution)),
+                tenantId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return series;
+    }
+}
@@ -0,0 +1,108 @@
+package com.dbsync.core.repository;
+
+import com.dbsync.common.enums.JobStatus;
+import com.dbsync.common.enums.LifecycleOperation;
+import com.dbsync.core.domain.entity.LifecycleJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lifecycle Job Repository
+ *
+ * @author DB Sync Platform
+ */
+@Repository
+public interface LifecycleJobRepository extends JpaRepository<LifecycleJob, UUID> {
+
+    /**
+     * Find the job submitted for a task and operation under an idempotency key
+     */
+    Optional<LifecycleJob> findByTaskIdAndOperationAndIdempotencyKey(
+            UUID taskId, LifecycleOperation operation, String idempotencyKey);
+
+    /**
+     * Find the oldest job for a task and operation in one of the given statuses
+     */
+    Optional<LifecycleJob> findFirstByTaskIdAndOperationAndStatusInOrderByCreatedAtAsc(
+            UUID taskId, LifecycleOperation operation, Collection<JobStatus> statuses);
+
+    /**
+     * Find jobs of a task
+     */
+    List<LifecycleJob> findByTaskIdOrderByCreatedAtDesc(UUID taskId);
+
+    /**
+     * Lock pending jobs for claiming, skipping rows locked by other workers.
+     * Operations on one task never overlap: only the oldest pending operation of a task without a
+     * running one is claimed, under a per-task advisory lock held until the claim commits, so two
+     * jobs of a task are neither claimed in one poll nor by two nodes whose snapshots predate each
+     * other's claim. Data jobs (verify, repair, DLQ replay), which leave the task state alone, may
+     * run alongside them. Must be called inside a transaction.
+     */
+    @Query(value = "SELECT * FROM lifecycle_jobs j " +
+            "WHERE j.status = 'PENDING' " +
+            "AND (j.operation IN ('VERIFY', 'REPAIR', 'REPLAY_DLQ') OR (" +
+            "NOT EXISTS (SELECT 1 FROM lifecycle_jobs r " +
+            "WHERE r.task_id = j.task_id AND r.status = 'RUNNING' " +
+            "AND r.operation NOT IN ('VERIFY', 'REPAIR', 'REPLAY_DLQ')) " +
+            "AND NOT EXISTS (SELECT 1 FROM lifecycle_jobs p " +
+            "WHERE p.task_id = j.task_id AND p.status = 'PENDING' " +
+            "AND p.operation NOT IN ('VERIFY', 'REPAIR', 'REPLAY_DLQ') " +
+            "AND (p.created_at < j.created_at OR p.created_at = j.created_at AND p.job_id < j.job_id)) " +
+            "AND pg_try_advisory_xact_lock(hashtext(CAST(j.task_id AS text))))) " +
+            "ORDER BY j.created_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<LifecycleJob> lockPendingJobs(@Param("limit") int limit);
+
+    /**
+     * Serialize scheduled starts on a source server across nodes until the transaction ends.
+     * Must be called inside a transaction.
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext(:sourceKey))) l", nativeQuery = true)
+    long lockScheduleSource(@Param("sourceKey") String sourceKey);
+
+    /**
+     * Count scheduled runs reading a source server: scheduled starts that are queued or running,
+     * or that succeeded on a task still running or waiting for a snapshot slot, and that no later
+     * start or stop of the task replaced
+     */
+    @Query(value = "SELECT COUNT(*) FROM lifecycle_jobs j JOIN sync_tasks t ON t.task_id = j.task_id " +
+            "WHERE j.operation = 'START' AND j.params ->> 'scheduleSource' = :sourceKey " +
+            "AND t.deleted_at IS NULL " +
+            "AND (j.status IN ('PENDING', 'RUNNING') " +
+            "OR j.status = 'SUCCEEDED' AND t.status IN ('RUNNING', 'QUEUED')) " +
+            "AND NOT EXISTS (SELECT 1 FROM lifecycle_jobs l " +
+            "WHERE l.task_id = j.task_id AND l.operation IN ('START', 'STOP') AND l.created_at > j.created_at)",
+            nativeQuery = true)
+    long countActiveScheduledRuns(@Param("sourceKey") String sourceKey);
+
+    /**
+     * Return jobs whose worker stopped renewing its claim to the queue
+     */
+    @Modifying
+    @Query("UPDATE LifecycleJob j SET j.status = com.dbsync.common.enums.JobStatus.PENDING, " +
+            "j.claimedBy = NULL, j.claimedAt = NULL, j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.status = com.dbsync.common.enums.JobStatus.RUNNING AND j.claimedAt < :cutoff")
+    int requeueExpiredClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Renew claims held by a worker
+     */
+    @Modifying
+    @Query("UPDATE LifecycleJob j SET j.claimedAt = :now " +
+            "WHERE j.status = com.dbsync.common.enums.JobStatus.RUNNING AND j.claimedBy = :claimedBy " +
+            "AND j.jobId IN :jobIds")
+    int renewClaims(@Param("claimedBy") String claimedBy,
+                    @Param("jobIds") Collection<UUID> jobIds,
+                    @Param("now") LocalDateTime now);
+}
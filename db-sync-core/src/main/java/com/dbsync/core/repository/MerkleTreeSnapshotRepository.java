@@ -0,0 +1,22 @@
+package com.dbsync.core.repository;
+
+import com.dbsync.core.domain.entity.MerkleTreeSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Merkle Tree Snapshot Repository
+ *
+ * @author DB Sync Platform
+ */
+@Repository
+public interface MerkleTreeSnapshotRepository extends JpaRepository<MerkleTreeSnapshot, UUID> {
+
+    /**
+     * Find the stored tree of a task table
+     */
+    Optional<MerkleTreeSnapshot> findByTaskIdAndTableName(UUID taskId, String tableName);
+}
@@ -0,0 +1,22 @@
+package com.dbsync.core.repository;
+
+import com.dbsync.core.domain.entity.SnapshotProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snapshot Progress Repository
+ *
+ * @author DB Sync Platform
+ */
+@Repository
+public interface SnapshotProgressRepository extends JpaRepository<SnapshotProgress, UUID> {
+
+    /**
+     * Find the progress of every table of a task
+     */
+    List<SnapshotProgress> findByTaskIdOrderByTableNameAsc(UUID taskId);
+}
@@ -2,14 +2,19 @@ package com.dbsync.core.repository;
 
 import com.dbsync.common.enums.HealthStatus;
 import com.dbsync.common.enums.TaskStatus;
+import com.dbsync.common.enums.ThroughputProfile;
 import com.dbsync.core.domain.entity.SyncTask;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -78,4 +83,211 @@ public interface SyncTaskRepository extends JpaRepository<SyncTask, UUID> {
      */
     @Query("SELECT COUNT(t) FROM SyncTask t WHERE t.tenantId = :tenantId AND t.status = :status AND t.deletedAt IS NULL")
     long countByTenantIdAndStatus(@Param("tenantId") UUID tenantId, @Param("status") TaskStatus status);
+
+    /**
+     * Find IDs of live tasks in the given statuses
+     */
+    @Query("SELECT t.taskId FROM SyncTask t WHERE t.status IN :statuses AND t.deletedAt IS NULL")
+    List<UUID> findTaskIdsByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Find IDs of live tasks with an open throttle episode that are no longer in the given statuses
+     */
+    @Query("SELECT t.taskId FROM SyncTask t WHERE t.throttledSince IS NOT NULL "
+            + "AND t.status NOT IN :statuses AND t.deletedAt IS NULL")
+    List<UUID> findThrottledTaskIdsByStatusNotIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Find live tasks whose schedule config carries a cron expression
+     */
+    @Query(value = "SELECT * FROM sync_tasks WHERE deleted_at IS NULL "
+            + "AND schedule_config ->> 'cron' IS NOT NULL", nativeQuery = true)
+    List<SyncTask> findScheduledTasks();
+
+    /**
+     * Find live tasks in a status, longest queued first
+     */
+    List<SyncTask> findByStatusAndDeletedAtIsNullOrderByQueuedAtAsc(TaskStatus status);
+
+    /**
+     * Find tasks of the given tenants changed after a time, deleted ones included
+     */
+    List<SyncTask> findByTenantIdInAndUpdatedAtAfter(Collection<UUID> tenantIds, LocalDateTime since);
+
+    /**
+     * Current time of the database, whose clock the targeted updates set updated_at from
+     */
+    @Query(value = "SELECT LOCALTIMESTAMP", nativeQuery = true)
+    LocalDateTime findDatabaseTime();
+
+    /**
+     * Find live tasks holding a snapshot slot
+     */
+    List<SyncTask> findBySnapshotSlotSinceIsNotNullAndDeletedAtIsNull();
+
+    /**
+     * Grant or release the snapshot slot of a task without touching its other columns
+     */
+    @Modifying
+    @Query("UPDATE SyncTask t SET t.snapshotSlotSince = :since, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId")
+    int updateSnapshotSlotSince(@Param("taskId") UUID taskId, @Param("since") LocalDateTime since);
+
+    /**
+     * Open a throttle episode of a running task that has none open, without touching its other columns
+     *
+     * @return 1 if the episode was opened, 0 if the task is no longer running or already throttled
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.throttledSince = :since, t.throttleCount = COALESCE(t.throttleCount, 0) + 1, "
+            + "t.lastThrottleReason = :reason, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.throttledSince IS NULL "
+            + "AND t.status = com.dbsync.common.enums.TaskStatus.RUNNING AND t.deletedAt IS NULL")
+    int startThrottle(@Param("taskId") UUID taskId, @Param("since") LocalDateTime since,
+                      @Param("reason") String reason);
+
+    /**
+     * Close the throttle episode that started at the given time and add its length to the throttled total
+     *
+     * @return 1 if the episode was closed, 0 if it had already been closed
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.throttledSince = NULL, "
+            + "t.throttledTotalMs = COALESCE(t.throttledTotalMs, 0) + :pausedMs, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.throttledSince = :since")
+    int endThrottle(@Param("taskId") UUID taskId, @Param("since") LocalDateTime since,
+                    @Param("pausedMs") long pausedMs);
+
+    /**
+     * Record the connector health of a live task without touching its other columns
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.healthStatus = :health, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.deletedAt IS NULL")
+    int updateHealthStatus(@Param("taskId") UUID taskId, @Param("health") HealthStatus health);
+
+    /**
+     * Record an unhealthy connector of a live task with its error, without touching its other columns
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.healthStatus = com.dbsync.common.enums.HealthStatus.UNHEALTHY, "
+            + "t.lastError = :error, t.errorCount = COALESCE(t.errorCount, 0) + 1, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.deletedAt IS NULL")
+    int recordUnhealthy(@Param("taskId") UUID taskId, @Param("error") String error);
+
+    /**
+     * Add synced rows to a live task without touching its other columns
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.totalRecordsSynced = COALESCE(t.totalRecordsSynced, 0) + :rows, "
+            + "t.lastSyncTime = :now, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.deletedAt IS NULL")
+    int addRecordsSynced(@Param("taskId") UUID taskId, @Param("rows") long rows, @Param("now") LocalDateTime now);
+
+    /**
+     * Rewrite the user-editable settings of a task if it is in one of the given statuses,
+     * without touching its status, health, throttle or snapshot slot columns
+     *
+     * @return 1 if the settings were written, 0 if the task was in another status
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.taskName = :taskName, t.description = :description, "
+            + "t.alertConfig = :alertConfig, t.scheduleConfig = :scheduleConfig, "
+            + "t.throughputProfile = :throughputProfile, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int updateSettings(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                       @Param("taskName") String taskName, @Param("description") String description,
+                       @Param("alertConfig") String alertConfig, @Param("scheduleConfig") String scheduleConfig,
+                       @Param("throughputProfile") ThroughputProfile throughputProfile);
+
+    /**
+     * Current status of a live task
+     */
+    @Query("SELECT t.status FROM SyncTask t WHERE t.taskId = :taskId AND t.deletedAt IS NULL")
+    Optional<TaskStatus> findStatusByTaskId(@Param("taskId") UUID taskId);
+
+    /**
+     * Move a task to a status if it is in one of the given statuses
+     *
+     * @return 1 if the task moved, 0 if it was in another status
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.status = :to, t.healthStatus = :health, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int transition(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                   @Param("to") TaskStatus to, @Param("health") HealthStatus health);
+
+    /**
+     * Move a task to RUNNING and clear its last error if it is in one of the given statuses;
+     * a non-null connector name is recorded as well
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.status = com.dbsync.common.enums.TaskStatus.RUNNING, "
+            + "t.healthStatus = com.dbsync.common.enums.HealthStatus.HEALTHY, t.lastError = NULL, "
+            + "t.connectorName = COALESCE(:connectorName, t.connectorName), t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int transitionToRunning(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                            @Param("connectorName") String connectorName);
+
+    /**
+     * Record the connector created for a task, whatever its status
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.connectorName = :connectorName, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId")
+    int updateConnectorName(@Param("taskId") UUID taskId, @Param("connectorName") String connectorName);
+
+    /**
+     * Move a task to FAILED with an error if it is in one of the given statuses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.status = com.dbsync.common.enums.TaskStatus.FAILED, "
+            + "t.healthStatus = com.dbsync.common.enums.HealthStatus.UNHEALTHY, t.lastError = :error, "
+            + "t.errorCount = COALESCE(t.errorCount, 0) + 1, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int transitionToFailed(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                           @Param("error") String error);
+
+    /**
+     * Move a task to QUEUED without a snapshot slot if it is in one of the given statuses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.status = com.dbsync.common.enums.TaskStatus.QUEUED, t.queuedAt = :queuedAt, "
+            + "t.snapshotSlotSince = NULL, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int transitionToQueued(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                           @Param("queuedAt") LocalDateTime queuedAt);
+
+    /**
+     * Move a task to COMPLETED and add the rows it synced if it is in one of the given statuses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.status = com.dbsync.common.enums.TaskStatus.COMPLETED, "
+            + "t.totalRecordsSynced = COALESCE(t.totalRecordsSynced, 0) + :rows, t.lastSyncTime = :now, "
+            + "t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int transitionToCompleted(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                              @Param("rows") long rows, @Param("now") LocalDateTime now);
+
+    /**
+     * Soft-delete a task if it is in one of the given statuses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SyncTask t SET t.deletedAt = :now, t.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE t.taskId = :taskId AND t.status IN :from AND t.deletedAt IS NULL")
+    int softDelete(@Param("taskId") UUID taskId, @Param("from") Collection<TaskStatus> from,
+                   @Param("now") LocalDateTime now);
 }
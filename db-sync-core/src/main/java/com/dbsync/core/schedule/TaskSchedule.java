@@ -0,0 +1,61 @@
+package com.dbsync.core.schedule;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.domain.config.ParsedConfigCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Parsed schedule_config of a sync task:
+ * {"cron": "0 2 * * *", "timezone": "UTC", "enabled": true, "runMinutes": 60}.
+ * Five-field Unix cron expressions are accepted next to Spring's six-field ones.
+ * runMinutes bounds the run of CDC tasks, which are stopped again after it; full-only
+ * tasks finish on their own.
+ *
+ * @author DB Sync Platform
+ */
+public record TaskSchedule(CronExpression cron, ZoneId zone, Integer runMinutes) {
+
+    private static final ParsedConfigCache<TaskSchedule> CACHE = new ParsedConfigCache<>(TaskSchedule::read);
+
+    /**
+     * Parse a schedule config
+     *
+     * @return the schedule, or null if the config has no cron or is disabled
+     */
+    public static TaskSchedule parse(String scheduleConfig) {
+        return scheduleConfig == null || scheduleConfig.isBlank() ? null : CACHE.get(scheduleConfig);
+    }
+
+    private static TaskSchedule read(String scheduleConfig) {
+        try {
+            JsonNode config = JsonUtil.parseJson(scheduleConfig);
+            if (!config.hasNonNull("cron") || !config.path("enabled").asBoolean(true)) {
+                return null;
+            }
+            String expression = config.get("cron").asText().trim();
+            if (expression.split("\\s+").length == 5) {
+                expression = "0 " + expression;
+            }
+            ZoneId zone = ZoneId.of(config.path("timezone").asText("UTC"));
+            Integer runMinutes = config.hasNonNull("runMinutes") ? config.get("runMinutes").asInt() : null;
+            return new TaskSchedule(CronExpression.parse(expression), zone, runMinutes);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Invalid schedule config: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Next fire time after the given instant, or null if the expression never fires again
+     */
+    public Instant nextAfter(Instant instant) {
+        ZonedDateTime next = cron.next(instant.atZone(zone));
+        return next != null ? next.toInstant() : null;
+    }
+}
@@ -0,0 +1,107 @@
+package com.dbsync.core.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel
+ * Keys are hashed into slots by the tick they fire at; a key further out than one rotation
+ * carries the number of rotations still to wait. Advancing by a tick only visits one slot,
+ * so the cost per tick depends on the keys in that slot, not on all scheduled keys.
+ * Scheduling, rescheduling and cancelling are O(1). Not thread-safe.
+ *
+ * @author DB Sync Platform
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMs;
+    private final List<Map<K, Entry>> slots;
+    private final Map<K, Entry> index = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param startMs time of tick 0; keys due at or before it fire on the first advance
+     */
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new LinkedHashMap<>());
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedule a key to fire at the given time, replacing its earlier schedule
+     */
+    public void schedule(K key, long fireAtMs) {
+        cancel(key);
+        long tick = Math.max(fireAtMs / tickMs, currentTick + 1);
+        int slot = (int) Math.floorMod(tick, (long) slots.size());
+        Entry entry = new Entry(slot, (tick - currentTick - 1) / slots.size());
+        slots.get(slot).put(key, entry);
+        index.put(key, entry);
+    }
+
+    /**
+     * Cancel a key's schedule
+     *
+     * @return whether it was scheduled
+     */
+    public boolean cancel(K key) {
+        Entry entry = index.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        slots.get(entry.slot).remove(key);
+        return true;
+    }
+
+    public boolean isScheduled(K key) {
+        return index.containsKey(key);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Advance the wheel up to the given time
+     *
+     * @return keys that came due, in firing order
+     */
+    public List<K> advance(long nowMs) {
+        List<K> due = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            Iterator<Map.Entry<K, Entry>> it = slots.get((int) Math.floorMod(currentTick, (long) slots.size()))
+                    .entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Entry> scheduled = it.next();
+                if (scheduled.getValue().rounds > 0) {
+                    scheduled.getValue().rounds--;
+                } else {
+                    it.remove();
+                    index.remove(scheduled.getKey());
+                    due.add(scheduled.getKey());
+                }
+            }
+        }
+        return due;
+    }
+
+    private static final class Entry {
+        private final int slot;
+        private long rounds;
+
+        private Entry(int slot, long rounds) {
+            this.slot = slot;
+            this.rounds = rounds;
+        }
+    }
+}
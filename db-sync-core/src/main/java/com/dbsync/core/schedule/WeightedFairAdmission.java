@@ -0,0 +1,72 @@
+package com.dbsync.core.schedule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Weighted Fair Admission
+ * Hands free slots to queued work of several owners in proportion to their weights. Each
+ * slot goes to the owner whose held slots, counting the new one, are lowest relative to
+ * its weight; ties go to the owner queued first. An owner holding slots therefore only
+ * gets more once the others have caught up to its share, and within an owner work is
+ * admitted in queue order.
+ *
+ * @author DB Sync Platform
+ */
+public final class WeightedFairAdmission {
+
+    private WeightedFairAdmission() {
+    }
+
+    /**
+     * Select the work to admit
+     *
+     * @param freeSlots slots available now
+     * @param held      slots each owner already holds; missing owners hold none
+     * @param weights   owner weights; missing or non-positive weights count as 1
+     * @param queues    queued work per owner in queue order, owners in order of their oldest work
+     * @return admitted work in admission order
+     */
+    public static <K, T> List<T> select(int freeSlots, Map<K, Integer> held, Map<K, Double> weights,
+                                        Map<K, ? extends List<T>> queues) {
+        Map<K, Integer> holding = new HashMap<>();
+        Map<K, Integer> arrival = new HashMap<>();
+        Map<K, Deque<T>> pending = new HashMap<>();
+        PriorityQueue<K> owners = new PriorityQueue<>(Comparator
+                .<K>comparingDouble(owner -> (holding.get(owner) + 1) / weight(weights, owner))
+                .thenComparingInt(arrival::get));
+        for (Map.Entry<K, ? extends List<T>> queue : queues.entrySet()) {
+            if (queue.getValue().isEmpty()) {
+                continue;
+            }
+            K owner = queue.getKey();
+            holding.put(owner, held.getOrDefault(owner, 0));
+            arrival.put(owner, arrival.size());
+            pending.put(owner, new ArrayDeque<>(queue.getValue()));
+            owners.add(owner);
+        }
+
+        List<T> admitted = new ArrayList<>();
+        while (admitted.size() < freeSlots && !owners.isEmpty()) {
+            K owner = owners.poll();
+            Deque<T> queue = pending.get(owner);
+            admitted.add(queue.poll());
+            holding.merge(owner, 1, Integer::sum);
+            if (!queue.isEmpty()) {
+                owners.add(owner);
+            }
+        }
+        return admitted;
+    }
+
+    private static <K> double weight(Map<K, Double> weights, K owner) {
+        Double weight = weights.get(owner);
+        return weight != null && weight > 0 ? weight : 1;
+    }
+}
@@ -0,0 +1,350 @@
+package com.dbsync.core.verify;
+
+import com.dbsync.common.enums.DatabaseType;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Per-database SQL for chunk checksums.
+ * Each row is rendered as the '|'-joined text of its columns, hashed with the
+ * database's native MD5 and reduced to the first 32 bits; the chunk hash is the
+ * SUM of row hashes, so it does not depend on row order. Column values are rendered
+ * in one canonical text per type, so the same row hashes alike on every database:
+ * booleans as 1/0, decimals without trailing fractional zeros, floating point rounded
+ * to 10 decimals, dates as YYYY-MM-DD, times as HH:MM:SS and timestamps as
+ * YYYY-MM-DD HH:MM:SS.ffffff.
+ *
+ * @author DB Sync Platform
+ */
+public enum ChecksumDialect {
+
+    MYSQL {
+        @Override
+        public String quote(String identifier) {
+            return "`" + identifier.replace("`", "``") + "`";
+        }
+
+        @Override
+        String text(String column) {
+            return "CAST(" + column + " AS CHAR)";
+        }
+
+        @Override
+        String booleanText(String column) {
+            return "CAST(CAST(" + column + " AS UNSIGNED) AS CHAR)";
+        }
+
+        @Override
+        String decimalText(String value) {
+            String text = text(value);
+            return "IF(LOCATE('.', " + text + ") > 0, TRIM(TRAILING '.' FROM TRIM(TRAILING '0' FROM "
+                    + text + ")), " + text + ")";
+        }
+
+        @Override
+        String dateText(String column) {
+            return "DATE_FORMAT(" + column + ", '%Y-%m-%d')";
+        }
+
+        @Override
+        String timeText(String column) {
+            return "TIME_FORMAT(" + column + ", '%H:%i:%s')";
+        }
+
+        @Override
+        String timestampText(String column) {
+            return "DATE_FORMAT(" + column + ", '%Y-%m-%d %H:%i:%s.%f')";
+        }
+
+        @Override
+        String rowHash(String rowText) {
+            return "CAST(CONV(SUBSTRING(MD5(" + rowText + "), 1, 8), 16, 10) AS UNSIGNED)";
+        }
+
+        @Override
+        String offsetClause() {
+            return " LIMIT 1 OFFSET ?";
+        }
+    },
+
+    POSTGRESQL {
+        @Override
+        public String quote(String identifier) {
+            return "\"" + identifier.replace("\"", "\"\"") + "\"";
+        }
+
+        @Override
+        String text(String column) {
+            return "CAST(" + column + " AS TEXT)";
+        }
+
+        @Override
+        String booleanText(String column) {
+            return "CAST(CAST(" + column + " AS INTEGER) AS TEXT)";
+        }
+
+        @Override
+        String decimalText(String value) {
+            String text = text(value);
+            return "CASE WHEN POSITION('.' IN " + text + ") > 0 THEN RTRIM(RTRIM(" + text + ", '0'), '.') ELSE "
+                    + text + " END";
+        }
+
+        @Override
+        String dateText(String column) {
+            return "TO_CHAR(" + column + ", 'YYYY-MM-DD')";
+        }
+
+        @Override
+        String timeText(String column) {
+            return "TO_CHAR(" + column + ", 'HH24:MI:SS')";
+        }
+
+        @Override
+        String timestampText(String column) {
+            return "TO_CHAR(" + column + ", 'YYYY-MM-DD HH24:MI:SS.US')";
+        }
+
+        @Override
+        String rowHash(String rowText) {
+            return "('x' || LPAD(SUBSTR(MD5(" + rowText + "), 1, 8), 16, '0'))::bit(64)::bigint";
+        }
+
+        @Override
+        String offsetClause() {
+            return " LIMIT 1 OFFSET ?";
+        }
+    },
+
+    SQLSERVER {
+        @Override
+        public String quote(String identifier) {
+            return "[" + identifier.replace("]", "]]") + "]";
+        }
+
+        @Override
+        String text(String column) {
+            return "CAST(" + column + " AS VARCHAR(MAX))";
+        }
+
+        @Override
+        String booleanText(String column) {
+            return "CAST(CAST(" + column + " AS INT) AS VARCHAR(20))";
+        }
+
+        @Override
+        String decimalText(String value) {
+            // Trailing zeros, then a trailing point, are turned into spaces, trimmed and turned back
+            String text = "CAST(" + value + " AS VARCHAR(64))";
+            return "CASE WHEN CHARINDEX('.', " + text + ") > 0 THEN REPLACE(RTRIM(REPLACE(REPLACE(RTRIM("
+                    + "REPLACE(" + text + ", '0', ' ')), ' ', '0'), '.', ' ')), ' ', '.') ELSE " + text + " END";
+        }
+
+        @Override
+        String dateText(String column) {
+            return "CONVERT(VARCHAR(10), " + column + ", 23)";
+        }
+
+        @Override
+        String timeText(String column) {
+            return "CONVERT(VARCHAR(8), " + column + ", 108)";
+        }
+
+        @Override
+        String timestampText(String column) {
+            return "CONVERT(VARCHAR(26), CAST(" + column + " AS DATETIME2(6)), 121)";
+        }
+
+        @Override
+        String rowHash(String rowText) {
+            return "CAST(SUBSTRING(HASHBYTES('MD5', " + rowText + "), 1, 4) AS BIGINT)";
+        }
+
+        @Override
+        String countExpression() {
+            return "COUNT_BIG(*)";
+        }
+
+        @Override
+        String offsetClause() {
+            return " OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY";
+        }
+    },
+
+    ORACLE {
+        @Override
+        public String quote(String identifier) {
+            return "\"" + identifier.replace("\"", "\"\"") + "\"";
+        }
+
+        @Override
+        String text(String column) {
+            return "TO_CHAR(" + column + ")";
+        }
+
+        @Override
+        String booleanText(String column) {
+            return text(column);
+        }
+
+        @Override
+        String decimalText(String value) {
+            // TO_CHAR drops trailing zeros but also the zero before the point of fractions
+            return "CASE WHEN " + value + " > -1 AND " + value + " < 1 AND " + value + " <> 0 THEN REPLACE(TO_CHAR("
+                    + value + "), '.', '0.') ELSE TO_CHAR(" + value + ") END";
+        }
+
+        @Override
+        String dateText(String column) {
+            return "TO_CHAR(" + column + ", 'YYYY-MM-DD')";
+        }
+
+        @Override
+        String timeText(String column) {
+            return text(column);
+        }
+
+        @Override
+        String timestampText(String column) {
+            return "TO_CHAR(CAST(" + column + " AS TIMESTAMP), 'YYYY-MM-DD HH24:MI:SS.FF6')";
+        }
+
+        @Override
+        String coalesce(String text) {
+            return "NVL(" + text + ", '" + NULL_TOKEN + "')";
+        }
+
+        @Override
+        String concat(List<String> parts) {
+            return String.join(" || '|' || ", parts);
+        }
+
+        @Override
+        String rowHash(String rowText) {
+            return "TO_NUMBER(SUBSTR(RAWTOHEX(STANDARD_HASH(" + rowText + ", 'MD5')), 1, 8), 'XXXXXXXX')";
+        }
+
+        @Override
+        String offsetClause() {
+            return " OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY";
+        }
+    };
+
+    static final String NULL_TOKEN = "<null>";
+
+    /**
+     * Quote an identifier
+     */
+    public abstract String quote(String identifier);
+
+    /**
+     * Plain text of a column, for types without a canonical rendering
+     */
+    abstract String text(String column);
+
+    abstract String booleanText(String column);
+
+    /**
+     * Text of a numeric value without trailing fractional zeros
+     */
+    abstract String decimalText(String value);
+
+    abstract String dateText(String column);
+
+    abstract String timeText(String column);
+
+    abstract String timestampText(String column);
+
+    abstract String rowHash(String rowText);
+
+    /**
+     * Clause picking the single row at a bound offset of an ordered query
+     */
+    abstract String offsetClause();
+
+    String coalesce(String text) {
+        return "COALESCE(" + text + ", '" + NULL_TOKEN + "')";
+    }
+
+    String concat(List<String> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        return parts.stream().collect(Collectors.joining(", '|', ", "CONCAT(", ")"));
+    }
+
+    String countExpression() {
+        return "COUNT(*)";
+    }
+
+    /**
+     * Canonical text of a column of the given JDBC type, with a token for NULL
+     */
+    String columnText(String column, int jdbcType) {
+        String text = switch (jdbcType) {
+            case Types.BIT, Types.BOOLEAN -> booleanText(column);
+            case Types.NUMERIC, Types.DECIMAL -> decimalText(column);
+            case Types.REAL, Types.FLOAT, Types.DOUBLE -> decimalText("CAST(" + column + " AS DECIMAL(38, 10))");
+            case Types.DATE -> dateText(column);
+            case Types.TIME -> timeText(column);
+            case Types.TIMESTAMP -> timestampText(column);
+            default -> text(column);
+        };
+        return coalesce(text);
+    }
+
+    /**
+     * Build the checksum query of a key range returning (row count, hash sum);
+     * it takes the range's present bounds as parameters
+     */
+    public String checksumSql(TableMetadata table, List<String> columns, KeyRange range) {
+        return "SELECT " + countExpression() + ", COALESCE(SUM(" + rowHashExpression(table, columns) + "), 0)"
+                + " FROM " + table.getSqlName() + rangeCondition(table.getKeyColumn(), range);
+    }
+
+    /**
+     * Build the query returning (key, row hash) of every row in a key range
+     */
+    public String rowHashSql(TableMetadata table, List<String> columns, KeyRange range) {
+        return "SELECT " + quote(table.getKeyColumn()) + ", " + rowHashExpression(table, columns)
+                + " FROM " + table.getSqlName() + rangeCondition(table.getKeyColumn(), range);
+    }
+
+    /**
+     * Condition selecting a key range, empty for the whole table; the present bounds are
+     * parameters, lower first
+     */
+    public String rangeCondition(String keyColumn, KeyRange range) {
+        String key = quote(keyColumn);
+        if (range.getLowerBound() != null && range.getUpperBound() != null) {
+            return " WHERE " + key + " >= ? AND " + key + " < ?";
+        }
+        if (range.getLowerBound() != null) {
+            return " WHERE " + key + " >= ?";
+        }
+        if (range.getUpperBound() != null) {
+            return " WHERE " + key + " < ?";
+        }
+        return "";
+    }
+
+    /**
+     * Build the query returning the key at a bound offset in key order, counted from the first
+     * key or, {@code afterKey}, from the first key above a bound one
+     */
+    public String keyAtOffsetSql(String table, String keyColumn, boolean afterKey) {
+        String key = quote(keyColumn);
+        return "SELECT " + key + " FROM " + table + (afterKey ? " WHERE " + key + " > ?" : "")
+                + " ORDER BY " + key + offsetClause();
+    }
+
+    private String rowHashExpression(TableMetadata table, List<String> columns) {
+        return rowHash(concat(columns.stream().map(c -> columnText(quote(c), table.columnType(c))).toList()));
+    }
+
+    public static ChecksumDialect of(DatabaseType databaseType) {
+        return valueOf(databaseType.name());
+    }
+}
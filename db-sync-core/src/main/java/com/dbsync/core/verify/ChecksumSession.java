@@ -0,0 +1,162 @@
+package com.dbsync.core.verify;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Read-only session against one side of a task, running checksum queries
+ * under the per-server concurrency limit
+ *
+ * @author DB Sync Platform
+ */
+public class ChecksumSession implements AutoCloseable {
+
+    @Getter
+    private final JdbcEndpoint endpoint;
+    @Getter
+    private final ChecksumDialect dialect;
+    private final Semaphore serverPermits;
+    private final int queryTimeoutSeconds;
+    private final HikariDataSource dataSource;
+
+    public ChecksumSession(JdbcEndpoint endpoint, Semaphore serverPermits, int poolSize,
+                           int queryTimeoutSeconds, String poolName) {
+        this.endpoint = endpoint;
+        this.dialect = ChecksumDialect.of(endpoint.getDatabaseType());
+        this.serverPermits = serverPermits;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+        this.dataSource = endpoint.openDataSource(poolName, poolSize);
+    }
+
+    /**
+     * Resolve a table on this side, or null if it does not exist
+     */
+    public TableMetadata resolveTable(String qualifier, String table) {
+        try (Connection connection = dataSource.getConnection()) {
+            return TableMetadata.resolve(connection, endpoint, dialect, qualifier, table);
+        } catch (SQLException e) {
+            throw failure("Failed to read metadata of " + table, e);
+        }
+    }
+
+    /**
+     * Split a table into key ranges of at most {@code rowsPerRange} rows
+     */
+    public List<KeyRange> planRanges(TableMetadata table, long rowsPerRange) {
+        if (!table.isNumericKey()) {
+            return List.of(KeyRange.ALL);
+        }
+        return KeyRange.fromBoundaries(planBoundaries(table, rowsPerRange));
+    }
+
+    /**
+     * Split keys of a table with a numeric key, each followed by at most {@code rowsPerRange}
+     * rows up to the next
+     */
+    public List<BigInteger> planBoundaries(TableMetadata table, long rowsPerRange) {
+        acquire();
+        try (Connection connection = dataSource.getConnection()) {
+            return KeyRangePlanner.boundaries(connection, dialect, table, rowsPerRange, queryTimeoutSeconds);
+        } catch (SQLException e) {
+            throw failure("Failed to plan key ranges of " + table.getName(), e);
+        } finally {
+            serverPermits.release();
+        }
+    }
+
+    /**
+     * Compute row count and order-independent hash of a key range
+     */
+    public ChunkChecksum checksum(TableMetadata table, List<String> columns, KeyRange range) {
+        return query(dialect.checksumSql(table, columns, range), range, rs -> {
+            rs.next();
+            return new ChunkChecksum(rs.getLong(1), rs.getBigDecimal(2).longValue());
+        });
+    }
+
+    /**
+     * Get the hash of every row in a key range, keyed by primary key
+     */
+    public Map<BigInteger, Long> rowHashes(TableMetadata table, List<String> columns, KeyRange range) {
+        return query(dialect.rowHashSql(table, columns, range), range, rs -> {
+            Map<BigInteger, Long> rows = new HashMap<>();
+            while (rs.next()) {
+                rows.put(KeyRangePlanner.toKey(rs.getBigDecimal(1)), rs.getBigDecimal(2).longValue());
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Run a query binding the bounds of the range
+     */
+    private <T> T query(String sql, KeyRange range, ResultMapper<T> mapper) {
+        acquire();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            range.bind(statement, 1);
+            try (ResultSet rs = statement.executeQuery()) {
+                return mapper.map(rs);
+            }
+        } catch (SQLException e) {
+            throw failure("Checksum query failed", e);
+        } finally {
+            serverPermits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            serverPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.DB_OPERATION_FAILED, "Interrupted while waiting for " + endpoint);
+        }
+    }
+
+    private BusinessException failure(String message, SQLException e) {
+        return new BusinessException(ErrorCodes.DB_OPERATION_FAILED,
+                message + " on " + endpoint + ": " + e.getMessage(), e);
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Row count and hash sum of a key range
+     */
+    @Getter
+    public static final class ChunkChecksum {
+        private final long rowCount;
+        private final long hash;
+
+        public ChunkChecksum(long rowCount, long hash) {
+            this.rowCount = rowCount;
+            this.hash = hash;
+        }
+
+        public boolean matches(ChunkChecksum other) {
+            return rowCount == other.rowCount && hash == other.hash;
+        }
+    }
+}
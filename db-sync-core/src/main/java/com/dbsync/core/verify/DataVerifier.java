@@ -0,0 +1,301 @@
+package com.dbsync.core.verify;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data Verifier
+ * Compares source and target of a sync task by splitting each table into primary
+ * key ranges of about the same number of source rows and checksumming every range
+ * on both sides in parallel
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class DataVerifier {
+
+    private final int maxQueriesPerServer;
+    private final long chunkSize;
+    private final long recheckDelayMs;
+    private final int queryTimeoutSeconds;
+
+    private final ExecutorService executor;
+    private final Map<String, Semaphore> serverPermits = new ConcurrentHashMap<>();
+
+    public DataVerifier(
+            @Value("${app.verify.threads:16}") int threads,
+            @Value("${app.verify.max-queries-per-database:4}") int maxQueriesPerServer,
+            @Value("${app.verify.chunk-size:1000000}") long chunkSize,
+            @Value("${app.verify.recheck-delay-ms:5000}") long recheckDelayMs,
+            @Value("${app.verify.query-timeout-seconds:600}") int queryTimeoutSeconds) {
+        this.maxQueriesPerServer = maxQueriesPerServer;
+        this.chunkSize = chunkSize;
+        this.recheckDelayMs = recheckDelayMs;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "data-verify-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Verify the given tables of a task, or the task's table.include.list when empty
+     */
+    public VerificationReport verify(SyncTask task, List<String> tables) {
+        long startTime = System.currentTimeMillis();
+        List<String> tableNames = resolveTableNames(task, tables);
+
+        log.info("Verifying {} tables of task {}", tableNames.size(), task.getTaskCode());
+
+        VerificationReport report = new VerificationReport();
+        report.setTaskId(task.getTaskId());
+
+        try (ChecksumSession source = openSession(task, true);
+             ChecksumSession target = openSession(task, false)) {
+            for (String tableName : tableNames) {
+                report.getTables().add(verifyTable(source, target, tableName));
+            }
+        }
+
+        report.setConsistent(report.getTables().stream().allMatch(VerificationReport.TableResult::isConsistent));
+        report.setDurationMs(System.currentTimeMillis() - startTime);
+
+        log.info("Verification of task {} finished in {} ms, consistent: {}",
+                task.getTaskCode(), report.getDurationMs(), report.isConsistent());
+        return report;
+    }
+
+    /**
+     * Open a checksum session against the source or target of a task
+     */
+    public ChecksumSession openSession(SyncTask task, boolean sourceSide) {
+        JdbcEndpoint endpoint = sourceSide
+                ? JdbcEndpoint.fromConfig(task.getSourceDbType(), task.getSourceConnectionConfig())
+                : JdbcEndpoint.fromConfig(task.getTargetDbType(), task.getTargetConnectionConfig());
+        Semaphore permits = serverPermits.computeIfAbsent(
+                endpoint.getServerKey(), key -> new Semaphore(maxQueriesPerServer));
+        String poolName = "verify-" + task.getTaskCode() + (sourceSide ? "-source" : "-target");
+        return new ChecksumSession(endpoint, permits, maxQueriesPerServer, queryTimeoutSeconds, poolName);
+    }
+
+    private VerificationReport.TableResult verifyTable(ChecksumSession source, ChecksumSession target,
+                                                       String tableName) {
+        VerificationReport.TableResult result = new VerificationReport.TableResult();
+        result.setSourceTable(tableName);
+
+        try {
+            TablePair pair = resolvePair(source, target, tableName);
+            result.setTargetTable(pair.target.getName());
+            result.setKeyColumn(pair.source.getKeyColumn());
+
+            List<KeyRange> ranges = planRanges(source, pair);
+            result.setChunks(ranges.size());
+
+            List<VerificationReport.RangeMismatch> mismatches = compareRanges(source, target, pair, ranges, result);
+            if (!mismatches.isEmpty() && recheckDelayMs > 0) {
+                // Rows still in flight through CDC converge within the delay; only persistent drift is reported
+                Thread.sleep(recheckDelayMs);
+                List<KeyRange> suspects = mismatches.stream().map(DataVerifier::toRange).toList();
+                mismatches = compareRanges(source, target, pair, suspects, null);
+            }
+            result.setMismatches(mismatches);
+
+            if (!mismatches.isEmpty()) {
+                log.warn("Table {} has {} mismatched ranges out of {}", tableName, mismatches.size(), ranges.size());
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.setError("Interrupted");
+        } catch (Exception e) {
+            log.error("Verification of table {} failed: {}", tableName, e.getMessage());
+            result.setError(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolve a table on both sides and pick the columns they have in common
+     */
+    public TablePair resolvePair(ChecksumSession source, ChecksumSession target, String tableName) {
+        int dot = tableName.lastIndexOf('.');
+        String qualifier = dot > 0 ? tableName.substring(0, dot) : source.getEndpoint().getSchema();
+        String table = tableName.substring(dot + 1);
+
+        TableMetadata sourceTable = source.resolveTable(qualifier, table);
+        if (sourceTable == null) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Source table not found: " + tableName);
+        }
+        TableMetadata targetTable = target.resolveTable(target.getEndpoint().getSchema(), table);
+        if (targetTable == null) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "Target table not found: " + table);
+        }
+
+        // Compare shared columns in name order so both sides hash the same row text
+        List<String> shared = new ArrayList<>(sourceTable.getColumns().keySet());
+        shared.retainAll(targetTable.getColumns().keySet());
+        Collections.sort(shared);
+        if (shared.isEmpty()) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR, "No common columns in table " + tableName);
+        }
+
+        return new TablePair(sourceTable, targetTable,
+                shared.stream().map(sourceTable.getColumns()::get).toList(),
+                shared.stream().map(targetTable.getColumns()::get).toList());
+    }
+
+    /**
+     * Split the source into ranges of at most chunk-size rows; the first and last range are
+     * open-ended, so target rows outside the source's keys are compared too. Tables without
+     * a numeric key are checked as a single range.
+     */
+    public List<KeyRange> planRanges(ChecksumSession source, TablePair pair) {
+        if (!pair.isRangeable()) {
+            log.warn("Table {} has no numeric primary key, checking it as a single range", pair.source.getName());
+            return List.of(KeyRange.ALL);
+        }
+        return source.planRanges(pair.source, chunkSize);
+    }
+
+    /**
+     * Checksum ranges on both sides in parallel and return the ones that differ
+     */
+    private List<VerificationReport.RangeMismatch> compareRanges(ChecksumSession source, ChecksumSession target,
+                                                                 TablePair pair, List<KeyRange> ranges,
+                                                                 VerificationReport.TableResult totals) {
+        List<CompletableFuture<VerificationReport.RangeMismatch>> futures = new ArrayList<>(ranges.size());
+        long[] rowTotals = new long[2];
+
+        for (KeyRange range : ranges) {
+            CompletableFuture<ChecksumSession.ChunkChecksum> sourceSum = CompletableFuture.supplyAsync(
+                    () -> source.checksum(pair.source, pair.sourceColumns, range), executor);
+            CompletableFuture<ChecksumSession.ChunkChecksum> targetSum = CompletableFuture.supplyAsync(
+                    () -> target.checksum(pair.target, pair.targetColumns, range), executor);
+
+            futures.add(sourceSum.thenCombine(targetSum, (s, t) -> {
+                synchronized (rowTotals) {
+                    rowTotals[0] += s.getRowCount();
+                    rowTotals[1] += t.getRowCount();
+                }
+                return s.matches(t) ? null : toMismatch(range, s, t);
+            }));
+        }
+
+        List<VerificationReport.RangeMismatch> mismatches = new ArrayList<>();
+        for (CompletableFuture<VerificationReport.RangeMismatch> future : futures) {
+            VerificationReport.RangeMismatch mismatch = future.join();
+            if (mismatch != null) {
+                mismatches.add(mismatch);
+            }
+        }
+
+        if (totals != null) {
+            totals.setSourceRows(rowTotals[0]);
+            totals.setTargetRows(rowTotals[1]);
+        }
+        return mismatches;
+    }
+
+    /**
+     * Use the given tables, or the task's table.include.list when none are given
+     */
+    public List<String> resolveTableNames(SyncTask task, List<String> tables) {
+        if (tables != null && !tables.isEmpty()) {
+            return tables;
+        }
+        List<String> included = TaskConfigs.connector(task).includedTables();
+        if (included.isEmpty()) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR,
+                    "No tables given for task " + task.getTaskCode() + "; pass tables or set table.include.list");
+        }
+        return included;
+    }
+
+    ExecutorService executor() {
+        return executor;
+    }
+
+    private static VerificationReport.RangeMismatch toMismatch(KeyRange range, ChecksumSession.ChunkChecksum source,
+                                                               ChecksumSession.ChunkChecksum target) {
+        VerificationReport.RangeMismatch mismatch = new VerificationReport.RangeMismatch();
+        mismatch.setLowerBound(range.getLowerBound());
+        mismatch.setUpperBound(range.getUpperBound());
+        mismatch.setSourceCount(source.getRowCount());
+        mismatch.setTargetCount(target.getRowCount());
+        mismatch.setSourceHash(source.getHash());
+        mismatch.setTargetHash(target.getHash());
+        return mismatch;
+    }
+
+    private static KeyRange toRange(VerificationReport.RangeMismatch mismatch) {
+        return new KeyRange(mismatch.getLowerBound(), mismatch.getUpperBound());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A table resolved on both sides with the columns to compare
+     */
+    public static final class TablePair {
+        private final TableMetadata source;
+        private final TableMetadata target;
+        private final List<String> sourceColumns;
+        private final List<String> targetColumns;
+
+        TablePair(TableMetadata source, TableMetadata target, List<String> sourceColumns, List<String> targetColumns) {
+            this.source = source;
+            this.target = target;
+            this.sourceColumns = sourceColumns;
+            this.targetColumns = targetColumns;
+        }
+
+        public TableMetadata getSource() {
+            return source;
+        }
+
+        public TableMetadata getTarget() {
+            return target;
+        }
+
+        public List<String> getSourceColumns() {
+            return sourceColumns;
+        }
+
+        public List<String> getTargetColumns() {
+            return targetColumns;
+        }
+
+        /**
+         * Ranges need a numeric leading key with the same name on both sides
+         */
+        public boolean isRangeable() {
+            return source.isNumericKey() && target.isNumericKey()
+                    && source.getKeyColumn().equalsIgnoreCase(target.getKeyColumn());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.dbsync.core.verify;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.enums.DatabaseType;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.domain.config.ConnectionConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * JDBC endpoint resolved from a task's connection config JSON
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public final class JdbcEndpoint {
+
+    private final DatabaseType databaseType;
+    private final String host;
+    private final int port;
+    private final String database;
+    private final String schema;
+    private final String username;
+    private final String password;
+
+    private JdbcEndpoint(DatabaseType databaseType, String host, int port, String database,
+                         String schema, String username, String password) {
+        this.databaseType = databaseType;
+        this.host = host;
+        this.port = port;
+        this.database = database;
+        this.schema = schema;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Parse an endpoint from connection config ({host, port, database, schema, username, password})
+     */
+    public static JdbcEndpoint fromConfig(DatabaseType databaseType, String connectionConfig) {
+        ConnectionConfig config;
+        try {
+            config = ConnectionConfig.of(connectionConfig);
+        } catch (BusinessException e) {
+            throw new BusinessException(ErrorCodes.PARAM_ERROR,
+                    "Invalid " + databaseType.getDisplayName() + " connection config: " + e.getMessage());
+        }
+        return new JdbcEndpoint(databaseType, config.host(), config.portOr(defaultPort(databaseType)),
+                config.database(), config.schema(), config.username(), config.password());
+    }
+
+    public String getJdbcUrl() {
+        String db = database != null ? database : "";
+        return switch (databaseType) {
+            case MYSQL -> String.format("jdbc:mysql://%s:%d/%s", host, port, db);
+            case POSTGRESQL -> String.format("jdbc:postgresql://%s:%d/%s", host, port, db);
+            case SQLSERVER -> String.format("jdbc:sqlserver://%s:%d;databaseName=%s;trustServerCertificate=true",
+                    host, port, db);
+            case ORACLE -> String.format("jdbc:oracle:thin:@//%s:%d/%s", host, port, db);
+        };
+    }
+
+    /**
+     * Key identifying the database server, used to cap concurrent queries against it
+     */
+    public String getServerKey() {
+        return host + ":" + port;
+    }
+
+    /**
+     * Open a small read-only pool against this endpoint; the caller closes it
+     */
+    public HikariDataSource openDataSource(String poolName, int maxPoolSize) {
+        return openDataSource(poolName, maxPoolSize, true);
+    }
+
+    /**
+     * Open a small pool against this endpoint; the caller closes it
+     */
+    public HikariDataSource openDataSource(String poolName, int maxPoolSize, boolean readOnly) {
+        return openDataSource(poolName, maxPoolSize, readOnly, Map.of());
+    }
+
+    /**
+     * Open a small pool against this endpoint with extra driver properties; the caller closes it
+     */
+    public HikariDataSource openDataSource(String poolName, int maxPoolSize, boolean readOnly,
+                                           Map<String, String> driverProperties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setDriverClassName(databaseType.getDriverClassName());
+        config.setJdbcUrl(getJdbcUrl());
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(0);
+        config.setReadOnly(readOnly);
+        if (!readOnly) {
+            // Let the drivers send JDBC batches as multi-row statements
+            switch (databaseType) {
+                case MYSQL -> config.addDataSourceProperty("rewriteBatchedStatements", "true");
+                case POSTGRESQL -> config.addDataSourceProperty("reWriteBatchedInserts", "true");
+                default -> { }
+            }
+        }
+        driverProperties.forEach(config::addDataSourceProperty);
+        return new HikariDataSource(config);
+    }
+
+    private static int defaultPort(DatabaseType databaseType) {
+        return switch (databaseType) {
+            case MYSQL -> 3306;
+            case POSTGRESQL -> 5432;
+            case SQLSERVER -> 1433;
+            case ORACLE -> 1521;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return databaseType.getDisplayName() + " " + getServerKey() + "/" + database;
+    }
+}
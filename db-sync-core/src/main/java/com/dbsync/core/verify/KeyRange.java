@@ -0,0 +1,87 @@
+package com.dbsync.core.verify;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Half-open primary key range [lowerBound, upperBound); a null bound leaves that side open.
+ * Keys are integers of any width, so unsigned BIGINT and NUMERIC(p, 0) keys fit.
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public final class KeyRange {
+
+    /**
+     * The whole key space, for tables read in one piece
+     */
+    public static final KeyRange ALL = new KeyRange(null, null);
+
+    private static final int LONG_BITS = 63;
+
+    private final BigInteger lowerBound;
+    private final BigInteger upperBound;
+
+    public KeyRange(BigInteger lowerBound, BigInteger upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Ranges between ascending split keys: below the first, between each pair and from the last
+     * upwards, so together they cover every key whatever the table holds
+     */
+    public static List<KeyRange> fromBoundaries(List<BigInteger> boundaries) {
+        List<KeyRange> ranges = new ArrayList<>(boundaries.size() + 1);
+        BigInteger lower = null;
+        for (BigInteger boundary : boundaries) {
+            ranges.add(new KeyRange(lower, boundary));
+            lower = boundary;
+        }
+        ranges.add(new KeyRange(lower, null));
+        return ranges;
+    }
+
+    /**
+     * Bind the present bounds, lower first, from the given parameter index
+     *
+     * @return the next free parameter index
+     */
+    public int bind(PreparedStatement statement, int index) throws SQLException {
+        if (lowerBound != null) {
+            bindKey(statement, index++, lowerBound);
+        }
+        if (upperBound != null) {
+            bindKey(statement, index++, upperBound);
+        }
+        return index;
+    }
+
+    public boolean contains(BigInteger key) {
+        return (lowerBound == null || key.compareTo(lowerBound) >= 0)
+                && (upperBound == null || key.compareTo(upperBound) < 0);
+    }
+
+    /**
+     * Keys that fit a long are bound as one, so the comparison stays on the key column's type
+     * and its index
+     */
+    static void bindKey(PreparedStatement statement, int index, BigInteger key) throws SQLException {
+        if (key.bitLength() <= LONG_BITS) {
+            statement.setLong(index, key.longValue());
+        } else {
+            statement.setBigDecimal(index, new BigDecimal(key));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[" + (lowerBound != null ? lowerBound : "-inf") + ", " + (upperBound != null ? upperBound : "+inf") + ")";
+    }
+}
@@ -0,0 +1,78 @@
+package com.dbsync.core.verify;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a table into key ranges of about the same number of rows.
+ * Boundaries are found by walking the primary key index, each step skipping a range's worth
+ * of keys, so ranges follow the rows actually present: sparse or skewed keys never yield
+ * empty ranges or more ranges than the table has rows.
+ *
+ * @author DB Sync Platform
+ */
+public final class KeyRangePlanner {
+
+    private KeyRangePlanner() {
+    }
+
+    /**
+     * Plan ranges of at most {@code rowsPerRange} rows; a table without a numeric key is a
+     * single range
+     */
+    public static List<KeyRange> plan(Connection connection, ChecksumDialect dialect, TableMetadata table,
+                                      long rowsPerRange, int queryTimeoutSeconds) throws SQLException {
+        if (!table.isNumericKey()) {
+            return List.of(KeyRange.ALL);
+        }
+        return KeyRange.fromBoundaries(boundaries(connection, dialect, table, rowsPerRange, queryTimeoutSeconds));
+    }
+
+    /**
+     * Ascending split keys, each followed by at most {@code rowsPerRange} rows up to the next;
+     * the table must have a numeric key
+     */
+    public static List<BigInteger> boundaries(Connection connection, ChecksumDialect dialect, TableMetadata table,
+                                              long rowsPerRange, int queryTimeoutSeconds) throws SQLException {
+        List<BigInteger> boundaries = new ArrayList<>();
+        String firstSql = dialect.keyAtOffsetSql(table.getSqlName(), table.getKeyColumn(), false);
+        String nextSql = dialect.keyAtOffsetSql(table.getSqlName(), table.getKeyColumn(), true);
+
+        // The first range holds the rows before the key at offset rowsPerRange, each later one
+        // its boundary key and the rowsPerRange - 1 keys after it
+        BigInteger boundary = keyAtOffset(connection, firstSql, null, rowsPerRange, queryTimeoutSeconds);
+        while (boundary != null) {
+            boundaries.add(boundary);
+            boundary = keyAtOffset(connection, nextSql, boundary, rowsPerRange - 1, queryTimeoutSeconds);
+        }
+        return boundaries;
+    }
+
+    private static BigInteger keyAtOffset(Connection connection, String sql, BigInteger after, long offset,
+                                          int queryTimeoutSeconds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            int index = 1;
+            if (after != null) {
+                KeyRange.bindKey(statement, index++, after);
+            }
+            statement.setLong(index, offset);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? toKey(rs.getBigDecimal(1)) : null;
+            }
+        }
+    }
+
+    /**
+     * Read an integer key column value
+     */
+    public static BigInteger toKey(BigDecimal value) {
+        return value != null ? value.toBigIntegerExact() : null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.dbsync.core.verify;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Merkle tree over primary key range hashes.
+ * Leaves follow split keys planned by row count: leaf 0 holds the keys below the first boundary,
+ * leaf i the keys [boundary i - 1, boundary i) and the last leaf every key from the last boundary
+ * up, so leaves start out with about the same number of rows however sparse the keys are.
+ * Each leaf is {row count, hash sum}. Row hashes are summed, so a parent node is the sum of its
+ * children and only leaves need storing; interior levels (fan-out 16) are rebuilt in memory when
+ * two trees are compared.
+ *
+ * @author DB Sync Platform
+ */
+public class MerkleTree {
+
+    private static final int FAN_OUT_BITS = 4;
+
+    private final List<BigInteger> boundaries;
+    private final NavigableMap<Long, long[]> leaves;
+
+    public MerkleTree(List<BigInteger> boundaries) {
+        this(boundaries, new TreeMap<>());
+    }
+
+    private MerkleTree(List<BigInteger> boundaries, NavigableMap<Long, long[]> leaves) {
+        this.boundaries = List.copyOf(boundaries);
+        this.leaves = leaves;
+    }
+
+    /**
+     * Restore a tree from its ascending boundaries and stored leaves, each {bucket, row count, hash}
+     */
+    public static MerkleTree fromLeaves(List<BigInteger> boundaries, long[][] storedLeaves) {
+        NavigableMap<Long, long[]> leaves = new TreeMap<>();
+        for (long[] leaf : storedLeaves) {
+            leaves.put(leaf[0], new long[]{leaf[1], leaf[2]});
+        }
+        return new MerkleTree(boundaries, leaves);
+    }
+
+    /**
+     * Non-empty leaves as {bucket, row count, hash}, in bucket order
+     */
+    public long[][] toLeaves() {
+        long[][] stored = new long[leaves.size()][];
+        int i = 0;
+        for (Map.Entry<Long, long[]> leaf : leaves.entrySet()) {
+            stored[i++] = new long[]{leaf.getKey(), leaf.getValue()[0], leaf.getValue()[1]};
+        }
+        return stored;
+    }
+
+    /**
+     * Replace a leaf with a freshly computed one
+     */
+    public void replaceLeaf(long bucket, long rowCount, long hash) {
+        if (bucket < 0 || bucket >= getLeafCount()) {
+            throw new IllegalArgumentException("Bucket outside the tree: " + bucket);
+        }
+        if (rowCount > 0) {
+            leaves.put(bucket, new long[]{rowCount, hash});
+        } else {
+            leaves.remove(bucket);
+        }
+    }
+
+    public long bucketOf(BigInteger key) {
+        int index = Collections.binarySearch(boundaries, key);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    public KeyRange rangeOf(long bucket) {
+        int index = (int) bucket;
+        return new KeyRange(index > 0 ? boundaries.get(index - 1) : null,
+                index < boundaries.size() ? boundaries.get(index) : null);
+    }
+
+    public List<BigInteger> getBoundaries() {
+        return boundaries;
+    }
+
+    public int getLeafCount() {
+        return boundaries.size() + 1;
+    }
+
+    public long getRowCount() {
+        return leaves.values().stream().mapToLong(leaf -> leaf[0]).sum();
+    }
+
+    /**
+     * Row count of the fullest leaf, which grows past the planned size as rows are inserted
+     */
+    public long getMaxLeafRows() {
+        return leaves.values().stream().mapToLong(leaf -> leaf[0]).max().orElse(0);
+    }
+
+    /**
+     * Find the leaf buckets that differ from another tree with the same geometry,
+     * descending only into subtrees whose hashes differ
+     */
+    public List<Long> diff(MerkleTree other) {
+        if (!boundaries.equals(other.boundaries)) {
+            throw new IllegalArgumentException("Merkle trees have different key geometry");
+        }
+
+        List<Map<Long, long[]>> mine = levels(leaves);
+        List<Map<Long, long[]>> theirs = levels(other.leaves);
+        int top = Math.max(mine.size(), theirs.size()) - 1;
+
+        List<Long> differing = new ArrayList<>();
+        descend(mine, theirs, top, 0L, differing);
+        return differing;
+    }
+
+    private void descend(List<Map<Long, long[]>> mine, List<Map<Long, long[]>> theirs,
+                         int level, long node, List<Long> differing) {
+        if (sameNode(node(mine, level, node), node(theirs, level, node))) {
+            return;
+        }
+        if (level == 0) {
+            differing.add(node);
+            return;
+        }
+        long firstChild = node << FAN_OUT_BITS;
+        for (long child = firstChild; child < firstChild + (1 << FAN_OUT_BITS); child++) {
+            descend(mine, theirs, level - 1, child, differing);
+        }
+    }
+
+    /**
+     * Build every level from the leaves up to a single root node 0
+     */
+    private static List<Map<Long, long[]>> levels(NavigableMap<Long, long[]> leaves) {
+        List<Map<Long, long[]>> levels = new ArrayList<>();
+        Map<Long, long[]> current = new HashMap<>(leaves);
+        levels.add(current);
+
+        while (current.size() > 1 || (current.size() == 1 && !current.containsKey(0L))) {
+            Map<Long, long[]> parent = new HashMap<>();
+            for (Map.Entry<Long, long[]> entry : current.entrySet()) {
+                long[] sum = parent.computeIfAbsent(entry.getKey() >> FAN_OUT_BITS, k -> new long[2]);
+                sum[0] += entry.getValue()[0];
+                sum[1] += entry.getValue()[1];
+            }
+            levels.add(parent);
+            current = parent;
+        }
+        return levels;
+    }
+
+    private static long[] node(List<Map<Long, long[]>> levels, int level, long node) {
+        if (level >= levels.size()) {
+            // Above this tree's root only node 0 exists and it equals the root
+            return node == 0 ? levels.get(levels.size() - 1).get(0L) : null;
+        }
+        return levels.get(level).get(node);
+    }
+
+    private static boolean sameNode(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a[0] == b[0] && a[1] == b[1];
+    }
+}
@@ -0,0 +1,149 @@
+package com.dbsync.core.verify;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds and refreshes source/target Merkle trees of a table and finds drifted rows
+ * inside the leaves where the trees differ
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class MerkleTreeBuilder {
+
+    private final DataVerifier dataVerifier;
+
+    public MerkleTreeBuilder(DataVerifier dataVerifier) {
+        this.dataVerifier = dataVerifier;
+    }
+
+    /**
+     * Split the source table into leaves of about {@code rowsPerLeaf} rows and hash every leaf
+     * on both sides into fresh trees. Target keys outside the source's span fall in the open
+     * first or last leaf.
+     *
+     * @return {source tree, target tree}
+     */
+    public MerkleTree[] build(ChecksumSession source, ChecksumSession target,
+                              DataVerifier.TablePair pair, long rowsPerLeaf) {
+        List<BigInteger> boundaries = source.planBoundaries(pair.getSource(), rowsPerLeaf);
+        MerkleTree sourceTree = new MerkleTree(boundaries);
+        MerkleTree targetTree = new MerkleTree(boundaries);
+        SortedSet<Long> allBuckets = new TreeSet<>();
+        for (long bucket = 0; bucket < sourceTree.getLeafCount(); bucket++) {
+            allBuckets.add(bucket);
+        }
+        rehash(source, target, pair, sourceTree, targetTree, allBuckets);
+        return new MerkleTree[]{sourceTree, targetTree};
+    }
+
+    /**
+     * Rehash only the given leaf buckets on both sides
+     */
+    public void refresh(ChecksumSession source, ChecksumSession target, DataVerifier.TablePair pair,
+                        MerkleTree sourceTree, MerkleTree targetTree, SortedSet<Long> dirtyBuckets) {
+        if (!dirtyBuckets.isEmpty()) {
+            rehash(source, target, pair, sourceTree, targetTree, dirtyBuckets);
+        }
+    }
+
+    /**
+     * Compare rows of the given leaves on both sides
+     */
+    public RowDiff diffRows(ChecksumSession source, ChecksumSession target, DataVerifier.TablePair pair,
+                            MerkleTree tree, Collection<Long> buckets) {
+        List<CompletableFuture<RowDiff>> futures = new ArrayList<>();
+        for (long bucket : buckets) {
+            KeyRange range = tree.rangeOf(bucket);
+            CompletableFuture<Map<BigInteger, Long>> sourceRows = CompletableFuture.supplyAsync(
+                    () -> source.rowHashes(pair.getSource(), pair.getSourceColumns(), range), dataVerifier.executor());
+            CompletableFuture<Map<BigInteger, Long>> targetRows = CompletableFuture.supplyAsync(
+                    () -> target.rowHashes(pair.getTarget(), pair.getTargetColumns(), range), dataVerifier.executor());
+            futures.add(sourceRows.thenCombine(targetRows, RowDiff::of));
+        }
+
+        RowDiff total = new RowDiff();
+        futures.forEach(future -> total.merge(future.join()));
+        return total;
+    }
+
+    /**
+     * Recompute the given leaves on both sides in parallel, one range checksum per leaf and side
+     */
+    private void rehash(ChecksumSession source, ChecksumSession target, DataVerifier.TablePair pair,
+                        MerkleTree sourceTree, MerkleTree targetTree, SortedSet<Long> buckets) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long bucket : buckets) {
+            KeyRange range = sourceTree.rangeOf(bucket);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> source.checksum(pair.getSource(), pair.getSourceColumns(), range),
+                    dataVerifier.executor()).thenAccept(leaf -> {
+                synchronized (sourceTree) {
+                    sourceTree.replaceLeaf(bucket, leaf.getRowCount(), leaf.getHash());
+                }
+            }));
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> target.checksum(pair.getTarget(), pair.getTargetColumns(), range),
+                    dataVerifier.executor()).thenAccept(leaf -> {
+                synchronized (targetTree) {
+                    targetTree.replaceLeaf(bucket, leaf.getRowCount(), leaf.getHash());
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+        log.debug("Rehashed {} leaves of {}", buckets.size(), pair.getSource().getName());
+    }
+
+    /**
+     * Keys whose rows differ between source and target
+     */
+    @Getter
+    public static class RowDiff {
+        private final SortedSet<BigInteger> missingInTarget = new TreeSet<>();
+        private final SortedSet<BigInteger> changed = new TreeSet<>();
+        private final SortedSet<BigInteger> extraInTarget = new TreeSet<>();
+
+        static RowDiff of(Map<BigInteger, Long> sourceRows, Map<BigInteger, Long> targetRows) {
+            RowDiff diff = new RowDiff();
+            sourceRows.forEach((key, hash) -> {
+                Long targetHash = targetRows.get(key);
+                if (targetHash == null) {
+                    diff.missingInTarget.add(key);
+                } else if (!targetHash.equals(hash)) {
+                    diff.changed.add(key);
+                }
+            });
+            targetRows.keySet().stream()
+                    .filter(key -> !sourceRows.containsKey(key))
+                    .forEach(diff.extraInTarget::add);
+            return diff;
+        }
+
+        void merge(RowDiff other) {
+            missingInTarget.addAll(other.missingInTarget);
+            changed.addAll(other.changed);
+            extraInTarget.addAll(other.extraInTarget);
+        }
+
+        /**
+         * Keys to re-read from the source
+         */
+        public SortedSet<BigInteger> keysToReemit() {
+            SortedSet<BigInteger> keys = new TreeSet<>(missingInTarget);
+            keys.addAll(changed);
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.dbsync.core.verify;
+
+import lombok.Data;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a Merkle tree repair run
+ *
+ * @author DB Sync Platform
+ */
+@Data
+public class RepairReport {
+
+    private UUID taskId;
+    private boolean dryRun;
+    private long durationMs;
+    private List<TableRepair> tables = new ArrayList<>();
+
+    /**
+     * Per-table repair summary
+     */
+    @Data
+    public static class TableRepair {
+        private String table;
+        private boolean fullRebuild;
+        private long rehashedLeaves;
+        private long driftedLeaves;
+        private boolean truncated;
+        private long missingInTarget;
+        private long changed;
+        private long reemittedRows;
+        private int signalsSent;
+
+        /**
+         * Rows present only in the target; snapshots cannot re-emit deletes, so they are listed for review
+         */
+        private List<BigInteger> extraInTarget = new ArrayList<>();
+        private String error;
+    }
+}
@@ -0,0 +1,134 @@
+package com.dbsync.core.verify;
+
+import com.dbsync.common.enums.DatabaseType;
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table columns and leading primary key column, read from JDBC metadata
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public final class TableMetadata {
+
+    private static final Set<Integer> INTEGER_TYPES = Set.of(
+            Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT);
+    private static final Set<Integer> DECIMAL_TYPES = Set.of(Types.NUMERIC, Types.DECIMAL);
+
+    private final String name;
+    private final String sqlName;
+    private final String keyColumn;
+    private final boolean numericKey;
+
+    /**
+     * Column names keyed by lower-cased name, in table order
+     */
+    private final Map<String, String> columns;
+
+    /**
+     * JDBC types keyed by column name
+     */
+    private final Map<String, Integer> columnTypes;
+
+    TableMetadata(String name, String sqlName, String keyColumn, boolean numericKey,
+                  Map<String, String> columns, Map<String, Integer> columnTypes) {
+        this.name = name;
+        this.sqlName = sqlName;
+        this.keyColumn = keyColumn;
+        this.numericKey = numericKey;
+        this.columns = columns;
+        this.columnTypes = columnTypes;
+    }
+
+    /**
+     * JDBC type of a column, {@link Types#OTHER} if unknown
+     */
+    public int columnType(String column) {
+        return columnTypes.getOrDefault(column, Types.OTHER);
+    }
+
+    /**
+     * Resolve a table, trying the name as given, upper-cased and lower-cased
+     *
+     * @return the table metadata, or null if the table does not exist
+     */
+    public static TableMetadata resolve(Connection connection, JdbcEndpoint endpoint, ChecksumDialect dialect,
+                                        String qualifier, String table) throws SQLException {
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(table);
+        candidates.add(table.toUpperCase(Locale.ROOT));
+        candidates.add(table.toLowerCase(Locale.ROOT));
+
+        for (String candidate : candidates) {
+            TableMetadata metadata = tryResolve(connection, endpoint, dialect, qualifier, candidate);
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+        return null;
+    }
+
+    private static TableMetadata tryResolve(Connection connection, JdbcEndpoint endpoint, ChecksumDialect dialect,
+                                            String qualifier, String table) throws SQLException {
+        // MySQL exposes databases as catalogs, the others as schemas
+        boolean catalogQualified = endpoint.getDatabaseType() == DatabaseType.MYSQL;
+        String catalog = catalogQualified ? (qualifier != null ? qualifier : connection.getCatalog()) : null;
+        String schema = catalogQualified ? null : (qualifier != null ? qualifier : connection.getSchema());
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, String> columns = new LinkedHashMap<>();
+        Map<String, Integer> columnTypes = new LinkedHashMap<>();
+        Map<String, Integer> columnScales = new LinkedHashMap<>();
+
+        try (ResultSet rs = metaData.getColumns(catalog, schema, table, null)) {
+            while (rs.next()) {
+                // Metadata lookups take patterns, so "_" may match other tables
+                if (!table.equals(rs.getString("TABLE_NAME"))) {
+                    continue;
+                }
+                String column = rs.getString("COLUMN_NAME");
+                columns.put(column.toLowerCase(Locale.ROOT), column);
+                columnTypes.put(column, rs.getInt("DATA_TYPE"));
+                columnScales.put(column, rs.getInt("DECIMAL_DIGITS"));
+            }
+        }
+
+        if (columns.isEmpty()) {
+            return null;
+        }
+
+        String keyColumn = null;
+        try (ResultSet rs = metaData.getPrimaryKeys(catalog, schema, table)) {
+            while (rs.next()) {
+                if (rs.getInt("KEY_SEQ") == 1) {
+                    keyColumn = rs.getString("COLUMN_NAME");
+                }
+            }
+        }
+
+        boolean numericKey = false;
+        if (keyColumn != null) {
+            int type = columnTypes.get(keyColumn);
+            numericKey = INTEGER_TYPES.contains(type)
+                    || (DECIMAL_TYPES.contains(type) && columnScales.get(keyColumn) == 0);
+        }
+
+        String sqlName = qualifier != null
+                ? dialect.quote(qualifier) + "." + dialect.quote(table)
+                : dialect.quote(table);
+        String name = qualifier != null ? qualifier + "." + table : table;
+
+        return new TableMetadata(name, sqlName, keyColumn, numericKey, columns, columnTypes);
+    }
+}
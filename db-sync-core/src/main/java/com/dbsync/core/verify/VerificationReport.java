@@ -0,0 +1,55 @@
+package com.dbsync.core.verify;
+
+import lombok.Data;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a source/target verification; only mismatched ranges are listed
+ *
+ * @author DB Sync Platform
+ */
+@Data
+public class VerificationReport {
+
+    private UUID taskId;
+    private boolean consistent;
+    private long durationMs;
+    private List<TableResult> tables = new ArrayList<>();
+
+    /**
+     * Per-table summary
+     */
+    @Data
+    public static class TableResult {
+        private String sourceTable;
+        private String targetTable;
+        private String keyColumn;
+        private int chunks;
+        private long sourceRows;
+        private long targetRows;
+        private String error;
+        private List<RangeMismatch> mismatches = new ArrayList<>();
+
+        public boolean isConsistent() {
+            return error == null && mismatches.isEmpty();
+        }
+    }
+
+    /**
+     * A key range whose row count or hash differs between source and target; a null bound
+     * leaves the range open on that side
+     */
+    @Data
+    public static class RangeMismatch {
+        private BigInteger lowerBound;
+        private BigInteger upperBound;
+        private long sourceCount;
+        private long targetCount;
+        private long sourceHash;
+        private long targetHash;
+    }
+}
@@ -0,0 +1,117 @@
+package com.dbsync.core.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ClusterMembership Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClusterMembershipTest {
+
+    private static final String KEY = "dbsync:cluster:nodes";
+    private static final UUID TASK = UUID.randomUUID();
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private AtomicLong nanos;
+    private ClusterMembership membership;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong(0);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(KEY), anyDouble(), anyDouble())).thenReturn(Set.of("node-a"));
+        membership = new ClusterMembership(redisTemplate, "node-a", true, KEY, 6000L, 16, nanos::get);
+    }
+
+    @Test
+    void testOwnsNothingBeforeFirstHeartbeat() {
+        // When & Then
+        assertThat(membership.ownsTask(TASK)).isFalse();
+        assertThat(membership.getLiveNodes()).isEmpty();
+    }
+
+    @Test
+    void testStandaloneNodeOwnsEverything() {
+        // Given
+        ClusterMembership standalone = new ClusterMembership(redisTemplate, "node-a", false, KEY, 6000L, 16, nanos::get);
+
+        // When & Then
+        assertThat(standalone.ownsTask(TASK)).isTrue();
+    }
+
+    @Test
+    void testHeartbeatScoresWithRedisServerTime() {
+        // Given
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(1_000_000L);
+
+        // When
+        membership.heartbeat();
+
+        // Then
+        verify(zSetOperations).add(KEY, "node-a", 1_000_000.0);
+        verify(zSetOperations).removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, 994_000.0);
+        assertThat(membership.ownsTask(TASK)).isTrue();
+    }
+
+    @Test
+    void testOwnsNothingWhenRedisDownBeforeJoining() {
+        // Given
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        membership.heartbeat();
+
+        // Then
+        assertThat(membership.ownsTask(TASK)).isFalse();
+    }
+
+    @Test
+    void testOwnershipLapsesAfterNodeTimeoutWithoutHeartbeat() {
+        // Given
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(1_000_000L);
+        membership.heartbeat();
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        membership.heartbeat();
+        boolean ownsWithinTimeout = membership.ownsTask(TASK);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        // Then
+        assertThat(ownsWithinTimeout).isTrue();
+        assertThat(membership.ownsTask(TASK)).isFalse();
+    }
+}
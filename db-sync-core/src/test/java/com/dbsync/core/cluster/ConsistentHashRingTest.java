@@ -0,0 +1,62 @@
+package com.dbsync.core.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConsistentHashRing Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class ConsistentHashRingTest {
+
+    private static final List<String> KEYS = IntStream.range(0, 10_000)
+            .mapToObj(i -> UUID.nameUUIDFromBytes(("task-" + i).getBytes()).toString())
+            .toList();
+
+    @Test
+    void testOwnerOf_EmptyRing() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(), 128);
+
+        // When & Then
+        assertThat(ring.ownerOf("any")).isNull();
+        assertThat(ring.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testOwnerOf_BalancedAcrossNodes() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        KEYS.forEach(key -> counts.merge(ring.ownerOf(key), 1, Integer::sum));
+
+        // Then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(2500, 4200));
+    }
+
+    @Test
+    void testOwnerOf_NodeRemovalOnlyMovesItsKeys() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-b"), 128);
+
+        // When & Then
+        for (String key : KEYS) {
+            String owner = before.ownerOf(key);
+            if (!owner.equals("node-c")) {
+                assertThat(after.ownerOf(key)).isEqualTo(owner);
+            }
+        }
+    }
+}
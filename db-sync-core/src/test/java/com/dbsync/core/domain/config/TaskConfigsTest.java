@@ -0,0 +1,64 @@
+package com.dbsync.core.domain.config;
+
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.domain.entity.SyncTask;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TaskConfigs Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TaskConfigsTest {
+
+    @Test
+    void testConnector_ParsedOnceAndShared() {
+        // Given
+        SyncTask task = task("{\"table.include.list\": \"shop.orders, shop.items\", "
+                + "\"producer.override.linger.ms\": 20, \"provide.transaction.metadata\": true}");
+
+        // When
+        ConnectorSettings first = TaskConfigs.connector(task);
+        ConnectorSettings second = TaskConfigs.connector(task(task.getConnectorConfig()));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.includedTables()).containsExactly("shop.orders", "shop.items");
+        assertThat(first.tableFilter().includes("shop.orders")).isTrue();
+        assertThat(first.tableFilter().includes("shop.users")).isFalse();
+        assertThat(first.withPrefix("producer.override.")).containsEntry("producer.override.linger.ms", "20");
+        assertThat(first.getBoolean("provide.transaction.metadata", false)).isTrue();
+        assertThat(TaskConfigs.source(task).portOr(3306)).isEqualTo(3306);
+    }
+
+    @Test
+    void testValidate_RejectsInvalidConfigs() {
+        // Given
+        SyncTask missingHost = task("{}");
+        missingHost.setSourceConnectionConfig("{\"username\": \"sync\", \"password\": \"secret\"}");
+        SyncTask badAlert = task("{}");
+        badAlert.setAlertConfig("{\"errorRateThreshold\": 5}");
+        SyncTask badCron = task("{}");
+        badCron.setScheduleConfig("{\"cron\": \"every day\"}");
+
+        // When / Then
+        assertThatThrownBy(() -> TaskConfigs.validate(missingHost))
+                .isInstanceOf(BusinessException.class).hasMessageContaining("host");
+        assertThatThrownBy(() -> TaskConfigs.validate(badAlert))
+                .isInstanceOf(BusinessException.class).hasMessageContaining("errorRateThreshold");
+        assertThatThrownBy(() -> TaskConfigs.validate(badCron))
+                .isInstanceOf(BusinessException.class).hasMessageContaining("schedule");
+        assertThat(TaskConfigs.source(task("{}")).toString()).doesNotContain("secret");
+    }
+
+    private static SyncTask task(String connectorConfig) {
+        SyncTask task = new SyncTask();
+        task.setSourceConnectionConfig("{\"host\": \"db1\", \"username\": \"sync\", \"password\": \"secret\"}");
+        task.setTargetConnectionConfig("{\"host\": \"db2\", \"port\": 5432, \"username\": \"sync\", \"password\": \"x\"}");
+        task.setConnectorConfig(connectorConfig);
+        return task;
+    }
+}
@@ -0,0 +1,45 @@
+package com.dbsync.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MetricResolution Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class MetricResolutionTest {
+
+    @Test
+    void testPartitionName_RoundTripsPartitionStart() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2026, 10, 19, 13, 45);
+
+        // When
+        LocalDateTime hourStart = MetricResolution.HOUR.partitionStart(time);
+        String name = MetricResolution.HOUR.partitionName(hourStart);
+
+        // Then
+        assertThat(name).isEqualTo("sync_metrics_1h_p202610");
+        assertThat(MetricResolution.HOUR.partitionEnd(hourStart)).isEqualTo(LocalDateTime.of(2026, 11, 1, 0, 0));
+        assertThat(MetricResolution.HOUR.partitionStartOf(name)).isEqualTo(hourStart);
+        assertThat(MetricResolution.MINUTE.partitionStartOf("sync_metrics_1m_p20261019"))
+                .isEqualTo(LocalDateTime.of(2026, 10, 19, 0, 0));
+        assertThat(MetricResolution.HOUR.partitionStartOf("sync_metrics_1m_p20261019")).isNull();
+        assertThat(MetricResolution.DAY.partitionStartOf("sync_metrics_1d_default")).isNull();
+    }
+
+    @Test
+    void testForRange_PicksFinestResolutionWithinPointLimit() {
+        // When / Then
+        assertThat(MetricResolution.forRange(Duration.ofHours(6), 1500)).isEqualTo(MetricResolution.MINUTE);
+        assertThat(MetricResolution.forRange(Duration.ofDays(7), 1500)).isEqualTo(MetricResolution.HOUR);
+        assertThat(MetricResolution.forRange(Duration.ofDays(365), 1500)).isEqualTo(MetricResolution.DAY);
+        assertThat(MetricResolution.HOUR.finer()).isEqualTo(MetricResolution.MINUTE);
+        assertThat(MetricResolution.DAY.truncUnit()).isEqualTo("day");
+    }
+}
@@ -0,0 +1,59 @@
+package com.dbsync.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * MetricsAggregator Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class MetricsAggregatorTest {
+
+    private static final UUID TASK = UUID.randomUUID();
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    @Test
+    void testDrainClosed_SumsMinuteBucketsAndKeepsOpenMinute() {
+        // Given
+        MetricsAggregator aggregator = new MetricsAggregator(100);
+        aggregator.add(TASK, TENANT, "orders", T0.plusSeconds(5), 100, 0);
+        aggregator.add(TASK, TENANT, "orders", T0.plusSeconds(50), 50, 2);
+        aggregator.add(TASK, TENANT, "orders", T0.plusSeconds(65), 10, 0);
+
+        // When
+        List<MetricPoint> closed = aggregator.drainClosed(T0.plusSeconds(70));
+
+        // Then
+        assertThat(closed).extracting(MetricPoint::bucketStart, MetricPoint::eventsApplied,
+                        MetricPoint::eventsDeadLettered)
+                .containsExactly(tuple(T0, 150L, 2L));
+        assertThat(aggregator.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testRestore_MergesFailedWriteAndDropsBeyondBound() {
+        // Given: a failed flush while new counts arrived for the same minute
+        MetricsAggregator aggregator = new MetricsAggregator(1);
+        aggregator.add(TASK, TENANT, "orders", T0, 100, 0);
+        List<MetricPoint> failed = aggregator.drainClosed(T0.plusMinutes(1));
+        aggregator.add(TASK, TENANT, "orders", T0.plusSeconds(30), 5, 0);
+
+        // When
+        int dropped = aggregator.restore(List.of(failed.get(0),
+                new MetricPoint(TASK, TENANT, "customers", T0, 7, 0)));
+
+        // Then
+        assertThat(dropped).isEqualTo(1);
+        assertThat(aggregator.drainClosed(T0.plusMinutes(1)))
+                .extracting(MetricPoint::tableName, MetricPoint::eventsApplied)
+                .containsExactly(tuple("orders", 105L));
+    }
+}
@@ -0,0 +1,103 @@
+package com.dbsync.core.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyncMetricsStore Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncMetricsStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 13, 25, 40);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SyncMetricsStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SyncMetricsStore(jdbcTemplate);
+    }
+
+    @Test
+    void testRollupFromWatermark_CatchesUpAndMovesWatermarkToOpenBucket() {
+        // Given: the maintenance owner was down since 09:00
+        watermark(MetricResolution.HOUR, LocalDateTime.of(2024, 3, 10, 9, 0));
+
+        // When
+        store.rollupFromWatermark(MetricResolution.HOUR, NOW, NOW.minusDays(7));
+
+        // Then: every missed hour is recomputed, the day holding them is marked for its rollup
+        var order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(contains("INSERT INTO sync_metrics_1h"),
+                eq(ts(LocalDateTime.of(2024, 3, 10, 9, 0))), eq(ts(NOW)));
+        order.verify(jdbcTemplate).update(contains("LEAST(rolled_up_to, ?)"),
+                eq(ts(LocalDateTime.of(2024, 3, 10, 0, 0))), eq("1d"));
+        order.verify(jdbcTemplate).update(contains("SET rolled_up_to = ?"),
+                eq(ts(LocalDateTime.of(2024, 3, 10, 13, 0))), eq("1h"));
+    }
+
+    @Test
+    void testRollupFromWatermark_StartsNoEarlierThanRetention() {
+        // Given: a watermark older than any minute bucket still kept
+        watermark(MetricResolution.DAY, LocalDateTime.of(2020, 1, 1, 0, 0));
+        LocalDateTime oldest = NOW.minusDays(180);
+
+        // When
+        store.rollupFromWatermark(MetricResolution.DAY, NOW, oldest);
+
+        // Then: the coarsest resolution moves no other watermark back
+        verify(jdbcTemplate).update(contains("INSERT INTO sync_metrics_1d"),
+                eq(ts(oldest.toLocalDate().atStartOfDay())), eq(ts(NOW)));
+        verify(jdbcTemplate, never()).update(contains("LEAST"), any(), any());
+        verify(jdbcTemplate).update(contains("SET rolled_up_to = ?"),
+                eq(ts(LocalDateTime.of(2024, 3, 10, 0, 0))), eq("1d"));
+    }
+
+    @Test
+    void testInsert_LateBucketsMoveHourWatermarkBack() {
+        // Given: buckets restored after an outage, the oldest from the previous day
+        UUID taskId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        List<MetricPoint> points = List.of(
+                new MetricPoint(taskId, tenantId, "shop.orders", LocalDateTime.of(2024, 3, 10, 13, 20), 5, 0),
+                new MetricPoint(taskId, tenantId, "shop.orders", LocalDateTime.of(2024, 3, 9, 22, 41), 7, 1));
+
+        // When
+        store.insert(points, 1000);
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO sync_metrics_1m"), anyList(), anyInt(), any());
+        verify(jdbcTemplate).update(contains("LEAST(rolled_up_to, ?)"),
+                eq(ts(LocalDateTime.of(2024, 3, 9, 22, 0))), eq("1h"));
+    }
+
+    private void watermark(MetricResolution resolution, LocalDateTime rolledUpTo) {
+        when(jdbcTemplate.queryForObject(contains("FOR UPDATE"), eq(Timestamp.class), eq(resolution.getCode())))
+                .thenReturn(ts(rolledUpTo));
+    }
+
+    private static Timestamp ts(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+}
@@ -0,0 +1,60 @@
+package com.dbsync.core.schedule;
+
+import com.dbsync.common.exceptions.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TaskSchedule Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TaskScheduleTest {
+
+    @Test
+    void testParse_FiveFieldCronInTimezone() {
+        // Given
+        TaskSchedule schedule = TaskSchedule.parse(
+                "{\"cron\": \"30 2 * * *\", \"timezone\": \"Asia/Tokyo\", \"runMinutes\": 60}");
+
+        // When
+        Instant next = schedule.nextAfter(Instant.parse("2024-01-01T00:00:00Z"));
+
+        // Then
+        assertThat(next).isEqualTo(Instant.parse("2024-01-01T17:30:00Z"));
+        assertThat(schedule.runMinutes()).isEqualTo(60);
+    }
+
+    @Test
+    void testParse_SixFieldCronDefaultsToUtc() {
+        // Given
+        TaskSchedule schedule = TaskSchedule.parse("{\"cron\": \"0 15 * * * *\"}");
+
+        // When
+        Instant next = schedule.nextAfter(Instant.parse("2024-01-01T10:20:00Z"));
+
+        // Then
+        assertThat(next).isEqualTo(Instant.parse("2024-01-01T11:15:00Z"));
+        assertThat(schedule.runMinutes()).isNull();
+    }
+
+    @Test
+    void testParse_MissingOrDisabledCronHasNoSchedule() {
+        // When / Then
+        assertThat(TaskSchedule.parse(null)).isNull();
+        assertThat(TaskSchedule.parse("{}")).isNull();
+        assertThat(TaskSchedule.parse("{\"cron\": \"0 0 * * *\", \"enabled\": false}")).isNull();
+    }
+
+    @Test
+    void testParse_InvalidCronRejected() {
+        // When / Then
+        assertThatThrownBy(() -> TaskSchedule.parse("{\"cron\": \"every night\"}"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Invalid schedule config");
+    }
+}
@@ -0,0 +1,44 @@
+package com.dbsync.core.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimingWheel Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TimingWheelTest {
+
+    @Test
+    void testAdvance_FiresKeysBeyondOneRotation() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.schedule("soon", 3_000);
+        wheel.schedule("later", 11_000);
+        wheel.schedule("cancelled", 3_000);
+        wheel.cancel("cancelled");
+
+        // When / Then
+        assertThat(wheel.advance(2_999)).isEmpty();
+        assertThat(wheel.advance(3_000)).containsExactly("soon");
+        assertThat(wheel.advance(10_999)).isEmpty();
+        assertThat(wheel.advance(11_000)).containsExactly("later");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testSchedule_ReschedulingReplacesEarlierFire() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 5_000);
+        wheel.schedule("task", 7_000);
+
+        // When
+        wheel.schedule("task", 1_000);
+
+        // Then: a fire in the past moves to the next tick
+        assertThat(wheel.advance(6_000)).containsExactly("task");
+        assertThat(wheel.advance(20_000)).isEmpty();
+    }
+}
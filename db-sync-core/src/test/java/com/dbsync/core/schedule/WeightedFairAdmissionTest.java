@@ -0,0 +1,47 @@
+package com.dbsync.core.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WeightedFairAdmission Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class WeightedFairAdmissionTest {
+
+    @Test
+    void testSelect_SharesSlotsByWeight() {
+        // Given: a bulk onboarding tenant queued first with many tasks
+        Map<String, List<String>> queues = new LinkedHashMap<>();
+        queues.put("bulk", List.of("b1", "b2", "b3", "b4", "b5", "b6"));
+        queues.put("interactive", List.of("i1", "i2", "i3"));
+        Map<String, Double> weights = Map.of("bulk", 1.0, "interactive", 2.0);
+
+        // When
+        List<String> admitted = WeightedFairAdmission.select(6, Map.of(), weights, queues);
+
+        // Then
+        assertThat(admitted).containsExactlyInAnyOrder("b1", "b2", "b3", "i1", "i2", "i3");
+        assertThat(admitted.subList(0, 2)).containsExactly("i1", "b1");
+    }
+
+    @Test
+    void testSelect_TenantHoldingSlotsWaitsForOthers() {
+        // Given
+        Map<String, List<String>> queues = new LinkedHashMap<>();
+        queues.put("a", List.of("a4", "a5"));
+        queues.put("b", List.of("b1", "b2", "b3"));
+
+        // When
+        List<String> admitted = WeightedFairAdmission.select(4, Map.of("a", 3), Map.of(), queues);
+
+        // Then
+        assertThat(admitted).containsExactly("b1", "b2", "b3", "a4");
+    }
+}
@@ -0,0 +1,72 @@
+package com.dbsync.core.verify;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChecksumDialect Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class ChecksumDialectTest {
+
+    @Test
+    void testRangeCondition_BoundsPresent() {
+        // Given
+        ChecksumDialect dialect = ChecksumDialect.POSTGRESQL;
+
+        // When & Then
+        assertThat(dialect.rangeCondition("id", KeyRange.ALL)).isEmpty();
+        assertThat(dialect.rangeCondition("id", new KeyRange(BigInteger.ONE, BigInteger.TEN)))
+                .isEqualTo(" WHERE \"id\" >= ? AND \"id\" < ?");
+        assertThat(dialect.rangeCondition("id", new KeyRange(BigInteger.ONE, null)))
+                .isEqualTo(" WHERE \"id\" >= ?");
+        assertThat(dialect.rangeCondition("id", new KeyRange(null, BigInteger.TEN)))
+                .isEqualTo(" WHERE \"id\" < ?");
+    }
+
+    @Test
+    void testKeyAtOffsetSql_PerDialect() {
+        // When & Then
+        assertThat(ChecksumDialect.MYSQL.keyAtOffsetSql("t", "id", false))
+                .isEqualTo("SELECT `id` FROM t ORDER BY `id` LIMIT 1 OFFSET ?");
+        assertThat(ChecksumDialect.SQLSERVER.keyAtOffsetSql("t", "id", true))
+                .isEqualTo("SELECT [id] FROM t WHERE [id] > ? ORDER BY [id] OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY");
+    }
+
+    @Test
+    void testColumnText_NormalizesPerType() {
+        // Given
+        ChecksumDialect dialect = ChecksumDialect.POSTGRESQL;
+
+        // When & Then
+        assertThat(dialect.columnText("c", Types.VARCHAR)).isEqualTo("COALESCE(CAST(c AS TEXT), '<null>')");
+        assertThat(dialect.columnText("c", Types.BOOLEAN)).contains("CAST(c AS INTEGER)");
+        assertThat(dialect.columnText("c", Types.NUMERIC)).contains("RTRIM(RTRIM(CAST(c AS TEXT), '0'), '.')");
+        assertThat(dialect.columnText("c", Types.DOUBLE)).contains("CAST(c AS DECIMAL(38, 10))");
+        assertThat(dialect.columnText("c", Types.TIMESTAMP)).contains("'YYYY-MM-DD HH24:MI:SS.US'");
+        assertThat(ChecksumDialect.ORACLE.columnText("c", Types.DATE)).startsWith("NVL(");
+    }
+
+    @Test
+    void testChecksumSql_UsesColumnTypes() {
+        // Given
+        TableMetadata table = new TableMetadata("orders", "\"orders\"", "id", true,
+                Map.of("id", "id", "amount", "amount"), Map.of("id", Types.BIGINT, "amount", Types.DECIMAL));
+
+        // When
+        String sql = ChecksumDialect.POSTGRESQL.checksumSql(table, List.of("id", "amount"),
+                new KeyRange(BigInteger.ONE, null));
+
+        // Then
+        assertThat(sql).contains("RTRIM(RTRIM(CAST(\"amount\" AS TEXT), '0'), '.')")
+                .contains("COALESCE(CAST(\"id\" AS TEXT), '<null>')")
+                .endsWith(" FROM \"orders\" WHERE \"id\" >= ?");
+    }
+}
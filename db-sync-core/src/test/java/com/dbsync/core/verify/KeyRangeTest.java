@@ -0,0 +1,88 @@
+package com.dbsync.core.verify;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * KeyRange Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class KeyRangeTest {
+
+    @Test
+    void testFromBoundaries_OpenEnds() {
+        // When
+        List<KeyRange> ranges = KeyRange.fromBoundaries(List.of(BigInteger.valueOf(100), BigInteger.valueOf(200)));
+
+        // Then
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).getLowerBound()).isNull();
+        assertThat(ranges.get(0).getUpperBound()).isEqualTo(BigInteger.valueOf(100));
+        assertThat(ranges.get(1).getLowerBound()).isEqualTo(BigInteger.valueOf(100));
+        assertThat(ranges.get(1).getUpperBound()).isEqualTo(BigInteger.valueOf(200));
+        assertThat(ranges.get(2).getLowerBound()).isEqualTo(BigInteger.valueOf(200));
+        assertThat(ranges.get(2).getUpperBound()).isNull();
+    }
+
+    @Test
+    void testFromBoundaries_NoBoundaries() {
+        // When
+        List<KeyRange> ranges = KeyRange.fromBoundaries(List.of());
+
+        // Then
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).contains(BigInteger.valueOf(Long.MAX_VALUE))).isTrue();
+        assertThat(ranges.get(0).contains(BigInteger.valueOf(Long.MIN_VALUE))).isTrue();
+    }
+
+    @Test
+    void testContains_HalfOpen() {
+        // Given
+        KeyRange range = new KeyRange(BigInteger.TEN, BigInteger.valueOf(20));
+
+        // When & Then
+        assertThat(range.contains(BigInteger.TEN)).isTrue();
+        assertThat(range.contains(BigInteger.valueOf(19))).isTrue();
+        assertThat(range.contains(BigInteger.valueOf(20))).isFalse();
+        assertThat(range.contains(BigInteger.valueOf(9))).isFalse();
+    }
+
+    @Test
+    void testBind_LongAndUnsignedKeys() throws Exception {
+        // Given
+        BigInteger unsigned = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.TEN);
+        KeyRange range = new KeyRange(BigInteger.valueOf(5), unsigned);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        // When
+        int next = range.bind(statement, 2);
+
+        // Then
+        assertThat(next).isEqualTo(4);
+        verify(statement).setLong(2, 5L);
+        verify(statement).setBigDecimal(3, new BigDecimal(unsigned));
+    }
+
+    @Test
+    void testBind_OpenRangeBindsNothing() throws Exception {
+        // Given
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        // When
+        int next = KeyRange.ALL.bind(statement, 1);
+
+        // Then
+        assertThat(next).isEqualTo(1);
+        verifyNoInteractions(statement);
+    }
+}
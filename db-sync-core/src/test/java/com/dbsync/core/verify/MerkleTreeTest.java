@@ -0,0 +1,108 @@
+package com.dbsync.core.verify;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MerkleTree Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class MerkleTreeTest {
+
+    @Test
+    void testDiff_IdenticalTrees() {
+        // Given
+        MerkleTree source = tree(1000, Map.of());
+        MerkleTree target = tree(1000, Map.of());
+
+        // When & Then
+        assertThat(source.diff(target)).isEmpty();
+    }
+
+    @Test
+    void testDiff_FindsDriftedLeaves() {
+        // Given
+        MerkleTree source = tree(1000, Map.of());
+        MerkleTree target = tree(1000, Map.of(7L, new long[]{10, 999}, 612L, new long[]{9, 100}));
+
+        // When & Then
+        assertThat(source.diff(target)).containsExactlyInAnyOrder(7L, 612L);
+    }
+
+    @Test
+    void testDiff_MissingLeafOnOneSide() {
+        // Given
+        MerkleTree source = tree(300, Map.of());
+        MerkleTree target = MerkleTree.fromLeaves(source.getBoundaries(), source.toLeaves());
+        target.replaceLeaf(299, 0, 0);
+
+        // When & Then
+        assertThat(source.diff(target)).containsExactly(299L);
+    }
+
+    @Test
+    void testDiff_DifferentBoundaries() {
+        // Given
+        MerkleTree source = tree(10, Map.of());
+        MerkleTree target = tree(11, Map.of());
+
+        // When & Then
+        assertThatThrownBy(() -> source.diff(target)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testReplaceLeaves_RoundTrip() {
+        // Given
+        MerkleTree source = tree(50, Map.of());
+
+        // When
+        MerkleTree restored = MerkleTree.fromLeaves(source.getBoundaries(), source.toLeaves());
+
+        // Then
+        assertThat(restored.diff(source)).isEmpty();
+        assertThat(restored.getRowCount()).isEqualTo(500);
+        assertThat(restored.getLeafCount()).isEqualTo(50);
+        assertThat(restored.rangeOf(12).getLowerBound()).isEqualTo(BigInteger.valueOf(1200));
+        assertThat(restored.rangeOf(12).getUpperBound()).isEqualTo(BigInteger.valueOf(1300));
+    }
+
+    @Test
+    void testBucketOf_OpenEndedLeaves() {
+        // Given
+        MerkleTree tree = new MerkleTree(List.of(BigInteger.valueOf(100), BigInteger.valueOf(1_000_000)));
+        BigInteger unsigned = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+
+        // When & Then
+        assertThat(tree.bucketOf(BigInteger.valueOf(-5))).isZero();
+        assertThat(tree.bucketOf(BigInteger.valueOf(100))).isEqualTo(1);
+        assertThat(tree.bucketOf(BigInteger.valueOf(999_999))).isEqualTo(1);
+        assertThat(tree.bucketOf(unsigned)).isEqualTo(2);
+        assertThat(tree.rangeOf(0).getLowerBound()).isNull();
+        assertThat(tree.rangeOf(2).getUpperBound()).isNull();
+        assertThat(tree.rangeOf(2).contains(unsigned)).isTrue();
+    }
+
+    /**
+     * A tree of leafCount leaves split every 100 keys from 100 up
+     */
+    private MerkleTree tree(int leafCount, Map<Long, long[]> overrides) {
+        List<BigInteger> boundaries = new ArrayList<>();
+        for (int i = 1; i < leafCount; i++) {
+            boundaries.add(BigInteger.valueOf(i * 100L));
+        }
+        MerkleTree tree = new MerkleTree(boundaries);
+        for (long bucket = 0; bucket < leafCount; bucket++) {
+            long[] leaf = overrides.getOrDefault(bucket, new long[]{10, bucket * 31});
+            tree.replaceLeaf(bucket, leaf[0], leaf[1]);
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dbsync.transform.bulk;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a bulk load of a FULL_ONLY task
+ *
+ * @author DB Sync Platform
+ */
+@Data
+public class BulkLoadReport {
+
+    private UUID taskId;
+    private long rows;
+    private long durationMs;
+    private List<TableResult> tables = new ArrayList<>();
+
+    /**
+     * Per-table summary
+     */
+    @Data
+    public static class TableResult {
+        private String sourceTable;
+        private String targetTable;
+        private String keyColumn;
+        private int ranges;
+        private long rows;
+    }
+}
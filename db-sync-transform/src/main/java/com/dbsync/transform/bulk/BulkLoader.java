@@ -0,0 +1,275 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.enums.DatabaseType;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.verify.ChecksumDialect;
+import com.dbsync.core.verify.DataVerifier;
+import com.dbsync.core.verify.JdbcEndpoint;
+import com.dbsync.core.verify.KeyRange;
+import com.dbsync.core.verify.KeyRangePlanner;
+import com.dbsync.core.verify.TableMetadata;
+import com.dbsync.transform.convert.ColumnInfo;
+import com.dbsync.transform.convert.ColumnMetadataReader;
+import com.dbsync.transform.sink.SinkDialect;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk Loader
+ * Copies the tables of a FULL_ONLY task straight from source to target without going
+ * through Kafka. Each table is split into primary key ranges of about the same number of
+ * rows that are read in parallel
+ * through server-side cursors and written with the target's bulk load path: COPY for
+ * PostgreSQL, LOAD DATA LOCAL INFILE for MySQL, bulk copy for SQL Server and batched
+ * inserts for Oracle. Target tables are truncated first, so a failed load can be rerun.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class BulkLoader {
+
+    private final DataVerifier dataVerifier;
+    private final int threads;
+    private final long chunkSize;
+    private final int fetchSize;
+    private final int flushBytes;
+    private final int batchSize;
+    private final boolean truncateTarget;
+
+    private final ExecutorService executor;
+
+    public BulkLoader(
+            DataVerifier dataVerifier,
+            @Value("${app.bulk-load.threads:8}") int threads,
+            @Value("${app.bulk-load.chunk-size:1000000}") long chunkSize,
+            @Value("${app.bulk-load.fetch-size:10000}") int fetchSize,
+            @Value("${app.bulk-load.flush-bytes:8388608}") int flushBytes,
+            @Value("${app.bulk-load.batch-size:10000}") int batchSize,
+            @Value("${app.bulk-load.truncate-target:true}") boolean truncateTarget) {
+        this.dataVerifier = dataVerifier;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+        this.flushBytes = flushBytes;
+        this.batchSize = batchSize;
+        this.truncateTarget = truncateTarget;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-load-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Load the given tables of a task, or the task's table.include.list when empty
+     */
+    public BulkLoadReport load(SyncTask task, List<String> tables) {
+        long startTime = System.currentTimeMillis();
+        List<String> tableNames = dataVerifier.resolveTableNames(task, tables);
+        JdbcEndpoint source = JdbcEndpoint.fromConfig(task.getSourceDbType(), task.getSourceConnectionConfig());
+        JdbcEndpoint target = JdbcEndpoint.fromConfig(task.getTargetDbType(), task.getTargetConnectionConfig());
+        BulkWriter writer = BulkWriter.of(target.getDatabaseType(), flushBytes, batchSize);
+
+        log.info("Bulk loading {} tables of task {} from {} into {}",
+                tableNames.size(), task.getTaskCode(), source, target);
+
+        BulkLoadReport report = new BulkLoadReport();
+        report.setTaskId(task.getTaskId());
+
+        try (HikariDataSource sourcePool = source.openDataSource("bulk-" + task.getTaskCode() + "-source",
+                threads, true, cursorProperties(source.getDatabaseType()));
+             HikariDataSource targetPool = target.openDataSource("bulk-" + task.getTaskCode() + "-target",
+                     threads, false, bulkProperties(target.getDatabaseType()))) {
+
+            // Plan and truncate every table before copying, so no range runs against a half-prepared load
+            List<PlannedTable> plannedTables = new ArrayList<>();
+            for (String tableName : tableNames) {
+                plannedTables.add(plan(sourcePool, targetPool, source, target, tableName));
+            }
+
+            AtomicBoolean failed = new AtomicBoolean();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            List<AtomicLong> tableRows = new ArrayList<>();
+            for (PlannedTable planned : plannedTables) {
+                BulkLoadReport.TableResult result = new BulkLoadReport.TableResult();
+                result.setSourceTable(planned.source().getName());
+                result.setTargetTable(planned.table().targetTable());
+                result.setKeyColumn(planned.source().getKeyColumn());
+                result.setRanges(planned.ranges().size());
+                report.getTables().add(result);
+
+                AtomicLong rows = new AtomicLong();
+                tableRows.add(rows);
+                for (KeyRange range : planned.ranges()) {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        // Once a range has failed the load is lost, so the rest are skipped
+                        if (!failed.get()) {
+                            try {
+                                rows.addAndGet(copyRange(sourcePool, targetPool, writer, planned, range));
+                            } catch (RuntimeException e) {
+                                failed.set(true);
+                                throw e;
+                            }
+                        }
+                    }, executor));
+                }
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            for (int i = 0; i < tableRows.size(); i++) {
+                report.getTables().get(i).setRows(tableRows.get(i).get());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause
+                    : new BusinessException(ErrorCodes.DB_OPERATION_FAILED, e.getMessage());
+        }
+
+        report.setRows(report.getTables().stream().mapToLong(BulkLoadReport.TableResult::getRows).sum());
+        report.setDurationMs(System.currentTimeMillis() - startTime);
+
+        log.info("Bulk load of task {} finished: {} rows in {} ms",
+                task.getTaskCode(), report.getRows(), report.getDurationMs());
+        return report;
+    }
+
+    /**
+     * Resolve a table on both sides, truncate the target and split the source into key ranges
+     */
+    private PlannedTable plan(HikariDataSource sourcePool, HikariDataSource targetPool,
+                              JdbcEndpoint source, JdbcEndpoint target, String tableName) {
+        int dot = tableName.lastIndexOf('.');
+        String qualifier = dot > 0 ? tableName.substring(0, dot) : source.getSchema();
+        String table = tableName.substring(dot + 1);
+        ChecksumDialect sourceDialect = ChecksumDialect.of(source.getDatabaseType());
+        SinkDialect targetDialect = SinkDialect.of(target.getDatabaseType());
+
+        try (Connection sourceConnection = sourcePool.getConnection();
+             Connection targetConnection = targetPool.getConnection()) {
+            TableMetadata sourceTable = TableMetadata.resolve(
+                    sourceConnection, source, sourceDialect, qualifier, table);
+            if (sourceTable == null) {
+                throw new BusinessException(ErrorCodes.PARAM_ERROR, "Source table not found: " + tableName);
+            }
+            String targetQualifier = target.getDatabaseType() == DatabaseType.MYSQL
+                    ? targetConnection.getCatalog() : target.getSchema();
+            Map<String, ColumnInfo> targetColumns = ColumnMetadataReader.read(
+                    targetConnection, target.getDatabaseType(), targetQualifier, table);
+            if (targetColumns.isEmpty()) {
+                throw new BusinessException(ErrorCodes.PARAM_ERROR, "Target table not found: " + table);
+            }
+
+            // Load the columns both sides have, in source table order
+            List<String> sourceColumns = new ArrayList<>();
+            List<ColumnInfo> loadedColumns = new ArrayList<>();
+            sourceTable.getColumns().forEach((lowerName, name) -> {
+                ColumnInfo targetColumn = targetColumns.get(lowerName);
+                if (targetColumn != null) {
+                    sourceColumns.add(name);
+                    loadedColumns.add(targetColumn);
+                }
+            });
+            if (sourceColumns.isEmpty()) {
+                throw new BusinessException(ErrorCodes.PARAM_ERROR, "No common columns in table " + tableName);
+            }
+
+            BulkTable bulkTable = new BulkTable(tableName, targetDialect.qualify(target.getSchema(), table),
+                    loadedColumns);
+            if (truncateTarget) {
+                try (Statement statement = targetConnection.createStatement()) {
+                    statement.execute(targetDialect.truncateSql(bulkTable.targetTable()));
+                }
+            }
+
+            String selectSql = "SELECT " + sourceColumns.stream().map(sourceDialect::quote)
+                    .collect(Collectors.joining(", ")) + " FROM " + sourceTable.getSqlName();
+            if (!sourceTable.isNumericKey()) {
+                log.warn("Table {} has no numeric primary key, loading it as a single range", sourceTable.getName());
+            }
+            List<KeyRange> ranges = KeyRangePlanner.plan(sourceConnection, sourceDialect, sourceTable, chunkSize, 0);
+            return new PlannedTable(sourceTable, sourceDialect, bulkTable, selectSql, ranges);
+
+        } catch (SQLException e) {
+            throw new BusinessException(ErrorCodes.DB_OPERATION_FAILED,
+                    "Failed to prepare bulk load of " + tableName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stream one key range of the source into the target
+     *
+     * @return rows loaded
+     */
+    private long copyRange(HikariDataSource sourcePool, HikariDataSource targetPool, BulkWriter writer,
+                           PlannedTable planned, KeyRange range) {
+        try (Connection sourceConnection = sourcePool.getConnection();
+             Connection targetConnection = targetPool.getConnection()) {
+            // PostgreSQL only reads through a cursor inside a transaction
+            sourceConnection.setAutoCommit(false);
+            String sql = planned.selectSql() + planned.dialect().rangeCondition(planned.source().getKeyColumn(), range);
+            try (PreparedStatement statement = sourceConnection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                range.bind(statement, 1);
+                long rows;
+                try (ResultSet rs = statement.executeQuery()) {
+                    rows = writer.write(targetConnection, rs, planned.table());
+                }
+                sourceConnection.commit();
+                log.debug("Loaded {} rows of {} range {}", rows, planned.table().name(), range);
+                return rows;
+            }
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.DB_OPERATION_FAILED, "Bulk load of " + planned.table().name()
+                    + " range " + range + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * MySQL buffers whole result sets in the client unless asked for a server-side cursor
+     */
+    private static Map<String, String> cursorProperties(DatabaseType databaseType) {
+        return databaseType == DatabaseType.MYSQL ? Map.of("useCursorFetch", "true") : Map.of();
+    }
+
+    private static Map<String, String> bulkProperties(DatabaseType databaseType) {
+        return databaseType == DatabaseType.MYSQL ? Map.of("allowLoadLocalInfile", "true") : Map.of();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A table ready to load; each range adds its key condition to the select
+     */
+    private record PlannedTable(TableMetadata source, ChecksumDialect dialect, BulkTable table, String selectSql,
+                                List<KeyRange> ranges) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.convert.ColumnInfo;
+
+import java.util.List;
+
+/**
+ * A table being bulk loaded: the qualified target table and its columns, in the order
+ * the source cursor selects them
+ *
+ * @author DB Sync Platform
+ */
+record BulkTable(String name, String targetTable, List<ColumnInfo> targetColumns) {
+
+    List<String> targetColumnNames() {
+        return targetColumns.stream().map(ColumnInfo::name).toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.common.enums.DatabaseType;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes the rows of a source cursor through the target's bulk load path
+ *
+ * @author DB Sync Platform
+ */
+interface BulkWriter {
+
+    /**
+     * Load every remaining row of the cursor into the target table
+     *
+     * @return rows loaded
+     */
+    long write(Connection target, ResultSet rows, BulkTable table) throws SQLException, IOException;
+
+    static BulkWriter of(DatabaseType targetType, int flushBytes, int batchSize) {
+        return switch (targetType) {
+            case POSTGRESQL -> new PostgresCopyWriter(flushBytes);
+            case MYSQL -> new MySqlLoadDataWriter(flushBytes);
+            case SQLSERVER -> new SqlServerBulkCopyWriter(batchSize);
+            case ORACLE -> new JdbcBatchWriter(batchSize);
+        };
+    }
+}
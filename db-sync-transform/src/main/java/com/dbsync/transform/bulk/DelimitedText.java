@@ -0,0 +1,82 @@
+package com.dbsync.transform.bulk;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HexFormat;
+
+/**
+ * Tab-separated rows in the text format shared by MySQL LOAD DATA and PostgreSQL COPY:
+ * tab, newline, carriage return, NUL and backslash are backslash-escaped and NULL is \N.
+ * Escaping works on bytes, which is safe for UTF-8 since multi-byte sequences never
+ * contain ASCII bytes.
+ *
+ * @author DB Sync Platform
+ */
+final class DelimitedText {
+
+    private static final byte[] NULL = {'\\', 'N'};
+    private static final byte[] TRUE = {'1'};
+    private static final byte[] FALSE = {'0'};
+
+    private DelimitedText() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Append the current row of the cursor
+     *
+     * @param hexBinary write binary values as PostgreSQL bytea hex input instead of raw bytes
+     */
+    static void appendRow(OutputStream out, ResultSet rows, int columns, boolean hexBinary)
+            throws SQLException, IOException {
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                out.write('\t');
+            }
+            Object value = rows.getObject(i);
+            // Driver-specific types (LOBs, vendor temporals) are rendered by the driver itself
+            if (value != null && !value.getClass().getName().startsWith("java.") && !(value instanceof byte[])) {
+                value = rows.getString(i);
+            }
+            appendValue(out, value, hexBinary);
+        }
+        out.write('\n');
+    }
+
+    static void appendValue(OutputStream out, Object value, boolean hexBinary) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        byte[] bytes;
+        if (value instanceof byte[] raw) {
+            bytes = hexBinary ? ("\\x" + HexFormat.of().formatHex(raw)).getBytes(StandardCharsets.US_ASCII) : raw;
+        } else if (value instanceof Boolean flag) {
+            bytes = flag ? TRUE : FALSE;
+        } else if (value instanceof BigDecimal decimal) {
+            bytes = decimal.toPlainString().getBytes(StandardCharsets.US_ASCII);
+        } else {
+            bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        for (byte b : bytes) {
+            switch (b) {
+                case '\\' -> escape(out, '\\');
+                case '\t' -> escape(out, 't');
+                case '\n' -> escape(out, 'n');
+                case '\r' -> escape(out, 'r');
+                case 0 -> escape(out, '0');
+                default -> out.write(b);
+            }
+        }
+    }
+
+    private static void escape(OutputStream out, char c) throws IOException {
+        out.write('\\');
+        out.write(c);
+    }
+}
@@ -0,0 +1,53 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.sink.SinkDialect;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * Batched INSERT writer for Oracle targets, which have no bulk load path reachable over JDBC
+ *
+ * @author DB Sync Platform
+ */
+final class JdbcBatchWriter implements BulkWriter {
+
+    private final int batchSize;
+
+    JdbcBatchWriter(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public long write(Connection target, ResultSet rows, BulkTable table) throws SQLException {
+        int fieldCount = table.targetColumns().size();
+        String sql = "INSERT INTO " + table.targetTable() + " ("
+                + table.targetColumnNames().stream().map(SinkDialect.ORACLE::quote).collect(Collectors.joining(", "))
+                + ") VALUES (" + String.join(", ", Collections.nCopies(fieldCount, "?")) + ")";
+
+        long loaded = 0;
+        int pending = 0;
+        try (PreparedStatement statement = target.prepareStatement(sql)) {
+            while (rows.next()) {
+                for (int i = 1; i <= fieldCount; i++) {
+                    statement.setObject(i, rows.getObject(i));
+                }
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    loaded += pending;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                loaded += pending;
+            }
+        }
+        return loaded;
+    }
+}
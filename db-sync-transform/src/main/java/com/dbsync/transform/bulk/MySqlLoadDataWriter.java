@@ -0,0 +1,84 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.sink.SinkDialect;
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL LOAD DATA LOCAL INFILE writer.
+ * Rows are buffered as tab-separated text and each full buffer is sent as one LOAD DATA
+ * statement reading from the in-memory stream. Needs local_infile enabled on the server.
+ * LOAD DATA turns bad values into warnings instead of errors (truncated text, out-of-range
+ * numbers, missing fields), so each statement must report exactly the rows sent and no
+ * warnings, or the range fails.
+ *
+ * @author DB Sync Platform
+ */
+final class MySqlLoadDataWriter implements BulkWriter {
+
+    private final int flushBytes;
+
+    MySqlLoadDataWriter(int flushBytes) {
+        this.flushBytes = flushBytes;
+    }
+
+    @Override
+    public long write(Connection target, ResultSet rows, BulkTable table) throws SQLException, IOException {
+        String columns = table.targetColumnNames().stream()
+                .map(SinkDialect.MYSQL::quote)
+                .collect(Collectors.joining(", "));
+        // CHARACTER SET binary loads the bytes as sent: strings are UTF-8 and binary values raw
+        String sql = "LOAD DATA LOCAL INFILE 'bulk' INTO TABLE " + table.targetTable() + " CHARACTER SET binary"
+                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (" + columns + ")";
+
+        int fieldCount = table.targetColumns().size();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(flushBytes);
+        long loaded = 0;
+        long buffered = 0;
+        try (Statement statement = target.createStatement()) {
+            JdbcStatement mysqlStatement = statement.unwrap(JdbcStatement.class);
+            while (rows.next()) {
+                DelimitedText.appendRow(buffer, rows, fieldCount, false);
+                buffered++;
+                if (buffer.size() >= flushBytes) {
+                    loaded += load(statement, mysqlStatement, sql, buffer, buffered, table);
+                    buffered = 0;
+                }
+            }
+            if (buffered > 0) {
+                loaded += load(statement, mysqlStatement, sql, buffer, buffered, table);
+            }
+        }
+        return loaded;
+    }
+
+    private static long load(Statement statement, JdbcStatement mysqlStatement, String sql,
+                             ByteArrayOutputStream buffer, long sent, BulkTable table) throws SQLException {
+        mysqlStatement.setLocalInfileInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+        buffer.reset();
+        statement.clearWarnings();
+        long loaded = statement.executeLargeUpdate(sql);
+        check(table, sent, loaded, statement.getWarnings());
+        return loaded;
+    }
+
+    private static void check(BulkTable table, long sent, long loaded, SQLWarning warnings) throws SQLException {
+        if (loaded != sent) {
+            throw new SQLException(String.format("LOAD DATA into %s loaded %d of %d rows sent",
+                    table.targetTable(), loaded, sent));
+        }
+        if (warnings != null) {
+            throw new SQLException(String.format("LOAD DATA into %s raised warnings: %s",
+                    table.targetTable(), warnings.getMessage()), warnings);
+        }
+    }
+}
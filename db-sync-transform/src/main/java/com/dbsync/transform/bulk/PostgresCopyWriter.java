@@ -0,0 +1,227 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.convert.ColumnInfo;
+import com.dbsync.transform.sink.SinkDialect;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.postgresql.util.ByteConverter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL COPY ... FROM STDIN writer.
+ * Tables whose target columns all have a binary encoder are sent in binary format, which
+ * the server stores without parsing text; any other table falls back to text format.
+ *
+ * @author DB Sync Platform
+ */
+final class PostgresCopyWriter implements BulkWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDate EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime EPOCH = EPOCH_DATE.atStartOfDay();
+    private static final Instant EPOCH_INSTANT = Instant.parse("2000-01-01T00:00:00Z");
+
+    /**
+     * Binary field encoders by target type name; null values are returned as null
+     */
+    private static final Map<String, FieldEncoder> ENCODERS = Map.ofEntries(
+            Map.entry("int2", PostgresCopyWriter::int2),
+            Map.entry("smallserial", PostgresCopyWriter::int2),
+            Map.entry("int4", PostgresCopyWriter::int4),
+            Map.entry("serial", PostgresCopyWriter::int4),
+            Map.entry("int8", PostgresCopyWriter::int8),
+            Map.entry("bigserial", PostgresCopyWriter::int8),
+            Map.entry("float4", PostgresCopyWriter::float4),
+            Map.entry("float8", PostgresCopyWriter::float8),
+            Map.entry("bool", PostgresCopyWriter::bool),
+            Map.entry("numeric", PostgresCopyWriter::numeric),
+            Map.entry("text", PostgresCopyWriter::text),
+            Map.entry("varchar", PostgresCopyWriter::text),
+            Map.entry("bpchar", PostgresCopyWriter::text),
+            Map.entry("json", PostgresCopyWriter::text),
+            Map.entry("jsonb", PostgresCopyWriter::jsonb),
+            Map.entry("bytea", (rows, i) -> rows.getBytes(i)),
+            Map.entry("date", PostgresCopyWriter::date),
+            Map.entry("time", PostgresCopyWriter::time),
+            Map.entry("timestamp", PostgresCopyWriter::timestamp),
+            Map.entry("timestamptz", PostgresCopyWriter::timestamptz),
+            Map.entry("uuid", PostgresCopyWriter::uuid));
+
+    private final int flushBytes;
+
+    PostgresCopyWriter(int flushBytes) {
+        this.flushBytes = flushBytes;
+    }
+
+    @Override
+    public long write(Connection target, ResultSet rows, BulkTable table) throws SQLException, IOException {
+        List<FieldEncoder> encoders = binaryEncoders(table.targetColumns());
+        String columns = table.targetColumnNames().stream()
+                .map(SinkDialect.POSTGRESQL::quote)
+                .collect(Collectors.joining(", "));
+        String sql = "COPY " + table.targetTable() + " (" + columns + ") FROM STDIN WITH (FORMAT "
+                + (encoders != null ? "binary" : "text") + ")";
+
+        PGCopyOutputStream copy = new PGCopyOutputStream(target.unwrap(PGConnection.class), sql, flushBytes);
+        try {
+            int fieldCount = table.targetColumns().size();
+            if (encoders != null) {
+                DataOutputStream out = new DataOutputStream(copy);
+                out.write(SIGNATURE);
+                out.writeInt(0);
+                out.writeInt(0);
+                while (rows.next()) {
+                    out.writeShort(fieldCount);
+                    for (int i = 0; i < fieldCount; i++) {
+                        byte[] field = encoders.get(i).encode(rows, i + 1);
+                        if (field == null) {
+                            out.writeInt(-1);
+                        } else {
+                            out.writeInt(field.length);
+                            out.write(field);
+                        }
+                    }
+                }
+                out.writeShort(-1);
+            } else {
+                while (rows.next()) {
+                    DelimitedText.appendRow(copy, rows, fieldCount, true);
+                }
+            }
+            copy.flush();
+            return copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Encoders of every column, or null if some column type has no binary encoder
+     */
+    static List<FieldEncoder> binaryEncoders(List<ColumnInfo> columns) {
+        List<FieldEncoder> encoders = new ArrayList<>(columns.size());
+        for (ColumnInfo column : columns) {
+            FieldEncoder encoder = column.typeName() == null ? null
+                    : ENCODERS.get(column.typeName().toLowerCase(Locale.ROOT));
+            if (encoder == null) {
+                return null;
+            }
+            encoders.add(encoder);
+        }
+        return encoders;
+    }
+
+    @FunctionalInterface
+    interface FieldEncoder {
+        byte[] encode(ResultSet rows, int index) throws SQLException;
+    }
+
+    private static byte[] int2(ResultSet rows, int index) throws SQLException {
+        short value = rows.getShort(index);
+        return rows.wasNull() ? null : ByteBuffer.allocate(Short.BYTES).putShort(value).array();
+    }
+
+    private static byte[] int4(ResultSet rows, int index) throws SQLException {
+        int value = rows.getInt(index);
+        return rows.wasNull() ? null : ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    private static byte[] int8(ResultSet rows, int index) throws SQLException {
+        long value = rows.getLong(index);
+        return rows.wasNull() ? null : ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    private static byte[] float4(ResultSet rows, int index) throws SQLException {
+        float value = rows.getFloat(index);
+        return rows.wasNull() ? null : ByteBuffer.allocate(Float.BYTES).putFloat(value).array();
+    }
+
+    private static byte[] float8(ResultSet rows, int index) throws SQLException {
+        double value = rows.getDouble(index);
+        return rows.wasNull() ? null : ByteBuffer.allocate(Double.BYTES).putDouble(value).array();
+    }
+
+    private static byte[] bool(ResultSet rows, int index) throws SQLException {
+        boolean value = rows.getBoolean(index);
+        return rows.wasNull() ? null : new byte[]{(byte) (value ? 1 : 0)};
+    }
+
+    private static byte[] numeric(ResultSet rows, int index) throws SQLException {
+        BigDecimal value = rows.getBigDecimal(index);
+        return value == null ? null : ByteConverter.numeric(value);
+    }
+
+    private static byte[] text(ResultSet rows, int index) throws SQLException {
+        String value = rows.getString(index);
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] jsonb(ResultSet rows, int index) throws SQLException {
+        byte[] json = text(rows, index);
+        if (json == null) {
+            return null;
+        }
+        // jsonb binary input is a version byte followed by the JSON text
+        byte[] field = new byte[json.length + 1];
+        field[0] = 1;
+        System.arraycopy(json, 0, field, 1, json.length);
+        return field;
+    }
+
+    private static byte[] date(ResultSet rows, int index) throws SQLException {
+        LocalDate value = rows.getObject(index, LocalDate.class);
+        return value == null ? null : ByteBuffer.allocate(Integer.BYTES)
+                .putInt((int) ChronoUnit.DAYS.between(EPOCH_DATE, value)).array();
+    }
+
+    private static byte[] time(ResultSet rows, int index) throws SQLException {
+        LocalTime value = rows.getObject(index, LocalTime.class);
+        return value == null ? null : ByteBuffer.allocate(Long.BYTES).putLong(value.toNanoOfDay() / 1000).array();
+    }
+
+    private static byte[] timestamp(ResultSet rows, int index) throws SQLException {
+        LocalDateTime value = rows.getObject(index, LocalDateTime.class);
+        return value == null ? null : ByteBuffer.allocate(Long.BYTES)
+                .putLong(ChronoUnit.MICROS.between(EPOCH, value)).array();
+    }
+
+    private static byte[] timestamptz(ResultSet rows, int index) throws SQLException {
+        Timestamp value = rows.getTimestamp(index);
+        return value == null ? null : ByteBuffer.allocate(Long.BYTES)
+                .putLong(ChronoUnit.MICROS.between(EPOCH_INSTANT, value.toInstant())).array();
+    }
+
+    private static byte[] uuid(ResultSet rows, int index) throws SQLException {
+        Object value = rows.getObject(index);
+        if (value == null) {
+            return null;
+        }
+        UUID uuid = value instanceof UUID id ? id : UUID.fromString(value.toString());
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,111 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.convert.ColumnInfo;
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL Server bulk copy writer.
+ * Streams the source cursor into SQLServerBulkCopy, described with the target column types
+ * so the driver converts source values on the way. Source identity values are kept.
+ *
+ * @author DB Sync Platform
+ */
+final class SqlServerBulkCopyWriter implements BulkWriter {
+
+    private final int batchSize;
+
+    SqlServerBulkCopyWriter(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public long write(Connection target, ResultSet rows, BulkTable table) throws SQLException {
+        CursorBulkData data = new CursorBulkData(rows, table.targetColumns());
+
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(target.unwrap(SQLServerConnection.class))) {
+            SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+            options.setBatchSize(batchSize);
+            options.setKeepIdentity(true);
+            options.setKeepNulls(true);
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(table.targetTable());
+            for (int i = 0; i < table.targetColumns().size(); i++) {
+                bulkCopy.addColumnMapping(i + 1, table.targetColumns().get(i).name());
+            }
+            bulkCopy.writeToServer(data);
+        }
+        return data.rowCount;
+    }
+
+    /**
+     * Source cursor presented as bulk data, counting the rows read
+     */
+    private static final class CursorBulkData implements ISQLServerBulkData {
+
+        private final transient ResultSet rows;
+        private final transient List<ColumnInfo> columns;
+        private long rowCount;
+
+        CursorBulkData(ResultSet rows, List<ColumnInfo> columns) {
+            this.rows = rows;
+            this.columns = columns;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals = new LinkedHashSet<>();
+            for (int i = 1; i <= columns.size(); i++) {
+                ordinals.add(i);
+            }
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns.get(column - 1).name();
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return columns.get(column - 1).jdbcType();
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            return columns.get(column - 1).size();
+        }
+
+        @Override
+        public int getScale(int column) {
+            return columns.get(column - 1).fractionDigits();
+        }
+
+        @Override
+        public Object[] getRowData() throws SQLException {
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rows.getObject(i + 1);
+            }
+            return values;
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            boolean hasRow = rows.next();
+            if (hasRow) {
+                rowCount++;
+            }
+            return hasRow;
+        }
+    }
+}
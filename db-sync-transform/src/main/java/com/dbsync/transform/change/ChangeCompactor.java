@@ -0,0 +1,167 @@
+package com.dbsync.transform.change;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key change compaction window
+ * Successive changes to the same primary key inside a window are folded into the
+ * final row state, so a hot row costs one target write per window instead of one
+ * per change. A delete supersedes every earlier change of its key.
+ * <p>
+ * Each key is emitted at most once per window and windows are released in order,
+ * so changes of one key are never reordered. Events without a key (e.g. truncate)
+ * close the window and are emitted after it.
+ * <p>
+ * Not thread-safe; each sink consumer owns its compactor.
+ *
+ * @author DB Sync Platform
+ */
+public class ChangeCompactor implements AutoCloseable {
+
+    private final int maxKeys;
+    private final long maxDelayMs;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ChangeEvent> window = new LinkedHashMap<>();
+    private final Map<TopicPartition, Long> commitOffsets = new HashMap<>();
+    private long windowStartMs;
+    private long windowInput;
+
+    private final AtomicLong totalInput = new AtomicLong();
+    private final AtomicLong totalOutput = new AtomicLong();
+    private final Counter inputCounter;
+    private final Counter outputCounter;
+    private final Gauge reductionGauge;
+
+    public ChangeCompactor(String taskId, int maxKeys, long maxDelayMs, MeterRegistry meterRegistry) {
+        this.maxKeys = maxKeys;
+        this.maxDelayMs = maxDelayMs;
+        this.meterRegistry = meterRegistry;
+        this.inputCounter = meterRegistry.counter("dbsync.compaction.events", "task", taskId, "direction", "in");
+        this.outputCounter = meterRegistry.counter("dbsync.compaction.events", "task", taskId, "direction", "out");
+        this.reductionGauge = Gauge.builder("dbsync.compaction.reduction.ratio", this,
+                        ChangeCompactor::getReductionRatio)
+                .tag("task", taskId)
+                .description("Share of change events saved by compaction")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Add an event to the window
+     *
+     * @return the released window if the event filled or closed it, otherwise null
+     */
+    public CompactedBatch offer(ChangeEvent event, long nowMs) {
+        if (event.getKey() == null || event.getOperation() == ChangeOperation.TRUNCATE) {
+            absorb(event, nowMs);
+            CompactedBatch batch = release();
+            batch.getEvents().add(event);
+            countOutput(1);
+            return batch;
+        }
+
+        absorb(event, nowMs);
+        window.merge(event.getTopic() + '|' + event.getKey(), event, ChangeCompactor::fold);
+        return window.size() >= maxKeys ? flush() : null;
+    }
+
+    /**
+     * Account for a record that will not be written (tombstone or dead-lettered), so its
+     * offset is committed together with the window it arrived in
+     */
+    public void skip(TopicPartition topicPartition, long offset, long nowMs) {
+        if (windowInput == 0) {
+            windowStartMs = nowMs;
+        }
+        windowInput++;
+        commitOffsets.merge(topicPartition, offset + 1, Math::max);
+    }
+
+    /**
+     * Release the window if it has been open for longer than the window delay
+     */
+    public CompactedBatch pollExpired(long nowMs) {
+        if (windowInput > 0 && nowMs - windowStartMs >= maxDelayMs) {
+            return flush();
+        }
+        return null;
+    }
+
+    /**
+     * Release the window regardless of its age or size
+     */
+    public CompactedBatch flush() {
+        CompactedBatch batch = release();
+        countOutput(batch.getEvents().size());
+        return batch;
+    }
+
+    /**
+     * Share of input events that did not need a target write, 0 before any input
+     */
+    public double getReductionRatio() {
+        long input = totalInput.get();
+        return input == 0 ? 0.0 : 1.0 - (double) totalOutput.get() / input;
+    }
+
+    public int getPendingKeys() {
+        return window.size();
+    }
+
+    @Override
+    public void close() {
+        for (Meter meter : List.of(inputCounter, outputCounter, reductionGauge)) {
+            meterRegistry.remove(meter);
+        }
+    }
+
+    /**
+     * Fold a later change of a key into the earlier one
+     */
+    static ChangeEvent fold(ChangeEvent earlier, ChangeEvent later) {
+        ChangeEvent.ChangeEventBuilder merged = later.toBuilder()
+                .mergedCount(earlier.getMergedCount() + later.getMergedCount());
+
+        if (later.getOperation() == ChangeOperation.UPDATE) {
+            if (earlier.getOperation() == ChangeOperation.CREATE || earlier.getOperation() == ChangeOperation.READ) {
+                // The row is still new to the target: keep it an insert with the latest image
+                merged.operation(earlier.getOperation()).before(null);
+            } else if (earlier.getOperation() == ChangeOperation.UPDATE) {
+                merged.before(earlier.getBefore());
+            }
+        }
+        // A delete wins over everything before it; a create after a delete starts a new row
+        return merged.build();
+    }
+
+    private void absorb(ChangeEvent event, long nowMs) {
+        skip(event.getTopicPartition(), event.getOffset(), nowMs);
+        totalInput.incrementAndGet();
+        inputCounter.increment();
+    }
+
+    private CompactedBatch release() {
+        CompactedBatch batch = new CompactedBatch(
+                new ArrayList<>(window.values()), new HashMap<>(commitOffsets), windowInput);
+        window.clear();
+        commitOffsets.clear();
+        windowInput = 0;
+        return batch;
+    }
+
+    private void countOutput(int events) {
+        totalOutput.addAndGet(events);
+        outputCounter.increment(events);
+    }
+}
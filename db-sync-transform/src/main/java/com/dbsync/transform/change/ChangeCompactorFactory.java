@@ -0,0 +1,45 @@
+package com.dbsync.transform.change;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Creates per-task change compactors from the app.compaction settings
+ *
+ * @author DB Sync Platform
+ */
+@Component
+public class ChangeCompactorFactory {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxKeys;
+    private final long maxDelayMs;
+
+    public ChangeCompactorFactory(
+            MeterRegistry meterRegistry,
+            @Value("${app.compaction.enabled:false}") boolean enabled,
+            @Value("${app.compaction.max-keys:10000}") int maxKeys,
+            @Value("${app.compaction.max-delay-ms:500}") long maxDelayMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxKeys = maxKeys;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    /**
+     * Create a compactor for a task; with compaction disabled every event is its own window
+     */
+    public ChangeCompactor create(UUID taskId) {
+        return enabled
+                ? new ChangeCompactor(taskId.toString(), maxKeys, maxDelayMs, meterRegistry)
+                : new ChangeCompactor(taskId.toString(), 1, 0, meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
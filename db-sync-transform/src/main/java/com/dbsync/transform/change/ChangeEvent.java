@@ -0,0 +1,180 @@
+package com.dbsync.transform.change;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A parsed Debezium change event together with the Kafka position it was read from
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ChangeEvent {
+
+    /**
+     * Reads fractional numbers as BigDecimal, so NUMERIC decimals keep every digit
+     */
+    private static final ObjectReader READER = JsonUtil.getObjectMapper()
+            .reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final String topic;
+    private final int partition;
+    private final long offset;
+
+    /**
+     * Canonical JSON of the record key; null for events without a key (e.g. truncate)
+     */
+    private final String key;
+
+    private final ChangeOperation operation;
+    private final JsonNode before;
+    private final JsonNode after;
+    private final JsonNode source;
+    private final long timestampMs;
+
+    /**
+     * Source transaction id from Debezium transaction metadata; null when not provided
+     */
+    private final String transactionId;
+
+    /**
+     * Position of the event inside its source transaction
+     */
+    private final long transactionOrder;
+
+    /**
+     * Serialized size, used to account buffered memory
+     */
+    private final int sizeBytes;
+
+    /**
+     * Number of source events folded into this one by compaction
+     */
+    @Builder.Default
+    private final int mergedCount = 1;
+
+    /**
+     * Parse a Debezium JSON record, with or without the schema envelope.
+     * Returns null for tombstones, which only exist for Kafka log compaction.
+     */
+    public static ChangeEvent fromRecord(ConsumerRecord<byte[], byte[]> record) {
+        if (record.value() == null) {
+            return null;
+        }
+        JsonNode payload = unwrap(parseJson(new String(record.value(), StandardCharsets.UTF_8)));
+        String key = null;
+        if (record.key() != null) {
+            key = unwrap(parseJson(new String(record.key(), StandardCharsets.UTF_8))).toString();
+        }
+        JsonNode transaction = payload.get("transaction");
+        boolean hasTransaction = transaction != null && transaction.hasNonNull("id");
+
+        return ChangeEvent.builder()
+                .topic(record.topic())
+                .partition(record.partition())
+                .offset(record.offset())
+                .key(key)
+                .operation(ChangeOperation.fromCode(payload.path("op").asText()))
+                .before(nullIfMissing(payload.get("before")))
+                .after(nullIfMissing(payload.get("after")))
+                .source(nullIfMissing(payload.get("source")))
+                .timestampMs(payload.path("ts_ms").asLong(record.timestamp()))
+                .transactionId(hasTransaction ? transaction.get("id").asText() : null)
+                .transactionOrder(hasTransaction ? transaction.path("total_order").asLong() : 0)
+                .sizeBytes(record.value().length + (record.key() != null ? record.key().length : 0))
+                .build();
+    }
+
+    /**
+     * Read the source transaction id of a record without parsing it into an event; null if absent or unreadable
+     */
+    public static String transactionIdOf(ConsumerRecord<byte[], byte[]> record) {
+        try {
+            JsonNode transaction = unwrap(JsonUtil.parseJson(new String(record.value(), StandardCharsets.UTF_8)))
+                    .get("transaction");
+            return transaction != null && transaction.hasNonNull("id") ? transaction.get("id").asText() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parse the JSON of an event, its key or one of its rows without rounding fractional numbers
+     */
+    public static JsonNode parseJson(String json) {
+        try {
+            return READER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to parse change event JSON", e);
+        }
+    }
+
+    /**
+     * Rebuild the Debezium value payload (schemas disabled) of this event
+     */
+    public byte[] toValueBytes() {
+        ObjectNode value = JsonUtil.getObjectMapper().createObjectNode();
+        value.set("before", before);
+        value.set("after", after);
+        value.set("source", source);
+        value.put("op", operation.getCode());
+        value.put("ts_ms", timestampMs);
+        if (transactionId != null) {
+            value.putObject("transaction")
+                    .put("id", transactionId)
+                    .put("total_order", transactionOrder);
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] toKeyBytes() {
+        return key != null ? key.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Source table name from the Debezium source block, falling back to the last topic segment
+     */
+    public String getTable() {
+        if (source != null && source.hasNonNull("table")) {
+            return source.get("table").asText();
+        }
+        return topic.substring(topic.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Source schema of the table, or its database for sources without schemas (MySQL); null if
+     * the event has no source block
+     */
+    public String getQualifier() {
+        if (source == null) {
+            return null;
+        }
+        if (source.hasNonNull("schema")) {
+            return source.get("schema").asText();
+        }
+        return source.hasNonNull("db") ? source.get("db").asText() : null;
+    }
+
+    public TopicPartition getTopicPartition() {
+        return new TopicPartition(topic, partition);
+    }
+
+    private static JsonNode unwrap(JsonNode node) {
+        return node.has("payload") && node.has("schema") ? node.get("payload") : node;
+    }
+
+    private static JsonNode nullIfMissing(JsonNode node) {
+        return node == null || node.isNull() ? null : node;
+    }
+}
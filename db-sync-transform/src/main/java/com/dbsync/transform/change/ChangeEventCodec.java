@@ -0,0 +1,83 @@
+package com.dbsync.transform.change;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of change events for spilling them to local disk
+ *
+ * @author DB Sync Platform
+ */
+public final class ChangeEventCodec {
+
+    private ChangeEventCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static void write(DataOutput out, ChangeEvent event) throws IOException {
+        writeString(out, event.getTopic());
+        out.writeInt(event.getPartition());
+        out.writeLong(event.getOffset());
+        writeString(out, event.getKey());
+        out.writeByte(event.getOperation().ordinal());
+        writeJson(out, event.getBefore());
+        writeJson(out, event.getAfter());
+        writeJson(out, event.getSource());
+        out.writeLong(event.getTimestampMs());
+        writeString(out, event.getTransactionId());
+        out.writeLong(event.getTransactionOrder());
+        out.writeInt(event.getSizeBytes());
+        out.writeInt(event.getMergedCount());
+    }
+
+    public static ChangeEvent read(DataInput in) throws IOException {
+        return ChangeEvent.builder()
+                .topic(readString(in))
+                .partition(in.readInt())
+                .offset(in.readLong())
+                .key(readString(in))
+                .operation(ChangeOperation.values()[in.readByte()])
+                .before(readJson(in))
+                .after(readJson(in))
+                .source(readJson(in))
+                .timestampMs(in.readLong())
+                .transactionId(readString(in))
+                .transactionOrder(in.readLong())
+                .sizeBytes(in.readInt())
+                .mergedCount(in.readInt())
+                .build();
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeJson(DataOutput out, JsonNode node) throws IOException {
+        writeString(out, node != null ? node.toString() : null);
+    }
+
+    private static JsonNode readJson(DataInput in) throws IOException {
+        String json = readString(in);
+        return json != null ? ChangeEvent.parseJson(json) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.dbsync.transform.change;
+
+import lombok.Getter;
+
+/**
+ * Debezium change event operation
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public enum ChangeOperation {
+
+    CREATE("c"),
+    UPDATE("u"),
+    DELETE("d"),
+    READ("r"),
+    TRUNCATE("t");
+
+    private final String code;
+
+    ChangeOperation(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Get operation by Debezium op code
+     */
+    public static ChangeOperation fromCode(String code) {
+        for (ChangeOperation op : values()) {
+            if (op.code.equals(code)) {
+                return op;
+            }
+        }
+        throw new IllegalArgumentException("Unknown change operation: " + code);
+    }
+
+    /**
+     * Whether the event carries the full row image after the change
+     */
+    public boolean isUpsert() {
+        return this == CREATE || this == UPDATE || this == READ;
+    }
+}
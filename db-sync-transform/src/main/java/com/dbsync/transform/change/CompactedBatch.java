@@ -0,0 +1,36 @@
+package com.dbsync.transform.change;
+
+import lombok.Getter;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Events released by one compaction window, in the order they must be applied,
+ * and the offsets that become committable once all of them are written
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public class CompactedBatch {
+
+    private final List<ChangeEvent> events;
+
+    /**
+     * Next offset to commit per partition, covering every event absorbed by the window
+     */
+    private final Map<TopicPartition, Long> commitOffsets;
+
+    private final long inputCount;
+
+    public CompactedBatch(List<ChangeEvent> events, Map<TopicPartition, Long> commitOffsets, long inputCount) {
+        this.events = events;
+        this.commitOffsets = commitOffsets;
+        this.inputCount = inputCount;
+    }
+
+    public boolean isEmpty() {
+        return inputCount == 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.dbsync.transform.convert;
+
+/**
+ * Column type as reported by JDBC metadata
+ *
+ * @param jdbcType       java.sql.Types code
+ * @param typeName       database type name, e.g. "BIGINT UNSIGNED" or "jsonb"
+ * @param fractionDigits scale of decimals, fractional second digits of temporal types
+ * @author DB Sync Platform
+ */
+public record ColumnInfo(String name, int jdbcType, String typeName, int size, int fractionDigits) {
+
+    public boolean isUnsigned() {
+        return typeName != null && typeName.toUpperCase().contains("UNSIGNED");
+    }
+}
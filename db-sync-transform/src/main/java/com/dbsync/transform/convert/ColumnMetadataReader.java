@@ -0,0 +1,62 @@
+package com.dbsync.transform.convert;
+
+import com.dbsync.common.enums.DatabaseType;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads column types of a table through JDBC metadata
+ *
+ * @author DB Sync Platform
+ */
+public final class ColumnMetadataReader {
+
+    private ColumnMetadataReader() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Columns of a table keyed by lower-case name; empty if the table is not found
+     *
+     * @param qualifier database (MySQL) or schema (others); null to search all
+     */
+    public static Map<String, ColumnInfo> read(Connection conn, DatabaseType type, String qualifier, String table)
+            throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        String catalog = type == DatabaseType.MYSQL ? qualifier : null;
+        String schema = type == DatabaseType.MYSQL ? null : qualifier;
+
+        // Unquoted identifiers are stored upper-case by Oracle and lower-case by PostgreSQL
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(table);
+        candidates.add(table.toUpperCase(Locale.ROOT));
+        candidates.add(table.toLowerCase(Locale.ROOT));
+
+        for (String candidate : candidates) {
+            Map<String, ColumnInfo> columns = new HashMap<>();
+            try (ResultSet rs = metaData.getColumns(catalog, schema, candidate, null)) {
+                while (rs.next()) {
+                    String name = rs.getString("COLUMN_NAME");
+                    columns.put(name.toLowerCase(Locale.ROOT), new ColumnInfo(
+                            name,
+                            rs.getInt("DATA_TYPE"),
+                            rs.getString("TYPE_NAME"),
+                            rs.getInt("COLUMN_SIZE"),
+                            rs.getInt("DECIMAL_DIGITS")));
+                }
+            }
+            if (!columns.isEmpty()) {
+                return columns;
+            }
+        }
+        return Map.of();
+    }
+}
@@ -0,0 +1,76 @@
+package com.dbsync.transform.convert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Fixed converter array for one row shape: column i of the row is converted by converters[i]
+ * and bound as parameter i + 1, with an explicit SQL type where the target needs one
+ *
+ * @author DB Sync Platform
+ */
+public final class ConverterPlan {
+
+    /**
+     * Bind with the driver's type inference
+     */
+    public static final int INFER = Integer.MIN_VALUE;
+
+    private final String[] columns;
+    private final ValueConverter[] converters;
+    private final int[] sqlTypes;
+
+    ConverterPlan(List<String> columns, ValueConverter[] converters, int[] sqlTypes) {
+        this.columns = columns.toArray(new String[0]);
+        this.converters = converters;
+        this.sqlTypes = sqlTypes;
+    }
+
+    /**
+     * Whether a row has exactly the planned columns in the planned order, i.e. the same schema version
+     */
+    public boolean matches(JsonNode row) {
+        Iterator<String> names = row.fieldNames();
+        for (String column : columns) {
+            if (!names.hasNext() || !column.equals(names.next())) {
+                return false;
+            }
+        }
+        return !names.hasNext();
+    }
+
+    /**
+     * Bind the columns of a row that {@link #matches} this plan, by position
+     */
+    public void bind(PreparedStatement statement, JsonNode row) throws SQLException {
+        Iterator<JsonNode> values = row.elements();
+        for (int i = 0; i < columns.length; i++) {
+            JsonNode value = values.next();
+            Object converted = value == null || value.isNull() ? null : converters[i].convert(value);
+            if (sqlTypes[i] == INFER) {
+                statement.setObject(i + 1, converted);
+            } else {
+                statement.setObject(i + 1, converted, sqlTypes[i]);
+            }
+        }
+    }
+
+    /**
+     * Convert one column value, for callers that do not bind through a statement
+     */
+    public Object convert(int index, JsonNode value) {
+        return value == null || value.isNull() ? null : converters[index].convert(value);
+    }
+
+    public ValueConverter getConverter(int index) {
+        return converters[index];
+    }
+
+    public int getSqlType(int index) {
+        return sqlTypes[index];
+    }
+}
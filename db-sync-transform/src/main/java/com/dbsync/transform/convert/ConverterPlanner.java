@@ -0,0 +1,198 @@
+package com.dbsync.transform.convert;
+
+import com.dbsync.common.enums.DatabaseType;
+import com.dbsync.core.verify.JdbcEndpoint;
+import com.dbsync.transform.change.ChangeEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converter Planner
+ * Builds one {@link ConverterPlan} per source table and row shape from the source and target
+ * column metadata, so records are converted through a fixed converter array without per-value
+ * type dispatch. Tables are told apart by their source database or schema, and a new set of
+ * fields (schema change) gets a new plan. Writers keep the plan while rows match it and only
+ * come back here when the shape changes; {@link #invalidate} drops the plans and metadata of a
+ * table after a failed write.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+public class ConverterPlanner implements AutoCloseable {
+
+    private static final Set<String> POSTGRES_OTHER_TYPES = Set.of("json", "jsonb", "uuid", "inet", "cidr", "macaddr");
+
+    private final JdbcEndpoint source;
+    private final DatabaseType targetType;
+    private final String poolName;
+    private final Map<PlanKey, ConverterPlan> plans = new ConcurrentHashMap<>();
+    private final Map<SourceTable, Map<String, ColumnInfo>> sourceColumns = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ColumnInfo>> targetColumns = new ConcurrentHashMap<>();
+
+    private volatile HikariDataSource sourceDataSource;
+
+    /**
+     * @param source source endpoint, or null to plan from target metadata only
+     */
+    public ConverterPlanner(JdbcEndpoint source, DatabaseType targetType, String poolName) {
+        this.source = source;
+        this.targetType = targetType;
+        this.poolName = poolName;
+    }
+
+    /**
+     * Plan for the given columns of an event's table, built on first use
+     *
+     * @param target      connection to the target database, used to read target metadata
+     * @param targetSchema schema of the target table, may be null
+     */
+    public ConverterPlan plan(Connection target, String targetSchema, ChangeEvent event, List<String> columns) {
+        SourceTable table = new SourceTable(event.getQualifier(), event.getTable());
+        PlanKey key = new PlanKey(table, List.copyOf(columns));
+        ConverterPlan plan = plans.get(key);
+        if (plan == null) {
+            Map<String, ColumnInfo> sourceInfo = sourceColumns.computeIfAbsent(table, this::readSource);
+            Map<String, ColumnInfo> targetInfo = targetColumns.computeIfAbsent(table.name(),
+                    t -> readTarget(target, targetSchema, t));
+            plan = build(columns, sourceInfo, targetInfo, source != null ? source.getDatabaseType() : null, targetType);
+            plans.put(key, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Forget the plans and metadata of an event's table, e.g. after its target DDL changed
+     */
+    public void invalidate(ChangeEvent event) {
+        SourceTable table = new SourceTable(event.getQualifier(), event.getTable());
+        plans.keySet().removeIf(key -> key.table().equals(table));
+        sourceColumns.remove(table);
+        targetColumns.remove(table.name());
+    }
+
+    static ConverterPlan build(List<String> columns, Map<String, ColumnInfo> sourceInfo,
+                               Map<String, ColumnInfo> targetInfo, DatabaseType sourceType, DatabaseType targetType) {
+        ValueConverter[] converters = new ValueConverter[columns.size()];
+        int[] sqlTypes = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            String name = columns.get(i).toLowerCase(Locale.ROOT);
+            ColumnInfo target = targetInfo.get(name);
+            converters[i] = converter(sourceInfo.get(name), target, sourceType);
+            sqlTypes[i] = targetType == DatabaseType.POSTGRESQL && target != null
+                    && POSTGRES_OTHER_TYPES.contains(target.typeName().toLowerCase(Locale.ROOT))
+                    ? Types.OTHER
+                    : ConverterPlan.INFER;
+        }
+        return new ConverterPlan(columns, converters, sqlTypes);
+    }
+
+    private static ValueConverter converter(ColumnInfo source, ColumnInfo target, DatabaseType sourceType) {
+        if (source == null) {
+            return Converters.GENERIC;
+        }
+        boolean booleanTarget = target != null
+                && (target.jdbcType() == Types.BOOLEAN || (target.jdbcType() == Types.BIT && target.size() <= 1));
+        return switch (source.jdbcType()) {
+            case Types.DECIMAL, Types.NUMERIC -> Converters.decimal(Math.max(source.fractionDigits(), 0));
+            case Types.BIGINT -> booleanTarget ? Converters.INT_TO_BOOLEAN
+                    : source.isUnsigned() ? Converters.UNSIGNED_LONG : Converters.LONG;
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> booleanTarget ? Converters.INT_TO_BOOLEAN
+                    : source.isUnsigned() ? Converters.LONG : Converters.INT;
+            case Types.BIT -> source.size() > 1 ? Converters.BYTES : Converters.BIT;
+            case Types.BOOLEAN -> Converters.BOOLEAN;
+            case Types.REAL, Types.FLOAT, Types.DOUBLE -> Converters.DOUBLE;
+            case Types.DATE -> Converters.EPOCH_DAYS;
+            case Types.TIME -> byPrecision(source.fractionDigits(),
+                    Converters.MILLIS_OF_DAY, Converters.MICROS_OF_DAY, Converters.NANOS_OF_DAY);
+            case Types.TIMESTAMP -> isZoned(source, sourceType) ? Converters.ZONED_TIMESTAMP
+                    : byPrecision(source.fractionDigits(),
+                            Converters.EPOCH_MILLIS, Converters.EPOCH_MICROS, Converters.EPOCH_NANOS);
+            case Types.TIME_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE -> Converters.ZONED_TIMESTAMP;
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> Converters.BYTES;
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR,
+                    Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB -> Converters.JSON_TEXT;
+            default -> Converters.GENERIC;
+        };
+    }
+
+    /**
+     * Adaptive precision: up to 3 fractional digits as millis, up to 6 as micros, else nanos
+     */
+    private static ValueConverter byPrecision(int fractionDigits, ValueConverter millis,
+                                              ValueConverter micros, ValueConverter nanos) {
+        if (fractionDigits <= 3) {
+            return millis;
+        }
+        return fractionDigits <= 6 ? micros : nanos;
+    }
+
+    /**
+     * Source types emitted as io.debezium.time.ZonedTimestamp though JDBC reports TIMESTAMP
+     */
+    private static boolean isZoned(ColumnInfo source, DatabaseType sourceType) {
+        String typeName = source.typeName() != null ? source.typeName().toLowerCase(Locale.ROOT) : "";
+        return (sourceType == DatabaseType.MYSQL && typeName.equals("timestamp"))
+                || typeName.equals("timestamptz")
+                || typeName.contains("with time zone")
+                || typeName.equals("datetimeoffset");
+    }
+
+    private Map<String, ColumnInfo> readSource(SourceTable table) {
+        if (source == null) {
+            return Map.of();
+        }
+        try (Connection conn = sourceDataSource().getConnection()) {
+            return ColumnMetadataReader.read(conn, source.getDatabaseType(), table.qualifier(), table.name());
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Could not read source metadata of table {}, using generic conversion: {}",
+                    table.name(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Map<String, ColumnInfo> readTarget(Connection target, String targetSchema, String table) {
+        try {
+            String qualifier = targetType == DatabaseType.MYSQL ? target.getCatalog() : targetSchema;
+            return ColumnMetadataReader.read(target, targetType, qualifier, table);
+        } catch (SQLException e) {
+            log.warn("Could not read target metadata of table {}: {}", table, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private HikariDataSource sourceDataSource() {
+        if (sourceDataSource == null) {
+            synchronized (this) {
+                if (sourceDataSource == null) {
+                    sourceDataSource = source.openDataSource(poolName, 1, true);
+                }
+            }
+        }
+        return sourceDataSource;
+    }
+
+    @Override
+    public void close() {
+        if (sourceDataSource != null) {
+            sourceDataSource.close();
+        }
+    }
+
+    /**
+     * @param qualifier source database or schema of the table, null if the event does not say
+     */
+    private record SourceTable(String qualifier, String name) {
+    }
+
+    private record PlanKey(SourceTable table, List<String> columns) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.dbsync.transform.convert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Specialized value converters for Debezium JSON encodings (schemas disabled,
+ * decimal.handling.mode=precise, time.precision.mode=adaptive, binary.handling.mode=bytes,
+ * bigint.unsigned.handling.mode=long)
+ *
+ * @author DB Sync Platform
+ */
+public final class Converters {
+
+    private Converters() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static final ValueConverter LONG = JsonNode::asLong;
+    public static final ValueConverter INT = JsonNode::asInt;
+    public static final ValueConverter DOUBLE = JsonNode::asDouble;
+    public static final ValueConverter BOOLEAN = JsonNode::asBoolean;
+
+    /**
+     * Integer source column written to a boolean target column (e.g. MySQL TINYINT(1) to PostgreSQL BOOLEAN)
+     */
+    public static final ValueConverter INT_TO_BOOLEAN = value -> value.asLong() != 0;
+
+    /**
+     * BIGINT UNSIGNED emitted as a signed long; values above Long.MAX_VALUE arrive negative
+     */
+    public static final ValueConverter UNSIGNED_LONG = value -> {
+        long v = value.asLong();
+        return v >= 0 ? (Object) v : new BigDecimal(Long.toUnsignedString(v));
+    };
+
+    /**
+     * Bytes emitted as base64 text
+     */
+    public static final ValueConverter BYTES = value -> Base64.getDecoder().decode(value.asText());
+
+    /**
+     * BIT(1) arrives as a JSON boolean
+     */
+    public static final ValueConverter BIT = JsonNode::asBoolean;
+
+    /**
+     * io.debezium.time.Date: days since epoch
+     */
+    public static final ValueConverter EPOCH_DAYS = value -> LocalDate.ofEpochDay(value.asLong());
+
+    /**
+     * io.debezium.time.Time: milliseconds of the day
+     */
+    public static final ValueConverter MILLIS_OF_DAY = value -> LocalTime.ofNanoOfDay(value.asLong() * 1_000_000L);
+
+    /**
+     * io.debezium.time.MicroTime: microseconds of the day
+     */
+    public static final ValueConverter MICROS_OF_DAY = value -> LocalTime.ofNanoOfDay(value.asLong() * 1_000L);
+
+    /**
+     * io.debezium.time.NanoTime: nanoseconds of the day
+     */
+    public static final ValueConverter NANOS_OF_DAY = value -> LocalTime.ofNanoOfDay(value.asLong());
+
+    /**
+     * io.debezium.time.Timestamp: epoch milliseconds of a zone-less timestamp
+     */
+    public static final ValueConverter EPOCH_MILLIS = value -> {
+        long millis = value.asLong();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L),
+                (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    };
+
+    /**
+     * io.debezium.time.MicroTimestamp: epoch microseconds of a zone-less timestamp
+     */
+    public static final ValueConverter EPOCH_MICROS = value -> {
+        long micros = value.asLong();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    };
+
+    /**
+     * io.debezium.time.NanoTimestamp: epoch nanoseconds of a zone-less timestamp
+     */
+    public static final ValueConverter EPOCH_NANOS = value -> {
+        long nanos = value.asLong();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    };
+
+    /**
+     * io.debezium.time.ZonedTimestamp: ISO-8601 text with offset
+     */
+    public static final ValueConverter ZONED_TIMESTAMP = value -> OffsetDateTime.parse(value.asText());
+
+    /**
+     * JSON values of structured columns are written as their text
+     */
+    public static final ValueConverter JSON_TEXT = value -> value.isTextual() ? value.textValue() : value.toString();
+
+    /**
+     * Fallback when no column metadata is available
+     */
+    public static final ValueConverter GENERIC = value -> {
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        if (value.isIntegralNumber()) {
+            return value.canConvertToLong() ? value.longValue() : value.decimalValue();
+        }
+        if (value.isNumber()) {
+            return value.decimalValue();
+        }
+        return value.isTextual() ? value.textValue() : value.toString();
+    };
+
+    /**
+     * org.apache.kafka.connect.data.Decimal: numeric JSON (decimal.format=NUMERIC, what connectors
+     * are created with) carries the scale of the event itself and is taken as is, as is
+     * io.debezium.data.VariableScaleDecimal ({scale, value}). Only base64 unscaled values written
+     * by older connector configs fall back to the given scale of the source column.
+     */
+    public static ValueConverter decimal(int scale) {
+        return value -> {
+            if (value.isNumber()) {
+                return value.decimalValue();
+            }
+            if (value.isObject()) {
+                return unscaled(value.path("value").asText(), value.path("scale").asInt());
+            }
+            return unscaled(value.asText(), scale);
+        };
+    }
+
+    private static BigDecimal unscaled(String base64, int scale) {
+        return new BigDecimal(new BigInteger(Base64.getDecoder().decode(base64)), scale);
+    }
+}
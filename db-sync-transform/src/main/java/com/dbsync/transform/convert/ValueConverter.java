@@ -0,0 +1,17 @@
+package com.dbsync.transform.convert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Converts one column value of a Debezium JSON row into the JDBC parameter for the target
+ *
+ * @author DB Sync Platform
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+    /**
+     * @param value non-null, non-JSON-null column value
+     */
+    Object convert(JsonNode value);
+}
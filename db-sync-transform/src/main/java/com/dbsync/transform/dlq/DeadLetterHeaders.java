@@ -0,0 +1,74 @@
+package com.dbsync.transform.dlq;
+
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.google.common.hash.Hashing;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Header names and helpers for dead-letter records
+ *
+ * @author DB Sync Platform
+ */
+public final class DeadLetterHeaders {
+
+    private DeadLetterHeaders() {
+        throw new UnsupportedOperationException("This is a constants class and cannot be instantiated");
+    }
+
+    public static final String TASK_CODE = "dlq.task.code";
+    public static final String STAGE = "dlq.stage";
+    public static final String EXCEPTION_CLASS = "dlq.exception.class";
+    public static final String EXCEPTION_MESSAGE = "dlq.exception.message";
+    public static final String FINGERPRINT = "dlq.fingerprint";
+    public static final String SOURCE_TOPIC = "dlq.source.topic";
+    public static final String SOURCE_PARTITION = "dlq.source.partition";
+    public static final String SOURCE_OFFSET = "dlq.source.offset";
+    public static final String SOURCE_POSITION = "dlq.source.position";
+    public static final String FAILED_AT = "dlq.failed.at";
+    public static final String REPLAY_COUNT = "dlq.replay.count";
+
+    private static final Pattern QUOTED = Pattern.compile("'[^']*'|\"[^\"]*\"");
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    /**
+     * Topic holding dead letters of a task. It is named after the task's topic prefix, since
+     * task codes are only unique within a tenant.
+     */
+    public static String topic(SyncTask task) {
+        return TaskConfigs.topicPrefix(task) + "-dlq";
+    }
+
+    /**
+     * Fingerprint grouping failures of the same cause: stage, exception class and the
+     * exception message with quoted values and numbers masked
+     */
+    public static String fingerprint(FailureStage stage, String exceptionClass, String message) {
+        String normalized = message == null ? "" : NUMBERS.matcher(QUOTED.matcher(message).replaceAll("?"))
+                .replaceAll("#");
+        return Hashing.murmur3_128()
+                .hashString(stage.name() + "|" + exceptionClass + "|" + normalized, StandardCharsets.UTF_8)
+                .toString()
+                .substring(0, 16);
+    }
+
+    static String truncate(String message) {
+        if (message == null) {
+            return "";
+        }
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    /**
+     * Read a header as UTF-8 text, or null if absent
+     */
+    public static String read(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
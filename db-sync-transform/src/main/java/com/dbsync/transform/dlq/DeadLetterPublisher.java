@@ -0,0 +1,150 @@
+package com.dbsync.transform.dlq;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.transform.change.ChangeEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Future;
+
+/**
+ * Dead Letter Publisher
+ * Writes records that failed in the pipeline to the task's dead-letter topic, keeping
+ * the original key and value and describing the failure in record headers
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class DeadLetterPublisher {
+
+    /**
+     * Debezium source block fields that locate a change in the source log
+     */
+    private static final List<String> POSITION_FIELDS = List.of(
+            "file", "pos", "row", "gtid", "lsn", "change_lsn", "commit_lsn", "scn", "txId", "ts_ms");
+
+    private final String bootstrapServers;
+    private volatile KafkaProducer<byte[], byte[]> producer;
+
+    public DeadLetterPublisher(@Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers) {
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    /**
+     * Send a failed record to the task's dead-letter topic
+     */
+    public Future<?> publish(SyncTask task, FailureStage stage, ConsumerRecord<byte[], byte[]> record,
+                             Throwable error) {
+        String taskCode = task.getTaskCode();
+        String exceptionClass = error.getClass().getName();
+        String message = DeadLetterHeaders.truncate(error.getMessage());
+
+        ProducerRecord<byte[], byte[]> deadLetter = new ProducerRecord<>(
+                DeadLetterHeaders.topic(task), null, record.key(), record.value());
+        Headers headers = deadLetter.headers();
+        record.headers().forEach(headers::add);
+        put(headers, DeadLetterHeaders.TASK_CODE, taskCode);
+        put(headers, DeadLetterHeaders.STAGE, stage.name());
+        put(headers, DeadLetterHeaders.EXCEPTION_CLASS, exceptionClass);
+        put(headers, DeadLetterHeaders.EXCEPTION_MESSAGE, message);
+        put(headers, DeadLetterHeaders.FINGERPRINT, DeadLetterHeaders.fingerprint(stage, exceptionClass, message));
+        put(headers, DeadLetterHeaders.SOURCE_TOPIC, record.topic());
+        put(headers, DeadLetterHeaders.SOURCE_PARTITION, String.valueOf(record.partition()));
+        put(headers, DeadLetterHeaders.SOURCE_OFFSET, String.valueOf(record.offset()));
+        put(headers, DeadLetterHeaders.SOURCE_POSITION, sourcePosition(record.value()));
+        put(headers, DeadLetterHeaders.FAILED_AT, Instant.now().toString());
+
+        log.debug("Dead-lettering record {}-{}@{} of task {} at {}: {}",
+                record.topic(), record.partition(), record.offset(), taskCode, stage, message);
+        return getProducer().send(deadLetter, (metadata, e) -> {
+            if (e != null) {
+                log.error("Failed to dead-letter record {}-{}@{} of task {}: {}",
+                        record.topic(), record.partition(), record.offset(), taskCode, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Send a parsed change event that failed after conversion to the task's dead-letter topic
+     */
+    public Future<?> publish(SyncTask task, FailureStage stage, ChangeEvent event, Throwable error) {
+        return publish(task, stage, new ConsumerRecord<>(event.getTopic(), event.getPartition(),
+                event.getOffset(), event.toKeyBytes(), event.toValueBytes()), error);
+    }
+
+    /**
+     * Describe where a Debezium change event came from in the source log, e.g.
+     * {"file":"mysql-bin.000003","pos":154}; empty if the value has no source block
+     */
+    static String sourcePosition(byte[] value) {
+        if (value == null) {
+            return "";
+        }
+        try {
+            JsonNode event = JsonUtil.parseJson(new String(value, StandardCharsets.UTF_8));
+            JsonNode payload = event.has("payload") ? event.get("payload") : event;
+            JsonNode source = payload.get("source");
+            if (source == null || !source.isObject()) {
+                return "";
+            }
+            ObjectNode position = JsonUtil.getObjectMapper().createObjectNode();
+            for (String field : POSITION_FIELDS) {
+                if (source.hasNonNull(field)) {
+                    position.set(field, source.get(field));
+                }
+            }
+            return position.toString();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private static void put(Headers headers, String name, String value) {
+        headers.remove(name);
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Producer<byte[], byte[]> getProducer() {
+        if (producer == null) {
+            synchronized (this) {
+                if (producer == null) {
+                    Properties props = new Properties();
+                    props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+                    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+                    props.put(ProducerConfig.ACKS_CONFIG, "all");
+                    props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+                    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+                    props.put(ProducerConfig.LINGER_MS_CONFIG, "20");
+                    props.put(ProducerConfig.BATCH_SIZE_CONFIG, String.valueOf(512 * 1024));
+                    producer = new KafkaProducer<>(props);
+                }
+            }
+        }
+        return producer;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+}
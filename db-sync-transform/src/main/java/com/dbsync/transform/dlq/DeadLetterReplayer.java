@@ -0,0 +1,307 @@
+package com.dbsync.transform.dlq;
+
+import com.dbsync.common.constants.ErrorCodes;
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Dead Letter Replayer
+ * Summarizes pending dead letters of a task and replays them to their source topics
+ * in large, rate-limited batches. Progress is kept as committed offsets of a per-task
+ * consumer group, so an interrupted replay resumes where it stopped.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayer {
+
+    private final DeadLetterPublisher deadLetterPublisher;
+    private final String bootstrapServers;
+    private final int batchSize;
+
+    public DeadLetterReplayer(
+            DeadLetterPublisher deadLetterPublisher,
+            @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+            @Value("${app.dlq.replay-batch-size:5000}") int batchSize) {
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.bootstrapServers = bootstrapServers;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Group pending (not yet replayed) dead letters by fingerprint, scanning at most maxRecords
+     */
+    public DeadLetterSummary summarize(SyncTask task, long maxRecords) {
+        String topic = DeadLetterHeaders.topic(task);
+        DeadLetterSummary summary = new DeadLetterSummary();
+        summary.setTaskCode(task.getTaskCode());
+        summary.setTopic(topic);
+
+        Map<String, DeadLetterSummary.FingerprintGroup> groups = new LinkedHashMap<>();
+        try (Consumer<byte[], byte[]> consumer = createConsumer(task)) {
+            Map<TopicPartition, Long> end = seekToPending(consumer, topic);
+            summary.setPendingRecords(pendingCount(consumer, end));
+
+            long scanned = readUntil(consumer, end, maxRecords, record -> {
+                String fingerprint = header(record, DeadLetterHeaders.FINGERPRINT);
+                String failedAt = header(record, DeadLetterHeaders.FAILED_AT);
+                DeadLetterSummary.FingerprintGroup group = groups.computeIfAbsent(fingerprint, fp -> {
+                    DeadLetterSummary.FingerprintGroup g = new DeadLetterSummary.FingerprintGroup();
+                    g.setFingerprint(fp);
+                    g.setStage(header(record, DeadLetterHeaders.STAGE));
+                    g.setExceptionClass(header(record, DeadLetterHeaders.EXCEPTION_CLASS));
+                    g.setSampleMessage(header(record, DeadLetterHeaders.EXCEPTION_MESSAGE));
+                    g.setSampleSourcePosition(header(record, DeadLetterHeaders.SOURCE_POSITION));
+                    g.setFirstFailedAt(failedAt);
+                    return g;
+                });
+                group.setCount(group.getCount() + 1);
+                group.setLastFailedAt(failedAt);
+                group.getSourceTopics().add(header(record, DeadLetterHeaders.SOURCE_TOPIC));
+            });
+            summary.setScannedRecords(scanned);
+            summary.setTruncated(scanned < summary.getPendingRecords());
+        }
+
+        List<DeadLetterSummary.FingerprintGroup> sorted = new ArrayList<>(groups.values());
+        sorted.sort(Comparator.comparingLong(DeadLetterSummary.FingerprintGroup::getCount).reversed());
+        summary.setGroups(sorted);
+        return summary;
+    }
+
+    /**
+     * Replay pending dead letters to their source topics.
+     * Records whose fingerprint is not selected are appended back to the dead-letter
+     * topic, so they stay pending for a later replay.
+     *
+     * @param fingerprints   fingerprints to replay; empty replays all
+     * @param ratePerSecond  maximum replayed records per second
+     * @param maxRecords     maximum records to process in this run
+     */
+    public ReplayReport replay(SyncTask task, Set<String> fingerprints, double ratePerSecond, long maxRecords) {
+        long startTime = System.currentTimeMillis();
+        String taskCode = task.getTaskCode();
+        String topic = DeadLetterHeaders.topic(task);
+        ReplayReport report = new ReplayReport();
+        report.setTaskCode(taskCode);
+
+        Producer<byte[], byte[]> producer = deadLetterPublisher.getProducer();
+        RateLimiter rateLimiter = RateLimiter.create(ratePerSecond);
+
+        try (Consumer<byte[], byte[]> consumer = createConsumer(task)) {
+            Map<TopicPartition, Long> end = seekToPending(consumer, topic);
+            long processed = 0;
+
+            while (processed < maxRecords) {
+                List<ConsumerRecord<byte[], byte[]>> batch = new ArrayList<>();
+                long read = readUntil(consumer, end, Math.min(batchSize, maxRecords - processed),
+                        batch::add, true);
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+                List<ConsumerRecord<byte[], byte[]>> selected = new ArrayList<>();
+                List<Future<RecordMetadata>> sends = new ArrayList<>();
+                for (ConsumerRecord<byte[], byte[]> record : batch) {
+                    String fingerprint = header(record, DeadLetterHeaders.FINGERPRINT);
+                    if (fingerprints.isEmpty() || fingerprints.contains(fingerprint)) {
+                        selected.add(record);
+                        report.getReplayedByFingerprint().merge(fingerprint, 1L, Long::sum);
+                    } else {
+                        sends.add(producer.send(new ProducerRecord<>(topic, null, record.key(), record.value(),
+                                record.headers())));
+                        report.setRequeuedRecords(report.getRequeuedRecords() + 1);
+                    }
+                    commits.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+
+                if (!selected.isEmpty()) {
+                    rateLimiter.acquire(selected.size());
+                    for (ConsumerRecord<byte[], byte[]> record : selected) {
+                        sends.add(producer.send(toReplay(record)));
+                    }
+                    report.setReplayedRecords(report.getReplayedRecords() + selected.size());
+                }
+
+                // Commit only once every record of the batch is written, so a failure replays rather than loses them
+                producer.flush();
+                awaitSends(taskCode, sends);
+                consumer.commitSync(commits);
+                processed += read;
+            }
+
+            report.setCompleted(pendingCount(consumer, end) == 0);
+        }
+
+        report.setDurationMs(System.currentTimeMillis() - startTime);
+        log.info("Dead-letter replay of task {}: {} replayed, {} requeued in {} ms",
+                taskCode, report.getReplayedRecords(), report.getRequeuedRecords(), report.getDurationMs());
+        return report;
+    }
+
+    /**
+     * Wait for the sends of a batch; the first failure aborts the replay before its offsets are committed
+     */
+    private void awaitSends(String taskCode, List<Future<RecordMetadata>> sends) {
+        try {
+            for (Future<RecordMetadata> send : sends) {
+                send.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.SYSTEM_ERROR, "Interrupted while replaying dead letters of " + taskCode);
+        } catch (ExecutionException e) {
+            throw new BusinessException(ErrorCodes.SYSTEM_ERROR,
+                    "Failed to replay dead letters of " + taskCode + ": " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Rebuild the original record for its source topic, counting the replay in a header
+     */
+    private ProducerRecord<byte[], byte[]> toReplay(ConsumerRecord<byte[], byte[]> record) {
+        String sourceTopic = header(record, DeadLetterHeaders.SOURCE_TOPIC);
+        String replayCount = header(record, DeadLetterHeaders.REPLAY_COUNT);
+        int count = replayCount != null ? Integer.parseInt(replayCount) + 1 : 1;
+
+        ProducerRecord<byte[], byte[]> replay = new ProducerRecord<>(sourceTopic, null, record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith("dlq.")) {
+                replay.headers().add(header);
+            }
+        }
+        replay.headers().add(DeadLetterHeaders.REPLAY_COUNT, String.valueOf(count).getBytes(StandardCharsets.UTF_8));
+        return replay;
+    }
+
+    /**
+     * Assign all partitions, position them at the committed offsets and capture the end offsets
+     */
+    private Map<TopicPartition, Long> seekToPending(Consumer<byte[], byte[]> consumer, String topic) {
+        List<PartitionInfo> infos = consumer.partitionsFor(topic);
+        if (infos == null || infos.isEmpty()) {
+            return new HashMap<>();
+        }
+        List<TopicPartition> partitions = infos.stream()
+                .map(info -> new TopicPartition(topic, info.partition()))
+                .toList();
+        consumer.assign(partitions);
+
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+        for (TopicPartition tp : partitions) {
+            OffsetAndMetadata offset = committed.get(tp);
+            consumer.seek(tp, offset != null ? Math.max(offset.offset(), beginning.get(tp)) : beginning.get(tp));
+        }
+        return new HashMap<>(consumer.endOffsets(partitions));
+    }
+
+    private long pendingCount(Consumer<byte[], byte[]> consumer, Map<TopicPartition, Long> end) {
+        long pending = 0;
+        for (Map.Entry<TopicPartition, Long> entry : end.entrySet()) {
+            pending += Math.max(0, entry.getValue() - consumer.position(entry.getKey()));
+        }
+        return pending;
+    }
+
+    private long readUntil(Consumer<byte[], byte[]> consumer, Map<TopicPartition, Long> end, long limit,
+                           RecordVisitor visitor) {
+        return readUntil(consumer, end, limit, visitor, false);
+    }
+
+    /**
+     * Read records below the captured end offsets until {@code limit} records were read.
+     * With {@code rewind} the consumer is moved back to the first record fetched beyond
+     * the limit, so the next call reads it again.
+     */
+    private long readUntil(Consumer<byte[], byte[]> consumer, Map<TopicPartition, Long> end, long limit,
+                           RecordVisitor visitor, boolean rewind) {
+        Map<TopicPartition, Long> unread = new HashMap<>();
+        long read = 0;
+
+        while (read < limit && pendingCount(consumer, end) > 0) {
+            ConsumerRecords<byte[], byte[]> records = consumer.poll(Duration.ofSeconds(1));
+            for (ConsumerRecord<byte[], byte[]> record : records) {
+                TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+                if (record.offset() >= end.getOrDefault(tp, 0L)) {
+                    continue;
+                }
+                if (read >= limit) {
+                    unread.putIfAbsent(tp, record.offset());
+                    continue;
+                }
+                visitor.visit(record);
+                read++;
+            }
+        }
+
+        if (rewind) {
+            unread.forEach(consumer::seek);
+        }
+        return read;
+    }
+
+    private static String header(ConsumerRecord<byte[], byte[]> record, String name) {
+        return DeadLetterHeaders.read(record.headers(), name);
+    }
+
+    /**
+     * Consumer group keeping the replay progress of a task
+     */
+    static String replayGroup(SyncTask task) {
+        return "db-sync-dlq-replay-" + TaskConfigs.topicPrefix(task);
+    }
+
+    Consumer<byte[], byte[]> createConsumer(SyncTask task) {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, replayGroup(task));
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchSize));
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, "1048576");
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, "200");
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        return new KafkaConsumer<>(props);
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(ConsumerRecord<byte[], byte[]> record);
+    }
+}
@@ -0,0 +1,40 @@
+package com.dbsync.transform.dlq;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Pending dead letters of a task grouped by failure fingerprint
+ *
+ * @author DB Sync Platform
+ */
+@Data
+public class DeadLetterSummary {
+
+    private String taskCode;
+    private String topic;
+    private long pendingRecords;
+    private long scannedRecords;
+    private boolean truncated;
+    private List<FingerprintGroup> groups = new ArrayList<>();
+
+    /**
+     * Failures sharing one fingerprint
+     */
+    @Data
+    public static class FingerprintGroup {
+        private String fingerprint;
+        private String stage;
+        private String exceptionClass;
+        private String sampleMessage;
+        private String sampleSourcePosition;
+        private Set<String> sourceTopics = new TreeSet<>();
+        private long count;
+        private String firstFailedAt;
+        private String lastFailedAt;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dbsync.transform.dlq;
+
+import lombok.Getter;
+
+/**
+ * Pipeline stage where a record failed
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public enum FailureStage {
+
+    CONVERSION("Conversion", "Decoding or type conversion of the change event"),
+    TRANSFORM("Transform", "Field mapping or script transformation"),
+    SINK("Sink", "Writing the record to the target database");
+
+    private final String displayName;
+    private final String description;
+
+    FailureStage(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+}
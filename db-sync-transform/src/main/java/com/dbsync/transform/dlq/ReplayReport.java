@@ -0,0 +1,26 @@
+package com.dbsync.transform.dlq;
+
+import lombok.Data;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of a dead-letter replay
+ *
+ * @author DB Sync Platform
+ */
+@Data
+public class ReplayReport {
+
+    private String taskCode;
+    private long replayedRecords;
+    private long requeuedRecords;
+    private long durationMs;
+    private boolean completed;
+
+    /**
+     * Replayed records per fingerprint
+     */
+    private Map<String, Long> replayedByFingerprint = new TreeMap<>();
+}
@@ -0,0 +1,91 @@
+package com.dbsync.transform.sink;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Consumer Lag Reader
+ * Reads how many records a consumer group is behind the end of the partitions it has
+ * committed offsets for
+ *
+ * @author DB Sync Platform
+ */
+@Component
+public class ConsumerLagReader {
+
+    private final String bootstrapServers;
+    private final long timeoutMs;
+    private volatile AdminClient adminClient;
+
+    public ConsumerLagReader(
+            @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+            @Value("${app.backpressure.admin-timeout-ms:10000}") long timeoutMs) {
+        this.bootstrapServers = bootstrapServers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Total lag of a consumer group, or empty if the group has not committed anything yet
+     */
+    public OptionalLong getLag(String groupId) throws ExecutionException, InterruptedException, TimeoutException {
+        Map<TopicPartition, OffsetAndMetadata> committed = getAdminClient()
+                .listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata()
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+        if (committed.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+        committed.keySet().forEach(tp -> latest.put(tp, OffsetSpec.latest()));
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> ends = getAdminClient()
+                .listOffsets(latest)
+                .all()
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+
+        long lag = 0;
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : committed.entrySet()) {
+            ListOffsetsResult.ListOffsetsResultInfo end = ends.get(entry.getKey());
+            if (end != null && entry.getValue() != null) {
+                lag += Math.max(0, end.offset() - entry.getValue().offset());
+            }
+        }
+        return OptionalLong.of(lag);
+    }
+
+    private AdminClient getAdminClient() {
+        if (adminClient == null) {
+            synchronized (this) {
+                if (adminClient == null) {
+                    Properties props = new Properties();
+                    props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                    props.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, String.valueOf(timeoutMs));
+                    adminClient = AdminClient.create(props);
+                }
+            }
+        }
+        return adminClient;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.verify.JdbcEndpoint;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import com.dbsync.transform.convert.ConverterPlan;
+import com.dbsync.transform.convert.ConverterPlanner;
+import com.dbsync.transform.txn.TransactionBatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC Target Writer
+ * Applies change events to the target database as idempotent upserts and deletes by key.
+ * Each call to write runs in one target transaction; consecutive events with the same
+ * statement shape are sent as one JDBC batch. Values are bound through the planner's
+ * precompiled converter plans; the plan and statement of the previous event are kept while
+ * events stay on the same table and row shape, so only a change of shape goes back to the planner.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+public class JdbcTargetWriter implements AutoCloseable {
+
+    private final SinkDialect dialect;
+    private final String schema;
+    private final HikariDataSource dataSource;
+    private final int chunkSize;
+    private final ConverterPlanner planner;
+    private final Map<String, List<String>> keyColumnsByTable = new ConcurrentHashMap<>();
+    private final AtomicLong appliedSourceTimestampMs = new AtomicLong();
+
+    public JdbcTargetWriter(JdbcEndpoint endpoint, String poolName, int poolSize, int chunkSize,
+                            ConverterPlanner planner) {
+        this.dialect = SinkDialect.of(endpoint.getDatabaseType());
+        this.schema = endpoint.getSchema();
+        this.dataSource = endpoint.openDataSource(poolName, poolSize, false);
+        this.chunkSize = chunkSize;
+        this.planner = planner;
+    }
+
+    /**
+     * Apply events in one target transaction
+     */
+    public void write(List<ChangeEvent> events) throws SQLException {
+        write(handler -> handler.accept(events));
+    }
+
+    /**
+     * Apply all source transactions of the batch in one target transaction
+     */
+    public void write(TransactionBatch batch) throws SQLException {
+        write(handler -> batch.forEachChunk(chunkSize, handler));
+    }
+
+    /**
+     * Source timestamp of the newest event committed to the target so far, 0 before the first commit
+     */
+    public long getAppliedSourceTimestampMs() {
+        return appliedSourceTimestampMs.get();
+    }
+
+    private void write(EventFeed feed) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                long[] newest = {0};
+                feed.feed(chunk -> {
+                    apply(conn, chunk);
+                    for (ChangeEvent event : chunk) {
+                        newest[0] = Math.max(newest[0], event.getTimestampMs());
+                    }
+                });
+                conn.commit();
+                appliedSourceTimestampMs.accumulateAndGet(newest[0], Math::max);
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void apply(Connection conn, List<ChangeEvent> events) throws SQLException {
+        PreparedStatement statement = null;
+        ChangeEvent previous = null;
+        ConverterPlan plan = null;
+        ChangeEvent current = null;
+        try {
+            for (ChangeEvent event : events) {
+                current = event;
+                if (event.getOperation() == ChangeOperation.TRUNCATE) {
+                    executeBatch(statement);
+                    try (Statement truncate = conn.createStatement()) {
+                        truncate.execute(dialect.truncateSql(dialect.qualify(schema, event.getTable())));
+                    }
+                    continue;
+                }
+
+                boolean delete = event.getOperation() == ChangeOperation.DELETE;
+                JsonNode row = delete ? ChangeEvent.parseJson(event.getKey()) : event.getAfter();
+                if (plan == null || !sameTable(previous, event) || delete != isDelete(previous) || !plan.matches(row)) {
+                    String table = dialect.qualify(schema, event.getTable());
+                    List<String> columns = fieldNames(row);
+                    String sql = delete
+                            ? dialect.deleteSql(table, columns)
+                            : dialect.upsertSql(table, columns, keyColumns(table, event));
+                    plan = planner.plan(conn, schema, event, columns);
+                    executeBatch(statement);
+                    close(statement);
+                    statement = conn.prepareStatement(sql);
+                }
+                previous = event;
+                plan.bind(statement, row);
+                statement.addBatch();
+            }
+            executeBatch(statement);
+        } catch (SQLException | RuntimeException e) {
+            // The target table may have changed; re-read its metadata on the retry
+            if (current != null) {
+                planner.invalidate(current);
+            }
+            throw e;
+        } finally {
+            close(statement);
+        }
+    }
+
+    private static boolean sameTable(ChangeEvent previous, ChangeEvent event) {
+        return previous != null
+                && previous.getTable().equals(event.getTable())
+                && Objects.equals(previous.getQualifier(), event.getQualifier());
+    }
+
+    private static boolean isDelete(ChangeEvent event) {
+        return event != null && event.getOperation() == ChangeOperation.DELETE;
+    }
+
+    private List<String> keyColumns(String table, ChangeEvent event) {
+        return keyColumnsByTable.computeIfAbsent(table, t -> fieldNames(ChangeEvent.parseJson(event.getKey())));
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
+            names.add(it.next());
+        }
+        return names;
+    }
+
+    private static void executeBatch(PreparedStatement statement) throws SQLException {
+        if (statement != null) {
+            statement.executeBatch();
+        }
+    }
+
+    private static void close(PreparedStatement statement) throws SQLException {
+        if (statement != null) {
+            statement.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+        planner.close();
+    }
+
+    @FunctionalInterface
+    private interface EventFeed {
+        void feed(TransactionBatch.ChunkHandler handler) throws SQLException;
+    }
+}
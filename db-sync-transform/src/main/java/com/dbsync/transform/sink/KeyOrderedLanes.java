@@ -0,0 +1,141 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.transform.change.ChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Key-Ordered Sink Lanes
+ * Spreads events over a fixed number of lanes by primary-key hash. Each lane is one thread
+ * with its own target connection that drains its queue in micro-batches, so changes of one
+ * key are applied in order while a single partition can keep many connections busy.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+class KeyOrderedLanes implements AutoCloseable {
+
+    private final List<Lane> lanes = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final RetryingSinkWriter writer;
+    private final BooleanSupplier running;
+    private final int chunkSize;
+    private volatile Throwable failure;
+
+    KeyOrderedLanes(String taskId, int laneCount, int laneCapacity, int chunkSize,
+                    RetryingSinkWriter writer, BooleanSupplier running) {
+        this.writer = writer;
+        this.running = running;
+        this.chunkSize = chunkSize;
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane(new ArrayBlockingQueue<>(laneCapacity));
+            Thread thread = new Thread(lane, "sink-" + taskId + "-lane-" + i);
+            thread.setDaemon(true);
+            lane.thread = thread;
+            lanes.add(lane);
+            thread.start();
+        }
+    }
+
+    /**
+     * Queue an event on its key's lane
+     *
+     * @return false if the lane is full; the caller retries after polling
+     */
+    boolean trySubmit(ChangeEvent event, OffsetTracker.Slot slot) {
+        Lane lane = lanes.get(Math.floorMod((event.getTopic() + '|' + event.getKey()).hashCode(), lanes.size()));
+        if (!lane.queue.offer(new Pending(event, slot))) {
+            return false;
+        }
+        inFlight.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Drop the events still queued on the lanes; batches a lane is already writing complete
+     */
+    void discardQueued() {
+        List<Pending> discarded = new ArrayList<>();
+        for (Lane lane : lanes) {
+            lane.queue.drainTo(discarded);
+        }
+        inFlight.addAndGet(-discarded.size());
+    }
+
+    /**
+     * Whether every submitted event has been applied
+     */
+    boolean isIdle() {
+        return inFlight.get() == 0;
+    }
+
+    /**
+     * Failure that stopped a lane, if any; the sink restarts from committed offsets
+     */
+    Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.thread.interrupt();
+        }
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record Pending(ChangeEvent event, OffsetTracker.Slot slot) {
+    }
+
+    private final class Lane implements Runnable {
+        private final BlockingQueue<Pending> queue;
+        private Thread thread;
+
+        private Lane(BlockingQueue<Pending> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            List<Pending> batch = new ArrayList<>(chunkSize);
+            List<ChangeEvent> events = new ArrayList<>(chunkSize);
+            try {
+                while (running.getAsBoolean()) {
+                    Pending first = queue.poll(200, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, chunkSize - 1);
+                    batch.forEach(p -> events.add(p.event()));
+
+                    writer.write(events, Thread::sleep);
+
+                    batch.forEach(p -> p.slot().completeOne());
+                    inFlight.addAndGet(-batch.size());
+                    batch.clear();
+                    events.clear();
+                }
+            } catch (InterruptedException | RetryingSinkWriter.StoppedException e) {
+                // Stopping; queued events are re-read from the committed offsets
+            } catch (RuntimeException e) {
+                log.error("Sink lane {} failed: {}", thread.getName(), e.getMessage(), e);
+                failure = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeEventCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Memory-Mapped Spill Buffer
+ * FIFO of change events kept in memory-mapped segment files on local disk. Events are
+ * appended as length-prefixed records to the tail segment and read back in append order;
+ * fully read segment files are unmapped and deleted, except the last, which is rewound for
+ * reuse. The segments mapped at any time are bounded by the disk quota, and an append that
+ * would exceed it is refused.
+ * <p>
+ * Mapped pages live outside the Java heap, so a stalled target does not fill the heap;
+ * the page cache writes them back to disk as needed. Segments are unmapped explicitly when
+ * deleted: a mapping left to the garbage collector keeps its deleted file's blocks and
+ * address space in use long after the quota has stopped counting it.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+class MappedSpillBuffer implements AutoCloseable {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    /**
+     * Unsafe.invokeCleaner, the only way to release a mapping before garbage collection; null if unavailable
+     */
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long quotaBytes;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final ByteArrayOutputStream encoded = new ByteArrayOutputStream(4096);
+
+    private long allocatedBytes;
+    private long eventCount;
+    private long segmentSequence;
+    private ChangeEvent head;
+
+    MappedSpillBuffer(Path directory, int segmentBytes, long quotaBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.quotaBytes = quotaBytes;
+        deleteStaleSegments();
+    }
+
+    /**
+     * Append an event to the tail
+     *
+     * @return false if the event does not fit into the disk quota
+     */
+    boolean append(ChangeEvent event) {
+        byte[] record = encode(event);
+        int needed = LENGTH_BYTES + record.length;
+
+        Segment tail = segments.peekLast();
+        if (tail == null || tail.remaining() < needed) {
+            int size = Math.max(segmentBytes, needed);
+            if (allocatedBytes + size > quotaBytes) {
+                return false;
+            }
+            tail = allocate(size);
+        }
+        tail.buffer.putInt(tail.writePosition, record.length);
+        tail.buffer.put(tail.writePosition + LENGTH_BYTES, record);
+        tail.writePosition += needed;
+        eventCount++;
+        return true;
+    }
+
+    /**
+     * Oldest event without removing it, or null if empty
+     */
+    ChangeEvent peek() {
+        if (head == null && eventCount > 0) {
+            head = readHead();
+        }
+        return head;
+    }
+
+    /**
+     * Remove and return the oldest event, or null if empty
+     */
+    ChangeEvent poll() {
+        ChangeEvent event = peek();
+        if (event != null) {
+            head = null;
+            eventCount--;
+            releaseReadSegments();
+        }
+        return event;
+    }
+
+    boolean isEmpty() {
+        return eventCount == 0;
+    }
+
+    long size() {
+        return eventCount;
+    }
+
+    /**
+     * Bytes of segment files currently on disk
+     */
+    long getDiskBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Drop every spilled event and delete the segment files
+     */
+    void clear() {
+        while (!segments.isEmpty()) {
+            delete(segments.pollFirst());
+        }
+        head = null;
+        eventCount = 0;
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private ChangeEvent readHead() {
+        Segment segment = segments.peekFirst();
+        int length = segment.buffer.getInt(segment.readPosition);
+        byte[] record = new byte[length];
+        segment.buffer.get(segment.readPosition + LENGTH_BYTES, record);
+        segment.readPosition += LENGTH_BYTES + length;
+        try {
+            return ChangeEventCodec.read(new DataInputStream(new ByteArrayInputStream(record)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spilled event from " + segment.path, e);
+        }
+    }
+
+    private void releaseReadSegments() {
+        while (!segments.isEmpty()) {
+            Segment first = segments.peekFirst();
+            if (first.readPosition < first.writePosition) {
+                return;
+            }
+            if (segments.size() == 1) {
+                // Drained: rewind the tail instead of unmapping and allocating a new file
+                first.readPosition = 0;
+                first.writePosition = 0;
+                return;
+            }
+            delete(segments.pollFirst());
+        }
+    }
+
+    private byte[] encode(ChangeEvent event) {
+        encoded.reset();
+        try {
+            ChangeEventCodec.write(new DataOutputStream(encoded), event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode event for spilling", e);
+        }
+        return encoded.toByteArray();
+    }
+
+    private Segment allocate(int size) {
+        try {
+            Files.createDirectories(directory);
+            Path path = directory.resolve(String.format("segment-%010d.spill", segmentSequence++));
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+            Segment segment = new Segment(path, buffer);
+            segments.addLast(segment);
+            allocatedBytes += size;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to allocate spill segment in " + directory, e);
+        }
+    }
+
+    /**
+     * Unmap and delete a segment; it must not be read or written afterwards
+     */
+    private void delete(Segment segment) {
+        allocatedBytes -= segment.buffer.capacity();
+        unmap(segment.buffer);
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete spill segment " + segment.path, e);
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            log.warn("Failed to unmap spill segment, leaving it to garbage collection: {}", e.getMessage());
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Spill segments cannot be unmapped explicitly, mappings are released by garbage collection: {}",
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Segments left by a previous run hold records that are re-read from Kafka anyway
+     */
+    private void deleteStaleSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "segment-*.spill")) {
+            for (Path path : stale) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clean spill directory " + directory, e);
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int readPosition;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.dbsync.transform.sink;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks dispatched units of work per partition and reports, per partition, the offset up to
+ * which every unit has completed. Units complete in any order; a partition's committable
+ * offset only advances past the lowest still-pending unit.
+ *
+ * @author DB Sync Platform
+ */
+public class OffsetTracker {
+
+    private final Map<TopicPartition, Deque<Slot>> pending = new HashMap<>();
+
+    /**
+     * Register a unit covering the given commit offsets, completed after eventCount events
+     */
+    public synchronized Slot register(Map<TopicPartition, Long> commitOffsets, int eventCount) {
+        Slot slot = new Slot(commitOffsets, eventCount);
+        commitOffsets.keySet().forEach(tp -> pending.computeIfAbsent(tp, k -> new ArrayDeque<>()).add(slot));
+        return slot;
+    }
+
+    /**
+     * Take the offsets that became committable since the last call
+     */
+    public synchronized Map<TopicPartition, Long> drainCommittable() {
+        Map<TopicPartition, Long> committable = new HashMap<>();
+        for (Map.Entry<TopicPartition, Deque<Slot>> entry : pending.entrySet()) {
+            Deque<Slot> slots = entry.getValue();
+            while (!slots.isEmpty() && slots.peek().isDone()) {
+                committable.put(entry.getKey(), slots.poll().commitOffsets.get(entry.getKey()));
+            }
+        }
+        pending.values().removeIf(Deque::isEmpty);
+        return committable;
+    }
+
+    /**
+     * Number of units not yet completed
+     */
+    public synchronized int getPendingCount() {
+        return (int) pending.values().stream().flatMap(Deque::stream).filter(s -> !s.isDone()).distinct().count();
+    }
+
+    public synchronized void clear() {
+        pending.clear();
+    }
+
+    /**
+     * A unit of work; done once all of its events have completed
+     */
+    public static final class Slot {
+        private final Map<TopicPartition, Long> commitOffsets;
+        private final AtomicInteger remaining;
+
+        private Slot(Map<TopicPartition, Long> commitOffsets, int eventCount) {
+            this.commitOffsets = commitOffsets;
+            this.remaining = new AtomicInteger(eventCount);
+        }
+
+        public void completeOne() {
+            remaining.decrementAndGet();
+        }
+
+        public boolean isDone() {
+            return remaining.get() <= 0;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.dlq.DeadLetterPublisher;
+import com.dbsync.transform.dlq.FailureStage;
+import com.dbsync.transform.txn.TransactionBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Applies events through the target writer with the sink's failure policy: lost target
+ * connections are retried until the target is back or the sink stops; other failures are
+ * retried a few times, then the events are applied one by one and the ones that still fail
+ * are dead-lettered.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+class RetryingSinkWriter implements AutoCloseable {
+
+    private final SyncTask task;
+    private final String taskCode;
+    private final JdbcTargetWriter writer;
+    private final DeadLetterPublisher deadLetterPublisher;
+    private final int writeRetries;
+    private final long retryBackoffMs;
+    private final BooleanSupplier running;
+    private final TableThroughput throughput;
+
+    private final Counter appliedCounter;
+    private final Counter deadLetteredCounter;
+
+    RetryingSinkWriter(SyncTask task, JdbcTargetWriter writer, DeadLetterPublisher deadLetterPublisher,
+                       MeterRegistry meterRegistry, TableThroughput throughput, int writeRetries, long retryBackoffMs,
+                       BooleanSupplier running) {
+        this.task = task;
+        this.taskCode = task.getTaskCode();
+        this.writer = writer;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.writeRetries = writeRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.running = running;
+        this.throughput = throughput;
+        this.appliedCounter = meterRegistry.counter("dbsync.sink.events", "task", task.getTaskId().toString(),
+                "result", "applied");
+        this.deadLetteredCounter = meterRegistry.counter("dbsync.sink.events", "task", task.getTaskId().toString(),
+                "result", "dead_lettered");
+    }
+
+    /**
+     * Apply events in one target transaction
+     *
+     * @param backoff waits between attempts; the consumer thread keeps polling while it waits
+     */
+    void write(List<ChangeEvent> events, Backoff backoff) throws InterruptedException {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (writeWithRetry(() -> writer.write(events), backoff)) {
+            events.forEach(event -> throughput.recordApplied(event.getTable(), 1));
+        } else {
+            writeOneByOne(events);
+        }
+        appliedCounter.increment(events.size());
+    }
+
+    /**
+     * Apply a batch of source transactions in one target transaction
+     */
+    void write(TransactionBatch batch, Backoff backoff) throws InterruptedException {
+        if (writeWithRetry(() -> writer.write(batch), backoff)) {
+            batch.getTableEventCounts().forEach(throughput::recordApplied);
+        } else {
+            log.warn("Applying transactions from {} of task {} event by event after repeated failures",
+                    batch.getFirstTransactionId(), taskCode);
+            try {
+                batch.forEachChunk(1000, this::writeOneByOne);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        appliedCounter.increment(batch.getEventCount());
+    }
+
+    /**
+     * @return false if the write kept failing on data errors
+     */
+    private boolean writeWithRetry(TargetWrite write, Backoff backoff) throws InterruptedException {
+        int failures = 0;
+        while (running.getAsBoolean()) {
+            try {
+                write.run();
+                return true;
+            } catch (SQLException e) {
+                if (!isConnectionFailure(e) && ++failures > writeRetries) {
+                    log.warn("Write of task {} failed {} times: {}", taskCode, failures, e.getMessage());
+                    return false;
+                }
+                log.debug("Write of task {} failed, retrying: {}", taskCode, e.getMessage());
+                backoff.await(retryBackoffMs);
+            }
+        }
+        throw new StoppedException();
+    }
+
+    private void writeOneByOne(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            try {
+                writer.write(List.of(event));
+                throughput.recordApplied(event.getTable(), 1);
+            } catch (SQLException e) {
+                deadLetterPublisher.publish(task, FailureStage.SINK, event, e);
+                deadLetteredCounter.increment();
+                throughput.recordDeadLettered(event.getTable());
+            }
+        }
+    }
+
+    /**
+     * Record a consumed record that was dead-lettered before reaching the writer
+     *
+     * @param table source table, as far as it is known
+     */
+    void countDeadLettered(String table) {
+        deadLetteredCounter.increment();
+        throughput.recordDeadLettered(table);
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    private static boolean isConnectionFailure(SQLException e) {
+        return e instanceof SQLTransientConnectionException
+                || e instanceof SQLNonTransientConnectionException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("08"));
+    }
+
+    @FunctionalInterface
+    interface Backoff {
+        void await(long millis) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface TargetWrite {
+        void run() throws SQLException;
+    }
+
+    /**
+     * Raised when a stop request interrupts a pending write
+     */
+    static final class StoppedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,137 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.common.enums.DatabaseType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Target-specific SQL for applying change events: idempotent upserts, deletes by key and truncates
+ *
+ * @author DB Sync Platform
+ */
+public enum SinkDialect {
+
+    MYSQL {
+        @Override
+        public String quote(String identifier) {
+            return "`" + identifier.replace("`", "``") + "`";
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> columns, List<String> keyColumns) {
+            List<String> updates = nonKey(columns, keyColumns);
+            String assignments = updates.isEmpty()
+                    ? quote(keyColumns.get(0)) + " = " + quote(keyColumns.get(0))
+                    : updates.stream().map(c -> quote(c) + " = VALUES(" + quote(c) + ")")
+                            .collect(Collectors.joining(", "));
+            return insertSql(table, columns) + " ON DUPLICATE KEY UPDATE " + assignments;
+        }
+    },
+
+    POSTGRESQL {
+        @Override
+        public String quote(String identifier) {
+            return "\"" + identifier.replace("\"", "\"\"") + "\"";
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> columns, List<String> keyColumns) {
+            List<String> updates = nonKey(columns, keyColumns);
+            String action = updates.isEmpty()
+                    ? "DO NOTHING"
+                    : "DO UPDATE SET " + updates.stream().map(c -> quote(c) + " = EXCLUDED." + quote(c))
+                            .collect(Collectors.joining(", "));
+            return insertSql(table, columns) + " ON CONFLICT (" + list(keyColumns, "") + ") " + action;
+        }
+    },
+
+    SQLSERVER {
+        @Override
+        public String quote(String identifier) {
+            return "[" + identifier.replace("]", "]]") + "]";
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> columns, List<String> keyColumns) {
+            return "MERGE INTO " + table + " WITH (HOLDLOCK) AS t USING (VALUES (" + placeholders(columns)
+                    + ")) AS s (" + list(columns, "") + ")" + mergeTail(columns, keyColumns) + ";";
+        }
+    },
+
+    ORACLE {
+        @Override
+        public String quote(String identifier) {
+            return "\"" + identifier.replace("\"", "\"\"") + "\"";
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> columns, List<String> keyColumns) {
+            String selectList = columns.stream().map(c -> "? " + quote(c)).collect(Collectors.joining(", "));
+            return "MERGE INTO " + table + " t USING (SELECT " + selectList + " FROM dual) s"
+                    + mergeTail(columns, keyColumns);
+        }
+    };
+
+    public abstract String quote(String identifier);
+
+    /**
+     * Insert-or-update of one row, binding the columns in the given order
+     */
+    public abstract String upsertSql(String table, List<String> columns, List<String> keyColumns);
+
+    /**
+     * Delete of one row, binding the key columns in the given order
+     */
+    public String deleteSql(String table, List<String> keyColumns) {
+        return "DELETE FROM " + table + " WHERE " + keyColumns.stream()
+                .map(c -> quote(c) + " = ?")
+                .collect(Collectors.joining(" AND "));
+    }
+
+    public String truncateSql(String table) {
+        return "TRUNCATE TABLE " + table;
+    }
+
+    /**
+     * Table name qualified with the schema (database for MySQL) when one is configured
+     */
+    public String qualify(String schema, String table) {
+        return schema != null && !schema.isEmpty() ? quote(schema) + "." + quote(table) : quote(table);
+    }
+
+    public static SinkDialect of(DatabaseType databaseType) {
+        return valueOf(databaseType.name());
+    }
+
+    String insertSql(String table, List<String> columns) {
+        return "INSERT INTO " + table + " (" + list(columns, "") + ") VALUES (" + placeholders(columns) + ")";
+    }
+
+    /**
+     * ON/WHEN clauses shared by the MERGE-based dialects, with target alias t and source alias s
+     */
+    String mergeTail(List<String> columns, List<String> keyColumns) {
+        String on = keyColumns.stream().map(c -> "t." + quote(c) + " = s." + quote(c))
+                .collect(Collectors.joining(" AND "));
+        List<String> updates = nonKey(columns, keyColumns);
+        String matched = updates.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + updates.stream()
+                .map(c -> "t." + quote(c) + " = s." + quote(c))
+                .collect(Collectors.joining(", "));
+        return " ON (" + on + ")" + matched + " WHEN NOT MATCHED THEN INSERT (" + list(columns, "")
+                + ") VALUES (" + list(columns, "s.") + ")";
+    }
+
+    String list(List<String> columns, String prefix) {
+        return columns.stream().map(c -> prefix + quote(c)).collect(Collectors.joining(", "));
+    }
+
+    static String placeholders(List<String> columns) {
+        return String.join(", ", Collections.nCopies(columns.size(), "?"));
+    }
+
+    static List<String> nonKey(List<String> columns, List<String> keyColumns) {
+        return columns.stream().filter(c -> !keyColumns.contains(c)).toList();
+    }
+}
@@ -0,0 +1,218 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.verify.JdbcEndpoint;
+import com.dbsync.transform.change.ChangeCompactorFactory;
+import com.dbsync.transform.convert.ConverterPlanner;
+import com.dbsync.transform.dlq.DeadLetterPublisher;
+import com.dbsync.transform.snapshot.SnapshotCounter;
+import com.dbsync.transform.txn.TransactionBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sink Manager
+ * Starts and stops the per-task sink runners of this node
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class SinkManager {
+
+    private final ChangeCompactorFactory compactorFactory;
+    private final DeadLetterPublisher deadLetterPublisher;
+    private final MeterRegistry meterRegistry;
+    private final String bootstrapServers;
+    private final SinkSettings settings;
+    private final int maxPollRecords;
+    private final long transactionMemoryCapBytes;
+    private final int maxEventsPerCommit;
+    private final String spillDirectory;
+    private final int spillSegmentBytes;
+    private final long spillQuotaBytes;
+
+    private final Map<UUID, RunningSink> sinks = new ConcurrentHashMap<>();
+
+    public SinkManager(
+            ChangeCompactorFactory compactorFactory,
+            DeadLetterPublisher deadLetterPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+            @Value("${app.sink.lanes:8}") int lanes,
+            @Value("${app.sink.lane-capacity:10000}") int laneCapacity,
+            @Value("${app.sink.chunk-size:1000}") int chunkSize,
+            @Value("${app.sink.max-poll-records:2000}") int maxPollRecords,
+            @Value("${app.sink.poll-timeout-ms:500}") long pollTimeoutMs,
+            @Value("${app.sink.write-retries:3}") int writeRetries,
+            @Value("${app.sink.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${app.sink.transaction.memory-cap-bytes:268435456}") long transactionMemoryCapBytes,
+            @Value("${app.sink.transaction.max-events-per-commit:5000}") int maxEventsPerCommit,
+            @Value("${app.sink.spill-dir:${java.io.tmpdir}/db-sync-spill}") String spillDirectory,
+            @Value("${app.sink.spill.segment-bytes:67108864}") int spillSegmentBytes,
+            @Value("${app.sink.spill.quota-bytes:2147483648}") long spillQuotaBytes) {
+        this.compactorFactory = compactorFactory;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.meterRegistry = meterRegistry;
+        this.bootstrapServers = bootstrapServers;
+        this.settings = new SinkSettings(lanes, laneCapacity, chunkSize, pollTimeoutMs, writeRetries, retryBackoffMs);
+        this.maxPollRecords = maxPollRecords;
+        this.transactionMemoryCapBytes = transactionMemoryCapBytes;
+        this.maxEventsPerCommit = maxEventsPerCommit;
+        this.spillDirectory = spillDirectory;
+        this.spillSegmentBytes = spillSegmentBytes;
+        this.spillQuotaBytes = spillQuotaBytes;
+    }
+
+    /**
+     * Start the sink of a task unless it is already running here
+     */
+    public synchronized void start(SyncTask task) {
+        RunningSink existing = sinks.get(task.getTaskId());
+        if (existing != null && existing.thread.isAlive()) {
+            return;
+        }
+
+        // Local resources are named by task ID, since task codes repeat across tenants
+        String sinkId = task.getTaskId().toString();
+        SinkSubscription subscription = SinkSubscription.of(task);
+        JdbcEndpoint target = JdbcEndpoint.fromConfig(task.getTargetDbType(), task.getTargetConnectionConfig());
+        ConverterPlanner planner = new ConverterPlanner(
+                JdbcEndpoint.fromConfig(task.getSourceDbType(), task.getSourceConnectionConfig()),
+                task.getTargetDbType(), "sink-meta-" + sinkId);
+        TransactionBuffer transactionBuffer = subscription.isTransactional()
+                ? new TransactionBuffer(transactionMemoryCapBytes, spillQuotaBytes, maxEventsPerCommit,
+                        Path.of(spillDirectory, sinkId))
+                : null;
+        MappedSpillBuffer spillBuffer = transactionBuffer == null
+                ? new MappedSpillBuffer(Path.of(spillDirectory, sinkId, "lanes"),
+                        spillSegmentBytes, spillQuotaBytes)
+                : null;
+        // Lanes each hold a connection; barriers and transaction batches use one more on the consumer thread
+        int poolSize = transactionBuffer != null ? 1 : settings.lanes() + 1;
+
+        JdbcTargetWriter targetWriter = new JdbcTargetWriter(target, "sink-" + sinkId, poolSize,
+                settings.chunkSize(), planner);
+        SnapshotCounter snapshotCounter = new SnapshotCounter(TaskConfigs.topicPrefix(task));
+        TableThroughput throughput = new TableThroughput();
+        SinkRunner runner = new SinkRunner(
+                task,
+                createConsumer(task),
+                subscription,
+                targetWriter,
+                compactorFactory.create(task.getTaskId()),
+                transactionBuffer,
+                spillBuffer,
+                deadLetterPublisher,
+                snapshotCounter,
+                throughput,
+                meterRegistry,
+                settings);
+
+        Thread thread = new Thread(runner, "sink-" + sinkId);
+        thread.setDaemon(true);
+        thread.start();
+        sinks.put(task.getTaskId(), new RunningSink(runner, thread, targetWriter, snapshotCounter, throughput));
+        log.info("Started sink of task {} -> {}", task.getTaskCode(), target);
+    }
+
+    /**
+     * Stop the sink of a task and wait for it to release its consumer and connections
+     */
+    public void stop(UUID taskId) {
+        RunningSink sink = sinks.remove(taskId);
+        if (sink == null) {
+            return;
+        }
+        sink.runner.stop();
+        try {
+            sink.thread.join(30000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Tasks whose sink runs on this node
+     */
+    public Set<UUID> getRunningTaskIds() {
+        sinks.entrySet().removeIf(entry -> !entry.getValue().thread.isAlive());
+        return Set.copyOf(sinks.keySet());
+    }
+
+    /**
+     * Source timestamp of the newest event the task's sink has committed, if it runs here
+     * and has applied anything
+     */
+    public OptionalLong getAppliedSourceTimestampMs(UUID taskId) {
+        RunningSink sink = sinks.get(taskId);
+        if (sink == null || !sink.thread.isAlive()) {
+            return OptionalLong.empty();
+        }
+        long timestamp = sink.targetWriter.getAppliedSourceTimestampMs();
+        return timestamp > 0 ? OptionalLong.of(timestamp) : OptionalLong.empty();
+    }
+
+    /**
+     * Snapshot rows the task's sink has read in its current run, if it runs here
+     */
+    public Optional<SnapshotCounter> getSnapshotCounter(UUID taskId) {
+        RunningSink sink = sinks.get(taskId);
+        return sink != null && sink.thread.isAlive() ? Optional.of(sink.snapshotCounter) : Optional.empty();
+    }
+
+    /**
+     * Events the task's sink applied and dead-lettered per table, if it runs here. A caller
+     * holding on to the counter can drain it once more after the sink stopped.
+     */
+    public Optional<TableThroughput> getThroughput(UUID taskId) {
+        RunningSink sink = sinks.get(taskId);
+        return sink != null ? Optional.of(sink.throughput) : Optional.empty();
+    }
+
+    /**
+     * Consumer group of a task's sink. It is named after the topic prefix, since task codes are
+     * only unique within a tenant and same-code tasks must not split each other's partitions.
+     */
+    public static String consumerGroup(SyncTask task) {
+        return "db-sync-sink-" + TaskConfigs.topicPrefix(task);
+    }
+
+    @PreDestroy
+    public void stopAll() {
+        List.copyOf(sinks.keySet()).forEach(this::stop);
+    }
+
+    private KafkaConsumer<byte[], byte[]> createConsumer(SyncTask task) {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroup(task));
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        return new KafkaConsumer<>(props);
+    }
+
+    private record RunningSink(SinkRunner runner, Thread thread, JdbcTargetWriter targetWriter,
+                               SnapshotCounter snapshotCounter, TableThroughput throughput) {
+    }
+}
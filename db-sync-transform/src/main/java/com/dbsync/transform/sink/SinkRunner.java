@@ -0,0 +1,441 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.transform.change.ChangeCompactor;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import com.dbsync.transform.change.CompactedBatch;
+import com.dbsync.transform.dlq.DeadLetterPublisher;
+import com.dbsync.transform.dlq.FailureStage;
+import com.dbsync.transform.snapshot.SnapshotCounter;
+import com.dbsync.transform.txn.TransactionBatch;
+import com.dbsync.transform.txn.TransactionBuffer;
+import com.dbsync.transform.txn.TransactionMarker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sink Runner
+ * Consumes the CDC topics of one task and applies them to the target database.
+ * <p>
+ * In transaction mode events are grouped by source transaction and each transaction (or
+ * several small ones) is applied as one target transaction on the consumer thread.
+ * Otherwise events pass through the task's compaction window and are spread over
+ * key-ordered lanes, so one partition can use many target connections while changes
+ * of a key stay in order. When the lanes are full, released events go to a memory-mapped
+ * spill buffer on local disk and are fed to the lanes in order as the target catches up;
+ * consumption only pauses once the task's spill quota is used up.
+ * <p>
+ * Offsets are committed only up to the lowest position whose writes have all completed.
+ * When partitions are revoked, work not yet handed to a lane is dropped, the lanes finish
+ * their current writes and the completed offsets are committed, so the new owner of a
+ * partition never races this node's writes and resumes right after them.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+public class SinkRunner implements Runnable {
+
+    private final SyncTask task;
+    private final String taskCode;
+    private final Consumer<byte[], byte[]> consumer;
+    private final SinkSubscription subscription;
+    private final RetryingSinkWriter writer;
+    private final ChangeCompactor compactor;
+    private final TransactionBuffer transactionBuffer;
+    private final MappedSpillBuffer spillBuffer;
+    private final Deque<SpilledRun> spilledRuns = new ArrayDeque<>();
+    private final DeadLetterPublisher deadLetterPublisher;
+    private final SnapshotCounter snapshotCounter;
+    private final SinkSettings settings;
+    private final Duration pollTimeout;
+    private final OffsetTracker offsetTracker = new OffsetTracker();
+
+    private KeyOrderedLanes lanes;
+    private volatile boolean running = true;
+    private boolean waiting;
+    private int generation;
+
+    public SinkRunner(SyncTask task, Consumer<byte[], byte[]> consumer, SinkSubscription subscription,
+                      JdbcTargetWriter targetWriter, ChangeCompactor compactor, TransactionBuffer transactionBuffer,
+                      MappedSpillBuffer spillBuffer, DeadLetterPublisher deadLetterPublisher,
+                      SnapshotCounter snapshotCounter, TableThroughput throughput, MeterRegistry meterRegistry,
+                      SinkSettings settings) {
+        this.task = task;
+        this.taskCode = task.getTaskCode();
+        this.consumer = consumer;
+        this.subscription = subscription;
+        this.compactor = compactor;
+        this.transactionBuffer = transactionBuffer;
+        this.spillBuffer = spillBuffer;
+        this.deadLetterPublisher = deadLetterPublisher;
+        this.snapshotCounter = snapshotCounter;
+        this.settings = settings;
+        this.pollTimeout = Duration.ofMillis(settings.pollTimeoutMs());
+        this.writer = new RetryingSinkWriter(task, targetWriter, deadLetterPublisher, meterRegistry,
+                throughput, settings.writeRetries(), settings.retryBackoffMs(), () -> running);
+    }
+
+    @Override
+    public void run() {
+        log.info("Sink of task {} started ({} mode)", taskCode,
+                transactionBuffer != null ? "transaction" : settings.lanes() + " lanes");
+        boolean interrupted = false;
+        try {
+            if (transactionBuffer == null) {
+                lanes = new KeyOrderedLanes(task.getTaskId().toString(), settings.lanes(), settings.laneCapacity(),
+                        settings.chunkSize(), writer, () -> running);
+            }
+            subscription.subscribe(consumer, new ConsumerRebalanceListener() {
+                @Override
+                public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                    if (!partitions.isEmpty()) {
+                        quiesce();
+                        commit(offsetTracker.drainCommittable());
+                        rewindRetained(partitions);
+                    }
+                }
+
+                @Override
+                public void onPartitionsLost(Collection<TopicPartition> partitions) {
+                    // Offsets can no longer be committed; the new owners re-read the uncommitted records
+                    quiesce();
+                    rewindRetained(partitions);
+                }
+
+                @Override
+                public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                    // Fetching stays paused while the consumer thread waits for the target
+                    if (waiting) {
+                        consumer.pause(partitions);
+                    }
+                }
+            });
+
+            while (running) {
+                try {
+                    for (ConsumerRecord<byte[], byte[]> record : consumer.poll(pollTimeout)) {
+                        handle(record);
+                    }
+                    checkSnapshotPartitions();
+                    drain();
+                    checkLanes();
+                    commit(offsetTracker.drainCommittable());
+                } catch (PartitionsRevokedException e) {
+                    // The rest of the released work is re-read from the committed offsets
+                    consumer.resume(consumer.paused());
+                }
+            }
+        } catch (WakeupException | RetryingSinkWriter.StoppedException e) {
+            if (running) {
+                log.error("Sink of task {} woken up unexpectedly", taskCode);
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        } catch (Exception e) {
+            log.error("Sink of task {} stopped on error: {}", taskCode, e.getMessage(), e);
+        } finally {
+            running = false;
+            if (lanes != null) {
+                lanes.close();
+            }
+            resetBuffers();
+            consumer.close();
+            writer.close();
+            compactor.close();
+            if (spillBuffer != null) {
+                spillBuffer.close();
+            }
+            log.info("Sink of task {} stopped", taskCode);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Ask the runner to stop; buffered but uncommitted records are re-read on the next start
+     */
+    public void stop() {
+        running = false;
+        consumer.wakeup();
+    }
+
+    private void handle(ConsumerRecord<byte[], byte[]> record) throws InterruptedException {
+        TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+        if (subscription.isTransactionTopic(record.topic())) {
+            if (transactionBuffer != null) {
+                transactionBuffer.mark(TransactionMarker.fromRecord(record));
+            }
+            return;
+        }
+
+        ChangeEvent event;
+        try {
+            event = ChangeEvent.fromRecord(record);
+        } catch (Exception e) {
+            deadLetterPublisher.publish(task, FailureStage.CONVERSION, record, e);
+            writer.countDeadLettered(record.topic().substring(record.topic().lastIndexOf('.') + 1));
+            event = null;
+        }
+
+        if (event != null) {
+            snapshotCounter.observe(event);
+        }
+
+        if (event == null) {
+            if (transactionBuffer != null) {
+                transactionBuffer.skip(record.value() != null ? ChangeEvent.transactionIdOf(record) : null,
+                        tp, record.offset());
+            } else {
+                compactor.skip(tp, record.offset(), System.currentTimeMillis());
+            }
+        } else if (transactionBuffer != null) {
+            transactionBuffer.add(event);
+        } else {
+            CompactedBatch batch = compactor.offer(event, System.currentTimeMillis());
+            if (batch != null) {
+                dispatch(batch);
+            }
+        }
+    }
+
+    /**
+     * Tell the snapshot counter which partitions of finished tables the consumer has fully read
+     */
+    private void checkSnapshotPartitions() {
+        Set<TopicPartition> assigned = consumer.assignment();
+        for (TopicPartition partition : snapshotCounter.getAwaitedPartitions()) {
+            if (assigned.contains(partition) && consumer.currentLag(partition).orElse(-1) == 0) {
+                snapshotCounter.caughtUp(partition);
+            }
+        }
+    }
+
+    private void drain() throws InterruptedException {
+        if (transactionBuffer != null) {
+            for (TransactionBatch next = transactionBuffer.poll(); next != null; next = transactionBuffer.poll()) {
+                try (TransactionBatch batch = next) {
+                    writer.write(batch, this::pausedWait);
+                    offsetTracker.register(batch.getCommitOffsets(), 0);
+                }
+                consumer.resume(consumer.paused());
+            }
+        } else {
+            drainSpill();
+            CompactedBatch batch = compactor.pollExpired(System.currentTimeMillis());
+            if (batch != null) {
+                dispatch(batch);
+            }
+        }
+    }
+
+    /**
+     * Hand a released window to the lanes. Events without a key (truncate) are barriers:
+     * they are applied on this thread once every earlier event has been applied.
+     */
+    private void dispatch(CompactedBatch batch) throws InterruptedException {
+        List<ChangeEvent> events = batch.getEvents();
+        OffsetTracker.Slot slot = offsetTracker.register(batch.getCommitOffsets(), events.size());
+        for (ChangeEvent event : events) {
+            if (event.getKey() == null || event.getOperation() == ChangeOperation.TRUNCATE) {
+                while (!spillBuffer.isEmpty() || !lanes.isIdle()) {
+                    pausedWait(10);
+                    drainSpill();
+                    checkLanes();
+                }
+                writer.write(List.of(event), this::pausedWait);
+                slot.completeOne();
+                continue;
+            }
+            while (!submitOrSpill(event, slot)) {
+                // Spill quota used up: hold consumption until the target catches up
+                pausedWait(10);
+                drainSpill();
+                checkLanes();
+            }
+        }
+        consumer.resume(consumer.paused());
+    }
+
+    /**
+     * Queue an event on its lane, or behind the spilled events if there are any or the lane
+     * is full, so that events reach the lanes in release order
+     *
+     * @return false if the event fits neither
+     */
+    private boolean submitOrSpill(ChangeEvent event, OffsetTracker.Slot slot) {
+        if (spillBuffer.isEmpty() && lanes.trySubmit(event, slot)) {
+            return true;
+        }
+        if (!spillBuffer.append(event)) {
+            return false;
+        }
+        if (spilledRuns.isEmpty()) {
+            log.info("Target of task {} is behind, spilling events to local disk", taskCode);
+        }
+        SpilledRun last = spilledRuns.peekLast();
+        if (last != null && last.slot == slot) {
+            last.count++;
+        } else {
+            spilledRuns.addLast(new SpilledRun(slot));
+        }
+        return true;
+    }
+
+    /**
+     * Move spilled events to the lanes in order while they have room
+     */
+    private void drainSpill() {
+        while (!spilledRuns.isEmpty()) {
+            SpilledRun run = spilledRuns.peekFirst();
+            if (!lanes.trySubmit(spillBuffer.peek(), run.slot)) {
+                return;
+            }
+            spillBuffer.poll();
+            if (--run.count == 0) {
+                spilledRuns.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Wait on the consumer thread while keeping the consumer in its group: fetching is
+     * paused, so polls return nothing but still count as liveness. Partitions assigned by a
+     * rebalance inside the poll are paused as well; should one still return records, it is
+     * moved back so they are delivered again once fetching resumes.
+     *
+     * @throws PartitionsRevokedException if partitions were revoked meanwhile, so the caller
+     *                                    abandons work whose buffers were reset
+     */
+    private void pausedWait(long millis) throws InterruptedException {
+        int waitedGeneration = generation;
+        consumer.pause(consumer.assignment());
+        Thread.sleep(millis);
+        ConsumerRecords<byte[], byte[]> records;
+        waiting = true;
+        try {
+            records = consumer.poll(Duration.ZERO);
+        } finally {
+            waiting = false;
+        }
+        for (TopicPartition partition : records.partitions()) {
+            consumer.seek(partition, records.records(partition).get(0).offset());
+        }
+        commit(offsetTracker.drainCommittable());
+        if (generation != waitedGeneration) {
+            throw new PartitionsRevokedException();
+        }
+    }
+
+    /**
+     * Drop work not yet handed to a lane and wait for the writes the lanes have started, so
+     * that no event of a revoked partition is applied once its new owner starts
+     */
+    private void quiesce() {
+        spilledRuns.clear();
+        if (spillBuffer != null) {
+            spillBuffer.clear();
+        }
+        if (lanes == null) {
+            return;
+        }
+        lanes.discardQueued();
+        while (running && !lanes.isIdle() && lanes.getFailure() == null) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reset the buffers after a revocation and move the partitions this consumer keeps back
+     * to their committed offsets, since their buffered records were dropped as well
+     */
+    private void rewindRetained(Collection<TopicPartition> revoked) {
+        resetBuffers();
+        Set<TopicPartition> retained = new HashSet<>(consumer.assignment());
+        retained.removeAll(revoked);
+        if (retained.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(retained);
+        for (TopicPartition partition : retained) {
+            OffsetAndMetadata offset = committed.get(partition);
+            if (offset != null) {
+                consumer.seek(partition, offset.offset());
+            } else {
+                consumer.seekToBeginning(List.of(partition));
+            }
+        }
+    }
+
+    private void checkLanes() {
+        if (lanes != null && lanes.getFailure() != null) {
+            throw new IllegalStateException("Sink lane failed", lanes.getFailure());
+        }
+    }
+
+    private void commit(Map<TopicPartition, Long> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        offsets.forEach((tp, offset) -> commits.put(tp, new OffsetAndMetadata(offset)));
+        consumer.commitSync(commits);
+    }
+
+    private void resetBuffers() {
+        if (transactionBuffer != null) {
+            transactionBuffer.close();
+        }
+        if (spillBuffer != null) {
+            spillBuffer.clear();
+        }
+        spilledRuns.clear();
+        compactor.flush();
+        offsetTracker.clear();
+        generation++;
+    }
+
+    /**
+     * Thrown out of a wait on the consumer thread when a rebalance revoked partitions during it
+     */
+    private static final class PartitionsRevokedException extends RuntimeException {
+        private PartitionsRevokedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Consecutive spilled events of one released window
+     */
+    private static final class SpilledRun {
+        private final OffsetTracker.Slot slot;
+        private int count = 1;
+
+        private SpilledRun(OffsetTracker.Slot slot) {
+            this.slot = slot;
+        }
+    }
+}
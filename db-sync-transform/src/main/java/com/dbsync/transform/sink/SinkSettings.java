@@ -0,0 +1,18 @@
+package com.dbsync.transform.sink;
+
+/**
+ * Tuning of a task's sink runner
+ *
+ * @param lanes         key-ordered lanes (and target connections) per task in window mode
+ * @param laneCapacity  events queued per lane before the consumer pauses
+ * @param chunkSize     events per JDBC batch
+ * @author DB Sync Platform
+ */
+public record SinkSettings(
+        int lanes,
+        int laneCapacity,
+        int chunkSize,
+        long pollTimeoutMs,
+        int writeRetries,
+        long retryBackoffMs) {
+}
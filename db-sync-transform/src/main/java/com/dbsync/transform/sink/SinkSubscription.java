@@ -0,0 +1,96 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.domain.config.ConnectorSettings;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.transform.txn.TransactionMarker;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Kafka topics a task's sink consumes: one CDC topic per captured table and, in transaction
+ * mode, the connector's transaction metadata topic
+ *
+ * @author DB Sync Platform
+ */
+public class SinkSubscription {
+
+    /**
+     * Regex syntax beyond the dot, which plain "database.table" names contain
+     */
+    private static final Pattern REGEX = Pattern.compile("[\\\\\\[\\](){}*+?|^$]");
+
+    private final List<String> topics;
+    private final Pattern pattern;
+    private final String transactionTopic;
+    private final boolean transactional;
+
+    private SinkSubscription(List<String> topics, Pattern pattern, String transactionTopic, boolean transactional) {
+        this.topics = topics;
+        this.pattern = pattern;
+        this.transactionTopic = transactionTopic;
+        this.transactional = transactional;
+    }
+
+    /**
+     * Resolve the topics of a task. Topics are named {topic.prefix}.{database}.{table} with a
+     * prefix of the task's own, so other tasks' tables and transactions are never consumed.
+     * A table.include.list of plain names subscribes to those topics; one with regexes is
+     * matched like Debezium does, against the whole "database.table" name. Without a list
+     * every data topic of the prefix is consumed.
+     */
+    public static SinkSubscription of(SyncTask task) {
+        String prefix = TaskConfigs.topicPrefix(task);
+        ConnectorSettings connectorConfig = TaskConfigs.connector(task);
+        boolean transactional = connectorConfig.getBoolean("provide.transaction.metadata", false);
+        String transactionTopic = TransactionMarker.topic(prefix);
+
+        List<String> tables = connectorConfig.includedTables();
+        if (!tables.isEmpty() && tables.stream().noneMatch(table -> REGEX.matcher(table).find())) {
+            List<String> topics = new ArrayList<>();
+            tables.forEach(table -> topics.add(prefix + "." + table));
+            if (transactional) {
+                topics.add(transactionTopic);
+            }
+            return new SinkSubscription(topics, null, transactionTopic, transactional);
+        }
+        if (tables.isEmpty()) {
+            return new SinkSubscription(null, Pattern.compile(Pattern.quote(prefix) + "\\..+"),
+                    transactionTopic, transactional);
+        }
+        String pattern = Pattern.quote(prefix) + "\\.(?:" + String.join("|", tables) + ")"
+                + (transactional ? "|" + Pattern.quote(transactionTopic) : "");
+        return new SinkSubscription(null, Pattern.compile(pattern), transactionTopic, transactional);
+    }
+
+    List<String> getTopics() {
+        return topics;
+    }
+
+    Pattern getPattern() {
+        return pattern;
+    }
+
+    void subscribe(Consumer<byte[], byte[]> consumer, ConsumerRebalanceListener listener) {
+        if (topics != null) {
+            consumer.subscribe(topics, listener);
+        } else {
+            consumer.subscribe(pattern, listener);
+        }
+    }
+
+    public boolean isTransactionTopic(String topic) {
+        return transactionTopic.equals(topic);
+    }
+
+    /**
+     * Whether the connector publishes transaction metadata and the sink applies whole source transactions
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+}
@@ -0,0 +1,49 @@
+package com.dbsync.transform.sink;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Table Throughput
+ * Counts the events a task's sink applied and dead-lettered per source table. Lanes record
+ * concurrently; a collector drains the counts accumulated since its previous drain.
+ *
+ * @author DB Sync Platform
+ */
+public class TableThroughput {
+
+    private final Map<String, TableCounter> tables = new ConcurrentHashMap<>();
+
+    public void recordApplied(String table, long events) {
+        tables.computeIfAbsent(table, t -> new TableCounter()).applied.add(events);
+    }
+
+    public void recordDeadLettered(String table) {
+        tables.computeIfAbsent(table, t -> new TableCounter()).deadLettered.increment();
+    }
+
+    /**
+     * Counts per table since the previous drain; tables without events are left out
+     */
+    public Map<String, TableCount> drain() {
+        Map<String, TableCount> counts = new LinkedHashMap<>();
+        tables.forEach((table, counter) -> {
+            long applied = counter.applied.sumThenReset();
+            long deadLettered = counter.deadLettered.sumThenReset();
+            if (applied > 0 || deadLettered > 0) {
+                counts.put(table, new TableCount(applied, deadLettered));
+            }
+        });
+        return counts;
+    }
+
+    public record TableCount(long applied, long deadLettered) {
+    }
+
+    private static final class TableCounter {
+        private final LongAdder applied = new LongAdder();
+        private final LongAdder deadLettered = new LongAdder();
+    }
+}
@@ -0,0 +1,144 @@
+package com.dbsync.transform.snapshot;
+
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Snapshot Counter
+ * Counts the initial snapshot rows of a task's change stream per source table, following
+ * Debezium's source.snapshot markers of the task's own connector (source.name); events of
+ * other connectors are ignored. The source has finished a table at its last_in_data_collection
+ * event, and every table once the snapshot's last event or the first streamed change arrives.
+ * A table topic spreads its rows over several partitions that are consumed independently, so
+ * a table only counts as done once each of its partitions has passed that point as well: it
+ * delivered the marker or a streamed change, or the consumer has caught up on it.
+ * Incremental snapshot reads are not counted.
+ *
+ * @author DB Sync Platform
+ */
+public class SnapshotCounter {
+
+    private final String serverName;
+    private final Map<String, TableCounter> tables = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, TableCounter> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the source has finished the whole snapshot
+     */
+    private volatile boolean ended;
+
+    /**
+     * @param serverName the connector's topic.prefix, which Debezium reports as source.name
+     */
+    public SnapshotCounter(String serverName) {
+        this.serverName = serverName;
+    }
+
+    /**
+     * Count an event read from the change stream
+     */
+    public void observe(ChangeEvent event) {
+        JsonNode source = event.getSource();
+        if (source == null || !serverName.equals(source.path("name").asText(null))) {
+            return;
+        }
+        String marker = source.path("snapshot").asText("false");
+        if ("incremental".equals(marker)) {
+            return;
+        }
+        TopicPartition partition = event.getTopicPartition();
+        if (event.getOperation() != ChangeOperation.READ || "false".equals(marker)) {
+            if (!tables.isEmpty()) {
+                ended = true;
+                passed(partition);
+            }
+            return;
+        }
+
+        TableCounter counter = tables.computeIfAbsent(tableOf(event), table -> new TableCounter());
+        counter.rows.increment();
+        if (partitions.putIfAbsent(partition, counter) == null) {
+            counter.partitions.add(partition);
+        }
+        if ("last_in_data_collection".equals(marker) || "last".equals(marker)) {
+            counter.ended = true;
+            counter.passed.add(partition);
+            if ("last".equals(marker)) {
+                ended = true;
+            }
+        }
+    }
+
+    /**
+     * Partitions of tables the source has finished that have not been seen past the snapshot yet
+     */
+    public Set<TopicPartition> getAwaitedPartitions() {
+        Set<TopicPartition> awaited = new HashSet<>();
+        partitions.forEach((partition, counter) -> {
+            if ((ended || counter.ended) && !counter.passed.contains(partition)) {
+                awaited.add(partition);
+            }
+        });
+        return awaited;
+    }
+
+    /**
+     * The consumer has read everything in a partition so far; it is past the snapshot if its table is finished
+     */
+    public void caughtUp(TopicPartition partition) {
+        TableCounter counter = partitions.get(partition);
+        if (counter != null && (ended || counter.ended)) {
+            counter.passed.add(partition);
+        }
+    }
+
+    /**
+     * Rows read so far per "qualifier.table", with whether the table is done
+     */
+    public Map<String, TableCount> getTables() {
+        Map<String, TableCount> counts = new LinkedHashMap<>();
+        tables.forEach((table, counter) -> counts.put(table, new TableCount(counter.rows.sum(), isDone(counter))));
+        return counts;
+    }
+
+    public boolean isComplete() {
+        return ended && tables.values().stream().allMatch(this::isDone);
+    }
+
+    private void passed(TopicPartition partition) {
+        TableCounter counter = partitions.get(partition);
+        if (counter != null) {
+            counter.passed.add(partition);
+        }
+    }
+
+    private boolean isDone(TableCounter counter) {
+        return (ended || counter.ended) && counter.passed.containsAll(counter.partitions);
+    }
+
+    /**
+     * Debezium names the schema of PostgreSQL, SQL Server and Oracle tables and only the database of MySQL ones
+     */
+    static String tableOf(ChangeEvent event) {
+        return event.getQualifier() + "." + event.getTable();
+    }
+
+    public record TableCount(long rows, boolean done) {
+    }
+
+    private static final class TableCounter {
+        private final LongAdder rows = new LongAdder();
+        private final Set<TopicPartition> partitions = ConcurrentHashMap.newKeySet();
+        private final Set<TopicPartition> passed = ConcurrentHashMap.newKeySet();
+        private volatile boolean ended;
+    }
+}
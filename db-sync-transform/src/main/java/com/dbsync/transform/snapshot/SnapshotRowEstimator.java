@@ -0,0 +1,88 @@
+package com.dbsync.transform.snapshot;
+
+import com.dbsync.common.utils.TableFilter;
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.core.verify.JdbcEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Snapshot Row Estimator
+ * Estimates the rows of every table a task captures from the source's catalog statistics,
+ * which is cheap and close enough to size snapshot progress without counting rows
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+@Component
+public class SnapshotRowEstimator {
+
+    private static final String MYSQL_SQL =
+            "SELECT TABLE_SCHEMA, TABLE_NAME, COALESCE(TABLE_ROWS, 0) FROM information_schema.TABLES "
+                    + "WHERE TABLE_TYPE = 'BASE TABLE' AND TABLE_SCHEMA = ?";
+
+    private static final String POSTGRESQL_SQL =
+            "SELECT n.nspname, c.relname, GREATEST(c.reltuples, 0)::bigint FROM pg_class c "
+                    + "JOIN pg_namespace n ON n.oid = c.relnamespace "
+                    + "WHERE c.relkind IN ('r', 'p') AND NOT c.relispartition "
+                    + "AND n.nspname NOT IN ('pg_catalog', 'information_schema')";
+
+    private static final String SQLSERVER_SQL =
+            "SELECT s.name, t.name, SUM(p.rows) FROM sys.tables t "
+                    + "JOIN sys.schemas s ON s.schema_id = t.schema_id "
+                    + "JOIN sys.partitions p ON p.object_id = t.object_id AND p.index_id IN (0, 1) "
+                    + "GROUP BY s.name, t.name";
+
+    private static final String ORACLE_SQL =
+            "SELECT OWNER, TABLE_NAME, NVL(NUM_ROWS, 0) FROM ALL_TABLES WHERE OWNER = ?";
+
+    /**
+     * Estimated rows keyed by "qualifier.table", as Debezium names the tables in its source block
+     */
+    public Map<String, Long> estimate(SyncTask task) throws SQLException {
+        JdbcEndpoint source = JdbcEndpoint.fromConfig(task.getSourceDbType(), task.getSourceConnectionConfig());
+        TableFilter filter = TaskConfigs.connector(task).tableFilter();
+
+        String sql = switch (source.getDatabaseType()) {
+            case MYSQL -> MYSQL_SQL;
+            case POSTGRESQL -> POSTGRESQL_SQL;
+            case SQLSERVER -> SQLSERVER_SQL;
+            case ORACLE -> ORACLE_SQL;
+        };
+        String owner = switch (source.getDatabaseType()) {
+            case MYSQL -> source.getDatabase();
+            case ORACLE -> source.getSchema() != null
+                    ? source.getSchema() : source.getUsername().toUpperCase(Locale.ROOT);
+            default -> null;
+        };
+
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        try (Connection conn = DriverManager.getConnection(
+                source.getJdbcUrl(), source.getUsername(), source.getPassword());
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            if (owner != null) {
+                ps.setString(1, owner);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString(1) + "." + rs.getString(2);
+                    if (filter.includes(table)) {
+                        estimates.put(table, rs.getLong(3));
+                    }
+                }
+            }
+        }
+        log.debug("Estimated {} snapshot tables of task {}", estimates.size(), task.getTaskCode());
+        return estimates;
+    }
+}
@@ -0,0 +1,134 @@
+package com.dbsync.transform.txn;
+
+import com.dbsync.transform.change.ChangeEvent;
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Events of one source transaction collected so far, in memory or spilled to disk
+ *
+ * @author DB Sync Platform
+ */
+class PendingTransaction {
+
+    private final String id;
+    private List<ChangeEvent> events = new ArrayList<>();
+    private SpillFile spill;
+    private long memoryBytes;
+    private long spilledBytes;
+    private long received;
+    private long expected = -1;
+    private final Map<TopicPartition, Long> commitOffsets = new HashMap<>();
+    private final Map<String, Long> tableEvents = new HashMap<>();
+
+    PendingTransaction(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Add an event, returning the memory it occupies (0 once spilled)
+     */
+    long add(ChangeEvent event) {
+        received++;
+        track(event.getTopicPartition(), event.getOffset());
+        tableEvents.merge(event.getTable(), 1L, Long::sum);
+        if (spill != null) {
+            spill.append(event);
+            spilledBytes += event.getSizeBytes();
+            return 0;
+        }
+        events.add(event);
+        memoryBytes += event.getSizeBytes();
+        return event.getSizeBytes();
+    }
+
+    /**
+     * Count a record of this transaction that will not be applied (e.g. dead-lettered)
+     */
+    void skip(TopicPartition topicPartition, long offset) {
+        received++;
+        track(topicPartition, offset);
+    }
+
+    void track(TopicPartition topicPartition, long offset) {
+        commitOffsets.merge(topicPartition, offset + 1, Math::max);
+    }
+
+    void expect(long eventCount) {
+        this.expected = eventCount;
+    }
+
+    boolean isComplete() {
+        return expected >= 0 && received >= expected;
+    }
+
+    /**
+     * Move buffered events to a spill file, returning the memory released
+     */
+    long spillTo(Path directory) {
+        spill = new SpillFile(directory);
+        events.forEach(spill::append);
+        events = new ArrayList<>();
+        long released = memoryBytes;
+        spilledBytes += released;
+        memoryBytes = 0;
+        return released;
+    }
+
+    /**
+     * Hand events to the handler in source order. In-memory transactions are ordered by their
+     * position in the source transaction; spilled ones replay in arrival order, which still
+     * keeps the order of each key since a key's changes share one partition.
+     */
+    void forEachChunk(int chunkSize, TransactionBatch.ChunkHandler handler) throws SQLException {
+        if (spill != null) {
+            spill.forEachChunk(chunkSize, handler);
+            return;
+        }
+        events.sort(Comparator.comparingLong(ChangeEvent::getTransactionOrder));
+        for (int from = 0; from < events.size(); from += chunkSize) {
+            handler.accept(events.subList(from, Math.min(from + chunkSize, events.size())));
+        }
+    }
+
+    void release() {
+        if (spill != null) {
+            spill.delete();
+        }
+    }
+
+    String getId() {
+        return id;
+    }
+
+    long getReceived() {
+        return received;
+    }
+
+    long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    boolean isSpilled() {
+        return spill != null;
+    }
+
+    Map<TopicPartition, Long> getCommitOffsets() {
+        return commitOffsets;
+    }
+
+    Map<String, Long> getTableEvents() {
+        return tableEvents;
+    }
+}
@@ -0,0 +1,88 @@
+package com.dbsync.transform.txn;
+
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeEventCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only local file holding the events of one spilled transaction
+ *
+ * @author DB Sync Platform
+ */
+class SpillFile {
+
+    private final Path path;
+    private DataOutputStream out;
+    private int eventCount;
+
+    SpillFile(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            this.path = Files.createTempFile(directory, "txn-", ".spill");
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create spill file in " + directory, e);
+        }
+    }
+
+    void append(ChangeEvent event) {
+        try {
+            ChangeEventCodec.write(out, event);
+            eventCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill event to " + path, e);
+        }
+    }
+
+    /**
+     * Stream the spilled events back in append order, chunkSize events at a time
+     */
+    void forEachChunk(int chunkSize, TransactionBatch.ChunkHandler handler) throws SQLException {
+        try {
+            closeOutput();
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+                List<ChangeEvent> chunk = new ArrayList<>(Math.min(chunkSize, eventCount));
+                for (int i = 0; i < eventCount; i++) {
+                    chunk.add(ChangeEventCodec.read(in));
+                    if (chunk.size() == chunkSize) {
+                        handler.accept(chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    handler.accept(chunk);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spill file " + path, e);
+        }
+    }
+
+    void delete() {
+        try {
+            closeOutput();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete spill file " + path, e);
+        }
+    }
+
+    private void closeOutput() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.dbsync.transform.txn;
+
+import com.dbsync.transform.change.ChangeEvent;
+import org.apache.kafka.common.TopicPartition;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One or more consecutive source transactions to apply as a single target transaction
+ *
+ * @author DB Sync Platform
+ */
+public class TransactionBatch implements AutoCloseable {
+
+    private final List<PendingTransaction> transactions;
+
+    TransactionBatch(List<PendingTransaction> transactions) {
+        this.transactions = transactions;
+    }
+
+    /**
+     * Hand all events to the handler in commit order, at most chunkSize at a time
+     */
+    public void forEachChunk(int chunkSize, ChunkHandler handler) throws SQLException {
+        for (PendingTransaction transaction : transactions) {
+            transaction.forEachChunk(chunkSize, handler);
+        }
+    }
+
+    /**
+     * Next offset to commit per partition once the batch is applied
+     */
+    public Map<TopicPartition, Long> getCommitOffsets() {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        for (PendingTransaction transaction : transactions) {
+            transaction.getCommitOffsets().forEach((tp, offset) -> offsets.merge(tp, offset, Math::max));
+        }
+        return offsets;
+    }
+
+    /**
+     * Events of the batch per source table
+     */
+    public Map<String, Long> getTableEventCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (PendingTransaction transaction : transactions) {
+            transaction.getTableEvents().forEach((table, events) -> counts.merge(table, events, Long::sum));
+        }
+        return counts;
+    }
+
+    public int getTransactionCount() {
+        return transactions.size();
+    }
+
+    public long getEventCount() {
+        return transactions.stream().mapToLong(PendingTransaction::getReceived).sum();
+    }
+
+    public String getFirstTransactionId() {
+        return transactions.get(0).getId();
+    }
+
+    /**
+     * Delete spill files of the batch
+     */
+    @Override
+    public void close() {
+        transactions.forEach(PendingTransaction::release);
+    }
+
+    @FunctionalInterface
+    public interface ChunkHandler {
+        void accept(List<ChangeEvent> chunk) throws SQLException;
+    }
+}
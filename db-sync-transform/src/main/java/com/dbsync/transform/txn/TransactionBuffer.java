@@ -0,0 +1,176 @@
+package com.dbsync.transform.txn;
+
+import com.dbsync.transform.change.ChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Source Transaction Buffer
+ * Groups change events by their source transaction id and releases whole transactions in
+ * source commit order (the order of END markers) once every event announced by the END
+ * marker has arrived. Small consecutive transactions are coalesced into one batch.
+ * <p>
+ * When buffered events exceed the memory cap, the largest transactions are spilled to
+ * local files and streamed back when applied. Spilled transactions are limited by a disk
+ * quota; a buffer over it fails rather than filling the disk, since the transaction it
+ * waits for may need records that are behind the ones already buffered. Events without transaction metadata (e.g.
+ * snapshot reads) become single-event transactions in arrival order.
+ * <p>
+ * Not thread-safe; owned by one sink consumer.
+ *
+ * @author DB Sync Platform
+ */
+@Slf4j
+public class TransactionBuffer implements AutoCloseable {
+
+    private final long memoryCapBytes;
+    private final long spillQuotaBytes;
+    private final int maxEventsPerBatch;
+    private final Path spillDirectory;
+
+    private final Map<String, PendingTransaction> open = new HashMap<>();
+    private final Deque<PendingTransaction> ended = new ArrayDeque<>();
+    private long bufferedBytes;
+    private long spilledBytes;
+
+    public TransactionBuffer(long memoryCapBytes, long spillQuotaBytes, int maxEventsPerBatch, Path spillDirectory) {
+        this.memoryCapBytes = memoryCapBytes;
+        this.spillQuotaBytes = spillQuotaBytes;
+        this.maxEventsPerBatch = maxEventsPerBatch;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Buffer a data event
+     *
+     * @throws IllegalStateException if spilled transactions exceed the spill quota
+     */
+    public void add(ChangeEvent event) {
+        if (event.getTransactionId() == null) {
+            PendingTransaction single = new PendingTransaction(null);
+            bufferedBytes += single.add(event);
+            single.expect(1);
+            ended.add(single);
+        } else {
+            PendingTransaction transaction = transaction(event.getTransactionId());
+            long memory = transaction.add(event);
+            bufferedBytes += memory;
+            if (transaction.isSpilled()) {
+                spilledBytes += event.getSizeBytes();
+            }
+        }
+        spillIfOverCap();
+        if (spilledBytes > spillQuotaBytes) {
+            throw new IllegalStateException(String.format(
+                    "Spilled transactions take %d bytes, over the spill quota of %d bytes", spilledBytes, spillQuotaBytes));
+        }
+    }
+
+    /**
+     * Count a record of a transaction that is not applied (e.g. dead-lettered), so the
+     * transaction can still complete
+     */
+    public void skip(String transactionId, TopicPartition topicPartition, long offset) {
+        if (transactionId == null) {
+            PendingTransaction single = new PendingTransaction(null);
+            single.skip(topicPartition, offset);
+            single.expect(1);
+            ended.add(single);
+        } else {
+            transaction(transactionId).skip(topicPartition, offset);
+        }
+    }
+
+    /**
+     * Apply a BEGIN or END marker from the transaction metadata topic
+     */
+    public void mark(TransactionMarker marker) {
+        PendingTransaction transaction = transaction(marker.getTransactionId());
+        transaction.track(marker.getTopicPartition(), marker.getOffset());
+        if (marker.isEnd()) {
+            transaction.expect(marker.getEventCount());
+            ended.add(transaction);
+        }
+    }
+
+    /**
+     * Take the next completed transactions in commit order, coalescing consecutive ones up
+     * to the batch size; a single larger transaction is never split
+     *
+     * @return the batch, or null if the oldest ended transaction is still incomplete
+     */
+    public TransactionBatch poll() {
+        List<PendingTransaction> taken = new ArrayList<>();
+        long events = 0;
+        while (!ended.isEmpty() && ended.peek().isComplete()) {
+            PendingTransaction next = ended.peek();
+            if (!taken.isEmpty() && events + next.getReceived() > maxEventsPerBatch) {
+                break;
+            }
+            ended.poll();
+            if (next.getId() != null) {
+                open.remove(next.getId());
+            }
+            bufferedBytes -= next.getMemoryBytes();
+            spilledBytes -= next.getSpilledBytes();
+            taken.add(next);
+            events += next.getReceived();
+        }
+        return taken.isEmpty() ? null : new TransactionBatch(taken);
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    public int getOpenTransactions() {
+        return open.size();
+    }
+
+    /**
+     * Drop everything buffered, deleting spill files; uncommitted records are re-read after a restart
+     */
+    @Override
+    public void close() {
+        open.values().forEach(PendingTransaction::release);
+        ended.forEach(PendingTransaction::release);
+        open.clear();
+        ended.clear();
+        bufferedBytes = 0;
+        spilledBytes = 0;
+    }
+
+    private PendingTransaction transaction(String transactionId) {
+        return open.computeIfAbsent(transactionId, PendingTransaction::new);
+    }
+
+    private void spillIfOverCap() {
+        while (bufferedBytes > memoryCapBytes) {
+            PendingTransaction largest = open.values().stream()
+                    .filter(t -> !t.isSpilled() && t.getMemoryBytes() > 0)
+                    .max(Comparator.comparingLong(PendingTransaction::getMemoryBytes))
+                    .orElse(null);
+            if (largest == null) {
+                return;
+            }
+            log.info("Spilling transaction {} ({} events, {} bytes) to {}",
+                    largest.getId(), largest.getReceived(), largest.getMemoryBytes(), spillDirectory);
+            long released = largest.spillTo(spillDirectory);
+            bufferedBytes -= released;
+            spilledBytes += released;
+        }
+    }
+}
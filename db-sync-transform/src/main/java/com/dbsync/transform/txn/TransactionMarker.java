@@ -0,0 +1,58 @@
+package com.dbsync.transform.txn;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BEGIN/END record from a connector's transaction metadata topic
+ *
+ * @author DB Sync Platform
+ */
+@Getter
+public class TransactionMarker {
+
+    private final String transactionId;
+    private final boolean end;
+
+    /**
+     * Number of data events in the transaction, only known on END
+     */
+    private final long eventCount;
+
+    private final TopicPartition topicPartition;
+    private final long offset;
+
+    public TransactionMarker(String transactionId, boolean end, long eventCount,
+                             TopicPartition topicPartition, long offset) {
+        this.transactionId = transactionId;
+        this.end = end;
+        this.eventCount = eventCount;
+        this.topicPartition = topicPartition;
+        this.offset = offset;
+    }
+
+    /**
+     * Topic carrying transaction metadata of a connector
+     */
+    public static String topic(String topicPrefix) {
+        return topicPrefix + ".transaction";
+    }
+
+    public static TransactionMarker fromRecord(ConsumerRecord<byte[], byte[]> record) {
+        JsonNode value = JsonUtil.parseJson(new String(record.value(), StandardCharsets.UTF_8));
+        if (value.has("payload") && value.has("schema")) {
+            value = value.get("payload");
+        }
+        return new TransactionMarker(
+                value.get("id").asText(),
+                "END".equals(value.path("status").asText()),
+                value.path("event_count").asLong(),
+                new TopicPartition(record.topic(), record.partition()),
+                record.offset());
+    }
+}
@@ -0,0 +1,52 @@
+package com.dbsync.transform.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DelimitedText Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class DelimitedTextTest {
+
+    @Test
+    void testAppendValue_EscapesSeparatorsAndNulls() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        DelimitedText.appendValue(out, "a\tb\nc\\d é", false);
+        out.write('|');
+        DelimitedText.appendValue(out, null, false);
+        out.write('|');
+        DelimitedText.appendValue(out, true, false);
+        out.write('|');
+        DelimitedText.appendValue(out, new BigDecimal("1E+3"), false);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("a\\tb\\nc\\\\d é|\\N|1|1000");
+    }
+
+    @Test
+    void testAppendValue_BinaryAsRawOrHex() throws IOException {
+        // Given
+        byte[] value = {0x01, '\t', (byte) 0xFF};
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        ByteArrayOutputStream hex = new ByteArrayOutputStream();
+
+        // When
+        DelimitedText.appendValue(raw, value, false);
+        DelimitedText.appendValue(hex, value, true);
+
+        // Then
+        assertThat(raw.toByteArray()).containsExactly(0x01, '\\', 't', 0xFF);
+        assertThat(hex.toString(StandardCharsets.US_ASCII)).isEqualTo("\\\\x0109ff");
+    }
+}
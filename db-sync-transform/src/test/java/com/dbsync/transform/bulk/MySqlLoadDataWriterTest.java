@@ -0,0 +1,81 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.convert.ColumnInfo;
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MySqlLoadDataWriter Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class MySqlLoadDataWriterTest {
+
+    private final BulkTable table = new BulkTable("orders", "`orders`",
+            List.of(new ColumnInfo("id", Types.BIGINT, "BIGINT", 19, 0)));
+
+    private Connection connection;
+    private Statement statement;
+    private ResultSet rows;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        rows = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(mock(JdbcStatement.class));
+        when(rows.next()).thenReturn(true, true, true, false);
+        when(rows.getObject(1)).thenReturn(1L, 2L, 3L);
+    }
+
+    @Test
+    void testWrite_AllRowsLoaded() throws Exception {
+        // Given
+        when(statement.executeLargeUpdate(anyString())).thenReturn(3L);
+
+        // When
+        long loaded = new MySqlLoadDataWriter(1 << 20).write(connection, rows, table);
+
+        // Then
+        assertThat(loaded).isEqualTo(3);
+    }
+
+    @Test
+    void testWrite_FailsWhenServerLoadedFewerRows() throws Exception {
+        // Given: one row was skipped by the server
+        when(statement.executeLargeUpdate(anyString())).thenReturn(2L);
+
+        // When / Then
+        assertThatThrownBy(() -> new MySqlLoadDataWriter(1 << 20).write(connection, rows, table))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("loaded 2 of 3 rows");
+    }
+
+    @Test
+    void testWrite_FailsOnWarnings() throws Exception {
+        // Given: every row arrived but a value was truncated
+        when(statement.executeLargeUpdate(anyString())).thenReturn(3L);
+        when(statement.getWarnings()).thenReturn(new SQLWarning("Data truncated for column 'id' at row 2"));
+
+        // When / Then
+        assertThatThrownBy(() -> new MySqlLoadDataWriter(1 << 20).write(connection, rows, table))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("Data truncated");
+    }
+}
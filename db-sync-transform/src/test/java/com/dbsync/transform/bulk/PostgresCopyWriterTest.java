@@ -0,0 +1,33 @@
+package com.dbsync.transform.bulk;
+
+import com.dbsync.transform.convert.ColumnInfo;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgresCopyWriter Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class PostgresCopyWriterTest {
+
+    @Test
+    void testBinaryEncoders_FallBackToTextForUnknownTypes() {
+        // Given
+        List<ColumnInfo> supported = List.of(
+                new ColumnInfo("id", Types.BIGINT, "bigserial", 19, 0),
+                new ColumnInfo("payload", Types.OTHER, "jsonb", 0, 0),
+                new ColumnInfo("created_at", Types.TIMESTAMP, "timestamptz", 35, 6));
+        List<ColumnInfo> withGeometry = List.of(
+                new ColumnInfo("id", Types.INTEGER, "int4", 10, 0),
+                new ColumnInfo("location", Types.OTHER, "geometry", 0, 0));
+
+        // When / Then
+        assertThat(PostgresCopyWriter.binaryEncoders(supported)).hasSize(3);
+        assertThat(PostgresCopyWriter.binaryEncoders(withGeometry)).isNull();
+    }
+}
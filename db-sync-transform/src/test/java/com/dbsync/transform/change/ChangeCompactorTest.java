@@ -0,0 +1,87 @@
+package com.dbsync.transform.change;
+
+import com.dbsync.common.utils.JsonUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ChangeCompactor Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class ChangeCompactorTest {
+
+    private static final String TOPIC = "tenant.shop.orders";
+
+    private long offset;
+
+    @Test
+    void testOffer_FoldsUpdatesIntoInsert() {
+        // Given
+        ChangeCompactor compactor = new ChangeCompactor("task", 100, 1000, new SimpleMeterRegistry());
+
+        // When
+        compactor.offer(event(1, ChangeOperation.CREATE, "{\"id\":1,\"qty\":1}"), 0);
+        compactor.offer(event(1, ChangeOperation.UPDATE, "{\"id\":1,\"qty\":2}"), 0);
+        compactor.offer(event(1, ChangeOperation.UPDATE, "{\"id\":1,\"qty\":3}"), 0);
+        CompactedBatch batch = compactor.flush();
+
+        // Then
+        assertThat(batch.getEvents()).hasSize(1);
+        ChangeEvent merged = batch.getEvents().get(0);
+        assertThat(merged.getOperation()).isEqualTo(ChangeOperation.CREATE);
+        assertThat(merged.getAfter().get("qty").asInt()).isEqualTo(3);
+        assertThat(merged.getMergedCount()).isEqualTo(3);
+        assertThat(batch.getCommitOffsets()).containsEntry(new TopicPartition(TOPIC, 0), 3L);
+        assertThat(compactor.getReductionRatio()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    @Test
+    void testOffer_DeleteWins() {
+        // Given
+        ChangeCompactor compactor = new ChangeCompactor("task", 100, 1000, new SimpleMeterRegistry());
+
+        // When
+        compactor.offer(event(1, ChangeOperation.UPDATE, "{\"id\":1,\"qty\":2}"), 0);
+        compactor.offer(event(2, ChangeOperation.UPDATE, "{\"id\":2,\"qty\":5}"), 0);
+        compactor.offer(event(1, ChangeOperation.DELETE, null), 0);
+        CompactedBatch batch = compactor.flush();
+
+        // Then
+        assertThat(batch.getEvents()).extracting(ChangeEvent::getKey, ChangeEvent::getOperation)
+                .containsExactly(
+                        tuple("{\"id\":1}", ChangeOperation.DELETE),
+                        tuple("{\"id\":2}", ChangeOperation.UPDATE));
+    }
+
+    @Test
+    void testWindow_ReleasedBySizeAndAge() {
+        // Given
+        ChangeCompactor compactor = new ChangeCompactor("task", 2, 500, new SimpleMeterRegistry());
+
+        // When & Then
+        assertThat(compactor.offer(event(1, ChangeOperation.UPDATE, "{\"id\":1}"), 0)).isNull();
+        assertThat(compactor.offer(event(2, ChangeOperation.UPDATE, "{\"id\":2}"), 0).getEvents()).hasSize(2);
+
+        compactor.offer(event(3, ChangeOperation.UPDATE, "{\"id\":3}"), 1000);
+        assertThat(compactor.pollExpired(1400)).isNull();
+        assertThat(compactor.pollExpired(1500).getEvents()).hasSize(1);
+        assertThat(compactor.getPendingKeys()).isZero();
+    }
+
+    private ChangeEvent event(long id, ChangeOperation operation, String after) {
+        return ChangeEvent.builder()
+                .topic(TOPIC)
+                .partition(0)
+                .offset(offset++)
+                .key("{\"id\":" + id + "}")
+                .operation(operation)
+                .after(after != null ? JsonUtil.parseJson(after) : null)
+                .build();
+    }
+}
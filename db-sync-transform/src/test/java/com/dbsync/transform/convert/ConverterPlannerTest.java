@@ -0,0 +1,121 @@
+package com.dbsync.transform.convert;
+
+import com.dbsync.common.enums.DatabaseType;
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.transform.change.ChangeEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConverterPlanner Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class ConverterPlannerTest {
+
+    @Test
+    void testBuild_DecimalUsesSourceScale() {
+        // Given: DECIMAL(10,2) 123.45 arrives as base64 of the unscaled value 12345
+        String unscaled = Base64.getEncoder().encodeToString(new BigInteger("12345").toByteArray());
+        JsonNode row = JsonUtil.parseJson("{\"price\":\"" + unscaled + "\",\"ratio\":1.5}");
+        ConverterPlan plan = ConverterPlanner.build(List.of("price", "ratio"),
+                Map.of("price", column("price", Types.DECIMAL, "DECIMAL", 10, 2),
+                        "ratio", column("ratio", Types.DECIMAL, "DECIMAL", 10, 1)),
+                Map.of(), DatabaseType.MYSQL, DatabaseType.POSTGRESQL);
+
+        // When
+        Object price = plan.convert(0, row.get("price"));
+        Object ratio = plan.convert(1, row.get("ratio"));
+
+        // Then
+        assertThat(price).isEqualTo(new BigDecimal("123.45"));
+        assertThat(ratio).isEqualTo(new BigDecimal("1.5"));
+    }
+
+    @Test
+    void testBuild_TemporalByAdaptivePrecision() {
+        // Given
+        JsonNode row = JsonUtil.parseJson("{\"d\":19000,\"t\":3723000000,\"dt\":1600000000123,"
+                + "\"dt6\":1600000000123456,\"ts\":\"2020-09-13T12:26:40Z\"}");
+        ConverterPlan plan = ConverterPlanner.build(List.of("d", "t", "dt", "dt6", "ts"),
+                Map.of("d", column("d", Types.DATE, "DATE", 10, 0),
+                        "t", column("t", Types.TIME, "TIME", 15, 6),
+                        "dt", column("dt", Types.TIMESTAMP, "DATETIME", 23, 3),
+                        "dt6", column("dt6", Types.TIMESTAMP, "DATETIME", 26, 6),
+                        "ts", column("ts", Types.TIMESTAMP, "TIMESTAMP", 19, 0)),
+                Map.of(), DatabaseType.MYSQL, DatabaseType.POSTGRESQL);
+
+        // When / Then
+        assertThat(plan.convert(0, row.get("d"))).isEqualTo(LocalDate.ofEpochDay(19000));
+        assertThat(plan.convert(1, row.get("t"))).isEqualTo(LocalTime.of(1, 2, 3));
+        assertThat(plan.convert(2, row.get("dt"))).isEqualTo(LocalDateTime.of(2020, 9, 13, 12, 26, 40, 123_000_000));
+        assertThat(plan.convert(3, row.get("dt6"))).isEqualTo(LocalDateTime.of(2020, 9, 13, 12, 26, 40, 123_456_000));
+        assertThat(plan.convert(4, row.get("ts"))).isEqualTo(OffsetDateTime.parse("2020-09-13T12:26:40Z"));
+    }
+
+    @Test
+    void testBuild_UnsignedBytesAndTargetTypes() {
+        // Given
+        JsonNode row = JsonUtil.parseJson("{\"id\":-1,\"flag\":1,\"data\":\"AQID\",\"doc\":{\"a\":1},\"n\":null}");
+        ConverterPlan plan = ConverterPlanner.build(List.of("id", "flag", "data", "doc", "n"),
+                Map.of("id", column("id", Types.BIGINT, "BIGINT UNSIGNED", 20, 0),
+                        "flag", column("flag", Types.TINYINT, "TINYINT", 3, 0),
+                        "data", column("data", Types.VARBINARY, "VARBINARY", 16, 0)),
+                Map.of("flag", column("flag", Types.BIT, "bool", 1, 0),
+                        "doc", column("doc", Types.OTHER, "jsonb", 0, 0)),
+                DatabaseType.MYSQL, DatabaseType.POSTGRESQL);
+
+        // When / Then
+        assertThat(plan.convert(0, row.get("id"))).isEqualTo(new BigDecimal("18446744073709551615"));
+        assertThat(plan.convert(1, row.get("flag"))).isEqualTo(true);
+        assertThat((byte[]) plan.convert(2, row.get("data"))).containsExactly(1, 2, 3);
+        assertThat(plan.convert(3, row.get("doc"))).isEqualTo("{\"a\":1}");
+        assertThat(plan.getSqlType(3)).isEqualTo(Types.OTHER);
+        assertThat(plan.convert(4, row.get("n"))).isNull();
+    }
+
+    @Test
+    void testBuild_NumericDecimalKeepsEventScale() {
+        // Given: decimal.format=NUMERIC after the column was widened to DECIMAL(20,6) at the source
+        JsonNode row = ChangeEvent.parseJson("{\"price\":12345678901234.123456}");
+        ConverterPlan plan = ConverterPlanner.build(List.of("price"),
+                Map.of("price", column("price", Types.DECIMAL, "DECIMAL", 10, 2)),
+                Map.of(), DatabaseType.MYSQL, DatabaseType.POSTGRESQL);
+
+        // When
+        Object price = plan.convert(0, row.get("price"));
+
+        // Then: the event's digits are kept whatever scale the metadata reports now
+        assertThat(price).isEqualTo(new BigDecimal("12345678901234.123456"));
+    }
+
+    @Test
+    void testMatches_SameFieldsInSameOrder() {
+        // Given
+        ConverterPlan plan = ConverterPlanner.build(List.of("id", "name"), Map.of(), Map.of(),
+                DatabaseType.MYSQL, DatabaseType.POSTGRESQL);
+
+        // When / Then
+        assertThat(plan.matches(JsonUtil.parseJson("{\"id\":1,\"name\":\"a\"}"))).isTrue();
+        assertThat(plan.matches(JsonUtil.parseJson("{\"name\":\"a\",\"id\":1}"))).isFalse();
+        assertThat(plan.matches(JsonUtil.parseJson("{\"id\":1}"))).isFalse();
+        assertThat(plan.matches(JsonUtil.parseJson("{\"id\":1,\"name\":\"a\",\"age\":3}"))).isFalse();
+    }
+
+    private static ColumnInfo column(String name, int jdbcType, String typeName, int size, int fractionDigits) {
+        return new ColumnInfo(name, jdbcType, typeName, size, fractionDigits);
+    }
+}
@@ -0,0 +1,168 @@
+package com.dbsync.transform.dlq;
+
+import com.dbsync.common.exceptions.BusinessException;
+import com.dbsync.core.domain.entity.SyncTask;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DeadLetterReplayer Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+@SuppressWarnings("unchecked")
+class DeadLetterReplayerTest {
+
+    private static final SyncTask TASK = task(UUID.randomUUID(), "orders-sync");
+    private static final String TOPIC = DeadLetterHeaders.topic(TASK);
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private MockConsumer<byte[], byte[]> consumer;
+    private Producer<byte[], byte[]> producer;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        // Closing is a no-op so committed offsets can be checked after the replay
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+            }
+        };
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+
+        producer = mock(Producer.class);
+        DeadLetterPublisher publisher = mock(DeadLetterPublisher.class);
+        when(publisher.getProducer()).thenReturn(producer);
+
+        replayer = new DeadLetterReplayer(publisher, "localhost:9092", 100) {
+            @Override
+            Consumer<byte[], byte[]> createConsumer(SyncTask task) {
+                return consumer;
+            }
+        };
+    }
+
+    @Test
+    void testReplay_CommitsAfterSendsSucceed() {
+        // Given
+        deadLetters("fp-a", "fp-a");
+        when(producer.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        ReplayReport report = replayer.replay(TASK, Set.of(), 1000, 10);
+
+        // Then
+        assertThat(report.getReplayedRecords()).isEqualTo(2);
+        assertThat(report.isCompleted()).isTrue();
+        assertThat(committedOffset()).isEqualTo(2L);
+
+        ArgumentCaptor<ProducerRecord<byte[], byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(producer, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).allSatisfy(record -> {
+            assertThat(record.topic()).isEqualTo("source-topic");
+            assertThat(DeadLetterHeaders.read(record.headers(), DeadLetterHeaders.REPLAY_COUNT)).isEqualTo("1");
+        });
+    }
+
+    @Test
+    void testReplay_FailedSendIsNotCommitted() {
+        // Given
+        deadLetters("fp-a", "fp-a");
+        when(producer.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker unavailable")));
+
+        // When & Then
+        assertThatThrownBy(() -> replayer.replay(TASK, Set.of(), 1000, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("broker unavailable");
+        assertThat(committedOffset()).isNull();
+    }
+
+    @Test
+    void testReplay_RequeuesUnselectedFingerprints() {
+        // Given
+        deadLetters("fp-a", "fp-b");
+        when(producer.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        ReplayReport report = replayer.replay(TASK, Set.of("fp-a"), 1000, 10);
+
+        // Then
+        assertThat(report.getReplayedRecords()).isEqualTo(1);
+        assertThat(report.getRequeuedRecords()).isEqualTo(1);
+        assertThat(committedOffset()).isEqualTo(2L);
+
+        ArgumentCaptor<ProducerRecord<byte[], byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(producer, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).extracting(ProducerRecord::topic)
+                .containsExactlyInAnyOrder(TOPIC, "source-topic");
+    }
+
+    @Test
+    void testTopic_SameTaskCodeOfAnotherTenantIsSeparate() {
+        // Given: task codes are unique only per tenant
+        SyncTask otherTenant = task(UUID.randomUUID(), TASK.getTaskCode());
+
+        // When & Then
+        assertThat(DeadLetterHeaders.topic(otherTenant)).isNotEqualTo(TOPIC);
+        assertThat(DeadLetterReplayer.replayGroup(otherTenant)).isNotEqualTo(DeadLetterReplayer.replayGroup(TASK));
+    }
+
+    private static SyncTask task(UUID tenantId, String taskCode) {
+        SyncTask task = new SyncTask();
+        task.setTaskId(UUID.randomUUID());
+        task.setTenantId(tenantId);
+        task.setTaskCode(taskCode);
+        return task;
+    }
+
+    /**
+     * Queue one dead letter per fingerprint, delivered on the first poll
+     */
+    private void deadLetters(String... fingerprints) {
+        consumer.updateEndOffsets(Map.of(PARTITION, (long) fingerprints.length));
+        consumer.schedulePollTask(() -> {
+            for (int i = 0; i < fingerprints.length; i++) {
+                ConsumerRecord<byte[], byte[]> record = new ConsumerRecord<>(TOPIC, 0, i,
+                        ("key-" + i).getBytes(StandardCharsets.UTF_8), "value".getBytes(StandardCharsets.UTF_8));
+                record.headers().add(DeadLetterHeaders.FINGERPRINT, fingerprints[i].getBytes(StandardCharsets.UTF_8));
+                record.headers().add(DeadLetterHeaders.SOURCE_TOPIC, "source-topic".getBytes(StandardCharsets.UTF_8));
+                consumer.addRecord(record);
+            }
+        });
+    }
+
+    private Long committedOffset() {
+        OffsetAndMetadata committed = consumer.committed(Set.of(PARTITION)).get(PARTITION);
+        return committed != null ? committed.offset() : null;
+    }
+}
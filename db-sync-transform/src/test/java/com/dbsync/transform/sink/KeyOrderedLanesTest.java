@@ -0,0 +1,128 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * KeyOrderedLanes Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class KeyOrderedLanesTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("tenant.shop.orders", 0);
+
+    private final OffsetTracker tracker = new OffsetTracker();
+    private final RetryingSinkWriter writer = mock(RetryingSinkWriter.class);
+
+    @Test
+    void testTrySubmit_KeepsOrderPerKey() throws Exception {
+        // Given
+        List<ChangeEvent> applied = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            applied.addAll(invocation.getArgument(0));
+            return null;
+        }).when(writer).write(anyList(), any());
+        OffsetTracker.Slot slot = tracker.register(Map.of(PARTITION, 400L), 400);
+
+        // When
+        try (KeyOrderedLanes lanes = new KeyOrderedLanes("orders-sync", 4, 1000, 7, writer, () -> true)) {
+            for (int offset = 0; offset < 400; offset++) {
+                assertThat(lanes.trySubmit(event(offset % 10, offset), slot)).isTrue();
+            }
+            await().atMost(10, TimeUnit.SECONDS).until(lanes::isIdle);
+
+            // Then
+            assertThat(slot.isDone()).isTrue();
+            assertThat(applied).hasSize(400);
+            for (int key = 0; key < 10; key++) {
+                String expectedKey = "{\"id\":" + key + "}";
+                List<Long> offsets = applied.stream()
+                        .filter(event -> event.getKey().equals(expectedKey))
+                        .map(ChangeEvent::getOffset)
+                        .toList();
+                assertThat(offsets).hasSize(40).isSorted();
+            }
+        }
+    }
+
+    @Test
+    void testTrySubmit_FullLaneRefusesUntilDrained() throws Exception {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(writer).write(anyList(), any());
+        OffsetTracker.Slot slot = tracker.register(Map.of(PARTITION, 4L), 4);
+
+        try (KeyOrderedLanes lanes = new KeyOrderedLanes("orders-sync", 1, 2, 1, writer, () -> true)) {
+            assertThat(lanes.trySubmit(event(1, 0), slot)).isTrue();
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            boolean second = lanes.trySubmit(event(1, 1), slot);
+            boolean third = lanes.trySubmit(event(1, 2), slot);
+            boolean fourth = lanes.trySubmit(event(1, 3), slot);
+
+            // Then
+            assertThat(second).isTrue();
+            assertThat(third).isTrue();
+            assertThat(fourth).isFalse();
+            assertThat(lanes.isIdle()).isFalse();
+
+            release.countDown();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> lanes.trySubmit(event(1, 3), slot));
+            await().atMost(5, TimeUnit.SECONDS).until(lanes::isIdle);
+            assertThat(slot.isDone()).isTrue();
+        }
+    }
+
+    @Test
+    void testGetFailure_LaneErrorIsReported() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("target rejected batch")).when(writer).write(anyList(), any());
+        OffsetTracker.Slot slot = tracker.register(Map.of(PARTITION, 1L), 1);
+
+        try (KeyOrderedLanes lanes = new KeyOrderedLanes("orders-sync", 2, 10, 10, writer, () -> true)) {
+            // When
+            lanes.trySubmit(event(1, 0), slot);
+
+            // Then
+            await().atMost(5, TimeUnit.SECONDS).until(() -> lanes.getFailure() != null);
+            assertThat(lanes.getFailure()).hasMessage("target rejected batch");
+            assertThat(lanes.isIdle()).isFalse();
+            assertThat(slot.isDone()).isFalse();
+        }
+    }
+
+    private ChangeEvent event(long id, long offset) {
+        return ChangeEvent.builder()
+                .topic(PARTITION.topic())
+                .partition(PARTITION.partition())
+                .offset(offset)
+                .key("{\"id\":" + id + "}")
+                .operation(ChangeOperation.UPDATE)
+                .sizeBytes(100)
+                .build();
+    }
+}
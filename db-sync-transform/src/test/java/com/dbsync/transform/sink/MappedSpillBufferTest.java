@@ -0,0 +1,108 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * MappedSpillBuffer Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class MappedSpillBufferTest {
+
+    @TempDir
+    Path spillDir;
+
+    @Test
+    void testPoll_DrainsAcrossSegmentsInOrder() {
+        // Given: segments small enough that 50 events span several files
+        MappedSpillBuffer buffer = new MappedSpillBuffer(spillDir, 512, 1 << 20);
+        for (long id = 0; id < 50; id++) {
+            assertThat(buffer.append(event(id))).isTrue();
+        }
+        assertThat(spillDir.toFile().list().length).isGreaterThan(1);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        assertThat(buffer.peek().getAfter().get("id").asLong()).isZero();
+        for (ChangeEvent event = buffer.poll(); event != null; event = buffer.poll()) {
+            ids.add(event.getAfter().get("id").asLong());
+        }
+
+        // Then: read segments are deleted, the last one is kept for reuse
+        assertThat(ids).hasSize(50).isSorted();
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(spillDir.toFile().list()).hasSize(1);
+        buffer.close();
+        assertThat(spillDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void testAppend_RefusedBeyondQuota() {
+        // Given: room for two segments
+        MappedSpillBuffer buffer = new MappedSpillBuffer(spillDir, 512, 1024);
+        int accepted = 0;
+        while (buffer.append(event(accepted))) {
+            accepted++;
+        }
+
+        // When: the oldest segment is drained
+        long polled = 0;
+        while (buffer.getDiskBytes() == 1024) {
+            buffer.poll();
+            polled++;
+        }
+
+        // Then: appends are accepted again and order is kept
+        assertThat(buffer.getDiskBytes()).isEqualTo(512);
+        assertThat(buffer.append(event(accepted))).isTrue();
+        assertThat(buffer.poll().getAfter().get("id").asLong()).isEqualTo(polled);
+        assertThat(buffer.size()).isEqualTo(accepted - polled);
+        buffer.close();
+    }
+
+    @Test
+    void testClose_UnmapsDeletedSegments() throws IOException {
+        // Given: mappings are visible in /proc/self/maps, so this runs on Linux only
+        Path maps = Path.of("/proc/self/maps");
+        assumeTrue(Files.isReadable(maps));
+        MappedSpillBuffer buffer = new MappedSpillBuffer(spillDir, 512, 1 << 20);
+        for (long id = 0; id < 50; id++) {
+            buffer.append(event(id));
+        }
+        assertThat(Files.readString(maps)).contains(spillDir.toString());
+
+        // When
+        while (buffer.poll() != null) {
+            // drain, deleting every segment but the last
+        }
+        buffer.close();
+
+        // Then: no mapping of a deleted segment is left for the garbage collector
+        assertThat(Files.readString(maps)).doesNotContain(spillDir.toString());
+    }
+
+    private ChangeEvent event(long id) {
+        return ChangeEvent.builder()
+                .topic("tenant.shop.orders")
+                .partition(0)
+                .offset(id)
+                .key("{\"id\":" + id + "}")
+                .operation(ChangeOperation.UPDATE)
+                .after(JsonUtil.parseJson("{\"id\":" + id + ",\"note\":\"spilled\"}"))
+                .sizeBytes(64)
+                .build();
+    }
+}
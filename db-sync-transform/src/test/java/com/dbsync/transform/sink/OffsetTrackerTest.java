@@ -0,0 +1,55 @@
+package com.dbsync.transform.sink;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OffsetTracker Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class OffsetTrackerTest {
+
+    private static final TopicPartition P0 = new TopicPartition("tenant.shop.orders", 0);
+    private static final TopicPartition P1 = new TopicPartition("tenant.shop.orders", 1);
+
+    @Test
+    void testDrainCommittable_StopsAtLowestPendingUnit() {
+        // Given
+        OffsetTracker tracker = new OffsetTracker();
+        OffsetTracker.Slot first = tracker.register(Map.of(P0, 10L), 2);
+        OffsetTracker.Slot second = tracker.register(Map.of(P0, 20L), 1);
+        OffsetTracker.Slot third = tracker.register(Map.of(P0, 30L), 1);
+
+        // When
+        second.completeOne();
+        third.completeOne();
+        first.completeOne();
+
+        // Then
+        assertThat(tracker.drainCommittable()).isEmpty();
+
+        first.completeOne();
+        assertThat(tracker.drainCommittable()).containsExactly(Map.entry(P0, 30L));
+        assertThat(tracker.getPendingCount()).isZero();
+    }
+
+    @Test
+    void testDrainCommittable_PartitionsAdvanceIndependently() {
+        // Given
+        OffsetTracker tracker = new OffsetTracker();
+        OffsetTracker.Slot window = tracker.register(Map.of(P0, 5L, P1, 7L), 1);
+        tracker.register(Map.of(P1, 9L), 0);
+
+        // When & Then
+        assertThat(tracker.drainCommittable()).isEmpty();
+
+        window.completeOne();
+        assertThat(tracker.drainCommittable()).containsOnly(Map.entry(P0, 5L), Map.entry(P1, 9L));
+        assertThat(tracker.drainCommittable()).isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.domain.config.TaskConfigs;
+import com.dbsync.core.domain.entity.SyncTask;
+import com.dbsync.transform.change.ChangeCompactor;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.dlq.DeadLetterPublisher;
+import com.dbsync.transform.snapshot.SnapshotCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SinkRunner Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class SinkRunnerTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private final JdbcTargetWriter targetWriter = mock(JdbcTargetWriter.class);
+    private final List<ChangeEvent> written = Collections.synchronizedList(new ArrayList<>());
+    private final Map<TopicPartition, Long> commits = new ConcurrentHashMap<>();
+
+    private SyncTask task;
+    private String topic;
+    private TopicPartition partition0;
+    private TopicPartition partition1;
+    private MockConsumer<byte[], byte[]> consumer;
+    private SinkRunner runner;
+    private Thread thread;
+
+    @BeforeEach
+    void setUp() {
+        task = new SyncTask();
+        task.setTaskId(UUID.randomUUID());
+        task.setTenantId(UUID.randomUUID());
+        task.setTaskCode("orders-sync");
+        task.setConnectorConfig("{}");
+        topic = TaskConfigs.topicPrefix(task) + ".shop.orders";
+        partition0 = new TopicPartition(topic, 0);
+        partition1 = new TopicPartition(topic, 1);
+
+        // Commits are recorded since the mock reports no offsets of partitions it no longer owns
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+                offsets.forEach((partition, offset) -> commits.put(partition, offset.offset()));
+                super.commitSync(offsets);
+            }
+        };
+        consumer.updatePartitions(topic, List.of(new PartitionInfo(topic, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition0, 0L, partition1, 0L));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (runner != null) {
+            runner.stop();
+            thread.join(10000);
+        }
+    }
+
+    @Test
+    void testPausedWait_RecordsOfPartitionAssignedDuringWaitAreNotLost() throws Exception {
+        // Given: a truncate is applied on the consumer thread and its first attempt fails
+        CountDownLatch newPartitionWritten = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<ChangeEvent> events = invocation.getArgument(0);
+            if (written.isEmpty() && events.get(0).getPartition() == 0) {
+                written.addAll(events);
+                throw new SQLException("connection reset", "08006");
+            }
+            written.addAll(events);
+            if (events.stream().anyMatch(event -> event.getPartition() == 1)) {
+                newPartitionWritten.countDown();
+            }
+            return null;
+        }).when(targetWriter).write(anyList());
+        consumer.schedulePollTask(() -> consumer.addRecord(record(partition0, 0, null, "t")));
+
+        // When: the retry's wait polls into a rebalance that assigns a partition with records
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(partition0, partition1));
+            consumer.addRecord(record(partition1, 0, "{\"id\":1}", "c"));
+        });
+        start();
+
+        // Then: the new partition's record is applied and committed, not dropped by the wait
+        assertThat(newPartitionWritten.await(10, TimeUnit.SECONDS)).isTrue();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> committed(partition1) == 1L);
+        assertThat(committed(partition0)).isEqualTo(1L);
+    }
+
+    @Test
+    void testRevoke_DropsQueuedWorkAndCommitsStartedWrites() throws Exception {
+        // Given: the lane is writing the first event, two more are queued behind it
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(targetWriter).write(anyList());
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < 3; offset++) {
+                consumer.addRecord(record(partition0, offset, "{\"id\":" + offset + "}", "c"));
+            }
+        });
+
+        // When: the partition is revoked while the write is still running
+        consumer.schedulePollTask(() -> {
+            try {
+                writing.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            new Thread(() -> {
+                sleep(100);
+                release.countDown();
+            }).start();
+            consumer.rebalance(List.of());
+        });
+        start();
+
+        // Then: the started write is committed before the revocation completes, the queued ones are dropped
+        await().atMost(10, TimeUnit.SECONDS).until(() -> committed(partition0) != null);
+        assertThat(committed(partition0)).isEqualTo(1L);
+        runner.stop();
+        thread.join(10000);
+        runner = null;
+        assertThat(written).extracting(ChangeEvent::getOffset).containsExactly(0L);
+    }
+
+    private void start() {
+        SinkSettings settings = new SinkSettings(1, 10, 1, 10, 3, 10);
+        runner = new SinkRunner(task, consumer, SinkSubscription.of(task), targetWriter,
+                new ChangeCompactor(task.getTaskId().toString(), 1, 0, new SimpleMeterRegistry()), null,
+                new MappedSpillBuffer(spillDirectory, 1 << 20, 1 << 24), mock(DeadLetterPublisher.class),
+                new SnapshotCounter(TaskConfigs.topicPrefix(task)), new TableThroughput(), new SimpleMeterRegistry(),
+                settings);
+        thread = new Thread(runner, "sink-test");
+        thread.start();
+    }
+
+    private Long committed(TopicPartition partition) {
+        return commits.get(partition);
+    }
+
+    private static ConsumerRecord<byte[], byte[]> record(TopicPartition partition, long offset, String key,
+                                                         String operation) {
+        String value = "{\"op\":\"" + operation + "\",\"after\":" + (key != null ? key : "null")
+                + ",\"source\":{\"db\":\"shop\",\"table\":\"orders\"}}";
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset,
+                key != null ? key.getBytes(StandardCharsets.UTF_8) : null, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
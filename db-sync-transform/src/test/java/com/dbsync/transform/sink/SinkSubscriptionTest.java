@@ -0,0 +1,76 @@
+package com.dbsync.transform.sink;
+
+import com.dbsync.core.domain.entity.SyncTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SinkSubscription Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class SinkSubscriptionTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Test
+    void testOf_TasksOfOneTenantDoNotShareTopics() {
+        // Given
+        SyncTask first = task("{\"provide.transaction.metadata\": \"true\"}");
+        SyncTask second = task("{\"provide.transaction.metadata\": \"true\"}");
+        String firstPrefix = TENANT_ID + "." + first.getTaskId();
+        String secondPrefix = TENANT_ID + "." + second.getTaskId();
+
+        // When
+        SinkSubscription subscription = SinkSubscription.of(first);
+
+        // Then
+        assertThat(subscription.getPattern().matcher(firstPrefix + ".shop.orders").matches()).isTrue();
+        assertThat(subscription.getPattern().matcher(secondPrefix + ".shop.orders").matches()).isFalse();
+        assertThat(subscription.isTransactionTopic(firstPrefix + ".transaction")).isTrue();
+        assertThat(subscription.isTransactionTopic(secondPrefix + ".transaction")).isFalse();
+    }
+
+    @Test
+    void testOf_PlainIncludeListSubscribesToTopics() {
+        // Given
+        SyncTask task = task("{\"table.include.list\": \"shop.orders, shop.items\"}");
+        String prefix = TENANT_ID + "." + task.getTaskId();
+
+        // When
+        SinkSubscription subscription = SinkSubscription.of(task);
+
+        // Then
+        assertThat(subscription.getTopics()).containsExactly(prefix + ".shop.orders", prefix + ".shop.items");
+    }
+
+    @Test
+    void testOf_RegexIncludeListIsMatched() {
+        // Given
+        SyncTask task = task("{\"table.include.list\": \"shop\\\\.order_.*, crm.accounts\", "
+                + "\"provide.transaction.metadata\": \"true\"}");
+        String prefix = TENANT_ID + "." + task.getTaskId();
+
+        // When
+        SinkSubscription subscription = SinkSubscription.of(task);
+
+        // Then
+        assertThat(subscription.getTopics()).isNull();
+        assertThat(subscription.getPattern().matcher(prefix + ".shop.order_2024").matches()).isTrue();
+        assertThat(subscription.getPattern().matcher(prefix + ".crm.accounts").matches()).isTrue();
+        assertThat(subscription.getPattern().matcher(prefix + ".shop.items").matches()).isFalse();
+        assertThat(subscription.getPattern().matcher(prefix + ".transaction").matches()).isTrue();
+    }
+
+    private static SyncTask task(String connectorConfig) {
+        SyncTask task = new SyncTask();
+        task.setTaskId(UUID.randomUUID());
+        task.setTenantId(TENANT_ID);
+        task.setTaskCode("orders-sync");
+        task.setConnectorConfig(connectorConfig);
+        return task;
+    }
+}
@@ -0,0 +1,100 @@
+package com.dbsync.transform.snapshot;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SnapshotCounter Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class SnapshotCounterTest {
+
+    @Test
+    void testObserve_CountsSnapshotReadsPerTable() {
+        // Given
+        SnapshotCounter counter = new SnapshotCounter("tenant");
+
+        // When
+        counter.observe(event("orders", 0, ChangeOperation.READ, "first"));
+        counter.observe(event("orders", 0, ChangeOperation.READ, "true"));
+        counter.observe(event("orders", 0, ChangeOperation.READ, "last_in_data_collection"));
+        counter.observe(event("customers", 0, ChangeOperation.READ, "true"));
+        counter.observe(event("customers", 0, ChangeOperation.READ, "incremental"));
+
+        // Then
+        assertThat(counter.getTables())
+                .containsEntry("shop.orders", new SnapshotCounter.TableCount(3, true))
+                .containsEntry("shop.customers", new SnapshotCounter.TableCount(1, false));
+        assertThat(counter.isComplete()).isFalse();
+    }
+
+    @Test
+    void testObserve_StreamedChangeCompletesSnapshot() {
+        // Given
+        SnapshotCounter counter = new SnapshotCounter("tenant");
+        counter.observe(event("orders", 0, ChangeOperation.READ, "true"));
+
+        // When
+        counter.observe(event("orders", 0, ChangeOperation.UPDATE, "false"));
+
+        // Then
+        assertThat(counter.isComplete()).isTrue();
+        assertThat(counter.getTables()).containsEntry("shop.orders", new SnapshotCounter.TableCount(1, true));
+    }
+
+    @Test
+    void testObserve_TableDoneOnlyOnceEveryPartitionPassedMarker() {
+        // Given: the table's rows are spread over two partitions, the marker arrives on the first
+        SnapshotCounter counter = new SnapshotCounter("tenant");
+        counter.observe(event("orders", 0, ChangeOperation.READ, "true"));
+        counter.observe(event("orders", 1, ChangeOperation.READ, "true"));
+        counter.observe(event("orders", 0, ChangeOperation.READ, "last"));
+
+        // When: partition 1 may still hold unread snapshot rows
+        boolean doneBefore = counter.getTables().get("shop.orders").done();
+        counter.caughtUp(new TopicPartition("tenant.shop.orders", 1));
+
+        // Then
+        assertThat(doneBefore).isFalse();
+        assertThat(counter.isComplete()).isTrue();
+        assertThat(counter.getAwaitedPartitions()).isEmpty();
+    }
+
+    @Test
+    void testObserve_IgnoresEventsOfOtherConnectors() {
+        // Given
+        SnapshotCounter counter = new SnapshotCounter("tenant");
+        counter.observe(event("orders", 0, ChangeOperation.READ, "true"));
+
+        // When: a streamed change of another connector on a shared topic
+        counter.observe(event("other", "orders", 0, ChangeOperation.UPDATE, "false"));
+        counter.observe(event("other", "orders", 0, ChangeOperation.READ, "true"));
+
+        // Then
+        assertThat(counter.isComplete()).isFalse();
+        assertThat(counter.getTables()).containsEntry("shop.orders", new SnapshotCounter.TableCount(1, false));
+    }
+
+    private static ChangeEvent event(String table, int partition, ChangeOperation operation, String snapshot) {
+        return event("tenant", table, partition, operation, snapshot);
+    }
+
+    private static ChangeEvent event(String server, String table, int partition, ChangeOperation operation,
+                                     String snapshot) {
+        return ChangeEvent.builder()
+                .topic("tenant.shop." + table)
+                .partition(partition)
+                .key("{\"id\":1}")
+                .operation(operation)
+                .after(JsonUtil.parseJson("{\"id\":1}"))
+                .source(JsonUtil.parseJson("{\"name\":\"" + server + "\",\"db\":\"shop\",\"table\":\"" + table
+                        + "\",\"snapshot\":\"" + snapshot + "\"}"))
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.dbsync.transform.txn;
+
+import com.dbsync.common.utils.JsonUtil;
+import com.dbsync.transform.change.ChangeEvent;
+import com.dbsync.transform.change.ChangeOperation;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TransactionBuffer Unit Tests
+ *
+ * @author DB Sync Platform
+ */
+class TransactionBufferTest {
+
+    private static final TopicPartition TX_TOPIC = new TopicPartition("tenant.transaction", 0);
+
+    @TempDir
+    Path spillDir;
+
+    private long offset;
+
+    @Test
+    void testPoll_WaitsForAllEventsOfEndedTransaction() throws Exception {
+        // Given
+        TransactionBuffer buffer = new TransactionBuffer(1 << 20, 1L << 30, 100, spillDir);
+        buffer.add(event("tx1", 1, 1));
+        buffer.mark(end("tx1", 2));
+
+        // When & Then
+        assertThat(buffer.poll()).isNull();
+
+        buffer.add(event("tx1", 2, 2));
+        TransactionBatch batch = buffer.poll();
+        assertThat(ids(batch)).containsExactly(1L, 2L);
+        assertThat(batch.getCommitOffsets()).containsKey(TX_TOPIC);
+    }
+
+    @Test
+    void testPoll_ReleasesInCommitOrderAndCoalesces() throws Exception {
+        // Given
+        TransactionBuffer buffer = new TransactionBuffer(1 << 20, 1L << 30, 3, spillDir);
+        buffer.add(event("tx2", 20, 1));
+        buffer.add(event("tx1", 10, 1));
+        buffer.add(event("tx3", 30, 1));
+        buffer.add(event("tx3", 31, 2));
+        buffer.mark(end("tx1", 1));
+        buffer.mark(end("tx2", 1));
+        buffer.mark(end("tx3", 2));
+
+        // When
+        TransactionBatch first = buffer.poll();
+        TransactionBatch second = buffer.poll();
+
+        // Then
+        assertThat(first.getTransactionCount()).isEqualTo(2);
+        assertThat(ids(first)).containsExactly(10L, 20L);
+        assertThat(ids(second)).containsExactly(30L, 31L);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.getOpenTransactions()).isZero();
+    }
+
+    @Test
+    void testAdd_SpillsLargestTransactionOverMemoryCap() throws Exception {
+        // Given
+        TransactionBuffer buffer = new TransactionBuffer(250, 1L << 30, 100, spillDir);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(event("big", i, 6 - i));
+        }
+        buffer.mark(end("big", 5));
+
+        // Then
+        assertThat(buffer.getBufferedBytes()).isLessThanOrEqualTo(250);
+        try (TransactionBatch batch = buffer.poll()) {
+            assertThat(ids(batch)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        }
+        assertThat(spillDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void testAdd_SpillQuotaExceeded() {
+        // Given
+        TransactionBuffer buffer = new TransactionBuffer(150, 300, 100, spillDir);
+        for (int i = 1; i <= 3; i++) {
+            buffer.add(event("big", i, i));
+        }
+
+        // When & Then
+        assertThat(buffer.getSpilledBytes()).isEqualTo(300);
+        assertThatThrownBy(() -> buffer.add(event("big", 4, 4)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spill quota");
+        buffer.close();
+    }
+
+    @Test
+    void testPoll_ReleasesSpilledBytes() throws Exception {
+        // Given
+        TransactionBuffer buffer = new TransactionBuffer(150, 1000, 100, spillDir);
+        buffer.add(event("big", 1, 1));
+        buffer.add(event("big", 2, 2));
+        buffer.mark(end("big", 2));
+
+        // When
+        try (TransactionBatch batch = buffer.poll()) {
+            // Then
+            assertThat(ids(batch)).containsExactly(1L, 2L);
+            assertThat(buffer.getSpilledBytes()).isZero();
+        }
+    }
+
+    private List<Long> ids(TransactionBatch batch) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        batch.forEachChunk(2, chunk -> chunk.forEach(e -> ids.add(e.getAfter().get("id").asLong())));
+        return ids;
+    }
+
+    private ChangeEvent event(String transactionId, long id, long order) {
+        return ChangeEvent.builder()
+                .topic("tenant.shop.orders")
+                .partition(0)
+                .offset(offset++)
+                .key("{\"id\":" + id + "}")
+                .operation(ChangeOperation.CREATE)
+                .after(JsonUtil.parseJson("{\"id\":" + id + "}"))
+                .transactionId(transactionId)
+                .transactionOrder(order)
+                .sizeBytes(100)
+                .build();
+    }
+
+    private TransactionMarker end(String transactionId, long eventCount) {
+        return new TransactionMarker(transactionId, true, eventCount, TX_TOPIC, offset++);
+    }
+}
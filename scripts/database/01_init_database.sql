@@ -94,9 +94,11 @@ CREATE TABLE IF NOT EXISTS sync_tasks (
     -- Debezium Connector Config
     connector_name VARCHAR(200) UNIQUE,
     connector_config JSONB NOT NULL,
+    topic_plan JSONB,
 
     -- Sync Mode
     sync_mode VARCHAR(20) NOT NULL DEFAULT 'FULL_INCREMENTAL',
+    throughput_profile VARCHAR(20) NOT NULL DEFAULT 'BALANCED',
 
     -- Task Status
     status VARCHAR(20) NOT NULL DEFAULT 'CREATED',
@@ -110,6 +112,16 @@ CREATE TABLE IF NOT EXISTS sync_tasks (
     total_records_synced BIGINT DEFAULT 0,
     last_sync_time TIMESTAMP,
 
+    -- Backpressure Throttling
+    throttled_since TIMESTAMP,
+    throttle_count INTEGER DEFAULT 0,
+    throttled_total_ms BIGINT DEFAULT 0,
+    last_throttle_reason VARCHAR(500),
+
+    -- Snapshot Admission
+    queued_at TIMESTAMP,
+    snapshot_slot_since TIMESTAMP,
+
     -- Alert Config
     alert_config JSONB DEFAULT '{}',
 
@@ -131,8 +143,10 @@ CREATE TABLE IF NOT EXISTS sync_tasks (
         CHECK (target_db_type IN ('MYSQL', 'ORACLE', 'SQLSERVER', 'POSTGRESQL')),
     CONSTRAINT chk_sync_task_mode
         CHECK (sync_mode IN ('FULL_ONLY', 'INCREMENTAL_ONLY', 'FULL_INCREMENTAL')),
+    CONSTRAINT chk_sync_task_throughput_profile
+        CHECK (throughput_profile IN ('LOW_LATENCY', 'BALANCED', 'BULK')),
     CONSTRAINT chk_sync_task_status
-        CHECK (status IN ('CREATED', 'RUNNING', 'PAUSED', 'STOPPED', 'FAILED', 'COMPLETED'))
+        CHECK (status IN ('CREATED', 'QUEUED', 'RUNNING', 'PAUSED', 'STOPPED', 'FAILED', 'COMPLETED'))
 );
 
 -- Indexes
@@ -142,6 +156,9 @@ CREATE INDEX idx_sync_tasks_health ON sync_tasks(health_status);
 CREATE INDEX idx_sync_tasks_connector ON sync_tasks(connector_name);
 CREATE INDEX idx_sync_tasks_source_db ON sync_tasks(source_db_type);
 CREATE INDEX idx_sync_tasks_target_db ON sync_tasks(target_db_type);
+CREATE INDEX idx_sync_tasks_queued ON sync_tasks(queued_at) WHERE status = 'QUEUED' AND deleted_at IS NULL;
+CREATE INDEX idx_sync_tasks_updated_at ON sync_tasks(updated_at);
+CREATE INDEX idx_sync_tasks_snapshot_slot ON sync_tasks(snapshot_slot_since) WHERE snapshot_slot_since IS NOT NULL;
 
 -- GIN indexes for JSONB
 CREATE INDEX idx_sync_tasks_source_config ON sync_tasks USING GIN (source_connection_config);
@@ -151,6 +168,178 @@ CREATE INDEX idx_sync_tasks_target_config ON sync_tasks USING GIN (target_connec
 COMMENT ON TABLE sync_tasks IS 'Data synchronization task table';
 COMMENT ON COLUMN sync_tasks.connector_name IS 'Kafka Connect connector name';
 COMMENT ON COLUMN sync_tasks.connector_config IS 'Debezium connector full configuration';
+COMMENT ON COLUMN sync_tasks.topic_plan IS 'CDC topics provisioned for the connector with partitions and configs';
+COMMENT ON COLUMN sync_tasks.throughput_profile IS 'Connector and producer tuning profile';
+COMMENT ON COLUMN sync_tasks.throttled_since IS 'Start of the current backpressure pause of the source connector';
+COMMENT ON COLUMN sync_tasks.queued_at IS 'When the task started waiting for a snapshot slot';
+COMMENT ON COLUMN sync_tasks.snapshot_slot_since IS 'When the task was granted the snapshot slot it holds';
+
+-- ================================================
+-- 3. Lifecycle Jobs Table
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS lifecycle_jobs (
+    job_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+
+    -- Task Association
+    task_id UUID NOT NULL REFERENCES sync_tasks(task_id) ON DELETE CASCADE,
+    tenant_id UUID NOT NULL,
+
+    -- Job Definition
+    operation VARCHAR(20) NOT NULL,
+    idempotency_key VARCHAR(100),
+    params JSONB DEFAULT '{}',
+
+    -- Job State
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    progress VARCHAR(50),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    result JSONB,
+
+    -- Claim Info
+    claimed_by VARCHAR(100),
+    claimed_at TIMESTAMP,
+    finished_at TIMESTAMP,
+
+    -- Audit Fields
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Constraints
+    CONSTRAINT uk_lifecycle_jobs_idempotency_key UNIQUE (task_id, operation, idempotency_key),
+    CONSTRAINT chk_lifecycle_job_operation
+        CHECK (operation IN ('START', 'STOP', 'PAUSE', 'RESUME', 'RESTART', 'DELETE', 'VERIFY', 'REPAIR', 'REPLAY_DLQ')),
+    CONSTRAINT chk_lifecycle_job_status
+        CHECK (status IN ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED'))
+);
+
+-- Indexes
+CREATE INDEX idx_lifecycle_jobs_status ON lifecycle_jobs(status, created_at)
+    WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_lifecycle_jobs_task ON lifecycle_jobs(task_id);
+
+-- Comments
+COMMENT ON TABLE lifecycle_jobs IS 'Asynchronous task lifecycle job queue';
+COMMENT ON COLUMN lifecycle_jobs.claimed_at IS 'Claim lease, renewed by the worker while the job runs';
+
+-- ================================================
+-- 4. Merkle Trees Table
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS merkle_trees (
+    tree_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+
+    -- Task Association
+    task_id UUID NOT NULL REFERENCES sync_tasks(task_id) ON DELETE CASCADE,
+    table_name VARCHAR(200) NOT NULL,
+
+    -- Tree Geometry
+    key_column VARCHAR(128) NOT NULL,
+    column_signature VARCHAR(64) NOT NULL,
+    leaf_size BIGINT NOT NULL,
+    boundaries JSONB NOT NULL DEFAULT '[]',
+
+    -- Range Hashes
+    source_leaves JSONB NOT NULL DEFAULT '[]',
+    target_leaves JSONB NOT NULL DEFAULT '[]',
+    pending_buckets JSONB DEFAULT '[]',
+    cdc_offsets JSONB DEFAULT '{}',
+    built_at TIMESTAMP NOT NULL,
+
+    -- Audit Fields
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Constraints
+    CONSTRAINT uk_merkle_trees_task_table UNIQUE (task_id, table_name)
+);
+
+-- Comments
+COMMENT ON TABLE merkle_trees IS 'Primary key range hashes of source and target tables, used for incremental repair';
+COMMENT ON COLUMN merkle_trees.boundaries IS 'Ascending primary keys splitting the table into leaves of about leaf_size rows';
+COMMENT ON COLUMN merkle_trees.cdc_offsets IS 'Change topic offsets covered by the stored hashes';
+
+-- ================================================
+-- 5. Snapshot Progress Table
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS snapshot_progress (
+    progress_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+
+    -- Task Association
+    task_id UUID NOT NULL REFERENCES sync_tasks(task_id) ON DELETE CASCADE,
+    table_name VARCHAR(200) NOT NULL,
+
+    -- Progress
+    estimated_rows BIGINT,
+    rows_done BIGINT NOT NULL DEFAULT 0,
+    rows_per_second DOUBLE PRECISION,
+    eta_seconds BIGINT,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    started_at TIMESTAMP,
+    sampled_at TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    -- Audit Fields
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Constraints
+    CONSTRAINT uk_snapshot_progress_task_table UNIQUE (task_id, table_name)
+);
+
+-- Comments
+COMMENT ON TABLE snapshot_progress IS 'Initial snapshot rows done against catalog estimates per table';
+COMMENT ON COLUMN snapshot_progress.rows_per_second IS 'Exponentially weighted moving average of snapshot throughput';
+
+-- ================================================
+-- 6. Sync Metrics Tables
+-- ================================================
+-- Applied and dead-lettered sink events per task, table and bucket. Each resolution is
+-- range-partitioned on bucket_start; the application creates partitions ahead of time and
+-- drops them past retention. No foreign keys, so inserts stay cheap and deleted tasks keep
+-- their history until it expires.
+
+CREATE TABLE IF NOT EXISTS sync_metrics_1m (
+    task_id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    table_name VARCHAR(200) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    events_applied BIGINT NOT NULL DEFAULT 0,
+    events_dead_lettered BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (task_id, table_name, bucket_start)
+) PARTITION BY RANGE (bucket_start);
+
+CREATE TABLE IF NOT EXISTS sync_metrics_1h (LIKE sync_metrics_1m INCLUDING DEFAULTS,
+    PRIMARY KEY (task_id, table_name, bucket_start)
+) PARTITION BY RANGE (bucket_start);
+
+CREATE TABLE IF NOT EXISTS sync_metrics_1d (LIKE sync_metrics_1m INCLUDING DEFAULTS,
+    PRIMARY KEY (task_id, table_name, bucket_start)
+) PARTITION BY RANGE (bucket_start);
+
+-- Indexes: rows arrive in time order, so BRIN ranges stay tight at a fraction of a B-tree's size.
+-- Tenant dashboards over hours and days also get a B-tree; minute queries span a few hours
+-- and filter the BRIN-selected blocks instead of maintaining one more index per insert.
+CREATE INDEX idx_sync_metrics_1m_bucket ON sync_metrics_1m USING BRIN (bucket_start);
+CREATE INDEX idx_sync_metrics_1h_bucket ON sync_metrics_1h USING BRIN (bucket_start);
+CREATE INDEX idx_sync_metrics_1d_bucket ON sync_metrics_1d USING BRIN (bucket_start);
+CREATE INDEX idx_sync_metrics_1h_tenant ON sync_metrics_1h(tenant_id, bucket_start);
+CREATE INDEX idx_sync_metrics_1d_tenant ON sync_metrics_1d(tenant_id, bucket_start);
+
+-- Rollup progress per resolution; the application creates the rows on its first rollup
+CREATE TABLE IF NOT EXISTS sync_metrics_rollups (
+    resolution VARCHAR(10) PRIMARY KEY,
+    rolled_up_to TIMESTAMP NOT NULL
+);
+
+-- Comments
+COMMENT ON TABLE sync_metrics_1m IS 'Sink events per task and table per minute, daily partitions';
+COMMENT ON TABLE sync_metrics_1h IS 'Hourly rollup of sync_metrics_1m, monthly partitions';
+COMMENT ON TABLE sync_metrics_1d IS 'Daily rollup of sync_metrics_1h, yearly partitions';
+COMMENT ON COLUMN sync_metrics_rollups.rolled_up_to IS 'Rollup is complete before this time; writes of older finer buckets move it back';
 
 -- ================================================
 -- Trigger for updated_at
@@ -170,6 +359,15 @@ CREATE TRIGGER update_tenants_updated_at BEFORE UPDATE ON tenants
 CREATE TRIGGER update_sync_tasks_updated_at BEFORE UPDATE ON sync_tasks
     FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 
+CREATE TRIGGER update_lifecycle_jobs_updated_at BEFORE UPDATE ON lifecycle_jobs
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+CREATE TRIGGER update_merkle_trees_updated_at BEFORE UPDATE ON merkle_trees
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+CREATE TRIGGER update_snapshot_progress_updated_at BEFORE UPDATE ON snapshot_progress
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
 -- ================================================
 -- Insert Default Tenant
 -- ================================================
@@ -0,0 +1,68 @@
+#!/bin/bash
+# Startup benchmark for db-sync-api: time-to-ready and first-request latency.
+#
+# Starts the service RUNS times in each mode and reports the median of:
+#   ready_ms  - launch until /actuator/health reports UP
+#   first_ms  - latency of the first API request after that (FIRST_PATH)
+# Modes: jar (plain fat jar), aot (AOT jar with spring.aot.enabled), cds (AOT + CDS archive
+# from build-cds.sh). The service's own view is exported as application.ready.time and
+# dbsync.startup.first.request on /actuator/prometheus.
+#
+# Usage: scripts/startup/benchmark.sh [modes...]   (default: jar cds)
+#   RUNS=5  FIRST_PATH=/api-docs  HEALTH_URL=http://localhost:8081/actuator/health
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RUNS="${RUNS:-5}"
+FIRST_PATH="${FIRST_PATH:-/api-docs}"
+API_URL="${API_URL:-http://localhost:8080}"
+HEALTH_URL="${HEALTH_URL:-http://localhost:8081/actuator/health}"
+CDS_DIR="${CDS_DIR:-$ROOT/db-sync-api/target/cds}"
+JAR="$(ls "$ROOT"/db-sync-api/target/db-sync-api-*.jar | grep -v original | head -1)"
+
+now_ms() {
+    date +%s%3N
+}
+
+launch() {
+    case "$1" in
+        jar) java $JAVA_OPTS -jar "$JAR" ;;
+        aot) java $JAVA_OPTS -Dspring.aot.enabled=true -jar "$JAR" ;;
+        cds) "$CDS_DIR/run.sh" ;;
+        *) echo "Unknown mode: $1" >&2; exit 1 ;;
+    esac
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+    MODES=(jar cds)
+fi
+
+export JAVA_OPTS="${JAVA_OPTS:-}"
+printf "%-6s %10s %10s\n" mode ready_ms first_ms
+for mode in "${MODES[@]}"; do
+    ready=()
+    first=()
+    for _ in $(seq "$RUNS"); do
+        start=$(now_ms)
+        launch "$mode" > "/tmp/db-sync-startup-$mode.log" 2>&1 &
+        pid=$!
+        until curl -sf "$HEALTH_URL" | grep -q '"status":"UP"'; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "Service exited, see /tmp/db-sync-startup-$mode.log" >&2
+                exit 1
+            fi
+            sleep 0.1
+        done
+        ready+=($(($(now_ms) - start)))
+        first+=($(curl -s -o /dev/null -w '%{time_total}' "$API_URL$FIRST_PATH" | awk '{ printf "%d", $1 * 1000 }'))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+    done
+    printf "%-6s %10s %10s\n" "$mode" \
+        "$(printf '%s\n' "${ready[@]}" | median)" "$(printf '%s\n' "${first[@]}" | median)"
+done
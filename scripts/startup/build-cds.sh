@@ -0,0 +1,45 @@
+#!/bin/bash
+# Build an AOT-processed db-sync-api and train a class-data-sharing archive for it.
+#
+# The jar is unpacked because CDS cannot map classes out of nested jars. The training run
+# stops right after the context refreshed (spring.context.exit=onRefresh), so it needs the
+# same metadata database the service connects to at startup (deploy/docker-compose.yml).
+#
+# Usage: scripts/startup/build-cds.sh [output-dir]   (default: db-sync-api/target/cds)
+#   AOT_PROFILES=prod   Spring profiles to build the AOT context for (default: dev)
+#   SKIP_BUILD=1        reuse the jar already in db-sync-api/target
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT="${1:-$ROOT/db-sync-api/target/cds}"
+MAIN_CLASS=com.dbsync.api.DbSyncApplication
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+    (cd "$ROOT" && mvn -B -q -Paot -Daot.profiles="${AOT_PROFILES:-dev}" -DskipTests package)
+fi
+JAR="$(ls "$ROOT"/db-sync-api/target/db-sync-api-*.jar | grep -v original | head -1)"
+
+rm -rf "$OUT"
+mkdir -p "$OUT/app"
+(cd "$OUT/app" && jar xf "$JAR")
+
+# Classpath in the order Spring Boot would load it; CDS requires the same order at runtime
+CLASSPATH="$OUT/app/BOOT-INF/classes"
+while read -r entry; do
+    lib="${entry#- \"}"
+    lib="${lib%\"}"
+    CLASSPATH="$CLASSPATH:$OUT/app/$lib"
+done < "$OUT/app/BOOT-INF/classpath.idx"
+echo "$CLASSPATH" > "$OUT/classpath"
+
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+    -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -cp "$CLASSPATH" "$MAIN_CLASS"
+
+cat > "$OUT/run.sh" <<RUN
+#!/bin/bash
+exec java -XX:SharedArchiveFile="$OUT/app.jsa" -Dspring.aot.enabled=true \$JAVA_OPTS \\
+    -cp "\$(cat "$OUT/classpath")" $MAIN_CLASS "\$@"
+RUN
+chmod +x "$OUT/run.sh"
+echo "CDS archive written to $OUT/app.jsa; start the service with $OUT/run.sh"